@@ -0,0 +1,75 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_audit
+-- Release Version 	: 1.0.8
+-- Purpose    		: Database Alter scripts for the release for Audit DB.       
+-- Create By   		: 
+-- Created Date		: 18-Oct-2026
+-- 
+-- Modified Date        Modified By         Comments / Remarks
+-- -------------------------------------------------------------------------------------------------
+
+\c mosip_audit sysadmin
+
+-- Convert audit.app_audit_log to a table range partitioned on log_dtimes. The existing rows are kept
+-- in place as the partition covering everything before the current month, the rows of the current
+-- month onwards are moved to their monthly partitions.
+
+LOCK TABLE audit.app_audit_log IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE audit.app_audit_log RENAME TO app_audit_log_legacy;
+ALTER TABLE audit.app_audit_log_legacy DROP CONSTRAINT pk_audlog_log_id;
+
+CREATE TABLE audit.app_audit_log(
+	log_id character varying(64) NOT NULL,
+	log_dtimes timestamp NOT NULL,
+	log_desc character varying(2048),
+	event_id character varying(64) NOT NULL,
+	event_type character varying(64) NOT NULL,
+	event_name character varying(128) NOT NULL,
+	action_dtimes timestamp NOT NULL,
+	host_name character varying(128) NOT NULL,
+	host_ip character varying(16) NOT NULL,
+	session_user_id character varying(256) NOT NULL,
+	session_user_name character varying(128),
+	app_id character varying(64) NOT NULL,
+	app_name character varying(128) NOT NULL,
+	module_id character varying(64),
+	module_name character varying(128),
+	ref_id character varying(64),
+	ref_id_type character varying(64),
+	cr_by character varying(256) NOT NULL,
+	CONSTRAINT pk_audlog_log_id PRIMARY KEY (log_id,log_dtimes)
+
+) PARTITION BY RANGE (log_dtimes);
+
+CREATE INDEX idx_audlog_modid_dtimes ON audit.app_audit_log (module_id,log_dtimes);
+
+DO $$
+DECLARE
+	month_start date := date_trunc('month', now())::date;
+BEGIN
+	FOR i IN 0..3 LOOP
+		EXECUTE format('CREATE TABLE IF NOT EXISTS audit.%I PARTITION OF audit.app_audit_log FOR VALUES FROM (%L) TO (%L)',
+			'app_audit_log_p' || to_char(month_start + make_interval(months => i), 'YYYYMM'),
+			month_start + make_interval(months => i),
+			month_start + make_interval(months => i + 1));
+	END LOOP;
+	CREATE TABLE audit.app_audit_log_default PARTITION OF audit.app_audit_log DEFAULT;
+
+	-- the legacy partition may only hold rows before the current month
+	INSERT INTO audit.app_audit_log(log_id, log_dtimes, log_desc, event_id, event_type, event_name, action_dtimes,
+		host_name, host_ip, session_user_id, session_user_name, app_id, app_name, module_id, module_name, ref_id,
+		ref_id_type, cr_by)
+	SELECT log_id, log_dtimes, log_desc, event_id, event_type, event_name, action_dtimes, host_name, host_ip,
+		session_user_id, session_user_name, app_id, app_name, module_id, module_name, ref_id, ref_id_type, cr_by
+	FROM audit.app_audit_log_legacy WHERE log_dtimes >= month_start;
+	DELETE FROM audit.app_audit_log_legacy WHERE log_dtimes >= month_start;
+
+	EXECUTE format('ALTER TABLE audit.app_audit_log ATTACH PARTITION audit.app_audit_log_legacy FOR VALUES FROM (MINVALUE) TO (%L)', month_start);
+END $$;
+
+COMMENT ON TABLE audit.app_audit_log IS 'Application Audit Log : To track application related audit details for analysing, auditing and reporting purposes';
+
+GRANT SELECT,INSERT,UPDATE,DELETE,TRUNCATE,REFERENCES
+   ON ALL TABLES IN SCHEMA audit
+   TO audituser;
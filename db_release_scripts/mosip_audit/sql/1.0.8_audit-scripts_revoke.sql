@@ -0,0 +1,22 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_audit
+-- Release Version 	: 1.0.8
+-- Purpose    		: Revoking Database Alter deployement done for release in Audit DB.       
+-- Create By   		: 
+-- Created Date		: 18-Oct-2026
+-- 
+-- Modified Date        Modified By         Comments / Remarks
+-- -------------------------------------------------------------------------------------------------
+
+\c mosip_audit sysadmin
+
+-- Move the rows logged since the release back into the unpartitioned table and drop the partitions
+
+ALTER TABLE audit.app_audit_log DETACH PARTITION audit.app_audit_log_legacy;
+
+INSERT INTO audit.app_audit_log_legacy SELECT * FROM audit.app_audit_log;
+
+DROP TABLE audit.app_audit_log CASCADE;
+
+ALTER TABLE audit.app_audit_log_legacy RENAME CONSTRAINT pk_audlog_legacy_log_id TO pk_audlog_log_id;
+ALTER TABLE audit.app_audit_log_legacy RENAME TO app_audit_log;
@@ -8,7 +8,8 @@
 -- 
 -- Modified Date        Modified By         Comments / Remarks
 -- ------------------------------------------------------------------------------------------
--- 
+-- 18-Oct-2026                              Range partitioned on log_dtimes, monthly partitions
+--                                          are maintained by kernel-auditmanager-api
 -- ------------------------------------------------------------------------------------------
 
 -- object: audit.app_audit_log | type: TABLE --
@@ -32,9 +33,17 @@ CREATE TABLE audit.app_audit_log(
 	ref_id character varying(64),
 	ref_id_type character varying(64),
 	cr_by character varying(256) NOT NULL,
-	CONSTRAINT pk_audlog_log_id PRIMARY KEY (log_id)
+	CONSTRAINT pk_audlog_log_id PRIMARY KEY (log_id,log_dtimes)
 
-);
+) PARTITION BY RANGE (log_dtimes);
+-- ddl-end --
+-- object: audit.app_audit_log_default | type: TABLE --
+-- DROP TABLE IF EXISTS audit.app_audit_log_default CASCADE;
+CREATE TABLE audit.app_audit_log_default PARTITION OF audit.app_audit_log DEFAULT;
+-- ddl-end --
+-- object: audit.idx_audlog_modid_dtimes | type: INDEX --
+-- DROP INDEX IF EXISTS audit.idx_audlog_modid_dtimes CASCADE;
+CREATE INDEX idx_audlog_modid_dtimes ON audit.app_audit_log (module_id,log_dtimes);
 -- ddl-end --
 COMMENT ON TABLE audit.app_audit_log IS 'Application Audit Log : To track application related audit details for analysing, auditing and reporting purposes';
 -- ddl-end --
@@ -4,6 +4,7 @@ import static io.mosip.idrepository.core.constant.IdRepoErrorConstants.CLIENT_ER
 import static io.mosip.idrepository.core.constant.IdRepoErrorConstants.MASTERDATA_RETRIEVE_ERROR;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -14,11 +15,14 @@ import javax.sql.DataSource;
 
 import org.hibernate.Interceptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
 import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
@@ -34,8 +38,10 @@ import io.mosip.idrepository.core.exception.AuthenticationException;
 import io.mosip.idrepository.core.exception.IdRepoAppUncheckedException;
 import io.mosip.idrepository.core.logger.IdRepoLogger;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.idrepository.identity.helper.CachingFileSystemAdapter;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.exception.ServiceError;
+import io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter;
 import io.mosip.kernel.core.logger.spi.Logger;
 
 /**
@@ -245,6 +251,28 @@ public class IdRepoConfig implements WebMvcConfigurer {
 		return Collections.unmodifiableList(uinStatus);
 	}
 
+	/**
+	 * File system adapter caching the documents read from the DFS on the local
+	 * disk, injected in place of the DFS adapter so that an identity retrieved
+	 * repeatedly does not read its documents from the DFS again.
+	 *
+	 * @param fsAdapter   the DFS adapter
+	 * @param directory   the directory under which the documents are cached
+	 * @param maxSize     the maximum size in bytes of the cached documents
+	 * @param maxFileSize the maximum size in bytes of a cached document
+	 * @return the caching file system adapter
+	 * @throws IOException if the cache directory can not be created
+	 */
+	@Bean
+	@Primary
+	@ConditionalOnProperty(name = "mosip.idrepo.fs-cache.enabled", havingValue = "true", matchIfMissing = true)
+	public CachingFileSystemAdapter cachingFileSystemAdapter(FileSystemAdapter fsAdapter,
+			@Value("${mosip.idrepo.fs-cache.directory:${java.io.tmpdir}}") String directory,
+			@Value("${mosip.idrepo.fs-cache.max-size:268435456}") long maxSize,
+			@Value("${mosip.idrepo.fs-cache.max-file-size:4194304}") long maxFileSize) throws IOException {
+		return new CachingFileSystemAdapter(fsAdapter, Paths.get(directory), maxSize, maxFileSize);
+	}
+
 	/**
 	 * Entity manager factory.
 	 *
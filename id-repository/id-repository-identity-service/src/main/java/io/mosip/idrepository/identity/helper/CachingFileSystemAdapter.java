@@ -0,0 +1,558 @@
+package io.mosip.idrepository.identity.helper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.io.FileUtils;
+
+import io.mosip.idrepository.core.logger.IdRepoLogger;
+import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * File system adapter keeping the files read from the DFS in a bounded cache on
+ * the local disk, so that the documents of an identity retrieved repeatedly are
+ * read from the DFS once.
+ *
+ * The files are cached as stored in the DFS, the documents of the identities
+ * are therefore kept encrypted. Files larger than the maximum file size are not
+ * cached, the least recently read files are evicted once the cache exceeds its
+ * maximum size. A file is invalidated when it is stored, copied to or deleted
+ * through this adapter, all the files of a packet when it is stored, unpacked
+ * or deleted. The cache is not shared between the instances of the service and
+ * is deleted on close.
+ *
+ * @since 1.1.0
+ */
+public class CachingFileSystemAdapter implements FileSystemAdapter, Closeable {
+
+	/** The mosip logger. */
+	private static final Logger mosipLogger = IdRepoLogger.getLogger(CachingFileSystemAdapter.class);
+
+	/** The Constant CACHING_FILE_SYSTEM_ADAPTER. */
+	private static final String CACHING_FILE_SYSTEM_ADAPTER = "CachingFileSystemAdapter";
+
+	/** The Constant SLASH. */
+	private static final String SLASH = "/";
+
+	/** The adapter of the DFS. */
+	private final FileSystemAdapter delegate;
+
+	/** The directory of the cached files. */
+	private final Path directory;
+
+	/** The maximum size in bytes of the cached files. */
+	private final long maxSize;
+
+	/** The maximum size in bytes of a cached file. */
+	private final long maxFileSize;
+
+	/** The cached files, least recently read first. */
+	private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** The size in bytes of the cached files. */
+	private long size;
+
+	/** The number of the last cached file, naming the files on disk. */
+	private long fileNumber;
+
+	/**
+	 * The number of invalidations, a file read from the DFS is not cached if an
+	 * invalidation happened while reading it.
+	 */
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/** The number of files read from the cache. */
+	private final AtomicLong hits = new AtomicLong();
+
+	/** The number of files read from the DFS. */
+	private final AtomicLong misses = new AtomicLong();
+
+	/** The number of files evicted. */
+	private final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * Instantiates a new caching file system adapter, the cached files are
+	 * written in a new directory under the given directory.
+	 *
+	 * @param delegate    the adapter of the DFS
+	 * @param directory   the directory under which the files are cached
+	 * @param maxSize     the maximum size in bytes of the cached files
+	 * @param maxFileSize the maximum size in bytes of a cached file
+	 * @throws IOException if the directory of the cache can not be created
+	 */
+	public CachingFileSystemAdapter(FileSystemAdapter delegate, Path directory, long maxSize, long maxFileSize)
+			throws IOException {
+		this.delegate = Objects.requireNonNull(delegate);
+		this.maxSize = maxSize;
+		this.maxFileSize = Math.min(maxFileSize, maxSize);
+		Files.createDirectories(directory);
+		if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+			this.directory = Files.createTempDirectory(directory, "fs-cache-",
+					PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+		} else {
+			this.directory = Files.createTempDirectory(directory, "fs-cache-");
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#getFile(java.lang.
+	 * String, java.lang.String)
+	 */
+	@Override
+	public InputStream getFile(String id, String fileName) {
+		CacheKey key = new CacheKey(id, fileName);
+		byte[] cached = read(key);
+		if (cached != null) {
+			hits.incrementAndGet();
+			return new ByteArrayInputStream(cached);
+		}
+		misses.incrementAndGet();
+		long invalidation = invalidations.get();
+		InputStream file = delegate.getFile(id, fileName);
+		return file == null ? null : new CachingInputStream(file, key, invalidation);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#storeFile(java.lang.
+	 * String, java.lang.String, java.io.InputStream)
+	 */
+	@Override
+	public boolean storeFile(String id, String key, InputStream document) {
+		try {
+			return delegate.storeFile(id, key, document);
+		} finally {
+			invalidate(id, key);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#copyFile(java.lang.
+	 * String, java.lang.String, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public boolean copyFile(String sourceFolderName, String sourceFileName, String destinationFolderName,
+			String destinationFileName) {
+		try {
+			return delegate.copyFile(sourceFolderName, sourceFileName, destinationFolderName, destinationFileName);
+		} finally {
+			invalidate(destinationFolderName, destinationFileName);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#deleteFile(java.lang.
+	 * String, java.lang.String)
+	 */
+	@Override
+	public boolean deleteFile(String id, String fileName) {
+		try {
+			return delegate.deleteFile(id, fileName);
+		} finally {
+			invalidate(id, fileName);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#deletePacket(java.lang.
+	 * String)
+	 */
+	@Override
+	public boolean deletePacket(String id) {
+		try {
+			return delegate.deletePacket(id);
+		} finally {
+			invalidate(id, null);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#storePacket(java.lang.
+	 * String, java.io.InputStream)
+	 */
+	@Override
+	public boolean storePacket(String id, InputStream file) {
+		try {
+			return delegate.storePacket(id, file);
+		} finally {
+			invalidate(id, null);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#storePacket(java.lang.
+	 * String, java.io.File)
+	 */
+	@Override
+	public boolean storePacket(String id, File filePath) {
+		try {
+			return delegate.storePacket(id, filePath);
+		} finally {
+			invalidate(id, null);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#unpackPacket(java.lang.
+	 * String)
+	 */
+	@Override
+	public void unpackPacket(String id) throws IOException {
+		try {
+			delegate.unpackPacket(id);
+		} finally {
+			invalidate(id, null);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#checkFileExistence(java.
+	 * lang.String, java.lang.String)
+	 */
+	@Override
+	public boolean checkFileExistence(String id, String fileName) {
+		return delegate.checkFileExistence(id, fileName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#getPacket(java.lang.
+	 * String)
+	 */
+	@Override
+	public InputStream getPacket(String id) {
+		return delegate.getPacket(id);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#isPacketPresent(java.
+	 * lang.String)
+	 */
+	@Override
+	public boolean isPacketPresent(String id) {
+		return delegate.isPacketPresent(id);
+	}
+
+	/**
+	 * Deletes the cached files.
+	 */
+	@Override
+	public synchronized void close() {
+		entries.clear();
+		size = 0;
+		FileUtils.deleteQuietly(directory.toFile());
+	}
+
+	/**
+	 * Gets the number of files read from the cache.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the number of files read from the DFS.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Gets the number of files evicted from the cache.
+	 *
+	 * @return the number of evictions
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * Gets the size in bytes of the cached files.
+	 *
+	 * @return the size
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	/**
+	 * Reads a cached file, a file which can not be read is removed from the
+	 * cache.
+	 *
+	 * @param key the key
+	 * @return the content of the file, or null if not cached
+	 */
+	private byte[] read(CacheKey key) {
+		Path path;
+		synchronized (this) {
+			CacheEntry entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			path = entry.path;
+		}
+		try {
+			return Files.readAllBytes(path);
+		} catch (IOException e) {
+			// evicted or invalidated while being read
+			synchronized (this) {
+				CacheEntry entry = entries.get(key);
+				if (entry != null && entry.path.equals(path)) {
+					remove(key);
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Caches a file read from the DFS, unless it was invalidated meanwhile. The
+	 * least recently read files are evicted to keep the cache under its maximum
+	 * size.
+	 *
+	 * @param key          the key
+	 * @param data         the content of the file
+	 * @param invalidation the number of invalidations before reading the file
+	 */
+	private void write(CacheKey key, byte[] data, long invalidation) {
+		Path path;
+		synchronized (this) {
+			path = directory.resolve(Long.toString(++fileNumber));
+		}
+		try {
+			Path tempFile = Files.createTempFile(directory, null, null);
+			Files.write(tempFile, data);
+			Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			mosipLogger.warn(IdRepoSecurityManager.getUser(), CACHING_FILE_SYSTEM_ADAPTER, "write",
+					"caching file failed: " + e.getMessage());
+			return;
+		}
+		synchronized (this) {
+			if (invalidations.get() != invalidation || entries.containsKey(key)) {
+				deleteQuietly(path);
+				return;
+			}
+			entries.put(key, new CacheEntry(path, data.length));
+			size += data.length;
+			Iterator<Map.Entry<CacheKey, CacheEntry>> eldest = entries.entrySet().iterator();
+			while (size > maxSize && eldest.hasNext()) {
+				CacheEntry entry = eldest.next().getValue();
+				eldest.remove();
+				size -= entry.size;
+				deleteQuietly(entry.path);
+				evictions.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Removes a file from the cache, with the files under it when it is a
+	 * directory. The DFS adapters may ignore the case of the names, so do the
+	 * names compared.
+	 *
+	 * @param id       the id
+	 * @param fileName the name of the file, or null for all the files of the id
+	 */
+	private synchronized void invalidate(String id, String fileName) {
+		invalidations.incrementAndGet();
+		Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = entries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<CacheKey, CacheEntry> cached = iterator.next();
+			CacheKey key = cached.getKey();
+			if (key.id.equalsIgnoreCase(id) && (fileName == null || key.fileName.equalsIgnoreCase(fileName)
+					|| key.fileName.regionMatches(true, 0, fileName + SLASH, 0, fileName.length() + 1))) {
+				iterator.remove();
+				size -= cached.getValue().size;
+				deleteQuietly(cached.getValue().path);
+			}
+		}
+	}
+
+	/**
+	 * Removes a file from the cache.
+	 *
+	 * @param key the key
+	 */
+	private synchronized void remove(CacheKey key) {
+		CacheEntry entry = entries.remove(key);
+		if (entry != null) {
+			size -= entry.size;
+			deleteQuietly(entry.path);
+		}
+	}
+
+	private static void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			mosipLogger.warn(IdRepoSecurityManager.getUser(), CACHING_FILE_SYSTEM_ADAPTER, "deleteQuietly",
+					"deleting cached file failed: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Stream of a file read from the DFS, caching the file once read to the end
+	 * unless it is larger than the maximum file size.
+	 */
+	private final class CachingInputStream extends FilterInputStream {
+
+		private final CacheKey key;
+
+		private final long invalidation;
+
+		private ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+		CachingInputStream(InputStream in, CacheKey key, long invalidation) {
+			super(in);
+			this.key = key;
+			this.invalidation = invalidation;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int read = super.read();
+			if (read == -1) {
+				complete();
+			} else if (capture(1)) {
+				content.write(read);
+			}
+			return read;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read == -1) {
+				complete();
+			} else if (capture(read)) {
+				content.write(b, off, read);
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			content = null;
+			return super.skip(n);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		private boolean capture(int length) {
+			if (content != null && content.size() + length > maxFileSize) {
+				content = null;
+			}
+			return content != null;
+		}
+
+		private void complete() {
+			if (content != null) {
+				write(key, content.toByteArray(), invalidation);
+				content = null;
+			}
+		}
+	}
+
+	/**
+	 * The key of a cached file.
+	 */
+	private static final class CacheKey {
+
+		private final String id;
+
+		private final String fileName;
+
+		CacheKey(String id, String fileName) {
+			this.id = id;
+			this.fileName = fileName;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return id.equals(other.id) && fileName.equals(other.fileName);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * id.hashCode() + fileName.hashCode();
+		}
+	}
+
+	/**
+	 * A cached file.
+	 */
+	private static final class CacheEntry {
+
+		private final Path path;
+
+		private final long size;
+
+		CacheEntry(Path path, long size) {
+			this.path = path;
+			this.size = size;
+		}
+	}
+}
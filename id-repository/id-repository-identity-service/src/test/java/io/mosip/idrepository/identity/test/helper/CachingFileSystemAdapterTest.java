@@ -0,0 +1,281 @@
+package io.mosip.idrepository.identity.test.helper;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.mosip.idrepository.identity.helper.CachingFileSystemAdapter;
+import io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter;
+
+/**
+ * The Class CachingFileSystemAdapterTest.
+ */
+public class CachingFileSystemAdapterTest {
+
+	private static final String UIN_HASH = "1234_A1B2C3";
+
+	private static final String FILE_NAME = "Demographics/1c6a5a0e-poa";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private InMemoryAdapter dfs;
+
+	private CachingFileSystemAdapter cache;
+
+	@Before
+	public void setUp() throws IOException {
+		dfs = new InMemoryAdapter();
+		cache = new CachingFileSystemAdapter(dfs, folder.getRoot().toPath(), 100, 40);
+	}
+
+	@After
+	public void tearDown() {
+		cache.close();
+	}
+
+	@Test
+	public void testGetFileCached() throws IOException {
+		dfs.storeFile(UIN_HASH, FILE_NAME, stream(content(30, 1)));
+
+		assertArrayEquals(content(30, 1), read(cache.getFile(UIN_HASH, FILE_NAME)));
+		assertArrayEquals(content(30, 1), read(cache.getFile(UIN_HASH, FILE_NAME)));
+		assertArrayEquals(content(30, 1), read(cache.getFile(UIN_HASH, FILE_NAME)));
+
+		assertEquals(1, dfs.reads.get());
+		assertEquals(2, cache.getHits());
+		assertEquals(30, cache.getSize());
+	}
+
+	@Test
+	public void testGetFileNotReadToEndNotCached() throws IOException {
+		dfs.storeFile(UIN_HASH, FILE_NAME, stream(content(30, 1)));
+		cache.getFile(UIN_HASH, FILE_NAME).close();
+
+		read(cache.getFile(UIN_HASH, FILE_NAME));
+
+		assertEquals(2, dfs.reads.get());
+	}
+
+	@Test
+	public void testGetFileTooLargeNotCached() throws IOException {
+		dfs.storeFile(UIN_HASH, FILE_NAME, stream(content(50, 1)));
+
+		assertArrayEquals(content(50, 1), read(cache.getFile(UIN_HASH, FILE_NAME)));
+		assertArrayEquals(content(50, 1), read(cache.getFile(UIN_HASH, FILE_NAME)));
+
+		assertEquals(2, dfs.reads.get());
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void testGetFileNotFound() {
+		assertNull(cache.getFile(UIN_HASH, FILE_NAME));
+	}
+
+	@Test
+	public void testLeastRecentlyReadEvicted() throws IOException {
+		for (int i = 0; i < 4; i++) {
+			dfs.storeFile(UIN_HASH, FILE_NAME + i, stream(content(30, i)));
+		}
+		read(cache.getFile(UIN_HASH, FILE_NAME + 0));
+		read(cache.getFile(UIN_HASH, FILE_NAME + 1));
+		read(cache.getFile(UIN_HASH, FILE_NAME + 2));
+		read(cache.getFile(UIN_HASH, FILE_NAME + 0));
+		read(cache.getFile(UIN_HASH, FILE_NAME + 3));
+		assertEquals(1, cache.getEvictions());
+		assertEquals(90, cache.getSize());
+		dfs.reads.set(0);
+
+		read(cache.getFile(UIN_HASH, FILE_NAME + 0));
+		read(cache.getFile(UIN_HASH, FILE_NAME + 2));
+		read(cache.getFile(UIN_HASH, FILE_NAME + 3));
+		assertEquals(0, dfs.reads.get());
+		assertArrayEquals(content(30, 1), read(cache.getFile(UIN_HASH, FILE_NAME + 1)));
+		assertEquals(1, dfs.reads.get());
+	}
+
+	@Test
+	public void testStoreFileInvalidates() throws IOException {
+		dfs.storeFile(UIN_HASH, FILE_NAME, stream(content(30, 1)));
+		read(cache.getFile(UIN_HASH, FILE_NAME));
+
+		cache.storeFile(UIN_HASH, FILE_NAME, stream(content(20, 2)));
+
+		assertArrayEquals(content(20, 2), read(cache.getFile(UIN_HASH, FILE_NAME)));
+		assertEquals(2, dfs.reads.get());
+	}
+
+	@Test
+	public void testDeleteFileInvalidates() throws IOException {
+		dfs.storeFile(UIN_HASH, FILE_NAME, stream(content(30, 1)));
+		read(cache.getFile(UIN_HASH, FILE_NAME));
+
+		assertTrue(cache.deleteFile(UIN_HASH, FILE_NAME.toUpperCase()));
+
+		assertNull(cache.getFile(UIN_HASH, FILE_NAME));
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void testDeleteDirectoryInvalidatesFilesUnder() throws IOException {
+		dfs.storeFile(UIN_HASH, FILE_NAME, stream(content(30, 1)));
+		dfs.storeFile(UIN_HASH, "Biometrics/1c6a5a0e-face", stream(content(30, 2)));
+		read(cache.getFile(UIN_HASH, FILE_NAME));
+		read(cache.getFile(UIN_HASH, "Biometrics/1c6a5a0e-face"));
+
+		cache.deleteFile(UIN_HASH, "Demographics");
+
+		assertEquals(30, cache.getSize());
+	}
+
+	@Test
+	public void testFileInvalidatedWhileReadNotCached() throws IOException {
+		dfs.storeFile(UIN_HASH, FILE_NAME, stream(content(30, 1)));
+		InputStream stale = cache.getFile(UIN_HASH, FILE_NAME);
+
+		cache.storeFile(UIN_HASH, FILE_NAME, stream(content(20, 2)));
+		read(stale);
+
+		assertArrayEquals(content(20, 2), read(cache.getFile(UIN_HASH, FILE_NAME)));
+	}
+
+	@Test
+	public void testCloseDeletesCachedFiles() throws IOException {
+		dfs.storeFile(UIN_HASH, FILE_NAME, stream(content(30, 1)));
+		read(cache.getFile(UIN_HASH, FILE_NAME));
+
+		cache.close();
+
+		assertEquals(0, cache.getSize());
+		assertEquals(0, folder.getRoot().list().length);
+	}
+
+	@Test
+	public void testPacketOperationsDelegated() throws IOException {
+		cache.storePacket(UIN_HASH, stream(content(10, 1)));
+
+		assertTrue(cache.isPacketPresent(UIN_HASH));
+		assertArrayEquals(content(10, 1), read(cache.getPacket(UIN_HASH)));
+		assertTrue(cache.deletePacket(UIN_HASH));
+		assertFalse(cache.isPacketPresent(UIN_HASH));
+	}
+
+	private static byte[] content(int length, int seed) {
+		byte[] content = new byte[length];
+		for (int i = 0; i < length; i++) {
+			content[i] = (byte) (seed * 31 + i);
+		}
+		return content;
+	}
+
+	private static InputStream stream(byte[] content) {
+		return new ByteArrayInputStream(content);
+	}
+
+	private static byte[] read(InputStream stream) throws IOException {
+		try (InputStream in = stream) {
+			return IOUtils.toByteArray(in);
+		}
+	}
+
+	/**
+	 * DFS keeping the files in memory, ignoring the case of the names.
+	 */
+	private static class InMemoryAdapter implements FileSystemAdapter {
+
+		private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+
+		private final AtomicInteger reads = new AtomicInteger();
+
+		@Override
+		public boolean checkFileExistence(String id, String fileName) {
+			return files.containsKey(path(id, fileName));
+		}
+
+		@Override
+		public boolean copyFile(String sourceFolderName, String sourceFileName, String destinationFolderName,
+				String destinationFileName) {
+			files.put(path(destinationFolderName, destinationFileName),
+					files.get(path(sourceFolderName, sourceFileName)));
+			return true;
+		}
+
+		@Override
+		public boolean deleteFile(String id, String fileName) {
+			String path = path(id, fileName);
+			return files.keySet().removeIf(name -> name.equals(path) || name.startsWith(path + "/"));
+		}
+
+		@Override
+		public boolean deletePacket(String id) {
+			return files.keySet().removeIf(name -> name.startsWith(path(id, "")));
+		}
+
+		@Override
+		public InputStream getFile(String id, String fileName) {
+			byte[] file = files.get(path(id, fileName));
+			if (file == null) {
+				return null;
+			}
+			reads.incrementAndGet();
+			return stream(file);
+		}
+
+		@Override
+		public InputStream getPacket(String id) {
+			return getFile(id, id);
+		}
+
+		@Override
+		public boolean isPacketPresent(String id) {
+			return checkFileExistence(id, id);
+		}
+
+		@Override
+		public boolean storeFile(String id, String key, InputStream document) {
+			try {
+				files.put(path(id, key), IOUtils.toByteArray(document));
+			} catch (IOException e) {
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean storePacket(String id, InputStream file) {
+			return storeFile(id, id, file);
+		}
+
+		@Override
+		public boolean storePacket(String id, File filePath) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void unpackPacket(String id) {
+			throw new UnsupportedOperationException();
+		}
+
+		private static String path(String id, String fileName) {
+			return (id + "/" + fileName).toUpperCase();
+		}
+	}
+}
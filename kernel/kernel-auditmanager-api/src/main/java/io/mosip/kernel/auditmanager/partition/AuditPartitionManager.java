@@ -0,0 +1,183 @@
+package io.mosip.kernel.auditmanager.partition;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintains the monthly range partitions of the
+ * <code>audit.app_audit_log</code> table on <code>log_dtimes</code>.
+ * Partitions are created ahead of time so inserts never fall into the default
+ * partition, and partitions older than the retention period are dropped as a
+ * whole instead of deleting rows.
+ * 
+ * Disabled unless <code>mosip.kernel.auditmanager.partition.enabled</code> is
+ * set, as the DDL issued here is PostgreSQL specific.
+ * 
+ * @since 1.1.0
+ *
+ */
+@Component
+public class AuditPartitionManager {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AuditPartitionManager.class);
+
+	/**
+	 * Prefix of every monthly partition, followed by <code>yyyyMM</code>
+	 */
+	public static final String PARTITION_PREFIX = "app_audit_log_p";
+
+	private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+	private static final String CREATE_PARTITION = "CREATE TABLE IF NOT EXISTS audit.%s PARTITION OF audit.app_audit_log FOR VALUES FROM ('%s') TO ('%s')";
+
+	private static final String DROP_PARTITION = "DROP TABLE IF EXISTS audit.%s";
+
+	private static final String LIST_PARTITIONS = "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+			+ "JOIN pg_class p ON p.oid = i.inhparent JOIN pg_namespace n ON n.oid = p.relnamespace "
+			+ "WHERE n.nspname = 'audit' AND p.relname = 'app_audit_log'";
+
+	@Value("${mosip.kernel.auditmanager.partition.enabled:false}")
+	private boolean enabled;
+
+	/**
+	 * Number of monthly partitions to keep created beyond the current month
+	 */
+	@Value("${mosip.kernel.auditmanager.partition.months-ahead:3}")
+	private int monthsAhead;
+
+	/**
+	 * Number of past months to retain, older partitions are dropped. A value of
+	 * zero or less retains every partition.
+	 */
+	@Value("${mosip.kernel.auditmanager.partition.retention-months:0}")
+	private int retentionMonths;
+
+	@Value("${mosip.kernel.auditmanager.partition.cron:0 0 1 * * *}")
+	private String cron;
+
+	@Autowired
+	private ObjectProvider<DataSource> dataSourceProvider;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private ThreadPoolTaskScheduler scheduler;
+
+	/**
+	 * Creates the partitions required for the upcoming months on startup and
+	 * schedules the maintenance job. A database error is logged without failing
+	 * the startup, the maintenance job retrying on its next run.
+	 */
+	@PostConstruct
+	public void init() {
+		if (!enabled) {
+			return;
+		}
+		jdbcTemplate = new JdbcTemplate(dataSourceProvider.getObject());
+		try {
+			maintainPartitions();
+		} catch (DataAccessException e) {
+			LOGGER.error("Unable to maintain audit partitions on startup", e);
+		}
+		scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setThreadNamePrefix("audit-partition-");
+		scheduler.initialize();
+		scheduler.schedule(this::maintainPartitions, new CronTrigger(cron));
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (scheduler != null) {
+			scheduler.shutdown();
+		}
+	}
+
+	/**
+	 * Creates the partitions from the current month up to
+	 * {@link #monthsAhead} and drops the ones past the retention period
+	 */
+	public void maintainPartitions() {
+		YearMonth current = YearMonth.now();
+		for (int i = 0; i <= monthsAhead; i++) {
+			createPartition(current.plusMonths(i));
+		}
+		if (retentionMonths > 0) {
+			dropPartitionsBefore(current.minusMonths(retentionMonths));
+		}
+	}
+
+	/**
+	 * Creates the partition holding the audits logged in the given month, if not
+	 * already present
+	 * 
+	 * @param month the month
+	 */
+	public void createPartition(YearMonth month) {
+		LocalDate from = month.atDay(1);
+		LocalDate to = month.plusMonths(1).atDay(1);
+		try {
+			jdbcTemplate.execute(String.format(CREATE_PARTITION, partitionName(month), from, to));
+		} catch (DataAccessException e) {
+			// typically rows for this range already landed in the default partition
+			LOGGER.error("Unable to create audit partition for {}", month, e);
+		}
+	}
+
+	/**
+	 * Drops every monthly partition whose range ends on or before the start of
+	 * the given month
+	 * 
+	 * @param month the oldest month to retain
+	 */
+	public void dropPartitionsBefore(YearMonth month) {
+		List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS, String.class);
+		for (String partition : partitions) {
+			if (!partition.startsWith(PARTITION_PREFIX)) {
+				continue;
+			}
+			YearMonth partitionMonth;
+			try {
+				partitionMonth = YearMonth.parse(partition.substring(PARTITION_PREFIX.length()),
+						PARTITION_SUFFIX_FORMAT);
+			} catch (DateTimeParseException e) {
+				continue;
+			}
+			if (partitionMonth.isBefore(month)) {
+				try {
+					jdbcTemplate.execute(String.format(DROP_PARTITION, partition));
+					LOGGER.info("Dropped audit partition {}", partition);
+				} catch (DataAccessException e) {
+					LOGGER.error("Unable to drop audit partition {}", partition, e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the name of the partition holding the given month
+	 * 
+	 * @param month the month
+	 * @return the partition name
+	 */
+	public static String partitionName(YearMonth month) {
+		return PARTITION_PREFIX + month.format(PARTITION_SUFFIX_FORMAT);
+	}
+
+}
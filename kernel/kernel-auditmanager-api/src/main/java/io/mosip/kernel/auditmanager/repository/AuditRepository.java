@@ -3,6 +3,13 @@
  */
 package io.mosip.kernel.auditmanager.repository;
 
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 
@@ -16,4 +23,30 @@ import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
  */
 public interface AuditRepository extends BaseRepository<Audit, Long> {
 
+	/**
+	 * Fetches the audits logged in the half-open range [from, to). The range on
+	 * <code>log_dtimes</code> lets the database prune the partitions outside it.
+	 * 
+	 * @param fromDateTime inclusive lower bound of the log timestamp
+	 * @param toDateTime   exclusive upper bound of the log timestamp
+	 * @param pageable     the page to fetch
+	 * @return the page of {@link Audit}
+	 */
+	@Query("SELECT a FROM Audit a WHERE a.createdAt >= :fromDateTime AND a.createdAt < :toDateTime")
+	Page<Audit> findByLogTimeRange(@Param("fromDateTime") LocalDateTime fromDateTime,
+			@Param("toDateTime") LocalDateTime toDateTime, Pageable pageable);
+
+	/**
+	 * Fetches the audits of a module logged in the half-open range [from, to)
+	 * 
+	 * @param fromDateTime inclusive lower bound of the log timestamp
+	 * @param toDateTime   exclusive upper bound of the log timestamp
+	 * @param moduleId     the module id
+	 * @param pageable     the page to fetch
+	 * @return the page of {@link Audit}
+	 */
+	@Query("SELECT a FROM Audit a WHERE a.createdAt >= :fromDateTime AND a.createdAt < :toDateTime AND a.moduleId = :moduleId")
+	Page<Audit> findByLogTimeRangeAndModuleId(@Param("fromDateTime") LocalDateTime fromDateTime,
+			@Param("toDateTime") LocalDateTime toDateTime, @Param("moduleId") String moduleId, Pageable pageable);
+
 }
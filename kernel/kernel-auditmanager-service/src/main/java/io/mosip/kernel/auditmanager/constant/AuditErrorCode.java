@@ -10,6 +10,8 @@ package io.mosip.kernel.auditmanager.constant;
 public enum AuditErrorCode {
 	HANDLEREXCEPTION("KER-AUD-001", "Invalid Audit Request. Required parameters must be present"),
 	INVALIDFORMAT("KER-AUD-002", "Invalid Audit Request. Format is incorrect."),
+	INVALID_TIME_RANGE("KER-AUD-003", "Invalid time range. From date time must be before to date time"),
+	INVALID_PAGE("KER-AUD-004", "Invalid page. Page number must not be negative and page size must be positive"),
 	INTERNAL_SERVER_ERROR("KER-AUD-500", "Internal server error");
 
 	private final String errorCode;
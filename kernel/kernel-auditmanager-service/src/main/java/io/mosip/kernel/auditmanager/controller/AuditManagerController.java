@@ -1,16 +1,24 @@
 package io.mosip.kernel.auditmanager.controller;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.mosip.kernel.auditmanager.dto.AuditResponseDto;
+import io.mosip.kernel.auditmanager.dto.AuditSearchResponseDto;
 import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.kernel.auditmanager.request.AuditRequestDto;
 import io.mosip.kernel.auditmanager.service.AuditManagerService;
@@ -48,4 +56,46 @@ public class AuditManagerController {
 		response.setResponse(service.addAudit(requestDto.getRequest()));
 		return response;
 	}
+
+	/**
+	 * Function to add a batch of audits
+	 * 
+	 * @param requestDto list of {@link AuditRequestDto} having required fields for
+	 *                   auditing
+	 * @return The {@link AuditResponseDto} having the status of audit
+	 */
+	@PreAuthorize("hasAnyRole('INDIVIDUAL','ID_AUTHENTICATION','TEST', 'REGISTRATION_ADMIN', 'REGISTRATION_SUPERVISOR', 'REGISTRATION_OFFICER', 'REGISTRATION_PROCESSOR','PRE_REGISTRATION','PRE_REGISTRATION_ADMIN','RESIDENT','ZONAL_ADMIN','GLOBAL_ADMIN')")
+	@ResponseFilter
+	@PostMapping(value = "/audits/bulk", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseWrapper<AuditResponseDto> addAudits(
+			@RequestBody @Valid RequestWrapper<List<AuditRequestDto>> requestDto) {
+		ResponseWrapper<AuditResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(service.addAudits(requestDto.getRequest()));
+		return response;
+	}
+
+	/**
+	 * Function to fetch the audits logged within a time range. Only the
+	 * partitions overlapping the range are scanned.
+	 * 
+	 * @param fromDateTime inclusive lower bound of the log timestamp
+	 * @param toDateTime   exclusive upper bound of the log timestamp
+	 * @param moduleId     the module id, optional
+	 * @param pageNumber   the page number, starting from 0
+	 * @param pageSize     the page size
+	 * @return The {@link AuditSearchResponseDto} having the page of audits
+	 */
+	@PreAuthorize("hasAnyRole('ZONAL_ADMIN','GLOBAL_ADMIN')")
+	@ResponseFilter
+	@GetMapping(value = "/audits", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseWrapper<AuditSearchResponseDto> getAudits(
+			@RequestParam("fromDateTime") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime fromDateTime,
+			@RequestParam("toDateTime") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime toDateTime,
+			@RequestParam(value = "moduleId", required = false) String moduleId,
+			@RequestParam(value = "pageNumber", defaultValue = "0") int pageNumber,
+			@RequestParam(value = "pageSize", defaultValue = "10") int pageSize) {
+		ResponseWrapper<AuditSearchResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(service.getAudits(fromDateTime, toDateTime, moduleId, pageNumber, pageSize));
+		return response;
+	}
 }
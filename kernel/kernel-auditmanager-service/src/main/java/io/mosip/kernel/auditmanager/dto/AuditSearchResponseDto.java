@@ -0,0 +1,31 @@
+package io.mosip.kernel.auditmanager.dto;
+
+import java.util.List;
+
+import io.mosip.kernel.auditmanager.entity.Audit;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Class for Audit search response having a page of {@link Audit}
+ * 
+ * @since 1.1.0
+ *
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditSearchResponseDto {
+
+	private int pageNumber;
+
+	private int pageSize;
+
+	private long totalItems;
+
+	private int totalPages;
+
+	private List<Audit> audits;
+
+}
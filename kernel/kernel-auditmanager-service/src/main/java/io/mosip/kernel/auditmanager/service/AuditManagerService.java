@@ -3,7 +3,11 @@
  */
 package io.mosip.kernel.auditmanager.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import io.mosip.kernel.auditmanager.dto.AuditResponseDto;
+import io.mosip.kernel.auditmanager.dto.AuditSearchResponseDto;
 import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.kernel.auditmanager.request.AuditRequestDto;
 
@@ -25,4 +29,27 @@ public interface AuditManagerService {
 	 */
 	AuditResponseDto addAudit(AuditRequestDto auditRequestDto);
 
-}
\ No newline at end of file
+	/**
+	 * Function to add a batch of audits
+	 * 
+	 * @param auditRequestDtos The list of {@link AuditRequestDto} having required
+	 *                         field to audit
+	 * @return The {@link AuditResponseDto} having status of audit
+	 */
+	AuditResponseDto addAudits(List<AuditRequestDto> auditRequestDtos);
+
+	/**
+	 * Function to fetch the audits logged within a time range, optionally
+	 * restricted to a module
+	 * 
+	 * @param fromDateTime inclusive lower bound of the log timestamp
+	 * @param toDateTime   exclusive upper bound of the log timestamp
+	 * @param moduleId     the module id, can be null
+	 * @param pageNumber   the page number, starting from 0
+	 * @param pageSize     the page size
+	 * @return The {@link AuditSearchResponseDto} having the page of audits
+	 */
+	AuditSearchResponseDto getAudits(LocalDateTime fromDateTime, LocalDateTime toDateTime, String moduleId,
+			int pageNumber, int pageSize);
+
+}
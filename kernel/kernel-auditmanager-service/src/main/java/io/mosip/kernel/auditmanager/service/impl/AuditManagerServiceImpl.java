@@ -1,13 +1,24 @@
 package io.mosip.kernel.auditmanager.service.impl;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 
+import io.mosip.kernel.auditmanager.constant.AuditErrorCode;
 import io.mosip.kernel.auditmanager.dto.AuditResponseDto;
+import io.mosip.kernel.auditmanager.dto.AuditSearchResponseDto;
 import io.mosip.kernel.auditmanager.entity.Audit;
+import io.mosip.kernel.auditmanager.repository.AuditRepository;
 import io.mosip.kernel.auditmanager.request.AuditRequestDto;
 import io.mosip.kernel.auditmanager.service.AuditManagerService;
 import io.mosip.kernel.auditmanager.util.AuditAsyncUtil;
+import io.mosip.kernel.core.auditmanager.exception.AuditManagerException;
 
 /**
  * AuditManager service implementation with function to add new {@link Audit}
@@ -25,6 +36,12 @@ public class AuditManagerServiceImpl implements AuditManagerService {
 	@Autowired
 	private AuditAsyncUtil auditUtil;
 
+	/**
+	 * Field for audit repository
+	 */
+	@Autowired
+	private AuditRepository auditRepository;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -40,4 +57,45 @@ public class AuditManagerServiceImpl implements AuditManagerService {
 		return auditResponseDto;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.auditmanager.service.AuditManagerService#addAudits(java.util.
+	 * List)
+	 */
+	@Override
+	public AuditResponseDto addAudits(List<AuditRequestDto> auditRequestDtos) {
+		AuditResponseDto auditResponseDto = new AuditResponseDto();
+		auditUtil.addAudits(auditRequestDtos);
+		auditResponseDto.setStatus(true);
+		return auditResponseDto;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.auditmanager.service.AuditManagerService#getAudits(java.time.
+	 * LocalDateTime, java.time.LocalDateTime, java.lang.String, int, int)
+	 */
+	@Override
+	public AuditSearchResponseDto getAudits(LocalDateTime fromDateTime, LocalDateTime toDateTime, String moduleId,
+			int pageNumber, int pageSize) {
+		if (fromDateTime == null || toDateTime == null || !fromDateTime.isBefore(toDateTime)) {
+			throw new AuditManagerException(AuditErrorCode.INVALID_TIME_RANGE.getErrorCode(),
+					AuditErrorCode.INVALID_TIME_RANGE.getErrorMessage());
+		}
+		if (pageNumber < 0 || pageSize <= 0) {
+			throw new AuditManagerException(AuditErrorCode.INVALID_PAGE.getErrorCode(),
+					AuditErrorCode.INVALID_PAGE.getErrorMessage());
+		}
+		PageRequest pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by(Direction.DESC, "createdAt"));
+		Page<Audit> page = moduleId == null || moduleId.isEmpty()
+				? auditRepository.findByLogTimeRange(fromDateTime, toDateTime, pageRequest)
+				: auditRepository.findByLogTimeRangeAndModuleId(fromDateTime, toDateTime, moduleId, pageRequest);
+		return new AuditSearchResponseDto(page.getNumber(), page.getSize(), page.getTotalElements(),
+				page.getTotalPages(), page.getContent());
+	}
+
 }
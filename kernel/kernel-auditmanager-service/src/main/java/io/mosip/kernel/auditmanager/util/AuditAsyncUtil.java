@@ -3,6 +3,8 @@
  */
 package io.mosip.kernel.auditmanager.util;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -36,4 +38,14 @@ public class AuditAsyncUtil {
 		auditHandler.addAudit(auditRequestDto);
 	}
 
+	/**
+	 * Function to add a batch of audits asynchronously, in a single task
+	 * 
+	 * @param auditRequestDtos list of auditRequestDto
+	 */
+	@Async
+	public void addAudits(List<AuditRequestDto> auditRequestDtos) {
+		auditRequestDtos.forEach(auditHandler::addAudit);
+	}
+
 }
@@ -7,6 +7,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -77,4 +79,40 @@ public class AuditControllerTest {
 				.andExpect(jsonPath("$.response.status", is(true)));
 	}
 
+	@WithUserDetails("reg-processor")
+	@Test
+	public void auditBulkTest() throws Exception {
+		AuditResponseDto auditResponseDto = new AuditResponseDto();
+		auditResponseDto.setStatus(true);
+		when(service.addAudits(ArgumentMatchers.any())).thenReturn(auditResponseDto);
+
+		RequestWrapper<List<AuditRequestDto>> request = new RequestWrapper<>();
+		request.setRequest(Arrays.asList(auditRequest("eventId1"), auditRequest("eventId2")));
+
+		mockMvc.perform(post("/audits/bulk").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request))).andExpect(status().isOk())
+				.andExpect(jsonPath("$.response.status", is(true)));
+	}
+
+	private AuditRequestDto auditRequest(String eventId) {
+		AuditRequestDto auditRequestDto = new AuditRequestDto();
+		auditRequestDto.setActionTimeStamp(LocalDateTime.now());
+		auditRequestDto.setApplicationId("applicationId");
+		auditRequestDto.setApplicationName("applicationName");
+		auditRequestDto.setCreatedBy("createdBy");
+		auditRequestDto.setDescription("description");
+		auditRequestDto.setEventId(eventId);
+		auditRequestDto.setEventName("eventName");
+		auditRequestDto.setEventType("eventType");
+		auditRequestDto.setHostIp("hostIp");
+		auditRequestDto.setHostName("hostName");
+		auditRequestDto.setId("id");
+		auditRequestDto.setIdType("idType");
+		auditRequestDto.setModuleId("moduleId");
+		auditRequestDto.setModuleName("moduleName");
+		auditRequestDto.setSessionUserId("sessionUserId");
+		auditRequestDto.setSessionUserName("sessionUserName");
+		return auditRequestDto;
+	}
+
 }
@@ -13,8 +13,10 @@ import org.springframework.test.context.junit4.SpringRunner;
 
 import io.mosip.auditmanager.test.AuditManagerTestBootApplication;
 import io.mosip.kernel.auditmanager.dto.AuditResponseDto;
+import io.mosip.kernel.auditmanager.dto.AuditSearchResponseDto;
 import io.mosip.kernel.auditmanager.request.AuditRequestDto;
 import io.mosip.kernel.auditmanager.service.impl.AuditManagerServiceImpl;
+import io.mosip.kernel.core.auditmanager.exception.AuditManagerException;
 
 @SpringBootTest(classes = { AuditManagerTestBootApplication.class })
 @RunWith(SpringRunner.class)
@@ -49,4 +51,22 @@ public class AuditServiceTest {
 
 		assertThat(service.addAudit(auditRequestDto), is(auditResponseDto));
 	}
+
+	@Test
+	public void getAuditsTest() {
+		AuditSearchResponseDto responseDto = service.getAudits(LocalDateTime.now().minusDays(1),
+				LocalDateTime.now().plusDays(1), "moduleId", 0, 10);
+		assertThat(responseDto.getPageNumber(), is(0));
+		assertThat(responseDto.getPageSize(), is(10));
+	}
+
+	@Test(expected = AuditManagerException.class)
+	public void getAuditsInvalidTimeRangeTest() {
+		service.getAudits(LocalDateTime.now(), LocalDateTime.now().minusDays(1), null, 0, 10);
+	}
+
+	@Test(expected = AuditManagerException.class)
+	public void getAuditsInvalidPageTest() {
+		service.getAudits(LocalDateTime.now().minusDays(1), LocalDateTime.now(), null, 0, 0);
+	}
 }
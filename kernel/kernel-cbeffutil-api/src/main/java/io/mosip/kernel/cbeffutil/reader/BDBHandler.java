@@ -0,0 +1,25 @@
+package io.mosip.kernel.cbeffutil.reader;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Callback of {@link CbeffStreamReader} invoked for every BDB matching the
+ * requested type and subtype.
+ * 
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface BDBHandler {
+
+	/**
+	 * Called when a matching BDB is reached
+	 * 
+	 * @param bdbInfo the BDB information of the BIR holding the BDB
+	 * @return the stream the decoded BDB is written to, or null to skip the BDB.
+	 *         The stream is closed by the reader once the BDB is decoded.
+	 * @throws IOException when the stream can not be provided
+	 */
+	OutputStream onBDB(BDBMetadata bdbInfo) throws IOException;
+
+}
@@ -0,0 +1,55 @@
+package io.mosip.kernel.cbeffutil.reader;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.mosip.kernel.core.cbeffutil.jaxbclasses.SingleType;
+
+/**
+ * BDB information read by {@link CbeffStreamReader} ahead of the BDB it
+ * describes.
+ * 
+ * @since 1.1.0
+ */
+public class BDBMetadata {
+
+	private final List<SingleType> type;
+
+	private final List<String> subtype;
+
+	private final Long formatOrganization;
+
+	private final Long formatType;
+
+	private final LocalDateTime creationDate;
+
+	public BDBMetadata(List<SingleType> type, List<String> subtype, Long formatOrganization, Long formatType,
+			LocalDateTime creationDate) {
+		this.type = type;
+		this.subtype = subtype;
+		this.formatOrganization = formatOrganization;
+		this.formatType = formatType;
+		this.creationDate = creationDate;
+	}
+
+	public List<SingleType> getType() {
+		return type;
+	}
+
+	public List<String> getSubtype() {
+		return subtype;
+	}
+
+	public Long getFormatOrganization() {
+		return formatOrganization;
+	}
+
+	public Long getFormatType() {
+		return formatType;
+	}
+
+	public LocalDateTime getCreationDate() {
+		return creationDate;
+	}
+
+}
@@ -0,0 +1,360 @@
+package io.mosip.kernel.cbeffutil.reader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.codec.binary.Base64OutputStream;
+
+import io.mosip.kernel.core.cbeffutil.constant.CbeffConstant;
+import io.mosip.kernel.core.cbeffutil.jaxbclasses.SingleType;
+
+/**
+ * Streaming reader of CBEFF XML, extracting the BDBs of a type and subtype
+ * without unmarshalling the BIR tree.
+ * 
+ * The XML is walked with StAX. The BDB information of each BIR is read ahead
+ * of its BDB, and only the BDBs matching the requested type and subtype are
+ * base64 decoded, chunk by chunk, into the stream provided by the caller. The
+ * others are skipped without being materialized.
+ * 
+ * The type and subtype are matched the same way as
+ * {@link io.mosip.kernel.core.cbeffutil.common.CbeffValidator#getBDBBasedOnTypeAndSubType}.
+ * 
+ * @since 1.1.0
+ */
+public class CbeffStreamReader {
+
+	private static final String BIR = "BIR";
+	private static final String BDB_INFO = "BDBInfo";
+	private static final String BDB = "BDB";
+	private static final String FORMAT = "Format";
+	private static final String FORMAT_OWNER = "FormatOwner";
+	private static final String FORMAT_TYPE = "FormatType";
+	private static final String ORGANIZATION = "Organization";
+	private static final String TYPE = "Type";
+	private static final String SUBTYPE = "Subtype";
+	private static final String CREATION_DATE = "CreationDate";
+	private static final String NO_SUBTYPE = "No Subtype";
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+	private CbeffStreamReader() {
+	}
+
+	/**
+	 * Method used for reading the BDBs of a type and subtype
+	 * 
+	 * @param xml     Cbeff XML data
+	 * @param type    type to be searched, all types if null
+	 * @param subType subtype to be searched, all subtypes if null
+	 * @param handler handler providing the stream each matching BDB is decoded
+	 *                into, closed once the BDB is decoded
+	 * @throws XMLStreamException when the XML is malformed
+	 * @throws IOException        when the handler stream fails
+	 */
+	public static void readBDB(InputStream xml, String type, String subType, BDBHandler handler)
+			throws XMLStreamException, IOException {
+		SingleType singleType = type != null ? getSingleType(type) : null;
+		Long formatType = type != null ? getFormatType(type) : null;
+		XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(xml);
+		try {
+			Deque<BIRFrame> birs = new ArrayDeque<>();
+			while (reader.hasNext()) {
+				int event = reader.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					String name = reader.getLocalName();
+					if (BIR.equals(name)) {
+						birs.push(new BIRFrame());
+					} else if (BDB_INFO.equals(name) && !birs.isEmpty()) {
+						readBDBInfo(reader, birs.peek());
+					} else if (BDB.equals(name) && !birs.isEmpty()) {
+						BDBMetadata metadata = birs.peek().toMetadata();
+						OutputStream out = metadata != null && matches(metadata, singleType, formatType, subType)
+								? handler.onBDB(metadata)
+								: null;
+						if (out != null) {
+							decodeBDB(reader, out);
+						} else {
+							skipElement(reader);
+						}
+					}
+				} else if (event == XMLStreamConstants.END_ELEMENT && BIR.equals(reader.getLocalName())
+						&& !birs.isEmpty()) {
+					birs.pop();
+				}
+			}
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Method used for getting the latest BDB of each type, subtype and format
+	 * matching the given type and subtype, keyed as
+	 * {@link io.mosip.kernel.core.cbeffutil.common.CbeffValidator#getBDBBasedOnTypeAndSubType}
+	 * 
+	 * @param xml     Cbeff XML data
+	 * @param type    type to be searched, all types if null
+	 * @param subType subtype to be searched, all subtypes if null
+	 * @return Map of type, subtype and format to the decoded BDB
+	 * @throws XMLStreamException when the XML is malformed
+	 * @throws IOException        when reading fails
+	 */
+	public static Map<String, byte[]> getBDBBasedOnType(InputStream xml, String type, String subType)
+			throws XMLStreamException, IOException {
+		SingleType singleType = type != null ? getSingleType(type) : null;
+		Map<String, byte[]> bdbMap = new HashMap<>();
+		Map<String, LocalDateTime> creationDates = new HashMap<>();
+		readBDB(xml, type, subType, metadata -> {
+			String key = bdbKey(metadata, singleType, subType);
+			LocalDateTime existing = creationDates.get(key);
+			if (existing != null && metadata.getCreationDate() != null
+					&& existing.isAfter(metadata.getCreationDate())) {
+				return null;
+			}
+			creationDates.put(key, metadata.getCreationDate());
+			return new ByteArrayOutputStream() {
+				@Override
+				public void close() {
+					bdbMap.put(key, toByteArray());
+				}
+			};
+		});
+		return bdbMap;
+	}
+
+	/**
+	 * Method to build the key of a BDB the same way as the validator: the
+	 * requested type, or every type of the BDB when only a subtype is requested,
+	 * or the first one when neither is; then the requested subtype if a type is
+	 * also requested, every subtype of the BDB otherwise; then the format type
+	 */
+	private static String bdbKey(BDBMetadata metadata, SingleType singleType, String subType) {
+		List<String> types = convertToList(metadata.getType());
+		String typeKey;
+		if (singleType != null) {
+			typeKey = singleType.name();
+		} else if (subType != null) {
+			typeKey = String.join(" ", types);
+		} else {
+			typeKey = types.isEmpty() ? "" : types.get(0);
+		}
+		String subtypeKey;
+		if (singleType != null && subType != null) {
+			subtypeKey = subType;
+		} else if (subType == null && singleType == null && metadata.getSubtype().isEmpty()) {
+			subtypeKey = NO_SUBTYPE;
+		} else {
+			subtypeKey = String.join(" ", metadata.getSubtype());
+		}
+		return typeKey + "_" + subtypeKey + "_" + metadata.getFormatType();
+	}
+
+	private static void readBDBInfo(XMLStreamReader reader, BIRFrame bir) throws XMLStreamException {
+		bir.hasBDBInfo = true;
+		int depth = 0;
+		boolean inFormat = false;
+		while (depth >= 0) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				String name = reader.getLocalName();
+				if (depth == 0) {
+					switch (name) {
+					case FORMAT:
+						inFormat = true;
+						depth++;
+						break;
+					case FORMAT_OWNER:
+						bir.formatOrganization = parseLong(reader.getElementText());
+						break;
+					case FORMAT_TYPE:
+						bir.formatType = parseLong(reader.getElementText());
+						break;
+					case TYPE:
+						bir.type = parseTypes(reader.getElementText());
+						break;
+					case SUBTYPE:
+						bir.subtype = splitList(reader.getElementText());
+						break;
+					case CREATION_DATE:
+						bir.creationDate = parseDate(reader.getElementText());
+						break;
+					default:
+						skipElement(reader);
+						break;
+					}
+				} else if (inFormat && ORGANIZATION.equals(name)) {
+					bir.formatOrganization = parseLong(reader.getElementText());
+				} else if (inFormat && TYPE.equals(name)) {
+					bir.formatType = parseLong(reader.getElementText());
+				} else {
+					skipElement(reader);
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				if (depth == 1 && FORMAT.equals(reader.getLocalName())) {
+					inFormat = false;
+				}
+				depth--;
+			}
+		}
+	}
+
+	private static void decodeBDB(XMLStreamReader reader, OutputStream out) throws XMLStreamException, IOException {
+		char[] chars = new char[BUFFER_SIZE];
+		byte[] bytes = new byte[BUFFER_SIZE];
+		try (OutputStream decoder = new Base64OutputStream(out, false)) {
+			int event;
+			while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT) {
+				if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+					int textLength = reader.getTextLength();
+					for (int start = 0; start < textLength;) {
+						int length = reader.getTextCharacters(start, chars, 0, Math.min(BUFFER_SIZE, textLength - start));
+						for (int i = 0; i < length; i++) {
+							bytes[i] = (byte) chars[i];
+						}
+						decoder.write(bytes, 0, length);
+						start += length;
+					}
+				}
+			}
+		}
+	}
+
+	private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	private static boolean matches(BDBMetadata metadata, SingleType singleType, Long formatType, String subType) {
+		if (singleType != null && (!metadata.getType().contains(singleType)
+				|| !formatType.equals(metadata.getFormatType()))) {
+			return false;
+		}
+		return subType == null || metadata.getSubtype().contains(subType);
+	}
+
+	/**
+	 * Method to get enum type from string type
+	 * 
+	 */
+	private static SingleType getSingleType(String type) {
+		for (SingleType singleType : SingleType.values()) {
+			if (singleType.name().equals(type)) {
+				return singleType;
+			}
+		}
+		return "FMR".equals(type) ? SingleType.FINGER : SingleType.fromValue(type);
+	}
+
+	/**
+	 * Method used for getting Format Type Id from type string
+	 * 
+	 */
+	private static long getFormatType(String type) {
+		switch (type.toLowerCase()) {
+		case "finger":
+			return CbeffConstant.FORMAT_TYPE_FINGER;
+		case "iris":
+			return CbeffConstant.FORMAT_TYPE_IRIS;
+		case "fmr":
+			return CbeffConstant.FORMAT_TYPE_FINGER_MINUTIAE;
+		case "face":
+		case "handgeometry":
+			return CbeffConstant.FORMAT_TYPE_FACE;
+		default:
+			return 0;
+		}
+	}
+
+	private static List<SingleType> parseTypes(String text) {
+		List<SingleType> types = new ArrayList<>();
+		for (String value : splitList(text)) {
+			try {
+				types.add(SingleType.fromValue(value));
+			} catch (IllegalArgumentException e) {
+				// unknown types never match a requested type
+			}
+		}
+		return types;
+	}
+
+	private static List<String> splitList(String text) {
+		String trimmed = text.trim();
+		if (trimmed.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<String> values = new ArrayList<>();
+		Collections.addAll(values, trimmed.split("\\s+"));
+		return values;
+	}
+
+	private static Long parseLong(String text) {
+		try {
+			return Long.valueOf(text.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static LocalDateTime parseDate(String text) {
+		return ZonedDateTime.parse(text.trim(), DateTimeFormatter.ISO_DATE_TIME).withZoneSameInstant(ZoneId.of("UTC"))
+				.toLocalDateTime();
+	}
+
+	private static List<String> convertToList(List<SingleType> singleTypeList) {
+		return singleTypeList.stream().map(Enum::name).collect(Collectors.toList());
+	}
+
+	private static XMLInputFactory createInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+		return factory;
+	}
+
+	/**
+	 * BDB information gathered for the BIR being read
+	 */
+	private static class BIRFrame {
+		private boolean hasBDBInfo;
+		private List<SingleType> type = Collections.emptyList();
+		private List<String> subtype = Collections.emptyList();
+		private Long formatOrganization;
+		private Long formatType;
+		private LocalDateTime creationDate;
+
+		private BDBMetadata toMetadata() {
+			return hasBDBInfo ? new BDBMetadata(type, subtype, formatOrganization, formatType, creationDate) : null;
+		}
+	}
+
+}
@@ -0,0 +1,99 @@
+package io.mosip.kernel.cbeffutil.test.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.XMLConstants;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.SchemaFactory;
+
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.mosip.kernel.core.cbeffutil.common.CbeffValidator;
+import io.mosip.kernel.core.cbeffutil.common.CbeffXSDValidator;
+import io.mosip.kernel.core.cbeffutil.jaxbclasses.BIRType;
+
+/**
+ * Per document cost of reading and validating a CBEFF with a JAXB context and
+ * XSD schema built per call, against the shared context, per thread
+ * unmarshaller and compiled schema of {@link CbeffValidator} and
+ * {@link CbeffXSDValidator}.
+ * 
+ * Run with the test classpath: <code>java -cp ... CbeffJaxbBenchmark</code>
+ * 
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CbeffJaxbBenchmark {
+
+	private byte[] xml;
+
+	private byte[] xsd;
+
+	@Setup
+	public void setup() throws IOException {
+		xml = readResource("/schema/createCbeff.xml");
+		xsd = readResource("/schema/cbeff.xsd");
+	}
+
+	@Benchmark
+	public BIRType unmarshalWithNewContext() throws Exception {
+		JAXBContext jaxbContext = JAXBContext.newInstance(BIRType.class);
+		Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+		JAXBElement<BIRType> jaxBir = unmarshaller.unmarshal(new StreamSource(new ByteArrayInputStream(xml)),
+				BIRType.class);
+		return jaxBir.getValue();
+	}
+
+	@Benchmark
+	public BIRType unmarshalWithCachedContext() throws Exception {
+		return CbeffValidator.getBIRFromXML(xml);
+	}
+
+	@Benchmark
+	public boolean validateWithNewSchema() throws Exception {
+		SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
+				.newSchema(new StreamSource(new ByteArrayInputStream(xsd))).newValidator()
+				.validate(new StreamSource(new ByteArrayInputStream(xml)));
+		return true;
+	}
+
+	@Benchmark
+	public boolean validateWithCachedSchema() throws Exception {
+		return CbeffXSDValidator.validateXML(xsd, xml);
+	}
+
+	private static byte[] readResource(String name) throws IOException {
+		try (InputStream is = CbeffJaxbBenchmark.class.getResourceAsStream(name)) {
+			return IOUtils.toByteArray(is);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(CbeffJaxbBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,96 @@
+package io.mosip.kernel.cbeffutil.test.reader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Test;
+
+import io.mosip.kernel.cbeffutil.reader.BDBMetadata;
+import io.mosip.kernel.cbeffutil.reader.CbeffStreamReader;
+import io.mosip.kernel.core.cbeffutil.common.CbeffValidator;
+import io.mosip.kernel.core.cbeffutil.jaxbclasses.SingleType;
+
+public class CbeffStreamReaderTest {
+
+	private static final String localpath = "./src/main/resources";
+
+	@Test
+	public void testGetBDBBasedOnTypeMatchesValidator() throws Exception {
+		assertMatchesValidator("Finger", "Right");
+	}
+
+	@Test
+	public void testGetBDBBasedOnTypeOnlyMatchesValidator() throws Exception {
+		assertMatchesValidator("Finger", null);
+	}
+
+	@Test
+	public void testGetBDBBasedOnSubTypeOnlyMatchesValidator() throws Exception {
+		assertMatchesValidator(null, "Right");
+	}
+
+	@Test
+	public void testGetAllBDBMatchesValidator() throws Exception {
+		assertMatchesValidator(null, null);
+	}
+
+	@Test
+	public void testReadBDBClosesHandlerStream() throws Exception {
+		byte[] xml = readCreatedXML("createCbeffLatest2");
+		List<Boolean> closed = new ArrayList<>();
+		CbeffStreamReader.readBDB(new ByteArrayInputStream(xml), "Finger", "Right", metadata -> {
+			int index = closed.size();
+			closed.add(false);
+			return new ByteArrayOutputStream() {
+				@Override
+				public void close() {
+					closed.set(index, true);
+				}
+			};
+		});
+		assertTrue(!closed.isEmpty());
+		assertTrue(!closed.contains(false));
+	}
+
+	@Test
+	public void testReadBDBSkipsUnhandledBDB() throws Exception {
+		byte[] xml = readCreatedXML("createCbeffLatest2");
+		List<BDBMetadata> seen = new ArrayList<>();
+		CbeffStreamReader.readBDB(new ByteArrayInputStream(xml), "Finger", null, metadata -> {
+			seen.add(metadata);
+			return null;
+		});
+		assertTrue(!seen.isEmpty());
+		for (BDBMetadata metadata : seen) {
+			assertTrue(metadata.getType().contains(SingleType.FINGER));
+		}
+	}
+
+	private void assertMatchesValidator(String type, String subType) throws Exception {
+		byte[] xml = readCreatedXML("createCbeffLatest2");
+		Map<String, String> expected = CbeffValidator
+				.getBDBBasedOnTypeAndSubType(CbeffValidator.getBIRFromXML(xml), type, subType);
+		Map<String, byte[]> actual = CbeffStreamReader.getBDBBasedOnType(new ByteArrayInputStream(xml), type,
+				subType);
+		assertEquals(expected.keySet(), actual.keySet());
+		for (Map.Entry<String, String> entry : expected.entrySet()) {
+			assertArrayEquals(Base64.decodeBase64(entry.getValue()), actual.get(entry.getKey()));
+		}
+	}
+
+	private byte[] readCreatedXML(String name) throws IOException {
+		return Files.readAllBytes(Paths.get(localpath + "/schema/" + name + ".xml"));
+	}
+
+}
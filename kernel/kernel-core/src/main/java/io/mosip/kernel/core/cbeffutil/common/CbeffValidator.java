@@ -5,7 +5,6 @@ package io.mosip.kernel.core.cbeffutil.common;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.OutputStreamWriter;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -16,6 +15,7 @@ import java.util.stream.Collectors;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.transform.stream.StreamSource;
@@ -43,6 +43,79 @@ import io.mosip.kernel.core.util.CryptoUtil;
  */
 public class CbeffValidator {
 
+	/**
+	 * JAXB context for {@link BIRType}, created once as it is thread-safe and
+	 * expensive to build
+	 */
+	private static volatile JAXBContext jaxbContext;
+
+	/**
+	 * Marshallers are not thread-safe, so one is kept per thread
+	 */
+	private static final ThreadLocal<Marshaller> MARSHALLER = new ThreadLocal<>();
+
+	/**
+	 * Unmarshallers are not thread-safe, so one is kept per thread
+	 */
+	private static final ThreadLocal<Unmarshaller> UNMARSHALLER = new ThreadLocal<>();
+
+	/**
+	 * Method used for getting the shared JAXB context of {@link BIRType}
+	 * 
+	 * @return JAXBContext the JAXB context
+	 * 
+	 * @exception JAXBException when context creation fails
+	 * 
+	 */
+	private static JAXBContext getJAXBContext() throws JAXBException {
+		JAXBContext context = jaxbContext;
+		if (context == null) {
+			synchronized (CbeffValidator.class) {
+				context = jaxbContext;
+				if (context == null) {
+					context = JAXBContext.newInstance(BIRType.class);
+					jaxbContext = context;
+				}
+			}
+		}
+		return context;
+	}
+
+	/**
+	 * Method used for getting the marshaller of the current thread
+	 * 
+	 * @return Marshaller the marshaller
+	 * 
+	 * @exception JAXBException when marshaller creation fails
+	 * 
+	 */
+	private static Marshaller getMarshaller() throws JAXBException {
+		Marshaller marshaller = MARSHALLER.get();
+		if (marshaller == null) {
+			marshaller = getJAXBContext().createMarshaller();
+			marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+			MARSHALLER.set(marshaller);
+		}
+		return marshaller;
+	}
+
+	/**
+	 * Method used for getting the unmarshaller of the current thread
+	 * 
+	 * @return Unmarshaller the unmarshaller
+	 * 
+	 * @exception JAXBException when unmarshaller creation fails
+	 * 
+	 */
+	private static Unmarshaller getUnmarshaller() throws JAXBException {
+		Unmarshaller unmarshaller = UNMARSHALLER.get();
+		if (unmarshaller == null) {
+			unmarshaller = getJAXBContext().createUnmarshaller();
+			UNMARSHALLER.set(unmarshaller);
+		}
+		return unmarshaller;
+	}
+
 	/**
 	 * Method used for custom validation of the BIR
 	 * 
@@ -148,14 +221,9 @@ public class CbeffValidator {
 	 */
 	public static byte[] createXMLBytes(BIRType bir, byte[] xsd) throws Exception {
 		CbeffValidator.validateXML(bir);
-		JAXBContext jaxbContext = JAXBContext.newInstance(BIRType.class);
-		Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
-		jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE); // To
 		ByteArrayOutputStream baos = new ByteArrayOutputStream();
-		OutputStreamWriter writer = new OutputStreamWriter(baos);
-		jaxbMarshaller.marshal(bir, writer);
+		getMarshaller().marshal(bir, baos);
 		byte[] savedData = baos.toByteArray();
-		writer.close();
 		try {
 			CbeffXSDValidator.validateXML(xsd, savedData);
 		} catch (SAXException sax) {
@@ -183,10 +251,8 @@ public class CbeffValidator {
 	 * 
 	 */
 	public static BIRType getBIRFromXML(byte[] fileBytes) throws Exception {
-		JAXBContext jaxbContext = JAXBContext.newInstance(BIRType.class);
-		Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-		JAXBElement<BIRType> jaxBir = unmarshaller.unmarshal(new StreamSource(new ByteArrayInputStream(fileBytes)),
-				BIRType.class);
+		JAXBElement<BIRType> jaxBir = getUnmarshaller()
+				.unmarshal(new StreamSource(new ByteArrayInputStream(fileBytes)), BIRType.class);
 		BIRType bir = jaxBir.getValue();
 		return bir;
 	}
@@ -425,10 +491,8 @@ public class CbeffValidator {
 	public static List<BIRType> getBIRDataFromXMLType(byte[] xmlBytes, String type) throws Exception {
 		SingleType singleType = null;
 		List<BIRType> updatedBIRList = new ArrayList<>();
-		JAXBContext jaxbContext = JAXBContext.newInstance(BIRType.class);
-		Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-		JAXBElement<BIRType> jaxBir = unmarshaller.unmarshal(new StreamSource(new ByteArrayInputStream(xmlBytes)),
-				BIRType.class);
+		JAXBElement<BIRType> jaxBir = getUnmarshaller()
+				.unmarshal(new StreamSource(new ByteArrayInputStream(xmlBytes)), BIRType.class);
 		BIRType bir = jaxBir.getValue();
 		for (BIRType birType : bir.getBIR()) {
 			if (type != null) {
@@ -4,6 +4,9 @@
 package io.mosip.kernel.core.cbeffutil.common;
 
 import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.xml.XMLConstants;
 import javax.xml.transform.stream.StreamSource;
@@ -11,18 +14,61 @@ import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
 
+import org.xml.sax.SAXException;
+
+import io.mosip.kernel.core.util.HMACUtils;
+
 /**
  * @author M1049825
  *
  */
 public class CbeffXSDValidator {
 
+	/**
+	 * The maximum number of compiled schemas kept.
+	 */
+	private static final int MAX_SCHEMAS = 16;
+
+	/**
+	 * Compiled schemas keyed by the SHA-256 of the XSD content, the least
+	 * recently used dropped first. A {@link Schema} is immutable and thread-safe,
+	 * so it is compiled once per XSD and shared.
+	 */
+	private static final Map<String, Schema> SCHEMAS = Collections
+			.synchronizedMap(new LinkedHashMap<String, Schema>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Schema> eldest) {
+					return size() > MAX_SCHEMAS;
+				}
+			});
+
 	public static boolean validateXML(byte[] xsdBytes, byte[] xmlBytes) throws Exception {
-		SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-		Schema schema = factory.newSchema(new StreamSource(new ByteArrayInputStream(xsdBytes)));
-		Validator validator = schema.newValidator();
+		Validator validator = getSchema(xsdBytes).newValidator();
 		validator.validate(new StreamSource(new ByteArrayInputStream(xmlBytes)));
 		return true;
 	}
 
+	/**
+	 * Returns the compiled schema of the XSD, compiling it on first use
+	 * 
+	 * @param xsdBytes the XSD
+	 * @return the compiled schema
+	 * @throws SAXException when the XSD is invalid
+	 */
+	public static Schema getSchema(byte[] xsdBytes) throws SAXException {
+		String key = HMACUtils.digestAsPlainText(HMACUtils.generateHash(xsdBytes));
+		Schema schema = SCHEMAS.get(key);
+		if (schema == null) {
+			SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+			schema = factory.newSchema(new StreamSource(new ByteArrayInputStream(xsdBytes)));
+			Schema existing = SCHEMAS.putIfAbsent(key, schema);
+			if (existing != null) {
+				schema = existing;
+			}
+		}
+		return schema;
+	}
+
 }
@@ -1,8 +1,14 @@
 package io.mosip.kernel.core.fsadapter.spi;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 
 /**
  * File adapter interface for connecting to DFS
@@ -60,6 +66,66 @@ public interface FileSystemAdapter {
 	 */
 	public InputStream getFile(String id, String fileName);
 
+	/**
+	 * This method fetches a range of a file corresponding to an ID and returns it.
+	 * The default implementation skips the start of the whole file, adapters
+	 * able to read from an offset should override it.
+	 *
+	 * @param id       The id
+	 * @param fileName Required file name
+	 * @param offset   The position of the first byte to read
+	 * @param length   The number of bytes to read, fewer are returned if the file
+	 *                 ends before
+	 * @return the required range of the file
+	 * @since 1.1.0
+	 */
+	public default InputStream getFile(String id, String fileName, long offset, long length) {
+		if (offset < 0 || length < 0) {
+			throw new IllegalArgumentException("offset and length can not be negative");
+		}
+		InputStream file = getFile(id, fileName);
+		try {
+			IOUtils.skip(file, offset);
+		} catch (IOException e) {
+			IOUtils.closeQuietly(file);
+			throw new UncheckedIOException(e);
+		}
+		return new BoundedInputStream(file, length);
+	}
+
+	/**
+	 * This method fetches a file corresponding to an ID without blocking the
+	 * caller. The default implementation runs {@link #getFile(String, String)}
+	 * in the common pool, adapters should override it to use their own threads.
+	 *
+	 * @param id       The id
+	 * @param fileName Required file name
+	 * @return the required file, once opened
+	 * @since 1.1.0
+	 */
+	public default CompletableFuture<InputStream> getFileAsync(String id, String fileName) {
+		return CompletableFuture.supplyAsync(() -> getFile(id, fileName));
+	}
+
+	/**
+	 * This method fetches a range of a file corresponding to an ID without
+	 * blocking the caller, the ranges of a large file can be read in parallel.
+	 * The default implementation runs
+	 * {@link #getFile(String, String, long, long)} in the common pool, adapters
+	 * should override it to use their own threads.
+	 *
+	 * @param id       The id
+	 * @param fileName Required file name
+	 * @param offset   The position of the first byte to read
+	 * @param length   The number of bytes to read
+	 * @return the required range of the file, once opened
+	 * @since 1.1.0
+	 */
+	public default CompletableFuture<InputStream> getFileAsync(String id, String fileName, long offset,
+			long length) {
+		return CompletableFuture.supplyAsync(() -> getFile(id, fileName, offset, length));
+	}
+
 	/**
 	 * This method fetches the packet corresponding to an ID and returns it.
 	 *
@@ -86,6 +152,42 @@ public interface FileSystemAdapter {
 	 */
 	public boolean storeFile(String id, String key, InputStream document);
 
+	/**
+	 * This method stores a file corresponding to an ID. Unlike a stream, a file
+	 * can be read from several positions, adapters storing objects in parts
+	 * upload the parts of a large file in parallel. The default implementation
+	 * stores the content of the file as a stream.
+	 *
+	 * @param id       The id
+	 * @param key      Physical path of the file which needs to be stored
+	 * @param document document to be stored
+	 * @return True If the file is stored successfully
+	 * @since 1.1.0
+	 */
+	public default boolean uploadFile(String id, String key, File document) {
+		try (InputStream content = new FileInputStream(document)) {
+			return storeFile(id, key, content);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * This method stores a file corresponding to an ID without blocking the
+	 * caller. The default implementation runs
+	 * {@link #uploadFile(String, String, File)} in the common pool, adapters
+	 * should override it to use their own threads.
+	 *
+	 * @param id       The id
+	 * @param key      Physical path of the file which needs to be stored
+	 * @param document document to be stored
+	 * @return True If the file is stored successfully, once stored
+	 * @since 1.1.0
+	 */
+	public default CompletableFuture<Boolean> storeFileAsync(String id, String key, File document) {
+		return CompletableFuture.supplyAsync(() -> uploadFile(id, key, document));
+	}
+
 	/**
 	 * This method stores the packet corresponding to an ID.
 	 *
@@ -9,6 +9,8 @@
  */
 package io.mosip.kernel.core.logger.spi;
 
+import java.util.function.Supplier;
+
 /**
  * Logging interface for Mosip
  * 
@@ -67,4 +69,94 @@ public interface Logger {
 	 */
 	void trace(String sessionId, String idType, String id, String description);
 
+	/**
+	 * Logs at Debug logging level, building the description only if the level is
+	 * enabled
+	 * 
+	 * @param sessionId   session id
+	 * @param idType      type of id
+	 * @param id          id value
+	 * @param description supplier of the description of log
+	 * @since 1.1.0
+	 */
+	default void debug(String sessionId, String idType, String id, Supplier<String> description) {
+		debug(sessionId, idType, id, description.get());
+	}
+
+	/**
+	 * Logs at Warn logging level, building the description only if the level is
+	 * enabled
+	 * 
+	 * @param sessionId   session id
+	 * @param idType      type of id
+	 * @param id          id value
+	 * @param description supplier of the description of log
+	 * @since 1.1.0
+	 */
+	default void warn(String sessionId, String idType, String id, Supplier<String> description) {
+		warn(sessionId, idType, id, description.get());
+	}
+
+	/**
+	 * Logs at Error logging level, building the description only if the level is
+	 * enabled
+	 * 
+	 * @param sessionId   session id
+	 * @param idType      type of id
+	 * @param id          id value
+	 * @param description supplier of the description of log
+	 * @since 1.1.0
+	 */
+	default void error(String sessionId, String idType, String id, Supplier<String> description) {
+		error(sessionId, idType, id, description.get());
+	}
+
+	/**
+	 * Logs at Info logging level, building the description only if the level is
+	 * enabled
+	 * 
+	 * @param sessionId   session id
+	 * @param idType      type of id
+	 * @param id          id value
+	 * @param description supplier of the description of log
+	 * @since 1.1.0
+	 */
+	default void info(String sessionId, String idType, String id, Supplier<String> description) {
+		info(sessionId, idType, id, description.get());
+	}
+
+	/**
+	 * Logs at Trace logging level, building the description only if the level is
+	 * enabled
+	 * 
+	 * @param sessionId   session id
+	 * @param idType      type of id
+	 * @param id          id value
+	 * @param description supplier of the description of log
+	 * @since 1.1.0
+	 */
+	default void trace(String sessionId, String idType, String id, Supplier<String> description) {
+		trace(sessionId, idType, id, description.get());
+	}
+
+	/**
+	 * Checks if the Debug logging level is enabled
+	 * 
+	 * @return true if Debug logs are written
+	 * @since 1.1.0
+	 */
+	default boolean isDebugEnabled() {
+		return true;
+	}
+
+	/**
+	 * Checks if the Trace logging level is enabled
+	 * 
+	 * @return true if Trace logs are written
+	 * @since 1.1.0
+	 */
+	default boolean isTraceEnabled() {
+		return true;
+	}
+
 }
@@ -1,5 +1,7 @@
 package io.mosip.kernel.core.notification.spi;
 
+import java.util.List;
+
 import io.mosip.kernel.core.notification.model.SMSResponseDto;
 
 /**
@@ -26,4 +28,36 @@ public interface SMSServiceProvider {
 	 */
 	public SMSResponseDto sendSms(String contactNumber, String message);
 
+	/**
+	 * Method responsible for sending the same SMS to several contact numbers. The
+	 * default implementation sends one SMS per number, so a failure may leave the
+	 * first numbers sent. Vendors accepting several recipients in one request
+	 * should override it together with {@link #supportsMultipleRecipients()}.
+	 * 
+	 * @param contactNumbers Contact numbers to sent SMS to.
+	 * @param message        Message to send
+	 * @return acknowledgement of the last SMS sent
+	 * @since 1.1.0
+	 */
+	public default SMSResponseDto sendSms(List<String> contactNumbers, String message) {
+		SMSResponseDto response = null;
+		for (String contactNumber : contactNumbers) {
+			response = sendSms(contactNumber, message);
+		}
+		return response;
+	}
+
+	/**
+	 * Method telling whether {@link #sendSms(List, String)} sends all the numbers
+	 * in one request, which is either sent or failed as a whole. When false, a
+	 * caller retrying a failed SMS should send it one number at a time, so that
+	 * the numbers already sent are not sent again.
+	 * 
+	 * @return true if the SMS is sent to several numbers in one request
+	 * @since 1.1.0
+	 */
+	public default boolean supportsMultipleRecipients() {
+		return false;
+	}
+
 }
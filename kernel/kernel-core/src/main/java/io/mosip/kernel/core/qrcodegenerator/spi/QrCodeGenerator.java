@@ -1,6 +1,8 @@
 package io.mosip.kernel.core.qrcodegenerator.spi;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import io.mosip.kernel.core.qrcodegenerator.exception.QrcodeGenerationException;
 
@@ -28,4 +30,26 @@ public interface QrCodeGenerator<T> {
 	 */
 	byte[] generateQrCode(String data, T version) throws QrcodeGenerationException, IOException;
 
+	/**
+	 * Method to generate a QR Code for each of the data, all of the same version
+	 * 
+	 * @param data    list of data to encode in the QR codes
+	 * @param version QR Code version
+	 * @return list of array of byte containing the QR Codes in PNG format, in the
+	 *         order of the data
+	 * @throws QrcodeGenerationException exceptions which may occur when encoding a
+	 *                                   QRcode using the Writer framework.
+	 * @throws IOException               exceptions which may occur when write to
+	 *                                   the byte stream fail
+	 * 
+	 * @since 1.1.0
+	 */
+	default List<byte[]> generateQrCodes(List<String> data, T version) throws QrcodeGenerationException, IOException {
+		List<byte[]> qrCodes = new ArrayList<>(data.size());
+		for (String qrData : data) {
+			qrCodes.add(generateQrCode(qrData, version));
+		}
+		return qrCodes;
+	}
+
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package io.mosip.kernel.core.transliteration.spi;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * This interface contains method that perform transliteration based on language
  * code provided.
@@ -20,4 +23,22 @@ public interface Transliteration<T> {
 	 */
 	public String transliterate(T fromLanguage, T toLanguage, String text);
 
+	/**
+	 * This method perform transliteration of several strings based on language
+	 * code provided.
+	 * 
+	 * @param fromLanguage the input language code.
+	 * @param toLanguage   the output language code.
+	 * @param texts        the strings to be transliterated, by field name.
+	 * @return the transliterated strings by field name, in the iteration order of
+	 *         texts, null strings are kept null.
+	 * @since 1.1.0
+	 */
+	public default Map<String, String> transliterate(T fromLanguage, T toLanguage, Map<String, String> texts) {
+		Map<String, String> transliteratedTexts = new LinkedHashMap<>();
+		texts.forEach((field, text) -> transliteratedTexts.put(field,
+				text == null ? null : transliterate(fromLanguage, toLanguage, text)));
+		return transliteratedTexts;
+	}
+
 }
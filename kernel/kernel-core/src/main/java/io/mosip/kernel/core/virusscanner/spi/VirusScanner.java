@@ -6,6 +6,8 @@ package io.mosip.kernel.core.virusscanner.spi;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Mukul Puspam
@@ -58,4 +60,19 @@ public interface VirusScanner<U, V> {
 	 *                     operations
 	 */
 	U scanDocument(File doc) throws IOException;
+
+	/**
+	 * Scan files.
+	 *
+	 * @param files the files to scan by name
+	 * 
+	 * @return the u of each file by name, in the order of the files
+	 * 
+	 * @since 1.1.0
+	 */
+	default Map<String, U> scanFiles(Map<String, V> files) {
+		Map<String, U> results = new LinkedHashMap<>();
+		files.forEach((name, file) -> results.put(name, scanFile(file)));
+		return results;
+	}
 }
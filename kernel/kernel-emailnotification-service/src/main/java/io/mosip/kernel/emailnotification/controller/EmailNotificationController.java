@@ -2,6 +2,7 @@ package io.mosip.kernel.emailnotification.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -10,7 +11,9 @@ import org.springframework.web.multipart.MultipartFile;
 import io.mosip.kernel.core.http.ResponseFilter;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.notification.spi.EmailNotification;
+import io.mosip.kernel.emailnotification.dto.EmailQueueMetricsDto;
 import io.mosip.kernel.emailnotification.dto.ResponseDto;
+import io.mosip.kernel.emailnotification.util.EmailDispatcher;
 
 /**
  * Controller class for sending mail.
@@ -28,6 +31,12 @@ public class EmailNotificationController {
 	@Autowired
 	EmailNotification<MultipartFile[], ResponseDto> emailNotificationService;
 
+	/**
+	 * Autowired reference for {@link EmailDispatcher}.
+	 */
+	@Autowired
+	EmailDispatcher emailDispatcher;
+
 	/**
 	 * @param mailTo      array of email id's, to which mail should be sent.
 	 * @param mailCc      array of email id's, to which the email should be sent as
@@ -48,4 +57,16 @@ public class EmailNotificationController {
 				.setResponse(emailNotificationService.sendEmail(mailTo, mailCc, mailSubject, mailContent, attachments));
 		return responseWrapper;
 	}
+
+	/**
+	 * @return the metrics of the email dispatch queue.
+	 */
+	@PreAuthorize("hasAnyRole('ZONAL_ADMIN','GLOBAL_ADMIN')")
+	@ResponseFilter
+	@GetMapping(value = "/email/queue/metrics")
+	public @ResponseBody ResponseWrapper<EmailQueueMetricsDto> getQueueMetrics() {
+		ResponseWrapper<EmailQueueMetricsDto> responseWrapper = new ResponseWrapper<>();
+		responseWrapper.setResponse(emailDispatcher.getMetrics());
+		return responseWrapper;
+	}
 }
@@ -0,0 +1,51 @@
+package io.mosip.kernel.emailnotification.dto;
+
+import lombok.Data;
+
+/**
+ * The class for the metrics of the email dispatch queue.
+ * 
+ * @since 1.1.0
+ */
+@Data
+public class EmailQueueMetricsDto {
+	/**
+	 * Whether the emails are sent through the queue.
+	 */
+	private boolean enabled;
+
+	/**
+	 * The emails waiting in the queue.
+	 */
+	private int queued;
+
+	/**
+	 * The emails written to the spool directory and not yet sent, queued or not.
+	 */
+	private long spooled;
+
+	/**
+	 * The emails accepted since start.
+	 */
+	private long enqueued;
+
+	/**
+	 * The emails sent since start.
+	 */
+	private long sent;
+
+	/**
+	 * The retried sends since start.
+	 */
+	private long retried;
+
+	/**
+	 * The emails refused by the mail server since start.
+	 */
+	private long failed;
+
+	/**
+	 * The SMTP connections currently open.
+	 */
+	private int openConnections;
+}
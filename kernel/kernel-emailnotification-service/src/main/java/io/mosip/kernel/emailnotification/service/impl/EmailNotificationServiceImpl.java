@@ -8,7 +8,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -16,6 +15,7 @@ import io.mosip.kernel.core.notification.spi.EmailNotification;
 import io.mosip.kernel.emailnotification.constant.MailNotifierConstants;
 import io.mosip.kernel.emailnotification.dto.ResponseDto;
 import io.mosip.kernel.emailnotification.exception.NotificationException;
+import io.mosip.kernel.emailnotification.util.EmailDispatcher;
 import io.mosip.kernel.emailnotification.util.EmailNotificationUtils;
 
 /**
@@ -40,6 +40,12 @@ public class EmailNotificationServiceImpl implements EmailNotification<Multipart
 	@Autowired
 	EmailNotificationUtils emailNotificationUtils;
 
+	/**
+	 * Autowired reference for {@link EmailDispatcher}
+	 */
+	@Autowired
+	private EmailDispatcher emailDispatcher;
+
 	/**
 	 * SendEmail
 	 * 
@@ -66,7 +72,6 @@ public class EmailNotificationServiceImpl implements EmailNotification<Multipart
 		return dto;
 	}
 
-	@Async
 	private void send(String[] mailTo, String[] mailCc, String mailSubject, String mailContent,
 			MultipartFile[] attachments) {
 		EmailNotificationUtils.validateMailArguments(mailTo, mailSubject, mailContent);
@@ -98,8 +103,12 @@ public class EmailNotificationServiceImpl implements EmailNotification<Multipart
 			emailNotificationUtils.addAttachments(attachments, helper);
 		}
 		/**
-		 * Sends the mail.
+		 * Sends the mail, through the dispatch queue when enabled.
 		 */
-		emailNotificationUtils.sendMessage(message, emailSender);
+		if (emailDispatcher.isEnabled()) {
+			emailDispatcher.enqueue(message);
+		} else {
+			emailNotificationUtils.sendMessage(message, emailSender);
+		}
 	}
 }
@@ -0,0 +1,475 @@
+package io.mosip.kernel.emailnotification.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.Address;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.emailnotification.dto.EmailQueueMetricsDto;
+import io.mosip.kernel.emailnotification.exception.NotificationException;
+
+/**
+ * Dispatcher sending the emails from a persistent local queue over pooled SMTP
+ * connections.
+ *
+ * An email is written to
+ * <code>mosip.kernel.emailnotification.dispatcher.spool-directory</code> before
+ * the request returns and is deleted once sent, so the emails not yet sent
+ * survive a restart. The spooled emails are queued in a bounded queue, those
+ * spooled while it is full are queued once it has room again.
+ *
+ * Each worker keeps its own SMTP connection open and sends up to
+ * <code>mosip.kernel.emailnotification.dispatcher.batch-size</code> emails in
+ * a row over it, closing it once idle for
+ * <code>mosip.kernel.emailnotification.dispatcher.idle-timeout</code>. A failed
+ * send is retried with an exponential backoff, after which the email stays in
+ * the spool and is sent again later. An email refused by the mail server for
+ * all of its recipients is kept with the <code>.failed</code> extension and is
+ * not sent again.
+ *
+ * @since 1.1.0
+ */
+@Component
+public class EmailDispatcher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EmailDispatcher.class);
+
+	private static final String SPOOL_PREFIX = "email-";
+
+	private static final String SPOOL_EXTENSION = ".eml";
+
+	private static final String FAILED_EXTENSION = ".failed";
+
+	private static final long MAX_BACKOFF = 60000;
+
+	@Value("${mosip.kernel.emailnotification.dispatcher.enabled:false}")
+	private boolean enabled;
+
+	@Value("${mosip.kernel.emailnotification.dispatcher.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${mosip.kernel.emailnotification.dispatcher.workers:4}")
+	private int workers;
+
+	@Value("${mosip.kernel.emailnotification.dispatcher.batch-size:50}")
+	private int batchSize;
+
+	@Value("${mosip.kernel.emailnotification.dispatcher.poll-interval:1000}")
+	private long pollInterval;
+
+	@Value("${mosip.kernel.emailnotification.dispatcher.idle-timeout:30000}")
+	private long idleTimeout;
+
+	@Value("${mosip.kernel.emailnotification.dispatcher.max-retries:3}")
+	private int maxRetries;
+
+	@Value("${mosip.kernel.emailnotification.dispatcher.retry-backoff:1000}")
+	private long retryBackoff;
+
+	@Value("${mosip.kernel.emailnotification.dispatcher.spool-directory:${java.io.tmpdir}/emailnotification}")
+	private String spoolDirectory;
+
+	@Autowired
+	private JavaMailSender emailSender;
+
+	private final AtomicLong spoolSequence = new AtomicLong();
+
+	private final AtomicLong enqueuedCount = new AtomicLong();
+
+	private final AtomicLong sentCount = new AtomicLong();
+
+	private final AtomicLong retryCount = new AtomicLong();
+
+	private final AtomicLong failedCount = new AtomicLong();
+
+	private final AtomicInteger openConnections = new AtomicInteger();
+
+	/**
+	 * Names of the spooled emails queued or being sent
+	 */
+	private final Set<String> queuedNames = ConcurrentHashMap.newKeySet();
+
+	private final AtomicBoolean replaying = new AtomicBoolean();
+
+	private BlockingQueue<Path> queue;
+
+	private Path directory;
+
+	private Session session;
+
+	private volatile boolean overflow;
+
+	private volatile long pausedUntil;
+
+	private volatile boolean running;
+
+	private List<Thread> workerThreads;
+
+	/**
+	 * Starts the workers if the dispatcher is enabled, queuing the emails left in
+	 * the spool.
+	 *
+	 * @throws IOException if the spool directory can not be created
+	 */
+	@PostConstruct
+	public void start() throws IOException {
+		if (!enabled) {
+			return;
+		}
+		directory = Files.createDirectories(Paths.get(spoolDirectory));
+		session = emailSender instanceof JavaMailSenderImpl ? ((JavaMailSenderImpl) emailSender).getSession()
+				: Session.getInstance(new Properties());
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		running = true;
+		replaySpooled();
+		workerThreads = new ArrayList<>(workers);
+		for (int i = 0; i < workers; i++) {
+			Thread worker = new Thread(new Worker(), "email-dispatcher-" + i);
+			worker.setDaemon(true);
+			worker.start();
+			workerThreads.add(worker);
+		}
+	}
+
+	/**
+	 * Stops the workers, the emails not yet sent stay in the spool.
+	 *
+	 * @throws InterruptedException if interrupted while waiting for the workers
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		if (workerThreads == null) {
+			return;
+		}
+		running = false;
+		for (Thread worker : workerThreads) {
+			worker.interrupt();
+		}
+		for (Thread worker : workerThreads) {
+			worker.join(TimeUnit.SECONDS.toMillis(5));
+		}
+		queue.clear();
+		queuedNames.clear();
+		workerThreads = null;
+	}
+
+	/**
+	 * @return true if the emails are sent by the dispatcher.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Spools and queues an email without waiting for it to be sent.
+	 *
+	 * @param message the email.
+	 */
+	public void enqueue(MimeMessage message) {
+		Path spooled;
+		try {
+			message.saveChanges();
+			String name = String.format("%s%013d-%09d", SPOOL_PREFIX, System.currentTimeMillis(),
+					spoolSequence.incrementAndGet());
+			Path temporary = directory.resolve(name + ".tmp");
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+				message.writeTo(out);
+			}
+			spooled = Files.move(temporary, directory.resolve(name + SPOOL_EXTENSION),
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (MessagingException | IOException exception) {
+			throw new NotificationException(exception);
+		}
+		enqueuedCount.incrementAndGet();
+		offer(spooled);
+	}
+
+	/**
+	 * @return the state of the queue and the counts of the emails since start.
+	 */
+	public EmailQueueMetricsDto getMetrics() {
+		EmailQueueMetricsDto metrics = new EmailQueueMetricsDto();
+		metrics.setEnabled(enabled);
+		metrics.setQueued(queue == null ? 0 : queue.size());
+		metrics.setSpooled(countSpooled());
+		metrics.setEnqueued(enqueuedCount.get());
+		metrics.setSent(sentCount.get());
+		metrics.setRetried(retryCount.get());
+		metrics.setFailed(failedCount.get());
+		metrics.setOpenConnections(openConnections.get());
+		return metrics;
+	}
+
+	private void offer(Path spooled) {
+		String name = spooled.getFileName().toString();
+		if (queuedNames.add(name) && !queue.offer(spooled)) {
+			queuedNames.remove(name);
+			overflow = true;
+		}
+	}
+
+	/**
+	 * Queues the spooled emails which are not queued, oldest first, while the
+	 * queue has room.
+	 */
+	private void replaySpooled() {
+		if (System.currentTimeMillis() < pausedUntil || !replaying.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			overflow = false;
+			List<Path> spooled = new ArrayList<>();
+			try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+					SPOOL_PREFIX + "*" + SPOOL_EXTENSION)) {
+				files.forEach(spooled::add);
+			}
+			Collections.sort(spooled);
+			for (Path file : spooled) {
+				if (queue.remainingCapacity() == 0) {
+					overflow = true;
+					return;
+				}
+				offer(file);
+			}
+		} catch (IOException e) {
+			LOGGER.error("Could not read the spooled emails : " + e.getMessage());
+		} finally {
+			replaying.set(false);
+		}
+	}
+
+	private long countSpooled() {
+		if (directory == null) {
+			return 0;
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> isSpooled(file.getFileName().toString())).count();
+		} catch (IOException e) {
+			LOGGER.error("Could not read the spooled emails : " + e.getMessage());
+			return 0;
+		}
+	}
+
+	private static boolean isSpooled(String name) {
+		return name.startsWith(SPOOL_PREFIX) && name.endsWith(SPOOL_EXTENSION);
+	}
+
+	private void setAside(Path spooled) {
+		String name = spooled.getFileName().toString();
+		try {
+			Files.move(spooled,
+					spooled.resolveSibling(
+							name.substring(0, name.length() - SPOOL_EXTENSION.length()) + FAILED_EXTENSION),
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			LOGGER.error("Could not set aside spooled email " + spooled + " : " + e.getMessage());
+		}
+		failedCount.incrementAndGet();
+	}
+
+	/**
+	 * Worker sending the queued emails over its own SMTP connection
+	 */
+	private final class Worker implements Runnable {
+
+		private Transport transport;
+
+		private long lastSent;
+
+		@Override
+		public void run() {
+			List<Path> batch = new ArrayList<>(batchSize);
+			try {
+				while (running) {
+					Path first = queue.poll(pollInterval, TimeUnit.MILLISECONDS);
+					if (first == null) {
+						if (transport != null && System.currentTimeMillis() - lastSent > idleTimeout) {
+							disconnect();
+						}
+						replaySpooled();
+						continue;
+					}
+					batch.add(first);
+					queue.drainTo(batch, batchSize - 1);
+					while (!batch.isEmpty() && running) {
+						sendWithRetry(batch.remove(0));
+					}
+					if (overflow && queue.size() < queueCapacity / 2) {
+						replaySpooled();
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				batch.forEach(spooled -> queuedNames.remove(spooled.getFileName().toString()));
+				disconnect();
+			}
+		}
+
+		/**
+		 * Sends a spooled email, retrying with backoff, and deletes it once sent.
+		 */
+		private void sendWithRetry(Path spooled) throws InterruptedException {
+			try {
+				MimeMessage message;
+				try (InputStream in = new BufferedInputStream(Files.newInputStream(spooled))) {
+					message = new MimeMessage(session, in);
+				} catch (NoSuchFileException e) {
+					return;
+				} catch (IOException | MessagingException e) {
+					LOGGER.error("Unreadable spooled email " + spooled + " : " + e.getMessage());
+					setAside(spooled);
+					return;
+				}
+				for (int attempt = 0;; attempt++) {
+					boolean reused = transport != null;
+					try {
+						send(message);
+						delete(spooled);
+						return;
+					} catch (SendFailedException e) {
+						if (isSent(e)) {
+							LOGGER.warn("Email " + spooled.getFileName() + " not sent to some recipients : "
+									+ e.getMessage());
+							delete(spooled);
+							return;
+						}
+						if (!isRetryable(e)) {
+							LOGGER.error("Email " + spooled.getFileName() + " refused : " + e.getMessage());
+							setAside(spooled);
+							return;
+						}
+						if (!retry(spooled, attempt, e)) {
+							return;
+						}
+					} catch (MessagingException e) {
+						disconnect();
+						if (reused && attempt == 0) {
+							continue;
+						}
+						if (!retry(spooled, attempt, e)) {
+							return;
+						}
+					}
+				}
+			} finally {
+				queuedNames.remove(spooled.getFileName().toString());
+			}
+		}
+
+		/**
+		 * Waits before the next attempt.
+		 *
+		 * @return false if the email is left in the spool after its last attempt.
+		 */
+		private boolean retry(Path spooled, int attempt, MessagingException e) throws InterruptedException {
+			if (attempt >= maxRetries) {
+				LOGGER.warn("Mail server unreachable, email " + spooled.getFileName() + " kept in spool : "
+						+ e.getMessage());
+				pausedUntil = System.currentTimeMillis() + MAX_BACKOFF;
+				return false;
+			}
+			retryCount.incrementAndGet();
+			Thread.sleep(Math.min(retryBackoff << Math.min(attempt, 16), MAX_BACKOFF));
+			return true;
+		}
+
+		private void send(MimeMessage message) throws MessagingException {
+			if (!(emailSender instanceof JavaMailSenderImpl)) {
+				try {
+					emailSender.send(message);
+				} catch (MailException e) {
+					throw new MessagingException(e.getMessage(), e);
+				}
+				return;
+			}
+			if (transport == null) {
+				JavaMailSenderImpl sender = (JavaMailSenderImpl) emailSender;
+				Transport connecting = session.getTransport(sender.getProtocol());
+				connecting.connect(sender.getHost(), sender.getPort(), sender.getUsername(), sender.getPassword());
+				transport = connecting;
+				openConnections.incrementAndGet();
+			}
+			transport.sendMessage(message, message.getAllRecipients());
+			lastSent = System.currentTimeMillis();
+		}
+
+		private void delete(Path spooled) {
+			sentCount.incrementAndGet();
+			try {
+				Files.deleteIfExists(spooled);
+			} catch (IOException e) {
+				LOGGER.error("Could not delete sent email " + spooled + " : " + e.getMessage());
+			}
+		}
+
+		private void disconnect() {
+			if (transport == null) {
+				return;
+			}
+			try {
+				transport.close();
+			} catch (MessagingException e) {
+				LOGGER.debug("Could not close the SMTP connection : " + e.getMessage());
+			}
+			transport = null;
+			openConnections.decrementAndGet();
+		}
+	}
+
+	/**
+	 * @return true if the email was sent to at least one of its recipients.
+	 */
+	private static boolean isSent(SendFailedException e) {
+		Address[] sent = e.getValidSentAddresses();
+		return sent != null && sent.length > 0;
+	}
+
+	/**
+	 * @return true if the mail server refused the email for valid recipients,
+	 *         which is temporary, rather than for invalid ones.
+	 */
+	private static boolean isRetryable(SendFailedException e) {
+		Address[] invalid = e.getInvalidAddresses();
+		Address[] unsent = e.getValidUnsentAddresses();
+		return (invalid == null || invalid.length == 0) && unsent != null && unsent.length > 0;
+	}
+}
@@ -0,0 +1,131 @@
+package io.mosip.kernel.emailnotification.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Properties;
+import java.util.function.BooleanSupplier;
+
+import javax.mail.MessagingException;
+import javax.mail.Provider;
+import javax.mail.Session;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.emailnotification.dto.EmailQueueMetricsDto;
+import io.mosip.kernel.emailnotification.util.EmailDispatcher;
+
+public class EmailDispatcherTest {
+
+	@Rule
+	public TemporaryFolder spoolDirectory = new TemporaryFolder();
+
+	private Session session;
+
+	private EmailDispatcher dispatcher;
+
+	@Before
+	public void setUp() throws Exception {
+		RecordingTransport.reset();
+		session = Session.getInstance(new Properties());
+		session.setProvider(new Provider(Provider.Type.TRANSPORT, "smtp", RecordingTransport.class.getName(),
+				"test", "1.0"));
+		JavaMailSenderImpl emailSender = new JavaMailSenderImpl();
+		emailSender.setSession(session);
+		emailSender.setHost("localhost");
+		dispatcher = new EmailDispatcher();
+		ReflectionTestUtils.setField(dispatcher, "enabled", true);
+		ReflectionTestUtils.setField(dispatcher, "queueCapacity", 5);
+		ReflectionTestUtils.setField(dispatcher, "workers", 2);
+		ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+		ReflectionTestUtils.setField(dispatcher, "pollInterval", 20L);
+		ReflectionTestUtils.setField(dispatcher, "idleTimeout", 30000L);
+		ReflectionTestUtils.setField(dispatcher, "maxRetries", 3);
+		ReflectionTestUtils.setField(dispatcher, "retryBackoff", 1L);
+		ReflectionTestUtils.setField(dispatcher, "spoolDirectory", spoolDirectory.getRoot().getAbsolutePath());
+		ReflectionTestUtils.setField(dispatcher, "emailSender", emailSender);
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		dispatcher.stop();
+	}
+
+	@Test
+	public void sendTest() throws Exception {
+		dispatcher.start();
+		for (int i = 0; i < 20; i++) {
+			dispatcher.enqueue(message("test" + i + "@mosip.io"));
+		}
+		await(() -> RecordingTransport.SENT.size() == 20);
+		await(() -> spooled(".eml").length == 0);
+		assertTrue(RecordingTransport.CONNECTIONS.get() <= 2);
+		EmailQueueMetricsDto metrics = dispatcher.getMetrics();
+		assertEquals(20, metrics.getEnqueued());
+		assertEquals(20, metrics.getSent());
+		assertEquals(0, metrics.getSpooled());
+	}
+
+	@Test
+	public void retryTest() throws Exception {
+		RecordingTransport.FAILURES.set(2);
+		dispatcher.start();
+		dispatcher.enqueue(message("test@mosip.io"));
+		await(() -> RecordingTransport.SENT.size() == 1);
+		assertTrue(dispatcher.getMetrics().getRetried() >= 1);
+	}
+
+	@Test
+	public void spooledOnStartTest() throws Exception {
+		try (OutputStream out = new FileOutputStream(spoolDirectory.newFile("email-0000000000001-000000001.eml"))) {
+			MimeMessage message = message("test@mosip.io");
+			message.saveChanges();
+			message.writeTo(out);
+		}
+		dispatcher.start();
+		await(() -> RecordingTransport.SENT.size() == 1);
+		await(() -> spooled(".eml").length == 0);
+	}
+
+	@Test
+	public void refusedTest() throws Exception {
+		dispatcher.start();
+		dispatcher.enqueue(message("invalid@mosip.io"));
+		await(() -> spooled(".failed").length == 1);
+		assertEquals(0, RecordingTransport.SENT.size());
+		assertEquals(1, dispatcher.getMetrics().getFailed());
+	}
+
+	private MimeMessage message(String to) throws MessagingException {
+		MimeMessage message = new MimeMessage(session);
+		message.setFrom(new InternetAddress("mosip.emailnotifier@mosip.io"));
+		message.setRecipient(MimeMessage.RecipientType.TO, new InternetAddress(to));
+		message.setSubject("Test Subject");
+		message.setText("Test Content");
+		return message;
+	}
+
+	private File[] spooled(String extension) {
+		File[] files = spoolDirectory.getRoot().listFiles((dir, name) -> name.endsWith(extension));
+		return files == null ? new File[0] : files;
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		while (!condition.getAsBoolean()) {
+			assertTrue("condition not met in time", System.currentTimeMillis() < deadline);
+			Thread.sleep(10);
+		}
+	}
+}
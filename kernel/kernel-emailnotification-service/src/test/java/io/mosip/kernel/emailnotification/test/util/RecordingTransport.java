@@ -0,0 +1,57 @@
+package io.mosip.kernel.emailnotification.test.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.mail.Address;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.URLName;
+
+/**
+ * Transport recording the sent messages instead of sending them, failing the
+ * first {@link #FAILURES} sends and refusing the recipients containing
+ * "invalid".
+ */
+public class RecordingTransport extends Transport {
+
+	public static final List<Message> SENT = Collections.synchronizedList(new ArrayList<>());
+
+	public static final AtomicInteger CONNECTIONS = new AtomicInteger();
+
+	public static final AtomicInteger FAILURES = new AtomicInteger();
+
+	public RecordingTransport(Session session, URLName urlname) {
+		super(session, urlname);
+	}
+
+	public static void reset() {
+		SENT.clear();
+		CONNECTIONS.set(0);
+		FAILURES.set(0);
+	}
+
+	@Override
+	protected boolean protocolConnect(String host, int port, String user, String password) {
+		CONNECTIONS.incrementAndGet();
+		return true;
+	}
+
+	@Override
+	public void sendMessage(Message message, Address[] addresses) throws MessagingException {
+		if (FAILURES.getAndUpdate(failures -> failures > 0 ? failures - 1 : 0) > 0) {
+			throw new MessagingException("421 Service not available");
+		}
+		for (Address address : addresses) {
+			if (address.toString().contains("invalid")) {
+				throw new SendFailedException("550 No such user", null, new Address[0], new Address[0], addresses);
+			}
+		}
+		SENT.add(message);
+	}
+}
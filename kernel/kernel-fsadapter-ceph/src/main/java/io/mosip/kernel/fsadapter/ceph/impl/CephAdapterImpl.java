@@ -1,22 +1,48 @@
 package io.mosip.kernel.fsadapter.ceph.impl;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
+
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.amazonaws.AbortedException;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 
 import io.mosip.kernel.core.fsadapter.exception.FSAdapterException;
 import io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter;
@@ -44,6 +70,34 @@ public class CephAdapterImpl implements FileSystemAdapter {
 	/** The Constant SUCCESS_UPLOAD_MESSAGE. */
 	private static final String SUCCESS_UPLOAD_MESSAGE = "uploaded to DFS successfully";
 
+	/** The status of a range starting after the end of the object. */
+	private static final int RANGE_NOT_SATISFIABLE = 416;
+
+	/**
+	 * The number of files or parts uploaded at the same time, defaulted as well
+	 * when the adapter is not created by Spring.
+	 */
+	@Value("${mosip.kernel.fsadapter.ceph.transfer.parallelism:4}")
+	private int transferParallelism = 4;
+
+	/** The size in bytes above which a file is uploaded in parts. */
+	@Value("${mosip.kernel.fsadapter.ceph.transfer.multipart-threshold:16777216}")
+	private long transferMultipartThreshold = 16777216;
+
+	/** The size in bytes of the parts, at least 5 MB but for the last part. */
+	@Value("${mosip.kernel.fsadapter.ceph.transfer.part-size:8388608}")
+	private long transferPartSize = 8388608;
+
+	/** The number of asynchronous requests run at the same time. */
+	@Value("${mosip.kernel.fsadapter.ceph.async.parallelism:8}")
+	private int asyncParallelism = 8;
+
+	/** The executor uploading the unpacked files and the parts. */
+	private ThreadPoolExecutor transferExecutor;
+
+	/** The executor running the asynchronous requests. */
+	private ExecutorService asyncExecutor;
+
 	/**
 	 * Constructor to get Connection to CEPH instance.
 	 *
@@ -153,6 +207,48 @@ public class CephAdapterImpl implements FileSystemAdapter {
 		return true;
 	}
 
+	/**
+	 * This method stores a document in DFS, documents larger than the multipart
+	 * threshold are uploaded in parts, several parts at the same time.
+	 *
+	 * @param enrolmentId The enrolment ID for the document
+	 * @param key         The key for the document
+	 * @param document    document as File
+	 * @return True if document is stored
+	 */
+	@Override
+	public boolean uploadFile(String enrolmentId, String key, File document) {
+		try {
+			if (!conn.doesBucketExistV2(enrolmentId)) {
+				conn.createBucket(enrolmentId);
+			}
+			if (document.length() > transferMultipartThreshold) {
+				storeMultipart(enrolmentId, key, document);
+			} else {
+				this.conn.putObject(enrolmentId, key, document);
+			}
+			LOGGER.debug(LOGDISPLAY, enrolmentId, key, SUCCESS_UPLOAD_MESSAGE);
+		} catch (AmazonS3Exception e) {
+			LOGGER.error(LOGDISPLAY, e.getStatusCode(), e.getErrorCode(), e.getErrorMessage());
+			ExceptionHandler.exceptionHandler(e);
+		} catch (SdkClientException e) {
+			ExceptionHandler.exceptionHandler(e);
+		}
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#storeFileAsync(java.
+	 * lang.String, java.lang.String, java.io.File)
+	 */
+	@Override
+	public CompletableFuture<Boolean> storeFileAsync(String enrolmentId, String key, File document) {
+		return CompletableFuture.supplyAsync(() -> uploadFile(enrolmentId, key, document), getAsyncExecutor());
+	}
+
 	/**
 	 * This method copy document from one bucket to another
 	 *
@@ -236,6 +332,69 @@ public class CephAdapterImpl implements FileSystemAdapter {
 		return object != null ? object.getObjectContent() : null;
 	}
 
+	/**
+	 * This method fetches a range of a file with a ranged GET, only the range is
+	 * transferred.
+	 *
+	 * @param enrolmentId The enrolment ID
+	 * @param fileName    The key of the file
+	 * @param offset      The position of the first byte to read
+	 * @param length      The number of bytes to read, fewer are returned if the
+	 *                    file ends before
+	 * @return the range of the file
+	 */
+	@Override
+	public InputStream getFile(String enrolmentId, String fileName, long offset, long length) {
+		if (offset < 0 || length < 0) {
+			throw new IllegalArgumentException("offset and length can not be negative");
+		}
+		if (length == 0) {
+			return new ByteArrayInputStream(new byte[0]);
+		}
+		long end = offset + Math.min(length, Long.MAX_VALUE - offset) - 1;
+		S3Object object = null;
+		try {
+			object = this.conn.getObject(new GetObjectRequest(enrolmentId, fileName).withRange(offset, end));
+			LOGGER.debug(LOGDISPLAY, enrolmentId, fileName, "fetched from DFS");
+		} catch (AmazonS3Exception e) {
+			if (e.getStatusCode() == RANGE_NOT_SATISFIABLE) {
+				// the file ends before the offset
+				return new ByteArrayInputStream(new byte[0]);
+			}
+			LOGGER.error(LOGDISPLAY, e.getStatusCode(), e.getErrorCode(), e.getErrorMessage());
+			ExceptionHandler.exceptionHandler(e);
+		} catch (SdkClientException e) {
+			ExceptionHandler.exceptionHandler(e);
+		}
+		return object != null ? object.getObjectContent() : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#getFileAsync(java.lang.
+	 * String, java.lang.String)
+	 */
+	@Override
+	public CompletableFuture<InputStream> getFileAsync(String enrolmentId, String fileName) {
+		return CompletableFuture.supplyAsync(() -> getFile(enrolmentId, fileName), getAsyncExecutor());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#getFileAsync(java.lang.
+	 * String, java.lang.String, long, long)
+	 */
+	@Override
+	public CompletableFuture<InputStream> getFileAsync(String enrolmentId, String fileName, long offset,
+			long length) {
+		return CompletableFuture.supplyAsync(() -> getFile(enrolmentId, fileName, offset, length),
+				getAsyncExecutor());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -246,27 +405,296 @@ public class CephAdapterImpl implements FileSystemAdapter {
 	@Override
 	public void unpackPacket(String enrolmentId) throws IOException {
 		InputStream packetStream = getPacket(enrolmentId);
-		ZipInputStream zis = new ZipInputStream(packetStream);
-		byte[] buffer = new byte[2048];
-		byte[] file;
-		ZipEntry ze = zis.getNextEntry();
-		while (ze != null) {
-			ByteArrayOutputStream out = new ByteArrayOutputStream();
-			int len;
-			while ((len = zis.read(buffer)) > 0) {
-				out.write(buffer, 0, len);
+		if (packetStream == null) {
+			return;
+		}
+		Path packet = Files.createTempFile("packet-", ".zip");
+		try {
+			try (InputStream in = packetStream) {
+				Files.copy(in, packet, StandardCopyOption.REPLACE_EXISTING);
 			}
-			file = out.toByteArray();
-			InputStream inputStream = new ByteArrayInputStream(file);
-			String[] arr = ze.getName().split("/");
-			String fileName = arr[arr.length - 1].split("\\.")[0];
-			storeFile(enrolmentId, fileName.toUpperCase(), inputStream);
-			inputStream.close();
-			ze = zis.getNextEntry();
+			try (ZipFile zip = new ZipFile(packet.toFile())) {
+				// the last entry of a name wins, as when the entries were stored in order
+				Map<String, ZipEntry> entries = new LinkedHashMap<>();
+				Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+				while (zipEntries.hasMoreElements()) {
+					ZipEntry ze = zipEntries.nextElement();
+					entries.put(getFileName(ze), ze);
+				}
+				ThreadPoolExecutor executor = getTransferExecutor();
+				List<Future<Void>> uploads = new ArrayList<>(entries.size());
+				for (Map.Entry<String, ZipEntry> entry : entries.entrySet()) {
+					uploads.add(executor.submit(() -> {
+						storeEntry(enrolmentId, entry.getKey(), zip, entry.getValue());
+						return null;
+					}));
+				}
+				awaitAll(executor, uploads);
+			} catch (ExecutionException e) {
+				rethrow(e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while unpacking the packet");
+			}
+		} finally {
+			Files.deleteIfExists(packet);
 		}
 		LOGGER.debug(LOGDISPLAY, enrolmentId, "unpacked successfully into DFS");
-		zis.closeEntry();
-		zis.close();
+	}
+
+	/**
+	 * Shuts down the threads uploading the files and running the asynchronous
+	 * requests.
+	 */
+	@PreDestroy
+	public synchronized void shutdown() {
+		if (transferExecutor != null) {
+			transferExecutor.shutdown();
+			transferExecutor = null;
+		}
+		if (asyncExecutor != null) {
+			asyncExecutor.shutdown();
+			asyncExecutor = null;
+		}
+	}
+
+	/**
+	 * Gets the name a packet entry is stored with, the upper cased name of the
+	 * file without its extension.
+	 *
+	 * @param ze the packet entry
+	 * @return the file name
+	 */
+	private static String getFileName(ZipEntry ze) {
+		String[] arr = ze.getName().split("/");
+		return arr[arr.length - 1].split("\\.")[0].toUpperCase();
+	}
+
+	/**
+	 * Streams a packet entry to DFS, its size being known from the zip directory
+	 * the entry is not buffered. Entries larger than the multipart threshold are
+	 * uploaded in parts.
+	 *
+	 * @param enrolmentId the enrolment ID
+	 * @param key         the key of the file
+	 * @param zip         the packet
+	 * @param ze          the packet entry
+	 * @throws IOException if the entry can not be read
+	 */
+	private void storeEntry(String enrolmentId, String key, ZipFile zip, ZipEntry ze) throws IOException {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(ze.getSize());
+		try (InputStream document = zip.getInputStream(ze)) {
+			if (ze.getSize() > transferMultipartThreshold) {
+				storeMultipart(enrolmentId, key, document, ze.getSize());
+			} else {
+				this.conn.putObject(enrolmentId, key, document, metadata);
+			}
+		}
+		LOGGER.debug(LOGDISPLAY, enrolmentId, key, SUCCESS_UPLOAD_MESSAGE);
+	}
+
+	/**
+	 * Uploads a stream in parts one after the other, the upload is aborted if a
+	 * part fails.
+	 *
+	 * @param enrolmentId the enrolment ID
+	 * @param key         the key of the file
+	 * @param document    the document
+	 * @param size        the size of the document
+	 */
+	private void storeMultipart(String enrolmentId, String key, InputStream document, long size) {
+		String uploadId = this.conn.initiateMultipartUpload(new InitiateMultipartUploadRequest(enrolmentId, key))
+				.getUploadId();
+		try {
+			List<PartETag> parts = new ArrayList<>();
+			long remaining = size;
+			for (int partNumber = 1; remaining > 0; partNumber++) {
+				long partSize = Math.min(transferPartSize, remaining);
+				remaining -= partSize;
+				UploadPartRequest part = new UploadPartRequest().withBucketName(enrolmentId).withKey(key)
+						.withUploadId(uploadId).withPartNumber(partNumber).withInputStream(document)
+						.withPartSize(partSize).withLastPart(remaining == 0);
+				parts.add(this.conn.uploadPart(part).getPartETag());
+			}
+			this.conn.completeMultipartUpload(new CompleteMultipartUploadRequest(enrolmentId, key, uploadId, parts));
+		} catch (RuntimeException e) {
+			abortMultipart(enrolmentId, key, uploadId, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Uploads a file in parts, several parts at the same time, the upload is
+	 * aborted if a part fails.
+	 *
+	 * @param enrolmentId the enrolment ID
+	 * @param key         the key of the file
+	 * @param document    the file
+	 */
+	private void storeMultipart(String enrolmentId, String key, File document) {
+		String uploadId = this.conn.initiateMultipartUpload(new InitiateMultipartUploadRequest(enrolmentId, key))
+				.getUploadId();
+		try {
+			long size = document.length();
+			ThreadPoolExecutor executor = getTransferExecutor();
+			List<Future<PartETag>> parts = new ArrayList<>();
+			int partNumber = 1;
+			for (long offset = 0; offset < size; offset += transferPartSize, partNumber++) {
+				UploadPartRequest part = new UploadPartRequest().withBucketName(enrolmentId).withKey(key)
+						.withUploadId(uploadId).withPartNumber(partNumber).withFile(document).withFileOffset(offset)
+						.withPartSize(Math.min(transferPartSize, size - offset))
+						.withLastPart(offset + transferPartSize >= size);
+				parts.add(executor.submit(() -> this.conn.uploadPart(part).getPartETag()));
+			}
+			this.conn.completeMultipartUpload(
+					new CompleteMultipartUploadRequest(enrolmentId, key, uploadId, awaitAll(executor, parts)));
+		} catch (ExecutionException e) {
+			RuntimeException failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+					: new SdkClientException("Unable to upload the parts", e.getCause());
+			abortMultipart(enrolmentId, key, uploadId, failure);
+			throw failure;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			AbortedException failure = new AbortedException("Interrupted while uploading the parts", e);
+			abortMultipart(enrolmentId, key, uploadId, failure);
+			throw failure;
+		} catch (RuntimeException e) {
+			abortMultipart(enrolmentId, key, uploadId, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Aborts a multipart upload, so that its parts are deleted.
+	 *
+	 * @param enrolmentId the enrolment ID
+	 * @param key         the key of the file
+	 * @param uploadId    the id of the upload
+	 * @param failure     the failure of the upload
+	 */
+	private void abortMultipart(String enrolmentId, String key, String uploadId, RuntimeException failure) {
+		try {
+			this.conn.abortMultipartUpload(new AbortMultipartUploadRequest(enrolmentId, key, uploadId));
+		} catch (RuntimeException e) {
+			failure.addSuppressed(e);
+		}
+	}
+
+	/**
+	 * Waits for all the tasks. Once one fails or the caller is interrupted, the
+	 * tasks still queued are removed from the executor and never run, while the
+	 * tasks already running are waited for, so that the files they read and the
+	 * upload they belong to are not released under them.
+	 *
+	 * @param executor the executor the tasks were submitted to
+	 * @param tasks    the tasks
+	 * @return the results of the tasks
+	 * @throws ExecutionException   the failure of the first task failed
+	 * @throws InterruptedException if interrupted while waiting, once the
+	 *                              running tasks are done
+	 */
+	private static <T> List<T> awaitAll(ThreadPoolExecutor executor, List<Future<T>> tasks)
+			throws ExecutionException, InterruptedException {
+		List<T> results = new ArrayList<>(tasks.size());
+		ExecutionException failure = null;
+		InterruptedException interruption = null;
+		for (Future<T> task : tasks) {
+			boolean done = false;
+			while (!done) {
+				if ((failure != null || interruption != null) && executor.remove((Runnable) task)) {
+					task.cancel(false);
+					break;
+				}
+				try {
+					results.add(task.get());
+					done = true;
+				} catch (ExecutionException e) {
+					if (failure == null) {
+						failure = e;
+					}
+					done = true;
+				} catch (InterruptedException e) {
+					interruption = e;
+				}
+			}
+		}
+		if (interruption != null) {
+			throw interruption;
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		return results;
+	}
+
+	/**
+	 * Rethrows the failure of an upload, the failures of DFS as
+	 * {@link FSAdapterException}.
+	 *
+	 * @param failure the failure
+	 * @throws IOException if a file could not be read
+	 */
+	private static void rethrow(Throwable failure) throws IOException {
+		if (failure instanceof AmazonS3Exception) {
+			AmazonS3Exception e = (AmazonS3Exception) failure;
+			LOGGER.error(LOGDISPLAY, e.getStatusCode(), e.getErrorCode(), e.getErrorMessage());
+			ExceptionHandler.exceptionHandler(e);
+		} else if (failure instanceof SdkClientException) {
+			ExceptionHandler.exceptionHandler((SdkClientException) failure);
+		}
+		if (failure instanceof IOException) {
+			throw (IOException) failure;
+		} else if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		} else if (failure instanceof Error) {
+			throw (Error) failure;
+		}
+		throw new IOException(failure);
+	}
+
+	/**
+	 * Gets the executor uploading the unpacked files and the parts, created on
+	 * first use.
+	 *
+	 * @return the executor
+	 */
+	private synchronized ThreadPoolExecutor getTransferExecutor() {
+		if (transferExecutor == null) {
+			transferExecutor = newExecutor("ceph-transfer-", transferParallelism);
+		}
+		return transferExecutor;
+	}
+
+	/**
+	 * Gets the executor running the asynchronous requests, created on first use.
+	 *
+	 * @return the executor
+	 */
+	private synchronized ExecutorService getAsyncExecutor() {
+		if (asyncExecutor == null) {
+			asyncExecutor = newExecutor("ceph-async-", asyncParallelism);
+		}
+		return asyncExecutor;
+	}
+
+	/**
+	 * Creates an executor of daemon threads, stopped once idle.
+	 *
+	 * @param namePrefix the prefix of the names of the threads
+	 * @param threads    the maximum number of threads
+	 * @return the executor
+	 */
+	private static ThreadPoolExecutor newExecutor(String namePrefix, int threads) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
 	}
 
 	/*
@@ -0,0 +1,233 @@
+package io.mosip.kernel.fsadapter.ceph.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.AnonymousAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.util.IOUtils;
+
+import io.findify.s3mock.S3Mock;
+import io.mosip.kernel.core.fsadapter.exception.FSAdapterException;
+import io.mosip.kernel.fsadapter.ceph.impl.CephAdapterImpl;
+import io.mosip.kernel.fsadapter.ceph.util.ConnectionUtils;
+
+/**
+ * Tests the multipart uploads, ranged reads and asynchronous requests against a
+ * local S3 stub.
+ */
+public class CephAdapterTransferTest {
+
+	private static final String ENROLMENT_ID = "10001100010000120190101000000";
+
+	private static final String FILE_NAME = "BIOMETRIC/APPLICANT/BOTHTHUMBS";
+
+	private static final int PART_SIZE = 5 * 1024 * 1024;
+
+	private static S3Mock api;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private AmazonS3 client;
+
+	private CephAdapterImpl adapter;
+
+	@BeforeClass
+	public static void init() {
+		api = new S3Mock.Builder().withPort(6004).withInMemoryBackend().build();
+		api.start();
+	}
+
+	@AfterClass
+	public static void destroy() {
+		api.stop();
+	}
+
+	@Before
+	public void setup() {
+		client = client();
+		adapter = adapter(client);
+	}
+
+	@After
+	public void tearDown() {
+		adapter.shutdown();
+	}
+
+	@Test
+	public void uploadFileTest() throws IOException {
+		byte[] content = content(1000);
+
+		assertTrue(adapter.uploadFile(ENROLMENT_ID, FILE_NAME, file(content)));
+
+		assertArrayEquals(content, read(adapter.getFile(ENROLMENT_ID, FILE_NAME)));
+	}
+
+	@Test
+	public void uploadFileMultipartTest() throws IOException {
+		byte[] content = content(3 * PART_SIZE + 12345);
+
+		assertTrue(adapter.uploadFile(ENROLMENT_ID, FILE_NAME, file(content)));
+
+		assertArrayEquals(content, read(adapter.getFile(ENROLMENT_ID, FILE_NAME)));
+	}
+
+	@Test
+	public void uploadFileMultipartAbortedTest() throws IOException {
+		AmazonS3 failing = mock(AmazonS3.class);
+		when(failing.doesBucketExistV2(ENROLMENT_ID)).thenReturn(true);
+		InitiateMultipartUploadResult upload = new InitiateMultipartUploadResult();
+		upload.setUploadId("upload");
+		when(failing.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(upload);
+		when(failing.uploadPart(any(UploadPartRequest.class)))
+				.thenThrow(new SdkClientException("Unable to execute HTTP request"));
+		CephAdapterImpl failingAdapter = adapter(failing);
+		try {
+			failingAdapter.uploadFile(ENROLMENT_ID, FILE_NAME, file(content(2 * PART_SIZE + 1)));
+		} catch (FSAdapterException e) {
+			verify(failing).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+			return;
+		} finally {
+			failingAdapter.shutdown();
+		}
+		throw new AssertionError("upload not failed");
+	}
+
+	@Test
+	public void uploadFileMultipartAbortedAfterRunningPartsTest() throws IOException {
+		AmazonS3 failing = mock(AmazonS3.class);
+		when(failing.doesBucketExistV2(ENROLMENT_ID)).thenReturn(true);
+		InitiateMultipartUploadResult upload = new InitiateMultipartUploadResult();
+		upload.setUploadId("upload");
+		when(failing.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(upload);
+		CountDownLatch started = new CountDownLatch(2);
+		AtomicInteger uploaded = new AtomicInteger();
+		when(failing.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+			UploadPartRequest part = (UploadPartRequest) invocation.getArguments()[0];
+			if (part.getPartNumber() == 1) {
+				started.await(5, TimeUnit.SECONDS);
+				throw new SdkClientException("Unable to execute HTTP request");
+			}
+			started.countDown();
+			Thread.sleep(200);
+			uploaded.incrementAndGet();
+			return new UploadPartResult();
+		});
+		AtomicInteger uploadedWhenAborted = new AtomicInteger(-1);
+		doAnswer(invocation -> {
+			uploadedWhenAborted.set(uploaded.get());
+			return null;
+		}).when(failing).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+		CephAdapterImpl failingAdapter = adapter(failing);
+		try {
+			failingAdapter.uploadFile(ENROLMENT_ID, FILE_NAME, file(content(2 * PART_SIZE + 1)));
+		} catch (FSAdapterException e) {
+			assertEquals(2, uploadedWhenAborted.get());
+			return;
+		} finally {
+			failingAdapter.shutdown();
+		}
+		throw new AssertionError("upload not failed");
+	}
+
+	@Test
+	public void getFileRangeTest() throws IOException {
+		byte[] content = content(10000);
+		adapter.storeFile(ENROLMENT_ID, FILE_NAME, new ByteArrayInputStream(content));
+
+		assertArrayEquals(Arrays.copyOfRange(content, 100, 1100),
+				read(adapter.getFile(ENROLMENT_ID, FILE_NAME, 100, 1000)));
+		assertArrayEquals(Arrays.copyOfRange(content, 9000, 10000),
+				read(adapter.getFile(ENROLMENT_ID, FILE_NAME, 9000, 5000)));
+		assertEquals(0, read(adapter.getFile(ENROLMENT_ID, FILE_NAME, 100, 0)).length);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getFileNegativeOffsetTest() {
+		adapter.getFile(ENROLMENT_ID, FILE_NAME, -1, 10);
+	}
+
+	@Test
+	public void asyncTest() throws IOException, InterruptedException, ExecutionException {
+		byte[] content = content(1000);
+		CompletableFuture<Boolean> stored = adapter.storeFileAsync(ENROLMENT_ID, FILE_NAME, file(content));
+		assertTrue(stored.get());
+
+		assertArrayEquals(content, read(adapter.getFileAsync(ENROLMENT_ID, FILE_NAME).get()));
+		assertArrayEquals(Arrays.copyOfRange(content, 10, 20),
+				read(adapter.getFileAsync(ENROLMENT_ID, FILE_NAME, 10, 10).get()));
+	}
+
+	private CephAdapterImpl adapter(AmazonS3 connection) {
+		ConnectionUtils connectionUtil = mock(ConnectionUtils.class);
+		when(connectionUtil.getConnection()).thenReturn(connection);
+		CephAdapterImpl cephAdapter = new CephAdapterImpl(connectionUtil);
+		ReflectionTestUtils.setField(cephAdapter, "transferParallelism", 4);
+		ReflectionTestUtils.setField(cephAdapter, "transferMultipartThreshold", (long) PART_SIZE);
+		ReflectionTestUtils.setField(cephAdapter, "transferPartSize", (long) PART_SIZE);
+		ReflectionTestUtils.setField(cephAdapter, "asyncParallelism", 2);
+		return cephAdapter;
+	}
+
+	private static AmazonS3 client() {
+		EndpointConfiguration endpoint = new EndpointConfiguration("http://localhost:6004", "us-west-2");
+		return AmazonS3ClientBuilder.standard().withPathStyleAccessEnabled(true).withEndpointConfiguration(endpoint)
+				.withCredentials(new AWSStaticCredentialsProvider(new AnonymousAWSCredentials())).build();
+	}
+
+	private static byte[] content(int length) {
+		byte[] content = new byte[length];
+		new Random(42).nextBytes(content);
+		return content;
+	}
+
+	private File file(byte[] content) throws IOException {
+		File file = folder.newFile();
+		Files.write(file.toPath(), content);
+		return file;
+	}
+
+	private static byte[] read(InputStream file) throws IOException {
+		try (InputStream in = file) {
+			return IOUtils.toByteArray(in);
+		}
+	}
+}
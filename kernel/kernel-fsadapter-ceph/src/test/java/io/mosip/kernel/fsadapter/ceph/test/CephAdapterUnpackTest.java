@@ -0,0 +1,170 @@
+package io.mosip.kernel.fsadapter.ceph.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.AnonymousAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.util.IOUtils;
+
+import io.findify.s3mock.S3Mock;
+import io.mosip.kernel.core.fsadapter.exception.FSAdapterException;
+import io.mosip.kernel.fsadapter.ceph.impl.CephAdapterImpl;
+import io.mosip.kernel.fsadapter.ceph.util.ConnectionUtils;
+
+/**
+ * Tests the unpacking of packets against a local S3 stub.
+ */
+public class CephAdapterUnpackTest {
+
+	private static final String ENROLMENT_ID = "10001100010000120190101000000";
+
+	private static final int PART_SIZE = 5 * 1024 * 1024;
+
+	private static S3Mock api;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private AmazonS3 client;
+
+	private CephAdapterImpl adapter;
+
+	@BeforeClass
+	public static void init() {
+		api = new S3Mock.Builder().withPort(6003).withInMemoryBackend().build();
+		api.start();
+	}
+
+	@AfterClass
+	public static void destroy() {
+		api.stop();
+	}
+
+	@Before
+	public void setup() {
+		client = client();
+		adapter = adapter(client);
+	}
+
+	@After
+	public void tearDown() {
+		adapter.shutdown();
+	}
+
+	@Test
+	public void unpackPacketTest() throws IOException {
+		Map<String, byte[]> files = new LinkedHashMap<>();
+		Random random = new Random(42);
+		for (int i = 0; i < 20; i++) {
+			byte[] content = new byte[1000 + i * 100];
+			random.nextBytes(content);
+			files.put("documents/document" + i + ".json", content);
+		}
+		byte[] large = new byte[2 * PART_SIZE + 12345];
+		random.nextBytes(large);
+		files.put("biometrics/applicant/face.jpg", large);
+		adapter.storePacket(ENROLMENT_ID, packet(files));
+
+		adapter.unpackPacket(ENROLMENT_ID);
+
+		assertEquals(files.size() + 1, client.listObjects(ENROLMENT_ID).getObjectSummaries().size());
+		for (int i = 0; i < 20; i++) {
+			assertArrayEquals(files.get("documents/document" + i + ".json"), read("DOCUMENT" + i));
+		}
+		assertArrayEquals(large, read("FACE"));
+	}
+
+	@Test
+	public void unpackPacketSameFileNameTest() throws IOException {
+		Map<String, byte[]> files = new LinkedHashMap<>();
+		files.put("applicant/id.json", new byte[] { 1 });
+		files.put("introducer/id.json", new byte[] { 2 });
+		adapter.storePacket(ENROLMENT_ID, packet(files));
+
+		adapter.unpackPacket(ENROLMENT_ID);
+
+		assertArrayEquals(new byte[] { 2 }, read("ID"));
+	}
+
+	@Test(expected = FSAdapterException.class)
+	public void unpackPacketConnectionUnavailableTest() throws IOException {
+		Map<String, byte[]> files = new LinkedHashMap<>();
+		files.put("id.json", new byte[] { 1 });
+		adapter.storePacket(ENROLMENT_ID, packet(files));
+		AmazonS3 unavailable = mock(AmazonS3.class);
+		when(unavailable.getObject(any(GetObjectRequest.class)))
+				.thenReturn(client.getObject(ENROLMENT_ID, ENROLMENT_ID));
+		when(unavailable.putObject(anyString(), anyString(), any(InputStream.class), any(ObjectMetadata.class)))
+				.thenThrow(new SdkClientException("Unable to execute HTTP request"));
+		CephAdapterImpl failingAdapter = adapter(unavailable);
+		try {
+			failingAdapter.unpackPacket(ENROLMENT_ID);
+		} finally {
+			failingAdapter.shutdown();
+		}
+	}
+
+	private CephAdapterImpl adapter(AmazonS3 connection) {
+		ConnectionUtils connectionUtil = mock(ConnectionUtils.class);
+		when(connectionUtil.getConnection()).thenReturn(connection);
+		CephAdapterImpl cephAdapter = new CephAdapterImpl(connectionUtil);
+		ReflectionTestUtils.setField(cephAdapter, "transferParallelism", 4);
+		ReflectionTestUtils.setField(cephAdapter, "transferMultipartThreshold", (long) PART_SIZE);
+		ReflectionTestUtils.setField(cephAdapter, "transferPartSize", (long) PART_SIZE);
+		return cephAdapter;
+	}
+
+	private static AmazonS3 client() {
+		EndpointConfiguration endpoint = new EndpointConfiguration("http://localhost:6003", "us-west-2");
+		return AmazonS3ClientBuilder.standard().withPathStyleAccessEnabled(true).withEndpointConfiguration(endpoint)
+				.withCredentials(new AWSStaticCredentialsProvider(new AnonymousAWSCredentials())).build();
+	}
+
+	private File packet(Map<String, byte[]> files) throws IOException {
+		File packet = folder.newFile();
+		try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(packet))) {
+			for (Map.Entry<String, byte[]> file : files.entrySet()) {
+				zip.putNextEntry(new ZipEntry(file.getKey()));
+				zip.write(file.getValue());
+				zip.closeEntry();
+			}
+		}
+		return packet;
+	}
+
+	private byte[] read(String fileName) throws IOException {
+		try (InputStream file = adapter.getFile(ENROLMENT_ID, fileName)) {
+			return IOUtils.toByteArray(file);
+		}
+	}
+}
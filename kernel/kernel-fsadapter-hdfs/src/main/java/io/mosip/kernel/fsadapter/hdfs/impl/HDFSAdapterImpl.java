@@ -2,20 +2,32 @@ package io.mosip.kernel.fsadapter.hdfs.impl;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
+import javax.annotation.PreDestroy;
+
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
@@ -41,6 +53,23 @@ public class HDFSAdapterImpl implements FileSystemAdapter {
 	 */
 	private FileSystem fs;
 
+	/**
+	 * The size of the buffer copying a file to HDFS
+	 */
+	private static final int COPY_BUFFER_SIZE = 65536;
+
+	/**
+	 * The number of asynchronous requests run at the same time, defaulted as well
+	 * when the adapter is not created by Spring
+	 */
+	@Value("${mosip.kernel.fsadapter.hdfs.async.parallelism:4}")
+	private int asyncParallelism = 4;
+
+	/**
+	 * The executor running the asynchronous requests
+	 */
+	private ExecutorService asyncExecutor;
+
 	/**
 	 * Constructor to initalize HDFSAdapter by injecting {@link ConnectionUtils}
 	 * 
@@ -145,6 +174,64 @@ public class HDFSAdapterImpl implements FileSystemAdapter {
 		}
 	}
 
+	/**
+	 * Gets a range of a file, the file is opened at the offset so that the bytes
+	 * before are not read.
+	 * 
+	 * @see io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#getFile(java.lang.
+	 *      String, java.lang.String, long, long)
+	 */
+	@Override
+	public InputStream getFile(String id, String filePath, long offset, long length) {
+		if (offset < 0 || length < 0) {
+			throw new IllegalArgumentException("offset and length can not be negative");
+		}
+		LOGGER.info("Getting {} bytes at {} from packet {} with path {}", length, offset, id, getFilePath(filePath));
+		Path inFile = getHadoopPath(id, filePath);
+		FSDataInputStream in = null;
+		try {
+			if (!fs.exists(inFile)) {
+				throw new FSAdapterException(HDFSAdapterErrorCode.FILE_NOT_FOUND_EXCEPTION.getErrorCode(),
+						HDFSAdapterErrorCode.FILE_NOT_FOUND_EXCEPTION.getErrorMessage());
+			}
+			in = fs.open(inFile);
+			in.seek(offset);
+			return new BoundedInputStream(in, length);
+		} catch (EOFException e) {
+			// the file ends before the offset
+			IOUtils.closeStream(in);
+			return new ByteArrayInputStream(new byte[0]);
+		} catch (IOException e) {
+			IOUtils.closeStream(in);
+			throw new FSAdapterException(HDFSAdapterErrorCode.HDFS_ADAPTER_EXCEPTION.getErrorCode(),
+					HDFSAdapterErrorCode.HDFS_ADAPTER_EXCEPTION.getErrorMessage(), e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#getFileAsync(java.lang.
+	 * String, java.lang.String)
+	 */
+	@Override
+	public CompletableFuture<InputStream> getFileAsync(String id, String filePath) {
+		return CompletableFuture.supplyAsync(() -> getFile(id, filePath), getAsyncExecutor());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#getFileAsync(java.lang.
+	 * String, java.lang.String, long, long)
+	 */
+	@Override
+	public CompletableFuture<InputStream> getFileAsync(String id, String filePath, long offset, long length) {
+		return CompletableFuture.supplyAsync(() -> getFile(id, filePath, offset, length), getAsyncExecutor());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -214,6 +301,45 @@ public class HDFSAdapterImpl implements FileSystemAdapter {
 		return true;
 	}
 
+	/**
+	 * Stores a file from disk, an HDFS file having a single writer the file is
+	 * streamed with a large buffer rather than uploaded in parallel parts.
+	 * 
+	 * @see io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#uploadFile(java.lang.
+	 *      String, java.lang.String, java.io.File)
+	 */
+	@Override
+	public boolean uploadFile(String id, String filePath, File document) {
+		LOGGER.info("Storing file in packet {} with path {}", id, getFilePath(filePath));
+		Path path = getHadoopPath(id, filePath);
+		FSDataOutputStream out = null;
+		InputStream in = null;
+		try {
+			in = FileUtils.openInputStream(document);
+			out = fs.create(path);
+			IOUtils.copyBytes(in, out, COPY_BUFFER_SIZE, false);
+		} catch (IOException e) {
+			throw new FSAdapterException(HDFSAdapterErrorCode.HDFS_ADAPTER_EXCEPTION.getErrorCode(),
+					HDFSAdapterErrorCode.HDFS_ADAPTER_EXCEPTION.getErrorMessage(), e);
+		} finally {
+			IOUtils.closeStream(out);
+			IOUtils.closeStream(in);
+		}
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#storeFileAsync(java.
+	 * lang.String, java.lang.String, java.io.File)
+	 */
+	@Override
+	public CompletableFuture<Boolean> storeFileAsync(String id, String filePath, File document) {
+		return CompletableFuture.supplyAsync(() -> uploadFile(id, filePath, document), getAsyncExecutor());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -302,6 +428,37 @@ public class HDFSAdapterImpl implements FileSystemAdapter {
 		}
 	}
 
+	/**
+	 * Shuts down the threads running the asynchronous requests
+	 */
+	@PreDestroy
+	public synchronized void shutdown() {
+		if (asyncExecutor != null) {
+			asyncExecutor.shutdown();
+			asyncExecutor = null;
+		}
+	}
+
+	/**
+	 * Gets the executor running the asynchronous requests, created on first use
+	 * 
+	 * @return the executor
+	 */
+	private synchronized ExecutorService getAsyncExecutor() {
+		if (asyncExecutor == null) {
+			AtomicInteger threadNumber = new AtomicInteger();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(asyncParallelism, asyncParallelism, 60,
+					TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable, "hdfs-async-" + threadNumber.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			asyncExecutor = executor;
+		}
+		return asyncExecutor;
+	}
+
 	/**
 	 * Construct a hadoop path from a String
 	 * 
@@ -1,6 +1,7 @@
 package io.mosip.kernal.fsadapter.hdfs.test.impl;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
@@ -9,8 +10,11 @@ import static org.mockito.Mockito.when;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileSystem;
@@ -36,6 +40,7 @@ public class HDFSAdapterTest {
 	private FileSystem fs;
 	private FSDataInputStream inStream;
 	private FSDataOutputStream outStream;
+	private byte[] packet;
 	private HDFSAdapterImpl hdfsAdapterImpl;
 	private String id;
 	private String filepath;
@@ -51,8 +56,8 @@ public class HDFSAdapterTest {
 		fs = Mockito.mock(FileSystem.class);
 		ClassLoader classLoader = getClass().getClassLoader();
 		String filePath = classLoader.getResource(id + ".zip").getFile();
-		inStream = new FSDataInputStream(
-				new SeekableByteArrayInputStream(FileUtils.readFileToByteArray(new File(filePath))));
+		packet = FileUtils.readFileToByteArray(new File(filePath));
+		inStream = new FSDataInputStream(new SeekableByteArrayInputStream(packet));
 		outStream = new FSDataOutputStream(FileUtils.openOutputStream(folder.newFile()), new Statistics("new"));
 		hdfsAdapterImpl = new HDFSAdapterImpl(connectionUtil);
 
@@ -119,6 +124,34 @@ public class HDFSAdapterTest {
 		hdfsAdapterImpl.getFile(id, filepath);
 	}
 
+	@Test
+	public void getFileRangeTest() throws IOException {
+		when(fs.exists(Mockito.any())).thenReturn(true);
+		when(fs.open(Mockito.any())).thenReturn(inStream);
+		InputStream res = hdfsAdapterImpl.getFile(id, filepath, 100, 50);
+		assertArrayEquals(Arrays.copyOfRange(packet, 100, 150), IOUtils.toByteArray(res));
+	}
+
+	@Test(expected = FSAdapterException.class)
+	public void getFileRangeNotFoundExceptionTest() throws IOException {
+		when(fs.exists(Mockito.any())).thenReturn(false);
+		hdfsAdapterImpl.getFile(id, filepath, 0, 10);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getFileRangeNegativeOffsetTest() {
+		hdfsAdapterImpl.getFile(id, filepath, -1, 10);
+	}
+
+	@Test
+	public void getFileAsyncTest() throws IOException, InterruptedException, ExecutionException {
+		when(fs.exists(Mockito.any())).thenReturn(true);
+		when(fs.open(Mockito.any())).thenReturn(inStream);
+		InputStream res = hdfsAdapterImpl.getFileAsync(id, filepath).get();
+		assertThat(res, is(inStream));
+		hdfsAdapterImpl.shutdown();
+	}
+
 	@Test
 	public void getPacketTest() throws IOException {
 		when(fs.exists(Mockito.any())).thenReturn(true);
@@ -166,6 +199,34 @@ public class HDFSAdapterTest {
 		hdfsAdapterImpl.storeFile(id, filepath, inStream);
 	}
 
+	@Test
+	public void uploadFileTest() throws IOException {
+		File document = folder.newFile();
+		FileUtils.writeByteArrayToFile(document, packet);
+		File stored = folder.newFile();
+		when(fs.create(Mockito.any(Path.class)))
+				.thenReturn(new FSDataOutputStream(FileUtils.openOutputStream(stored), new Statistics("new")));
+		boolean res = hdfsAdapterImpl.uploadFile(id, filepath, document);
+		assertThat(res, is(true));
+		assertArrayEquals(packet, FileUtils.readFileToByteArray(stored));
+	}
+
+	@Test(expected = FSAdapterException.class)
+	public void uploadFileExceptionTest() throws IOException {
+		File document = folder.newFile();
+		when(fs.create(Mockito.any(Path.class))).thenThrow(new IOException());
+		hdfsAdapterImpl.uploadFile(id, filepath, document);
+	}
+
+	@Test
+	public void storeFileAsyncTest() throws IOException, InterruptedException, ExecutionException {
+		File document = folder.newFile();
+		when(fs.create(Mockito.any(Path.class))).thenReturn(outStream);
+		boolean res = hdfsAdapterImpl.storeFileAsync(id, filepath, document).get();
+		assertThat(res, is(true));
+		hdfsAdapterImpl.shutdown();
+	}
+
 	@Test
 	public void storePacketTest() throws IOException {
 		when(fs.create(Mockito.any(Path.class))).thenReturn(outStream);
@@ -5,7 +5,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -13,6 +16,7 @@ import javax.annotation.PostConstruct;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -146,6 +150,34 @@ public class ProxyAdapterImpl implements FileSystemAdapter {
 		}
 	}
 
+	/**
+	 * Gets a range of a file, the file is opened at the offset so that the bytes
+	 * before are not read.
+	 * 
+	 * @see io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#getFile(java.lang.
+	 *      String, java.lang.String, long, long)
+	 */
+	@Override
+	public InputStream getFile(String id, String filePath, long offset, long length) {
+		if (offset < 0 || length < 0) {
+			throw new IllegalArgumentException("offset and length can not be negative");
+		}
+		LOGGER.info("Getting {} bytes at {} from packet {} with path {}", length, offset, id, getFilePath(filePath));
+		try {
+			File file = new File(getPath(id, filePath));
+			if (!checkFileExistence(id, filePath)) {
+				throw new FSAdapterException(ProxyAdapterErrorCode.FILE_NOT_FOUND_EXCEPTION.getErrorCode(),
+						ProxyAdapterErrorCode.FILE_NOT_FOUND_EXCEPTION.getErrorMessage());
+			}
+			FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			channel.position(offset);
+			return new BoundedInputStream(Channels.newInputStream(channel), length);
+		} catch (IOException e) {
+			throw new FSAdapterException(ProxyAdapterErrorCode.HDFS_ADAPTER_EXCEPTION.getErrorCode(),
+					ProxyAdapterErrorCode.HDFS_ADAPTER_EXCEPTION.getErrorMessage(), e);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -210,6 +242,25 @@ public class ProxyAdapterImpl implements FileSystemAdapter {
 		return true;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter#uploadFile(java.lang.
+	 * String, java.lang.String, java.io.File)
+	 */
+	@Override
+	public boolean uploadFile(String id, String filePath, File document) {
+		LOGGER.info("Storing file in packet {} with path {}", id, getFilePath(filePath));
+		try {
+			FileUtils.copyFile(document, new File(getPath(id, filePath)));
+		} catch (IOException e) {
+			throw new FSAdapterException(ProxyAdapterErrorCode.HDFS_ADAPTER_EXCEPTION.getErrorCode(),
+					ProxyAdapterErrorCode.HDFS_ADAPTER_EXCEPTION.getErrorMessage(), e);
+		}
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -21,9 +21,11 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
@@ -36,6 +38,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jackson.JsonLoader;
@@ -84,6 +87,9 @@ public class IdObjectSchemaValidator implements IdObjectValidator {
 	/** The Constant UNWANTED. */
 	private static final String UNWANTED = "unwanted";
 
+	/** The schema factory, shared as it is immutable and thread-safe. */
+	private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.byDefault();
+
 	/**
 	 * The config server file storage URL.
 	 *
@@ -106,6 +112,12 @@ public class IdObjectSchemaValidator implements IdObjectValidator {
 	/** The schema. */
 	private JsonNode schema;
 
+	/** The compiled schema, built on first validation. */
+	private volatile JsonSchema jsonSchema;
+
+	/** The mandatory fields resolved per mandatory attributes property. */
+	private final Map<String, List<MandatoryField>> mandatoryFields = new ConcurrentHashMap<>();
+
 	/**
 	 * Load schema.
 	 *
@@ -117,6 +129,7 @@ public class IdObjectSchemaValidator implements IdObjectValidator {
 			if (APPLICATION_CONTEXT.getPropertySource().equals(propertySource)) {
 				logger.debug("schema loaded from application context");
 				schema = JsonLoader.fromURL(new URL(configServerFileStorageURL + schemaName));
+				jsonSchema = null;
 			}
 		} catch (IOException e) {
 			ExceptionUtils.logRootCause(e);
@@ -138,14 +151,10 @@ public class IdObjectSchemaValidator implements IdObjectValidator {
 	public boolean validateIdObject(Object idObject, IdObjectValidatorSupportedOperations operation)
 			throws IdObjectValidationFailedException, IdObjectIOException {
 		JsonNode jsonObjectNode = null;
-		JsonNode jsonSchemaNode = null;
 		ProcessingReport report = null;
 		try {
-			jsonObjectNode = mapper.readTree(mapper.writeValueAsString(idObject));
-			jsonSchemaNode = getJsonSchemaNode();
-			final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
-			final JsonSchema jsonSchema = factory.getJsonSchema(jsonSchemaNode);
-			report = jsonSchema.validate(jsonObjectNode);
+			jsonObjectNode = mapper.valueToTree(idObject);
+			report = getJsonSchema().validate(jsonObjectNode);
 			logger.debug("schema validation report generated : " + report);
 			List<ServiceError> errorList = new ArrayList<>();
 			if (!report.isSuccess()) {
@@ -174,7 +183,7 @@ public class IdObjectSchemaValidator implements IdObjectValidator {
 				throw new IdObjectValidationFailedException(ID_OBJECT_VALIDATION_FAILED, errorList);
 			}
 			return true;
-		} catch (IOException e) {
+		} catch (IllegalArgumentException e) {
 			ExceptionUtils.logRootCause(e);
 			throw new IdObjectIOException(ID_OBJECT_PARSING_FAILED, e);
 		} catch (ProcessingException e) {
@@ -183,6 +192,19 @@ public class IdObjectSchemaValidator implements IdObjectValidator {
 		}
 	}
 
+	/**
+	 * Clears the compiled schema and the resolved mandatory fields, so that they
+	 * are loaded again on the next validation. To be invoked when the schema or
+	 * the mandatory attributes are updated.
+	 *
+	 * @throws IdObjectIOException the id object IO exception
+	 */
+	public void refreshSchema() throws IdObjectIOException {
+		jsonSchema = null;
+		mandatoryFields.clear();
+		loadSchema();
+	}
+
 	/**
 	 * Validate mandatory fields.
 	 *
@@ -204,17 +226,32 @@ public class IdObjectSchemaValidator implements IdObjectValidator {
 			throw new IdObjectIOException(MISSING_INPUT_PARAMETER.getErrorCode(),
 					String.format(MISSING_INPUT_PARAMETER.getMessage(), APPLICATION_ID));
 		}
-		String fields = env.getProperty(String.format(FIELD_LIST, appId, operation.getOperation()));
-		Optional.ofNullable(fields).ifPresent(fieldList -> Arrays.asList(StringUtils.split(fields, ','))
-				.parallelStream().map(StringUtils::normalizeSpace).forEach(field -> {
-					List<String> fieldNames = Arrays.asList(field.split("\\|"));
-					fieldNames = fieldNames.stream()
-							.map(fieldName -> PATH_SEPERATOR
-									.concat(ROOT_PATH.concat(PATH_SEPERATOR.concat(fieldName.replace('.', '/')))))
-							.collect(Collectors.toList());
-					validateMissingFields(jsonObjectNode, errorList, fieldNames);
-					validateInvalidFields(jsonObjectNode, errorList, fieldNames);
-				}));
+		String fieldListProperty = String.format(FIELD_LIST, appId, operation.getOperation());
+		mandatoryFields.computeIfAbsent(fieldListProperty, this::resolveMandatoryFields).forEach(field -> {
+			validateMissingFields(jsonObjectNode, errorList, field);
+			validateInvalidFields(jsonObjectNode, errorList, field);
+		});
+	}
+
+	/**
+	 * Resolves the mandatory fields configured in the given property into
+	 * compiled JSON pointers. Each entry holds the alternatives of a field
+	 * separated by '|', at least one of which has to be present.
+	 *
+	 * @param fieldListProperty the mandatory attributes property
+	 * @return the mandatory fields
+	 */
+	private List<MandatoryField> resolveMandatoryFields(String fieldListProperty) {
+		String fields = env.getProperty(fieldListProperty);
+		if (Objects.isNull(fields)) {
+			return Collections.emptyList();
+		}
+		return Arrays.stream(StringUtils.split(fields, ',')).map(StringUtils::normalizeSpace)
+				.map(field -> new MandatoryField(Arrays.stream(field.split("\\|"))
+						.map(fieldName -> PATH_SEPERATOR
+								.concat(ROOT_PATH.concat(PATH_SEPERATOR.concat(fieldName.replace('.', '/')))))
+						.collect(Collectors.toList())))
+				.collect(Collectors.toList());
 	}
 
 	/**
@@ -222,14 +259,12 @@ public class IdObjectSchemaValidator implements IdObjectValidator {
 	 *
 	 * @param jsonObjectNode the json object node
 	 * @param errorList      the error list
-	 * @param fieldNames     the field names
+	 * @param field          the mandatory field
 	 */
-	private void validateMissingFields(JsonNode jsonObjectNode, List<ServiceError> errorList, List<String> fieldNames) {
-		if (fieldNames.parallelStream().allMatch(fieldName -> isMissingOrEmpty(jsonObjectNode, fieldName))) {
+	private void validateMissingFields(JsonNode jsonObjectNode, List<ServiceError> errorList, MandatoryField field) {
+		if (field.pointers.stream().allMatch(pointer -> isMissingOrEmpty(jsonObjectNode, pointer))) {
 			errorList.add(new ServiceError(MISSING_INPUT_PARAMETER.getErrorCode(),
-					String.format(MISSING_INPUT_PARAMETER.getMessage(),
-							fieldNames.parallelStream().map(fieldName -> fieldName.replaceFirst(PATH_SEPERATOR, ""))
-									.collect(Collectors.joining(" | ")))));
+					String.format(MISSING_INPUT_PARAMETER.getMessage(), field.displayName)));
 		}
 	}
 
@@ -238,18 +273,16 @@ public class IdObjectSchemaValidator implements IdObjectValidator {
 	 *
 	 * @param jsonObjectNode the json object node
 	 * @param errorList      the error list
-	 * @param fieldNames     the field names
+	 * @param field          the mandatory field
 	 */
-	private void validateInvalidFields(JsonNode jsonObjectNode, List<ServiceError> errorList, List<String> fieldNames) {
-		if (fieldNames.parallelStream().anyMatch(
-				fieldName -> !isMissingOrEmpty(jsonObjectNode, fieldName) && (jsonObjectNode.at(fieldName).isArray()
+	private void validateInvalidFields(JsonNode jsonObjectNode, List<ServiceError> errorList, MandatoryField field) {
+		if (field.pointers.stream()
+				.anyMatch(pointer -> !isMissingOrEmpty(jsonObjectNode, pointer) && (jsonObjectNode.at(pointer).isArray()
 						? jsonObjectNode.findValuesAsText(IDENTITY_ARRAY_VALUE_FIELD).stream()
 								.allMatch(StringUtils::isBlank)
-						: StringUtils.isBlank(jsonObjectNode.at(fieldName).toString())))) {
+						: StringUtils.isBlank(jsonObjectNode.at(pointer).toString())))) {
 			errorList.add(new ServiceError(INVALID_INPUT_PARAMETER.getErrorCode(),
-					String.format(INVALID_INPUT_PARAMETER.getMessage(),
-							fieldNames.parallelStream().map(fieldName -> fieldName.replaceFirst(PATH_SEPERATOR, ""))
-									.collect(Collectors.joining(" | ")))));
+					String.format(INVALID_INPUT_PARAMETER.getMessage(), field.displayName)));
 		}
 	}
 
@@ -257,12 +290,11 @@ public class IdObjectSchemaValidator implements IdObjectValidator {
 	 * Checks if is missing or empty.
 	 *
 	 * @param jsonObjectNode the json object node
-	 * @param fieldName      the field name
+	 * @param pointer        the field pointer
 	 * @return true, if is missing or empty
 	 */
-	private boolean isMissingOrEmpty(JsonNode jsonObjectNode, String fieldName) {
-		return jsonObjectNode.at(fieldName).isMissingNode()
-				|| StringUtils.isEmpty(jsonObjectNode.at(fieldName).toString());
+	private boolean isMissingOrEmpty(JsonNode jsonObjectNode, JsonPointer pointer) {
+		return jsonObjectNode.at(pointer).isMissingNode() || StringUtils.isEmpty(jsonObjectNode.at(pointer).toString());
 	}
 
 	/**
@@ -282,6 +314,28 @@ public class IdObjectSchemaValidator implements IdObjectValidator {
 				"/"));
 	}
 
+	/**
+	 * Gets the compiled json schema. The schema is compiled once and reused until
+	 * {@link #refreshSchema()} is invoked or the bean is refreshed.
+	 *
+	 * @return the json schema
+	 * @throws IdObjectIOException the id object IO exception
+	 * @throws ProcessingException the processing exception
+	 */
+	private JsonSchema getJsonSchema() throws IdObjectIOException, ProcessingException {
+		JsonSchema compiledSchema = jsonSchema;
+		if (Objects.isNull(compiledSchema)) {
+			synchronized (this) {
+				compiledSchema = jsonSchema;
+				if (Objects.isNull(compiledSchema)) {
+					compiledSchema = SCHEMA_FACTORY.getJsonSchema(getJsonSchemaNode());
+					jsonSchema = compiledSchema;
+				}
+			}
+		}
+		return compiledSchema;
+	}
+
 	/**
 	 * Gets the json schema node. If the property source selected is CONFIG_SERVER.
 	 * In this scenario schema is coming from Config Server, whose location has to
@@ -320,4 +374,22 @@ public class IdObjectSchemaValidator implements IdObjectValidator {
 		}
 		return jsonSchemaNode;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Mandatory field with its alternatives resolved to compiled JSON pointers.
+	 */
+	private static final class MandatoryField {
+
+		/** The pointers of the alternatives. */
+		private final List<JsonPointer> pointers;
+
+		/** The alternatives joined for error messages. */
+		private final String displayName;
+
+		private MandatoryField(List<String> fieldNames) {
+			this.pointers = fieldNames.stream().map(JsonPointer::compile).collect(Collectors.toList());
+			this.displayName = fieldNames.stream().map(fieldName -> fieldName.replaceFirst(PATH_SEPERATOR, ""))
+					.collect(Collectors.joining(" | "));
+		}
+	}
+}
@@ -81,4 +81,13 @@ public class IdObjectValidatorLocalTest {
 		}
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testValidationAfterSchemaRefresh()
+			throws IdObjectValidationFailedException, IOException, IdObjectIOException {
+		JsonNode jsonNode = JsonLoader.fromResource("/valid-json.json");
+		assertEquals(true, validator.validateIdObject(jsonNode, IdObjectValidatorSupportedOperations.NEW_REGISTRATION));
+		validator.refreshSchema();
+		assertEquals(true, validator.validateIdObject(jsonNode, IdObjectValidatorSupportedOperations.NEW_REGISTRATION));
+	}
+
+}
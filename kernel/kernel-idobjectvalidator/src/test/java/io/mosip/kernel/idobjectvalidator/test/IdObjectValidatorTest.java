@@ -36,6 +36,7 @@ import org.springframework.web.context.WebApplicationContext;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 
@@ -166,8 +167,7 @@ public class IdObjectValidatorTest {
 			JsonParseException, JsonMappingException, IOException {
 		try {
 			ObjectMapper mockMapper = mock(ObjectMapper.class);
-			when(mockMapper.writeValueAsString(Mockito.any()))
-					.thenThrow(new InvalidFormatException(null, "", null, null));
+			when(mockMapper.<JsonNode>valueToTree(Mockito.any())).thenThrow(new IllegalArgumentException(""));
 			ReflectionTestUtils.setField(schemaValidator, "mapper", mockMapper);
 			schemaValidator.validateIdObject(null, IdObjectValidatorSupportedOperations.NEW_REGISTRATION);
 		} catch (IdObjectIOException e) {
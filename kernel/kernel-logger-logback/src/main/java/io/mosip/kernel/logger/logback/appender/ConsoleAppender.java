@@ -34,6 +34,21 @@ public class ConsoleAppender {
 	 * System.out.
 	 */
 	private String target = ConfigurationDefault.DEFAULTARGET;
+	/**
+	 * Logging events are queued in a bounded ring buffer and written by a
+	 * background thread if true; with default false
+	 */
+	private boolean async = ConfigurationDefault.DEFAULTASYNC;
+	/**
+	 * Capacity of the ring buffer of an async appender, rounded up to a power of
+	 * two; with default 8192
+	 */
+	private int queueSize = ConfigurationDefault.DEFAULTQUEUESIZE;
+	/**
+	 * Logging events are dropped instead of blocking the logging thread when the
+	 * ring buffer of an async appender is full if true; with default false
+	 */
+	private boolean neverBlock = ConfigurationDefault.DEFAULTNEVERBLOCK;
 
 	/**
 	 * Getter for appenderName
@@ -94,4 +109,65 @@ public class ConsoleAppender {
 		this.target = target;
 	}
 
+	/**
+	 * Getter for async
+	 * 
+	 * @return current async value
+	 */
+	public boolean isAsync() {
+		return async;
+	}
+
+	/**
+	 * Setter for async
+	 * 
+	 * @param async logging events are queued in a bounded ring buffer and written
+	 *              by a background thread if true; with default false
+	 */
+	@XmlElement
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+	/**
+	 * Getter for queueSize
+	 * 
+	 * @return current queueSize value
+	 */
+	public int getQueueSize() {
+		return queueSize;
+	}
+
+	/**
+	 * Setter for queueSize
+	 * 
+	 * @param queueSize capacity of the ring buffer of an async appender, rounded up
+	 *                  to a power of two; with default 8192
+	 */
+	@XmlElement
+	public void setQueueSize(int queueSize) {
+		this.queueSize = queueSize;
+	}
+
+	/**
+	 * Getter for neverBlock
+	 * 
+	 * @return current neverBlock value
+	 */
+	public boolean isNeverBlock() {
+		return neverBlock;
+	}
+
+	/**
+	 * Setter for neverBlock
+	 * 
+	 * @param neverBlock logging events are dropped instead of blocking the logging
+	 *                   thread when the ring buffer of an async appender is full if
+	 *                   true; with default false
+	 */
+	@XmlElement
+	public void setNeverBlock(boolean neverBlock) {
+		this.neverBlock = neverBlock;
+	}
+
 }
\ No newline at end of file
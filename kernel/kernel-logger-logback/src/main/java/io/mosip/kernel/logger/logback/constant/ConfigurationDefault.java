@@ -57,6 +57,18 @@ public final class ConfigurationDefault {
 	 * Default value of File Size
 	 */
 	public static final String DEFAULTFILESIZE = "";
+	/**
+	 * Default value of Async
+	 */
+	public static final boolean DEFAULTASYNC = false;
+	/**
+	 * Default value of Queue Size
+	 */
+	public static final int DEFAULTQUEUESIZE = 8192;
+	/**
+	 * Default value of Never Block
+	 */
+	public static final boolean DEFAULTNEVERBLOCK = false;
 
 	/**
 	 * Default pattern of logs
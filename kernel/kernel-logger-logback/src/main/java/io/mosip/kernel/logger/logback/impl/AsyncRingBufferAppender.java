@@ -0,0 +1,177 @@
+package io.mosip.kernel.logger.logback.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+
+/**
+ * Appender queuing the logging events in a bounded lock-free ring buffer and
+ * writing them to the delegate appender from a single background thread.
+ *
+ * The logging threads claim a slot of the ring buffer with a compare and set
+ * on its tail. When the ring buffer is full an event is dropped if
+ * <code>neverBlock</code> is true, otherwise the logging thread waits for a
+ * free slot. Stopping the appender writes the queued events, for at most
+ * {@link #MAX_FLUSH_TIME} milliseconds, and stops the delegate appender. The
+ * events of the logging threads still waiting for a free slot are dropped.
+ *
+ * @since 1.1.0
+ */
+public class AsyncRingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+	/**
+	 * Time in milliseconds given to the worker to write the queued events on stop
+	 */
+	public static final long MAX_FLUSH_TIME = 1000;
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+	private final Appender<ILoggingEvent> delegate;
+
+	private final AtomicReferenceArray<ILoggingEvent> slots;
+
+	private final int mask;
+
+	private final boolean neverBlock;
+
+	/**
+	 * Sequence of the next slot claimed by a logging thread
+	 */
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * Sequence of the next slot read by the worker, written by the worker only
+	 */
+	private volatile long head;
+
+	private volatile boolean idle;
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	private Thread worker;
+
+	/**
+	 * Creates the appender, {@link #start()} must be called before use.
+	 *
+	 * @param delegate   the started appender writing the events.
+	 * @param queueSize  the capacity of the ring buffer, rounded up to a power of
+	 *                   two.
+	 * @param neverBlock drop the events instead of waiting when the ring buffer is
+	 *                   full.
+	 */
+	public AsyncRingBufferAppender(Appender<ILoggingEvent> delegate, int queueSize, boolean neverBlock) {
+		this.delegate = delegate;
+		int capacity = Integer.highestOneBit(Math.max(queueSize, 2) - 1) << 1;
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+		this.neverBlock = neverBlock;
+	}
+
+	@Override
+	public void start() {
+		if (isStarted()) {
+			return;
+		}
+		worker = new Thread(this::drain, "mosip-async-appender-" + getName());
+		worker.setDaemon(true);
+		super.start();
+		worker.start();
+	}
+
+	@Override
+	public void stop() {
+		if (!isStarted()) {
+			return;
+		}
+		super.stop();
+		LockSupport.unpark(worker);
+		try {
+			worker.join(MAX_FLUSH_TIME);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (worker.isAlive()) {
+			addWarn("Stopped " + getName() + " with " + (tail.get() - head) + " events not written");
+		}
+		if (droppedCount.get() > 0) {
+			addWarn("Dropped " + droppedCount.get() + " events in " + getName());
+		}
+		delegate.stop();
+	}
+
+	/**
+	 * @return the number of events dropped because the ring buffer was full, or
+	 *         was still full when the appender stopped.
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		event.prepareForDeferredProcessing();
+		if (offer(event)) {
+			return;
+		}
+		if (neverBlock) {
+			droppedCount.incrementAndGet();
+			return;
+		}
+		while (isStarted()) {
+			LockSupport.parkNanos(FULL_PARK_NANOS);
+			if (offer(event)) {
+				return;
+			}
+		}
+		droppedCount.incrementAndGet();
+	}
+
+	private boolean offer(ILoggingEvent event) {
+		for (;;) {
+			long sequence = tail.get();
+			if (sequence - head >= slots.length()) {
+				return false;
+			}
+			if (tail.compareAndSet(sequence, sequence + 1)) {
+				slots.set((int) sequence & mask, event);
+				if (idle) {
+					LockSupport.unpark(worker);
+				}
+				return true;
+			}
+		}
+	}
+
+	private void drain() {
+		long sequence = head;
+		for (;;) {
+			int index = (int) sequence & mask;
+			ILoggingEvent event = slots.get(index);
+			if (event == null) {
+				if (!isStarted() && sequence == tail.get()) {
+					return;
+				}
+				idle = true;
+				if (slots.get(index) == null) {
+					LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+				}
+				idle = false;
+				continue;
+			}
+			slots.lazySet(index, null);
+			head = ++sequence;
+			try {
+				delegate.doAppend(event);
+			} catch (RuntimeException e) {
+				addError("Could not write event to " + delegate.getName(), e);
+			}
+		}
+	}
+}
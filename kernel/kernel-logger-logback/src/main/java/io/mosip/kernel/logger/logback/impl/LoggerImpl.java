@@ -1,8 +1,10 @@
 
 package io.mosip.kernel.logger.logback.impl;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.slf4j.LoggerFactory;
 
@@ -36,8 +38,9 @@ import io.mosip.kernel.logger.logback.constant.LogLevel;
  */
 public class LoggerImpl implements Logger {
 
-	private static Map<String, Appender<ILoggingEvent>> rollingFileAppenders = new HashMap<>();
-	private static Map<String, Appender<ILoggingEvent>> fileAppenders = new HashMap<>();
+	private static Map<String, Appender<ILoggingEvent>> rollingFileAppenders = new ConcurrentHashMap<>();
+	private static Map<String, Appender<ILoggingEvent>> fileAppenders = new ConcurrentHashMap<>();
+	private static Map<String, Appender<ILoggingEvent>> consoleAppenders = new ConcurrentHashMap<>();
 	/**
 	 * Logger Instance per Class
 	 */
@@ -59,14 +62,19 @@ public class LoggerImpl implements Logger {
 
 		LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
 		this.logger = context.getLogger(name);
-		PatternLayoutEncoder ple = getdefaultPattern(context);
-		ch.qos.logback.core.ConsoleAppender<ILoggingEvent> consoleAppender = new ch.qos.logback.core.ConsoleAppender<>();
-		consoleAppender.setContext(context);
-		consoleAppender.setEncoder(ple);
-		consoleAppender.setName(mosipConsoleAppender.getAppenderName());
-		consoleAppender.setImmediateFlush(mosipConsoleAppender.isImmediateFlush());
-		consoleAppender.setTarget(mosipConsoleAppender.getTarget());
-		consoleAppender.start();
+		Appender<ILoggingEvent> consoleAppender = register(consoleAppenders, mosipConsoleAppender.getAppenderName(),
+				appenderName -> {
+					PatternLayoutEncoder ple = getdefaultPattern(context);
+					ch.qos.logback.core.ConsoleAppender<ILoggingEvent> appender = new ch.qos.logback.core.ConsoleAppender<>();
+					appender.setContext(context);
+					appender.setEncoder(ple);
+					appender.setName(appenderName);
+					appender.setImmediateFlush(mosipConsoleAppender.isImmediateFlush());
+					appender.setTarget(mosipConsoleAppender.getTarget());
+					appender.start();
+					return async(appender, mosipConsoleAppender.isAsync(), mosipConsoleAppender.getQueueSize(),
+							mosipConsoleAppender.isNeverBlock(), context);
+				});
 		if (logLevel != null) {
 			this.logger.setLevel(Level.valueOf(logLevel.getLevel()));
 		} else {
@@ -88,23 +96,21 @@ public class LoggerImpl implements Logger {
 		LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
 		this.logger = context.getLogger(name);
 		this.logger.setAdditive(false);
-		PatternLayoutEncoder ple = getdefaultPattern(context);
-		ch.qos.logback.core.FileAppender<ILoggingEvent> fileAppender = null;
-		if (!fileAppenders.containsKey(mosipFileAppender.getAppenderName())) {
-			fileAppender = new ch.qos.logback.core.FileAppender<>();
-			fileAppender.setContext(context);
-			fileAppender.setEncoder(ple);
-			fileAppender.setName(mosipFileAppender.getAppenderName());
-			fileAppender.setImmediateFlush(mosipFileAppender.isImmediateFlush());
-			fileAppender.setAppend(mosipFileAppender.isAppend());
-			fileAppender.setFile(mosipFileAppender.getFileName());
-			fileAppender.setPrudent(mosipFileAppender.isPrudent());
-			fileAppender.start();
-			fileAppenders.put(fileAppender.getName(), fileAppender);
-		} else {
-			fileAppender = (ch.qos.logback.core.FileAppender<ILoggingEvent>) fileAppenders
-					.get(mosipFileAppender.getAppenderName());
-		}
+		Appender<ILoggingEvent> fileAppender = register(fileAppenders, mosipFileAppender.getAppenderName(),
+				appenderName -> {
+					PatternLayoutEncoder ple = getdefaultPattern(context);
+					ch.qos.logback.core.FileAppender<ILoggingEvent> appender = new ch.qos.logback.core.FileAppender<>();
+					appender.setContext(context);
+					appender.setEncoder(ple);
+					appender.setName(appenderName);
+					appender.setImmediateFlush(mosipFileAppender.isImmediateFlush());
+					appender.setAppend(mosipFileAppender.isAppend());
+					appender.setFile(mosipFileAppender.getFileName());
+					appender.setPrudent(mosipFileAppender.isPrudent());
+					appender.start();
+					return async(appender, mosipFileAppender.isAsync(), mosipFileAppender.getQueueSize(),
+							mosipFileAppender.isNeverBlock(), context);
+				});
 		if (logLevel != null) {
 			this.logger.setLevel(Level.valueOf(logLevel.getLevel()));
 		} else {
@@ -125,28 +131,26 @@ public class LoggerImpl implements Logger {
 		LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
 		this.logger = context.getLogger(name);
 		this.logger.setAdditive(false);
-		PatternLayoutEncoder ple = getdefaultPattern(context);
-		ch.qos.logback.core.rolling.RollingFileAppender<ILoggingEvent> rollingFileAppender = null;
-		if (!rollingFileAppenders.containsKey(mosipRollingFileAppender.getAppenderName())) {
-			rollingFileAppender = new ch.qos.logback.core.rolling.RollingFileAppender<>();
-			rollingFileAppender.setContext(context);
-			rollingFileAppender.setEncoder(ple);
-			rollingFileAppender.setName(mosipRollingFileAppender.getAppenderName());
-			rollingFileAppender.setImmediateFlush(mosipRollingFileAppender.isImmediateFlush());
-			rollingFileAppender.setFile(mosipRollingFileAppender.getFileName());
-			rollingFileAppender.setAppend(mosipRollingFileAppender.isAppend());
-			rollingFileAppender.setPrudent(mosipRollingFileAppender.isPrudent());
-			if (mosipRollingFileAppender.getMaxFileSize().trim().isEmpty()) {
-				configureTimeBasedRollingPolicy(mosipRollingFileAppender, context, rollingFileAppender);
-			} else {
-				configureSizeAndTimeBasedPolicy(mosipRollingFileAppender, context, rollingFileAppender);
-			}
-			rollingFileAppenders.put(rollingFileAppender.getName(), rollingFileAppender);
-			rollingFileAppender.start();
-		} else {
-			rollingFileAppender = (ch.qos.logback.core.rolling.RollingFileAppender<ILoggingEvent>) rollingFileAppenders
-					.get(mosipRollingFileAppender.getAppenderName());
-		}
+		Appender<ILoggingEvent> rollingFileAppender = register(rollingFileAppenders,
+				mosipRollingFileAppender.getAppenderName(), appenderName -> {
+					PatternLayoutEncoder ple = getdefaultPattern(context);
+					ch.qos.logback.core.rolling.RollingFileAppender<ILoggingEvent> appender = new ch.qos.logback.core.rolling.RollingFileAppender<>();
+					appender.setContext(context);
+					appender.setEncoder(ple);
+					appender.setName(appenderName);
+					appender.setImmediateFlush(mosipRollingFileAppender.isImmediateFlush());
+					appender.setFile(mosipRollingFileAppender.getFileName());
+					appender.setAppend(mosipRollingFileAppender.isAppend());
+					appender.setPrudent(mosipRollingFileAppender.isPrudent());
+					if (mosipRollingFileAppender.getMaxFileSize().trim().isEmpty()) {
+						configureTimeBasedRollingPolicy(mosipRollingFileAppender, context, appender);
+					} else {
+						configureSizeAndTimeBasedPolicy(mosipRollingFileAppender, context, appender);
+					}
+					appender.start();
+					return async(appender, mosipRollingFileAppender.isAsync(), mosipRollingFileAppender.getQueueSize(),
+							mosipRollingFileAppender.isNeverBlock(), context);
+				});
 		if (logLevel != null) {
 			this.logger.setLevel(Level.valueOf(logLevel.getLevel()));
 		} else {
@@ -156,6 +160,47 @@ public class LoggerImpl implements Logger {
 
 	}
 
+	/**
+	 * Gets the appender registered with the name, creating and registering it if
+	 * there is none. An appender without name is not registered.
+	 * 
+	 * @param appenders    registered appenders
+	 * @param appenderName name of the appender
+	 * @param factory      creates the started appender
+	 * @return the registered appender
+	 */
+	private static Appender<ILoggingEvent> register(Map<String, Appender<ILoggingEvent>> appenders,
+			String appenderName, Function<String, Appender<ILoggingEvent>> factory) {
+		if (appenderName == null) {
+			return factory.apply(null);
+		}
+		return appenders.computeIfAbsent(appenderName, factory);
+	}
+
+	/**
+	 * Wraps an appender in an {@link AsyncRingBufferAppender} if async is
+	 * configured
+	 * 
+	 * @param appender   started appender
+	 * @param async      wrap the appender if true
+	 * @param queueSize  capacity of the ring buffer
+	 * @param neverBlock drop events instead of blocking when the ring buffer is
+	 *                   full
+	 * @param context    context of logger
+	 * @return the appender to attach
+	 */
+	private static Appender<ILoggingEvent> async(Appender<ILoggingEvent> appender, boolean async, int queueSize,
+			boolean neverBlock, LoggerContext context) {
+		if (!async) {
+			return appender;
+		}
+		AsyncRingBufferAppender asyncAppender = new AsyncRingBufferAppender(appender, queueSize, neverBlock);
+		asyncAppender.setContext(context);
+		asyncAppender.setName(appender.getName());
+		asyncAppender.start();
+		return asyncAppender;
+	}
+
 	/**
 	 * Configures size and time based policy
 	 * 
@@ -358,6 +403,91 @@ public class LoggerImpl implements Logger {
 		logger.trace(LOGDISPLAY, sessionId, idType, id, description);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.core.logger.spi.Logger#debug(java.lang.String,
+	 * java.lang.String, java.lang.String, java.util.function.Supplier)
+	 */
+	@Override
+	public void debug(String sessionId, String idType, String id, Supplier<String> description) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(LOGDISPLAY, sessionId, idType, id, description.get());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.core.logger.spi.Logger#warn(java.lang.String,
+	 * java.lang.String, java.lang.String, java.util.function.Supplier)
+	 */
+	@Override
+	public void warn(String sessionId, String idType, String id, Supplier<String> description) {
+		if (logger.isWarnEnabled()) {
+			logger.warn(LOGDISPLAY, sessionId, idType, id, description.get());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.core.logger.spi.Logger#error(java.lang.String,
+	 * java.lang.String, java.lang.String, java.util.function.Supplier)
+	 */
+	@Override
+	public void error(String sessionId, String idType, String id, Supplier<String> description) {
+		if (logger.isErrorEnabled()) {
+			logger.error(LOGDISPLAY, sessionId, idType, id, description.get());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.core.logger.spi.Logger#info(java.lang.String,
+	 * java.lang.String, java.lang.String, java.util.function.Supplier)
+	 */
+	@Override
+	public void info(String sessionId, String idType, String id, Supplier<String> description) {
+		if (logger.isInfoEnabled()) {
+			logger.info(LOGDISPLAY, sessionId, idType, id, description.get());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.core.logger.spi.Logger#trace(java.lang.String,
+	 * java.lang.String, java.lang.String, java.util.function.Supplier)
+	 */
+	@Override
+	public void trace(String sessionId, String idType, String id, Supplier<String> description) {
+		if (logger.isTraceEnabled()) {
+			logger.trace(LOGDISPLAY, sessionId, idType, id, description.get());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.core.logger.spi.Logger#isDebugEnabled()
+	 */
+	@Override
+	public boolean isDebugEnabled() {
+		return logger.isDebugEnabled();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.core.logger.spi.Logger#isTraceEnabled()
+	 */
+	@Override
+	public boolean isTraceEnabled() {
+		return logger.isTraceEnabled();
+	}
+
 	/**
 	 * Configures Layout for Mosip
 	 * 
@@ -378,20 +508,37 @@ public class LoggerImpl implements Logger {
 	 * @param appenderName name of the appender
 	 */
 	public static void stop(String appenderName) {
-		if (fileAppenders.containsKey(appenderName)) {
-			fileAppenders.get(appenderName).stop();
-			fileAppenders.remove(appenderName);
-		} else if (rollingFileAppenders.containsKey(appenderName)) {
-			rollingFileAppenders.get(appenderName).stop();
-			rollingFileAppenders.remove(appenderName);
+		if (appenderName == null) {
+			return;
+		}
+		Appender<ILoggingEvent> appender = fileAppenders.remove(appenderName);
+		if (appender == null) {
+			appender = rollingFileAppenders.remove(appenderName);
+		}
+		if (appender == null) {
+			appender = consoleAppenders.remove(appenderName);
+		}
+		if (appender != null) {
+			appender.stop();
 		}
 	}
 
 	/**
-	 * Stop all appenders
+	 * Stop all appenders, writing the events queued by the async appenders. The
+	 * loggers created afterwards get new appenders.
 	 */
 	public static void stopAll() {
-		rollingFileAppenders.values().forEach(Appender<ILoggingEvent>::stop);
-		fileAppenders.values().forEach(Appender<ILoggingEvent>::stop);
+		stopAll(rollingFileAppenders);
+		stopAll(fileAppenders);
+		stopAll(consoleAppenders);
+	}
+
+	private static void stopAll(Map<String, Appender<ILoggingEvent>> appenders) {
+		for (String appenderName : appenders.keySet()) {
+			Appender<ILoggingEvent> appender = appenders.remove(appenderName);
+			if (appender != null) {
+				appender.stop();
+			}
+		}
 	}
 }
\ No newline at end of file
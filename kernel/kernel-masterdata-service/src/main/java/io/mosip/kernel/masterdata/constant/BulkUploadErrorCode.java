@@ -0,0 +1,54 @@
+package io.mosip.kernel.masterdata.constant;
+
+/**
+ * Error codes for the bulk upload of masterdata
+ * 
+ * @since 1.1.0
+ */
+public enum BulkUploadErrorCode {
+	UNSUPPORTED_CONTENT_TYPE("KER-MSD-450", "Unsupported content type %s, expected application/x-ndjson or text/csv"),
+	INVALID_RECORD("KER-MSD-451", "Invalid record : %s"),
+	INVALID_VALUE("KER-MSD-452", "Invalid value for %s : %s"),
+	RECORD_ALREADY_EXISTS("KER-MSD-453", "Record %s already exists"),
+	RECORD_NOT_FOUND("KER-MSD-454", "Record %s not found"),
+	WRITE_EXCEPTION("KER-MSD-455", "Error occurred while writing the record : %s"),
+	READ_EXCEPTION("KER-MSD-456", "Error occurred while reading the records : %s");
+
+	/**
+	 * The error code.
+	 */
+	private final String errorCode;
+	/**
+	 * The error message.
+	 */
+	private final String errorMessage;
+
+	/**
+	 * Constructor for BulkUploadErrorCode.
+	 * 
+	 * @param errorCode    the error code.
+	 * @param errorMessage the error message.
+	 */
+	private BulkUploadErrorCode(final String errorCode, final String errorMessage) {
+		this.errorCode = errorCode;
+		this.errorMessage = errorMessage;
+	}
+
+	/**
+	 * Getter for error code.
+	 * 
+	 * @return the error code.
+	 */
+	public String getErrorCode() {
+		return errorCode;
+	}
+
+	/**
+	 * Getter for error message.
+	 * 
+	 * @return the error message.
+	 */
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+}
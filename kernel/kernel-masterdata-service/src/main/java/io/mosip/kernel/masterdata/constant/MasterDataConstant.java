@@ -65,6 +65,9 @@ public class MasterDataConstant {
 	public static final String UPDATE_API_IS_CALLED = "Update API called::";
 	public static final String SUCCESSFUL_UPDATE = "Update %s - Success";
 	public static final String FAILURE_UPDATE = "Update %s - Failure";
+	public static final String BULK_API_IS_CALLED = "Bulk API called::";
+	public static final String SUCCESSFUL_BULK = "Bulk %s - Success";
+	public static final String SUCCESSFUL_BULK_DESC = "System processed %d %s records, %d rejected";
 	public static final String DECOMMISION_API_CALLED = "%s Decommission API called";
 	public static final String DECOMMISSION_SUCCESS = "Decommission %s - Success";
 	public static final String DECOMMISSION_FAILURE = "Decommission %s - Failure";
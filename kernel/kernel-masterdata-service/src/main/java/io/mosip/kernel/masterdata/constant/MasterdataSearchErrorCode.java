@@ -16,7 +16,8 @@ public enum MasterdataSearchErrorCode {
 	INVALID_PAGINATION("KER-MSD-356", "Pagination cannot be null"),
 	INVALID_SORT_TYPE("KER-MSD-358", "Sort type %s is not supported"),
 	ERROR_OCCURED_WHILE_SORTING("KER-MSD-359", "Error occured while sorting"),
-	INVALID_SORT_FIELD("KER-MSD-357", "Invalid sort field %s"), INVALID_VALUE("KER-MSD-390", "Invalid filter value");
+	INVALID_SORT_FIELD("KER-MSD-357", "Invalid sort field %s"), INVALID_VALUE("KER-MSD-390", "Invalid filter value"),
+	INVALID_PAGE_TOKEN("KER-MSD-365", "Invalid page token received : %s");
 
 	/**
 	 * The error code.
@@ -1,5 +1,9 @@
 package io.mosip.kernel.masterdata.controller;
 
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,8 +37,10 @@ import io.mosip.kernel.masterdata.dto.response.FilterResponseCodeDto;
 import io.mosip.kernel.masterdata.dto.response.FilterResponseDto;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
 import io.mosip.kernel.masterdata.entity.Device;
+import io.mosip.kernel.masterdata.service.BulkUploadService;
 import io.mosip.kernel.masterdata.service.DeviceService;
 import io.mosip.kernel.masterdata.utils.AuditUtil;
+import io.mosip.kernel.masterdata.utils.BulkRecordReader;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -62,6 +68,9 @@ public class DeviceController {
 	@Autowired
 	private DeviceService deviceService;
 
+	@Autowired
+	private BulkUploadService bulkUploadService;
+
 	@Autowired
 	private AuditUtil auditUtil;
 
@@ -163,6 +172,46 @@ public class DeviceController {
 		return responseWrapper;
 	}
 
+	/**
+	 * Post API to insert Devices in bulk from an NDJSON or CSV upload of
+	 * {@link DeviceDto}, with their Device history
+	 * 
+	 * @param request  the upload
+	 * @param response the result of each Device, one JSON object per line
+	 * @throws IOException if the upload can not be read
+	 */
+	@PreAuthorize("hasAnyRole('ZONAL_ADMIN','GLOBAL_ADMIN')")
+	@PostMapping(value = "/bulk", consumes = { BulkRecordReader.NDJSON_VALUE, BulkRecordReader.CSV_VALUE })
+	@ApiOperation(value = "Service to save Devices in bulk", notes = "Saves Devices and return the result of each Device")
+	public void createDevices(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		auditUtil.auditRequest(MasterDataConstant.BULK_API_IS_CALLED + DeviceDto.class.getSimpleName(),
+				MasterDataConstant.AUDIT_SYSTEM,
+				MasterDataConstant.BULK_API_IS_CALLED + DeviceDto.class.getSimpleName(), "ADM-831");
+		response.setContentType(BulkRecordReader.NDJSON_VALUE);
+		bulkUploadService.uploadDevices(request.getInputStream(), request.getContentType(), false,
+				response.getOutputStream());
+	}
+
+	/**
+	 * API to update Devices in bulk from an NDJSON or CSV upload of
+	 * {@link DeviceDto}, with their Device history
+	 * 
+	 * @param request  the upload
+	 * @param response the result of each Device, one JSON object per line
+	 * @throws IOException if the upload can not be read
+	 */
+	@PreAuthorize("hasAnyRole('ZONAL_ADMIN','GLOBAL_ADMIN')")
+	@PutMapping(value = "/bulk", consumes = { BulkRecordReader.NDJSON_VALUE, BulkRecordReader.CSV_VALUE })
+	@ApiOperation(value = "Service to update Devices in bulk", notes = "Update Devices and return the result of each Device")
+	public void updateDevices(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		auditUtil.auditRequest(MasterDataConstant.BULK_API_IS_CALLED + DeviceDto.class.getSimpleName(),
+				MasterDataConstant.AUDIT_SYSTEM,
+				MasterDataConstant.BULK_API_IS_CALLED + DeviceDto.class.getSimpleName(), "ADM-832");
+		response.setContentType(BulkRecordReader.NDJSON_VALUE);
+		bulkUploadService.uploadDevices(request.getInputStream(), request.getContentType(), true,
+				response.getOutputStream());
+	}
+
 	/**
 	 * API to delete Device
 	 * 
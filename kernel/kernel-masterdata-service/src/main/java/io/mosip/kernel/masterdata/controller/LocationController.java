@@ -1,5 +1,9 @@
 package io.mosip.kernel.masterdata.controller;
 
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,8 +41,10 @@ import io.mosip.kernel.masterdata.dto.response.LocationPostResponseDto;
 import io.mosip.kernel.masterdata.dto.response.LocationPutResponseDto;
 import io.mosip.kernel.masterdata.dto.response.LocationSearchDto;
 import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
+import io.mosip.kernel.masterdata.service.BulkUploadService;
 import io.mosip.kernel.masterdata.service.LocationService;
 import io.mosip.kernel.masterdata.utils.AuditUtil;
+import io.mosip.kernel.masterdata.utils.BulkRecordReader;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -66,6 +72,9 @@ public class LocationController {
 	@Autowired
 	private LocationService locationHierarchyService;
 
+	@Autowired
+	private BulkUploadService bulkUploadService;
+
 	@Autowired
 	private AuditUtil auditUtil;
 
@@ -155,6 +164,46 @@ public class LocationController {
 		return responseWrapper;
 	}
 
+	/**
+	 * Creates locations in bulk from an NDJSON or CSV upload of
+	 * {@link LocationDto}, parents before children.
+	 * 
+	 * @param request  the upload
+	 * @param response the result of each location, one JSON object per line
+	 * @throws IOException if the upload can not be read
+	 */
+	@PreAuthorize("hasAnyRole('GLOBAL_ADMIN')")
+	@PostMapping(value = "/bulk", consumes = { BulkRecordReader.NDJSON_VALUE, BulkRecordReader.CSV_VALUE })
+	@ApiOperation(value = "Service to save Locations in bulk", notes = "Saves Locations and return the result of each Location")
+	public void createLocations(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		auditUtil.auditRequest(MasterDataConstant.BULK_API_IS_CALLED + LocationDto.class.getSimpleName(),
+				MasterDataConstant.AUDIT_SYSTEM,
+				MasterDataConstant.BULK_API_IS_CALLED + LocationDto.class.getSimpleName(), "ADM-829");
+		response.setContentType(BulkRecordReader.NDJSON_VALUE);
+		bulkUploadService.uploadLocations(request.getInputStream(), request.getContentType(), false,
+				response.getOutputStream());
+	}
+
+	/**
+	 * Updates locations in bulk from an NDJSON or CSV upload of
+	 * {@link LocationDto}.
+	 * 
+	 * @param request  the upload
+	 * @param response the result of each location, one JSON object per line
+	 * @throws IOException if the upload can not be read
+	 */
+	@PreAuthorize("hasAnyRole('GLOBAL_ADMIN')")
+	@PutMapping(value = "/bulk", consumes = { BulkRecordReader.NDJSON_VALUE, BulkRecordReader.CSV_VALUE })
+	@ApiOperation(value = "Service to update Locations in bulk", notes = "Update Locations and return the result of each Location")
+	public void updateLocations(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		auditUtil.auditRequest(MasterDataConstant.BULK_API_IS_CALLED + LocationDto.class.getSimpleName(),
+				MasterDataConstant.AUDIT_SYSTEM,
+				MasterDataConstant.BULK_API_IS_CALLED + LocationDto.class.getSimpleName(), "ADM-830");
+		response.setContentType(BulkRecordReader.NDJSON_VALUE);
+		bulkUploadService.uploadLocations(request.getInputStream(), request.getContentType(), true,
+				response.getOutputStream());
+	}
+
 	/**
 	 * This API call would update isDeleted to true when called.
 	 * 
@@ -20,4 +20,15 @@ public class Pagination {
 
 	private int pageFetch = 10;
 
+	/**
+	 * Continuation token of the previous keyset page, replaces pageStart when
+	 * keyset pagination is enabled.
+	 */
+	private String pageToken;
+
+	public Pagination(int pageStart, int pageFetch) {
+		this.pageStart = pageStart;
+		this.pageFetch = pageFetch;
+	}
+
 }
@@ -0,0 +1,28 @@
+package io.mosip.kernel.masterdata.dto.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.mosip.kernel.core.exception.ServiceError;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of one record of a bulk upload, streamed back as one line of the
+ * response.
+ * 
+ * @since 1.1.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkRecordResponseDto {
+	private long row;
+	private String id;
+	private String langCode;
+	private String status;
+	private List<ServiceError> errors;
+}
@@ -4,6 +4,8 @@ import java.util.List;
 
 import javax.validation.Valid;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,4 +19,13 @@ public class PageResponseDto<T> {
 	private long totalRecord;
 	@Valid
 	private List<T> data;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String nextPageToken;
+
+	public PageResponseDto(long fromRecord, long toRecord, long totalRecord, List<T> data) {
+		this.fromRecord = fromRecord;
+		this.toRecord = toRecord;
+		this.totalRecord = totalRecord;
+		this.data = data;
+	}
 }
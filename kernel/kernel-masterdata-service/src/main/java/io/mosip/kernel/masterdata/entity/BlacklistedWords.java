@@ -6,11 +6,13 @@ import javax.persistence.AttributeOverride;
 import javax.persistence.AttributeOverrides;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
 import javax.persistence.Table;
 
 import io.mosip.kernel.masterdata.entity.id.WordAndLanguageCodeID;
+import io.mosip.kernel.masterdata.utils.ModificationListener;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -27,6 +29,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(ModificationListener.class)
 @Table(name = "blacklisted_words", schema = "master")
 @EqualsAndHashCode(callSuper = true)
 @IdClass(WordAndLanguageCodeID.class)
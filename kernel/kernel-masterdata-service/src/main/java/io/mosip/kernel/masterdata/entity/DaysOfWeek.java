@@ -5,6 +5,7 @@ import java.util.List;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.FetchType;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
@@ -12,6 +13,7 @@ import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
 import io.mosip.kernel.masterdata.entity.id.WeekDayId;
+import io.mosip.kernel.masterdata.utils.ModificationListener;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -22,6 +24,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(ModificationListener.class)
 @Table(name = "daysofweek_list", schema = "master")
 @IdClass(WeekDayId.class)
 public class DaysOfWeek extends BaseEntity implements Serializable {
@@ -5,11 +5,13 @@ import java.time.LocalDate;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
 import javax.persistence.Table;
 
 import io.mosip.kernel.masterdata.entity.id.RegExceptionalHolidayID;
+import io.mosip.kernel.masterdata.utils.ModificationListener;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -18,6 +20,7 @@ import lombok.NoArgsConstructor;
 @Data
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@EntityListeners(ModificationListener.class)
 @Table(name = "reg_exceptional_holiday", schema = "master")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -34,7 +34,9 @@ public class ReqResFilter implements Filter {
 		ContentCachingResponseWrapper responseWrapper = null;
 
 		try {
-			if (httpServletRequest.getRequestURI().endsWith(".stream")) {
+			// bulk uploads stream their request and response, do not buffer them
+			if (httpServletRequest.getRequestURI().endsWith(".stream")
+					|| httpServletRequest.getRequestURI().endsWith("/bulk")) {
 				chain.doFilter(request, response);
 				return;
 			}
@@ -164,6 +164,16 @@ public interface RegistrationCenterRepository extends BaseRepository<Registratio
 	@Query("FROM RegistrationCenter WHERE id= ?1 and (isDeleted is null or isDeleted =false)")
 	List<RegistrationCenter> findByRegCenterIdAndIsDeletedFalseOrNull(String id);
 
+	/**
+	 * This method triggers query to find the active registration centers of a
+	 * language.
+	 * 
+	 * @param langCode the language code.
+	 * @return the fetched registration center entities.
+	 */
+	@Query("FROM RegistrationCenter WHERE langCode = ?1 and (isDeleted is null or isDeleted =false) and isActive = true")
+	List<RegistrationCenter> findActiveByLangCode(String langCode);
+
 	@Query("FROM RegistrationCenter WHERE id= ?1 and lang_code=?2 ")
 	List<RegistrationCenter> findByRegIdAndLangCode(String id, String langCode);
 
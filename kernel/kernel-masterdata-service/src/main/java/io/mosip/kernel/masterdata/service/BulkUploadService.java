@@ -0,0 +1,42 @@
+package io.mosip.kernel.masterdata.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Service to create or update masterdata in bulk from an NDJSON or CSV upload,
+ * streaming back the result of each record as one line of JSON.
+ * 
+ * @since 1.1.0
+ */
+public interface BulkUploadService {
+
+	/**
+	 * Creates or updates locations.
+	 * 
+	 * @param in          the upload of {@link io.mosip.kernel.masterdata.dto.LocationDto}
+	 *                    records.
+	 * @param contentType the content type of the upload.
+	 * @param update      true to update existing locations, false to create new
+	 *                    ones.
+	 * @param out         the response receiving the result of each record.
+	 * @throws IOException if the upload can not be read or the response written.
+	 */
+	public void uploadLocations(InputStream in, String contentType, boolean update, OutputStream out)
+			throws IOException;
+
+	/**
+	 * Creates or updates devices.
+	 * 
+	 * @param in          the upload of {@link io.mosip.kernel.masterdata.dto.DeviceDto}
+	 *                    records.
+	 * @param contentType the content type of the upload.
+	 * @param update      true to update existing devices, false to create new
+	 *                    ones.
+	 * @param out         the response receiving the result of each record.
+	 * @throws IOException if the upload can not be read or the response written.
+	 */
+	public void uploadDevices(InputStream in, String contentType, boolean update, OutputStream out)
+			throws IOException;
+}
@@ -46,6 +46,8 @@ import io.mosip.kernel.masterdata.exception.RequestException;
 import io.mosip.kernel.masterdata.repository.BlacklistedWordsRepository;
 import io.mosip.kernel.masterdata.service.BlacklistedWordsService;
 import io.mosip.kernel.masterdata.utils.AuditUtil;
+import io.mosip.kernel.masterdata.utils.BlacklistedWordsIndex;
+import io.mosip.kernel.masterdata.utils.BlacklistedWordsMatcher;
 import io.mosip.kernel.masterdata.utils.ExceptionUtils;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
@@ -92,6 +94,9 @@ public class BlacklistedWordsServiceImpl implements BlacklistedWordsService {
 	@Autowired
 	private AuditUtil auditUtil;
 
+	@Autowired
+	private BlacklistedWordsIndex blacklistedWordsIndex;
+
 	/**
 	 * Autowired reference for {@link DataMapper}
 	 */
@@ -137,29 +142,16 @@ public class BlacklistedWordsServiceImpl implements BlacklistedWordsService {
 	 */
 	@Override
 	public boolean validateWord(List<String> words) {
-		List<String> wordList = new ArrayList<>();
-		boolean isValid = true;
-		List<BlacklistedWords> blackListedWordsList = null;
+		BlacklistedWordsMatcher matcher = null;
 		try {
-			blackListedWordsList = blacklistedWordsRepository.findAllByIsDeletedFalseOrIsDeletedNull();
+			matcher = blacklistedWordsIndex.getMatcher();
 		} catch (DataAccessException | DataAccessLayerException accessException) {
 			throw new MasterDataServiceException(
 					BlacklistedWordsErrorCode.BLACKLISTED_WORDS_FETCH_EXCEPTION.getErrorCode(),
 					BlacklistedWordsErrorCode.BLACKLISTED_WORDS_FETCH_EXCEPTION.getErrorMessage()
 							+ ExceptionUtils.parseException(accessException));
 		}
-		for (BlacklistedWords blackListedWords : blackListedWordsList) {
-			wordList.add(blackListedWords.getWord());
-		}
-		words.replaceAll(String::toLowerCase);
-		wordList.replaceAll(String::toLowerCase);
-
-		for (String temp : wordList) {
-			if (words.contains(temp)) {
-				isValid = false;
-			}
-		}
-		return isValid;
+		return !matcher.matchesAny(words);
 	}
 
 	/*
@@ -218,9 +210,10 @@ public class BlacklistedWordsServiceImpl implements BlacklistedWordsService {
 				noOfRowAffected = blacklistedWordsRepository.createQueryUpdateOrDelete(
 						UpdateQueryConstants.BLACKLISTED_WORD_UPDATE_QUERY_WITHOUT_DESCRIPTION.getQuery(), params);
 			}
-			if (noOfRowAffected != 0)
+			if (noOfRowAffected != 0) {
+				BlacklistedWordsIndex.invalidate();
 				wordAndLanguageCodeID = mapToWordAndLanguageCodeID(wordDto);
-			else {
+			} else {
 				auditUtil.auditRequest(
 						String.format(
 								MasterDataConstant.FAILURE_UPDATE, BlackListedWordsUpdateDto.class.getSimpleName()),
@@ -274,6 +267,7 @@ public class BlacklistedWordsServiceImpl implements BlacklistedWordsService {
 			throw new RequestException(BlacklistedWordsErrorCode.NO_BLACKLISTED_WORDS_FOUND.getErrorCode(),
 					BlacklistedWordsErrorCode.NO_BLACKLISTED_WORDS_FOUND.getErrorMessage());
 		}
+		BlacklistedWordsIndex.invalidate();
 
 		return blackListedWord;
 	}
@@ -0,0 +1,85 @@
+package io.mosip.kernel.masterdata.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import io.mosip.kernel.masterdata.constant.MasterDataConstant;
+import io.mosip.kernel.masterdata.dto.DeviceDto;
+import io.mosip.kernel.masterdata.dto.LocationDto;
+import io.mosip.kernel.masterdata.service.BulkUploadService;
+import io.mosip.kernel.masterdata.utils.AuditUtil;
+import io.mosip.kernel.masterdata.utils.BulkRecordReader;
+import io.mosip.kernel.masterdata.utils.BulkUploadHandler;
+import io.mosip.kernel.masterdata.utils.BulkUploadHelper;
+import io.mosip.kernel.masterdata.utils.DeviceBulkUploadHandler;
+import io.mosip.kernel.masterdata.utils.LocationBulkUploadHandler;
+import io.mosip.kernel.masterdata.utils.ZoneUtils;
+
+/**
+ * Bulk upload service implementation
+ * 
+ * @since 1.1.0
+ */
+@Service
+public class BulkUploadServiceImpl implements BulkUploadService {
+
+	@Autowired
+	private BulkUploadHelper bulkUploadHelper;
+
+	@Autowired
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ZoneUtils zoneUtils;
+
+	@Autowired
+	private AuditUtil auditUtil;
+
+	@Value("${mosip.primary-language}")
+	private String primaryLang;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.masterdata.service.BulkUploadService#uploadLocations(java.
+	 * io.InputStream, java.lang.String, boolean, java.io.OutputStream)
+	 */
+	@Override
+	public void uploadLocations(InputStream in, String contentType, boolean update, OutputStream out)
+			throws IOException {
+		upload(in, contentType, new LocationBulkUploadHandler(jdbcTemplate, primaryLang, update), out,
+				update ? "ADM-834" : "ADM-833");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.masterdata.service.BulkUploadService#uploadDevices(java.io
+	 * .InputStream, java.lang.String, boolean, java.io.OutputStream)
+	 */
+	@Override
+	public void uploadDevices(InputStream in, String contentType, boolean update, OutputStream out)
+			throws IOException {
+		upload(in, contentType, new DeviceBulkUploadHandler(jdbcTemplate, zoneUtils, primaryLang, update), out,
+				update ? "ADM-836" : "ADM-835");
+	}
+
+	private <T> void upload(InputStream in, String contentType, BulkUploadHandler<T> handler, OutputStream out,
+			String eventId) throws IOException {
+		BulkUploadHelper.Summary summary;
+		try (BulkRecordReader<T> reader = bulkUploadHelper.open(in, contentType, handler.getType())) {
+			summary = bulkUploadHelper.upload(reader, handler, out);
+		}
+		String type = handler.getType().getSimpleName();
+		auditUtil.auditRequest(String.format(MasterDataConstant.SUCCESSFUL_BULK, type),
+				MasterDataConstant.AUDIT_SYSTEM, String.format(MasterDataConstant.SUCCESSFUL_BULK_DESC,
+						summary.getTotal(), type, summary.getRejected()),
+				eventId);
+	}
+}
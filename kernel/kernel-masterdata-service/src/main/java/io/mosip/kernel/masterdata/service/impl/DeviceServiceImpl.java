@@ -444,8 +444,12 @@ public class DeviceServiceImpl implements DeviceService {
 		Pagination pagination = dto.getPagination();
 		List<SearchSort> sort = dto.getSort();
 		pageUtils.validateSortField(DeviceSearchDto.class, Device.class, sort);
-		dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-		dto.setSort(Collections.emptyList());
+		// sorting on the derived fields is applied in memory on every row
+		boolean pagedByDatabase = pagination != null && pageUtils.isPersistentSort(Device.class, sort);
+		if (!pagedByDatabase) {
+			dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
+			dto.setSort(Collections.emptyList());
+		}
 		if (filterValidator.validate(DeviceSearchDto.class, dto.getFilters())) {
 			OptionalFilter optionalFilter = new OptionalFilter(addList);
 			OptionalFilter zoneOptionalFilter = new OptionalFilter(zoneFilter);
@@ -469,7 +473,8 @@ public class DeviceServiceImpl implements DeviceService {
 						device.setMapStatus("unassigned");
 					}
 				});
-				pageDto = pageUtils.sortPage(devices, sort, pagination);
+				pageDto = pagedByDatabase ? PageUtils.pageResponse(page, devices)
+						: pageUtils.sortPage(devices, sort, pagination);
 
 			}
 
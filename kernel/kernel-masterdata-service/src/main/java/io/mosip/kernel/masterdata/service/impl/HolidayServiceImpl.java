@@ -59,6 +59,7 @@ import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.OptionalFilter;
 import io.mosip.kernel.masterdata.utils.PageUtils;
+import io.mosip.kernel.masterdata.utils.RegistrationCenterCalendarCache;
 import io.mosip.kernel.masterdata.validator.FilterColumnValidator;
 import io.mosip.kernel.masterdata.validator.FilterTypeEnum;
 import io.mosip.kernel.masterdata.validator.FilterTypeValidator;
@@ -227,6 +228,7 @@ public class HolidayServiceImpl implements HolidayService {
 		try {
 			int noOfRowAffected = holidayRepository.createQueryUpdateOrDelete(UPDATE_HOLIDAY_QUERY, params);
 			if (noOfRowAffected != 0) {
+				RegistrationCenterCalendarCache.invalidate();
 				idDto = mapToHolidayIdDto(holidayDto);
 			} else {
 				auditUtil.auditRequest(
@@ -271,6 +273,7 @@ public class HolidayServiceImpl implements HolidayService {
 			if (affectedRows == 0)
 				throw new RequestException(HolidayErrorCode.HOLIDAY_NOTFOUND.getErrorCode(),
 						HolidayErrorCode.HOLIDAY_NOTFOUND.getErrorMessage());
+			RegistrationCenterCalendarCache.invalidate();
 
 		} catch (DataAccessException | DataAccessLayerException e) {
 			throw new MasterDataServiceException(HolidayErrorCode.HOLIDAY_DELETE_EXCEPTION.getErrorCode(),
@@ -64,6 +64,7 @@ import io.mosip.kernel.masterdata.repository.LocationRepository;
 import io.mosip.kernel.masterdata.service.LocationService;
 import io.mosip.kernel.masterdata.utils.AuditUtil;
 import io.mosip.kernel.masterdata.utils.ExceptionUtils;
+import io.mosip.kernel.masterdata.utils.LocationHierarchyIndex;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
@@ -102,6 +103,9 @@ public class LocationServiceImpl implements LocationService {
 	@Autowired
 	private UBtree<Location> locationTree;
 
+	@Autowired
+	private LocationHierarchyIndex locationHierarchyIndex;
+
 	@Autowired
 	private MasterdataCreationUtil masterDataCreateUtil;
 
@@ -171,6 +175,9 @@ public class LocationServiceImpl implements LocationService {
 	 */
 	@Override
 	public LocationResponseDto getLocationHierarchyByLangCode(String locCode, String langCode) {
+		if (locationHierarchyIndex.isEnabled()) {
+			return getLocationHierarchyFromIndex(locCode, langCode);
+		}
 		List<Location> childList = null;
 		List<Location> parentList = null;
 		childHierarchyList = new ArrayList<>();
@@ -207,6 +214,34 @@ public class LocationServiceImpl implements LocationService {
 		return locationHierarchyResponseDto;
 	}
 
+	/**
+	 * This method fetches the location with its descendants and ancestors from
+	 * the location hierarchy index.
+	 * 
+	 * @param locCode  - location code
+	 * @param langCode - language code
+	 * @return the response dto
+	 */
+	private LocationResponseDto getLocationHierarchyFromIndex(String locCode, String langCode) {
+		List<Location> locHierList = new ArrayList<>();
+		try {
+			Location location = locationHierarchyIndex.getLocation(locCode, langCode);
+			if (location == null) {
+				throw new DataNotFoundException(LocationErrorCode.LOCATION_NOT_FOUND_EXCEPTION.getErrorCode(),
+						LocationErrorCode.LOCATION_NOT_FOUND_EXCEPTION.getErrorMessage());
+			}
+			locHierList.add(location);
+			locHierList.addAll(locationHierarchyIndex.getDescendants(locCode, langCode));
+			locHierList.addAll(locationHierarchyIndex.getAncestors(locCode, langCode));
+		} catch (DataAccessException | DataAccessLayerException e) {
+			throw new MasterDataServiceException(LocationErrorCode.LOCATION_FETCH_EXCEPTION.getErrorCode(),
+					LocationErrorCode.LOCATION_FETCH_EXCEPTION.getErrorMessage() + ExceptionUtils.parseException(e));
+		}
+		LocationResponseDto locationHierarchyResponseDto = new LocationResponseDto();
+		locationHierarchyResponseDto.setLocations(MapperUtils.mapAll(locHierList, LocationDto.class));
+		return locationHierarchyResponseDto;
+	}
+
 	@Override
 	@Transactional
 	public LocationPostResponseDto createLocation(LocationCreateDto dto) {
@@ -435,7 +470,9 @@ public class LocationServiceImpl implements LocationService {
 		List<Location> locationlist = null;
 		LocationResponseDto locationHierarchyResponseDto = new LocationResponseDto();
 		try {
-			locationlist = locationRepository.findLocationHierarchyByParentLocCodeAndLanguageCode(locCode, langCode);
+			locationlist = locationHierarchyIndex.isEnabled()
+					? locationHierarchyIndex.getChildren(locCode, langCode)
+					: locationRepository.findLocationHierarchyByParentLocCodeAndLanguageCode(locCode, langCode);
 
 		} catch (DataAccessException | DataAccessLayerException e) {
 			throw new MasterDataServiceException(LocationErrorCode.LOCATION_FETCH_EXCEPTION.getErrorCode(),
@@ -655,10 +692,15 @@ public class LocationServiceImpl implements LocationService {
 			}
 
 		}
-		List<Location> locationList = locationRepository.findAllByLangCode(dto.getLanguageCode(), isActive);
-		locationList = locationList.stream().filter(location -> location.getHierarchyLevel() != 0)
-				.collect(Collectors.toList());
-		List<Node<Location>> tree = locationTree.createTree(locationList);
+		List<Node<Location>> tree;
+		if (locationHierarchyIndex.isEnabled()) {
+			tree = locationHierarchyIndex.getTree(dto.getLanguageCode(), isActive);
+		} else {
+			List<Location> locationList = locationRepository.findAllByLangCode(dto.getLanguageCode(), isActive);
+			locationList = locationList.stream().filter(location -> location.getHierarchyLevel() != 0)
+					.collect(Collectors.toList());
+			tree = locationTree.createTree(locationList);
+		}
 
 		if (dto.getFilters().isEmpty()) {
 			responseDto = emptyFilterLocationSearch(tree);
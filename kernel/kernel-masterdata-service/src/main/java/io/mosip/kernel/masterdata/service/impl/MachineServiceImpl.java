@@ -470,8 +470,12 @@ public class MachineServiceImpl implements MachineService {
 		dto.getFilters().removeAll(removeList);
 		Pagination pagination = dto.getPagination();
 		List<SearchSort> sort = dto.getSort();
-		dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-		dto.setSort(Collections.emptyList());
+		// sorting on the derived fields is applied in memory on every row
+		boolean pagedByDatabase = pagination != null && pageUtils.isPersistentSort(Machine.class, sort);
+		if (!pagedByDatabase) {
+			dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
+			dto.setSort(Collections.emptyList());
+		}
 		if (filterValidator.validate(MachineSearchDto.class, dto.getFilters())) {
 
 			OptionalFilter optionalFilter = new OptionalFilter(addList);
@@ -494,7 +498,8 @@ public class MachineServiceImpl implements MachineService {
 						machine.setMapStatus("unassigned");
 					}
 				});
-				pageDto = pageUtils.sortPage(machines, sort, pagination);
+				pageDto = pagedByDatabase ? PageUtils.pageResponse(page, machines)
+						: pageUtils.sortPage(machines, sort, pagination);
 			}
 
 		}
@@ -100,6 +100,9 @@ import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
 import io.mosip.kernel.masterdata.utils.MetaDataUtils;
 import io.mosip.kernel.masterdata.utils.PageUtils;
 import io.mosip.kernel.masterdata.utils.RegistrationCenterServiceHelper;
+import io.mosip.kernel.masterdata.utils.RegistrationCenterCalendar;
+import io.mosip.kernel.masterdata.utils.RegistrationCenterCalendarCache;
+import io.mosip.kernel.masterdata.utils.RegistrationCenterSpatialIndex;
 import io.mosip.kernel.masterdata.utils.RegistrationCenterValidator;
 import io.mosip.kernel.masterdata.utils.ZoneUtils;
 import io.mosip.kernel.masterdata.validator.FilterColumnValidator;
@@ -177,6 +180,12 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 	@Autowired
 	private ZoneUtils zoneUtils;
 
+	@Autowired
+	private RegistrationCenterSpatialIndex registrationCenterSpatialIndex;
+
+	@Autowired
+	private RegistrationCenterCalendarCache registrationCenterCalendarCache;
+
 	@Autowired
 	private RegistrationCenterServiceHelper serviceHelper;
 
@@ -269,6 +278,9 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 		Objects.requireNonNull(registrationCenterId);
 		Objects.requireNonNull(year);
 		Objects.requireNonNull(langCode);
+		if (registrationCenterCalendarCache.isEnabled()) {
+			return getCachedRegistrationCenterHolidays(registrationCenterId, year, langCode);
+		}
 		try {
 			registrationCenter = registrationCenterRepository.findByIdAndLangCode(registrationCenterId, langCode);
 		} catch (DataAccessException | DataAccessLayerException dataAccessException) {
@@ -286,7 +298,6 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 			registrationCenterDto = registrationCenters.get(0);
 			try {
 				holidayLocationCode = registrationCenterDto.getHolidayLocationCode();
-				holidays = holidayRepository.findAllByLocationCodeYearAndLangCode(holidayLocationCode, langCode, year);
 				if (holidayLocationCode != null)
 					holidays = holidayRepository.findAllByLocationCodeYearAndLangCode(holidayLocationCode, langCode,
 							year);
@@ -305,6 +316,48 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 		return registrationCenterHolidayResponse;
 	}
 
+	/**
+	 * Gets the holidays of a registration center from its cached calendar.
+	 * 
+	 * @param registrationCenterId the registration center id.
+	 * @param year                 the year.
+	 * @param langCode             the language code.
+	 * @return the registration center and its holidays.
+	 */
+	private RegistrationCenterHolidayDto getCachedRegistrationCenterHolidays(String registrationCenterId, int year,
+			String langCode) {
+		RegistrationCenterCalendar calendar = getRegistrationCenterCalendar(registrationCenterId, langCode);
+		RegistrationCenterHolidayDto registrationCenterHolidayResponse = new RegistrationCenterHolidayDto();
+		registrationCenterHolidayResponse
+				.setRegistrationCenter(MapperUtils.map(calendar.getRegistrationCenter(), RegistrationCenterDto.class));
+		registrationCenterHolidayResponse.setHolidays(MapperUtils.mapHolidays(calendar.getHolidays(year)));
+		return registrationCenterHolidayResponse;
+	}
+
+	/**
+	 * Gets the cached calendar of a registration center.
+	 * 
+	 * @param registrationCenterId the registration center id.
+	 * @param langCode             the language code.
+	 * @return the calendar.
+	 */
+	private RegistrationCenterCalendar getRegistrationCenterCalendar(String registrationCenterId, String langCode) {
+		RegistrationCenterCalendar calendar;
+		try {
+			calendar = registrationCenterCalendarCache.getCalendar(registrationCenterId, langCode);
+		} catch (DataAccessException | DataAccessLayerException dataAccessException) {
+			throw new MasterDataServiceException(
+					RegistrationCenterErrorCode.REGISTRATION_CENTER_FETCH_EXCEPTION.getErrorCode(),
+					RegistrationCenterErrorCode.REGISTRATION_CENTER_FETCH_EXCEPTION.getErrorMessage()
+							+ ExceptionUtils.parseException(dataAccessException));
+		}
+		if (calendar == null) {
+			throw new DataNotFoundException(RegistrationCenterErrorCode.REGISTRATION_CENTER_NOT_FOUND.getErrorCode(),
+					RegistrationCenterErrorCode.REGISTRATION_CENTER_NOT_FOUND.getErrorMessage());
+		}
+		return calendar;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -316,8 +369,13 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 			int proximityDistance, String langCode) {
 		List<RegistrationCenter> centers = null;
 		try {
-			centers = registrationCenterRepository.findRegistrationCentersByLat(latitude, longitude,
-					proximityDistance * MasterDataConstant.METERTOMILECONVERSION, langCode);
+			if (registrationCenterSpatialIndex.isEnabled()) {
+				centers = registrationCenterSpatialIndex.findNearest(latitude, longitude,
+						proximityDistance * MasterDataConstant.METERTOMILECONVERSION, langCode);
+			} else {
+				centers = registrationCenterRepository.findRegistrationCentersByLat(latitude, longitude,
+						proximityDistance * MasterDataConstant.METERTOMILECONVERSION, langCode);
+			}
 		} catch (DataAccessLayerException | DataAccessException e) {
 			throw new MasterDataServiceException(
 					RegistrationCenterErrorCode.REGISTRATION_CENTER_FETCH_EXCEPTION.getErrorCode(),
@@ -494,6 +552,13 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 		}
 		LocalDate localDate = localDateTime.toLocalDate();
 		ResgistrationCenterStatusResponseDto resgistrationCenterStatusResponseDto = new ResgistrationCenterStatusResponseDto();
+		if (registrationCenterCalendarCache.isEnabled()) {
+			resgistrationCenterStatusResponseDto
+					.setStatus(getRegistrationCenterCalendar(id, langCode).isHoliday(localDate)
+							? MasterDataConstant.INVALID
+							: MasterDataConstant.VALID);
+			return resgistrationCenterStatusResponseDto;
+		}
 		try {
 			/**
 			 * a query is written in RegistrationCenterRepository which would check if the
@@ -912,6 +977,8 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 				}
 				decommissionedCenters = registrationCenterRepository.decommissionRegCenter(regCenterID,
 						MetaDataUtils.getContextUser(), MetaDataUtils.getCurrentDateTime());
+				RegistrationCenterSpatialIndex.invalidate();
+				RegistrationCenterCalendarCache.invalidate();
 			}
 		} catch (DataAccessException | DataAccessLayerException exception) {
 			auditException(RegistrationCenterErrorCode.DECOMMISSION_FAILED.getErrorCode(),
@@ -0,0 +1,415 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.http.RequestWrapper;
+import io.mosip.kernel.masterdata.dto.request.AuditRequestDto;
+
+/**
+ * Non-blocking emitter sending the masterdata audits to the bulk audit
+ * endpoint of the audit manager.
+ *
+ * The audits are queued in a bounded queue, together with the authentication
+ * of the request which emitted them, and a single worker sends the consecutive
+ * audits of the same authentication in batches of up to
+ * <code>mosip.kernel.masterdata.audit.async.batch-size</code>, retrying with
+ * an exponential backoff. A batch which can not be delivered is written to
+ * <code>mosip.kernel.masterdata.audit.async.spill-directory</code> and sent
+ * again after the next batch is delivered, with the authentication of that
+ * batch. A batch refused with 401 or 403 is spilled at once, without retry, as
+ * the token of its request is no longer valid. A batch rejected by the audit
+ * manager is kept there with the <code>.rejected</code> extension and is not
+ * sent again.
+ *
+ * The audits emitted while the queue is full are handed to a second worker
+ * which writes them to the spill directory, so that the requests never wait on
+ * the disk. The audits emitted while both queues are full are dropped and
+ * counted.
+ *
+ * @since 1.1.0
+ *
+ */
+@Component
+public class AuditEmitter {
+
+	private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(AuditEmitter.class);
+
+	private static final String SPILL_PREFIX = "audit-";
+
+	private static final String SPILL_EXTENSION = ".json";
+
+	private static final String REJECTED_EXTENSION = ".rejected";
+
+	private static final long MAX_BACKOFF = 30000;
+
+	@Value("${mosip.kernel.masterdata.audit.async.enabled:false}")
+	private boolean enabled;
+
+	@Value("${mosip.kernel.masterdata.audit.async.bulk-url:${mosip.kernel.masterdata.audit-url}/bulk}")
+	private String bulkUrl;
+
+	@Value("${mosip.kernel.masterdata.audit.async.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${mosip.kernel.masterdata.audit.async.batch-size:100}")
+	private int batchSize;
+
+	@Value("${mosip.kernel.masterdata.audit.async.flush-interval:1000}")
+	private long flushInterval;
+
+	@Value("${mosip.kernel.masterdata.audit.async.max-retries:3}")
+	private int maxRetries;
+
+	@Value("${mosip.kernel.masterdata.audit.async.retry-backoff:500}")
+	private long retryBackoff;
+
+	@Value("${mosip.kernel.masterdata.audit.async.spill-directory:${java.io.tmpdir}/masterdata-audit}")
+	private String spillDirectory;
+
+	@Autowired
+	private RestTemplate restTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private final AtomicLong spillSequence = new AtomicLong();
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	private BlockingQueue<QueuedAudit> queue;
+
+	private BlockingQueue<AuditRequestDto> overflow;
+
+	private volatile boolean running;
+
+	private Thread worker;
+
+	private Thread spiller;
+
+	/**
+	 * Starts the workers if the emitter is enabled.
+	 */
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		overflow = new ArrayBlockingQueue<>(queueCapacity);
+		running = true;
+		worker = new Thread(this::run, "masterdata-audit-emitter");
+		worker.setDaemon(true);
+		worker.start();
+		spiller = new Thread(this::runSpiller, "masterdata-audit-spill");
+		spiller.setDaemon(true);
+		spiller.start();
+	}
+
+	/**
+	 * Stops the workers and writes the audits not yet sent to the spill
+	 * directory.
+	 *
+	 * @throws InterruptedException if interrupted while waiting for the workers
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		if (worker == null) {
+			return;
+		}
+		running = false;
+		worker.interrupt();
+		spiller.interrupt();
+		worker.join(TimeUnit.SECONDS.toMillis(5));
+		spiller.join(TimeUnit.SECONDS.toMillis(5));
+		List<QueuedAudit> pending = new ArrayList<>();
+		queue.drainTo(pending);
+		List<AuditRequestDto> audits = audits(pending);
+		overflow.drainTo(audits);
+		if (!audits.isEmpty()) {
+			spill(audits, SPILL_EXTENSION);
+		}
+		logDropped();
+		worker = null;
+		spiller = null;
+	}
+
+	/**
+	 * @return true if the audits are sent by the emitter.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return the number of audits dropped since the last report.
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * Queues an audit, with the authentication of the current request, without
+	 * waiting for it to be sent.
+	 *
+	 * @param auditRequestDto the audit.
+	 */
+	public void emit(AuditRequestDto auditRequestDto) {
+		if (queue == null) {
+			return;
+		}
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (!queue.offer(new QueuedAudit(auditRequestDto, authentication)) && !overflow.offer(auditRequestDto)) {
+			droppedCount.incrementAndGet();
+		}
+	}
+
+	private void run() {
+		List<QueuedAudit> pending = new ArrayList<>(batchSize);
+		try {
+			while (running) {
+				QueuedAudit first = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				pending.add(first);
+				queue.drainTo(pending, batchSize - 1);
+				while (!pending.isEmpty()) {
+					Authentication authentication = pending.get(0).authentication;
+					int end = 1;
+					while (end < pending.size() && Objects.equals(pending.get(end).authentication, authentication)) {
+						end++;
+					}
+					List<QueuedAudit> batch = pending.subList(0, end);
+					if (sendWithRetry(audits(batch), authentication)) {
+						replaySpilled(authentication);
+					}
+					batch.clear();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (!pending.isEmpty()) {
+			spill(audits(pending), SPILL_EXTENSION);
+		}
+	}
+
+	private void runSpiller() {
+		List<AuditRequestDto> batch = new ArrayList<>(batchSize);
+		try {
+			while (running) {
+				AuditRequestDto first = overflow.poll(flushInterval, TimeUnit.MILLISECONDS);
+				if (first != null) {
+					batch.add(first);
+					overflow.drainTo(batch, batchSize - 1);
+					spill(batch, SPILL_EXTENSION);
+					batch.clear();
+				}
+				logDropped();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (!batch.isEmpty()) {
+			spill(batch, SPILL_EXTENSION);
+		}
+	}
+
+	private void logDropped() {
+		long dropped = droppedCount.getAndSet(0);
+		if (dropped > 0) {
+			LOGGER.error("Audit queues full, dropped " + dropped + " audits");
+		}
+	}
+
+	/**
+	 * Sends a batch, retrying with backoff, and spills it if it is not
+	 * delivered.
+	 *
+	 * @return true if the audit manager accepted the authentication.
+	 */
+	private boolean sendWithRetry(List<AuditRequestDto> batch, Authentication authentication)
+			throws InterruptedException {
+		for (int attempt = 0;; attempt++) {
+			try {
+				if (!send(batch, authentication)) {
+					spill(batch, REJECTED_EXTENSION);
+				}
+				return true;
+			} catch (HttpClientErrorException e) {
+				LOGGER.warn("Audit manager refused the token, spilling " + batch.size() + " audits : "
+						+ e.getMessage());
+				spill(batch, SPILL_EXTENSION);
+				return false;
+			} catch (RestClientException e) {
+				if (attempt >= maxRetries) {
+					LOGGER.warn("Audit manager unreachable, spilling " + batch.size() + " audits : " + e.getMessage());
+					spill(batch, SPILL_EXTENSION);
+					return false;
+				}
+				Thread.sleep(Math.min(retryBackoff << Math.min(attempt, 16), MAX_BACKOFF));
+			}
+		}
+	}
+
+	/**
+	 * Sends a batch once.
+	 *
+	 * @return true if the batch was accepted, false if it was rejected.
+	 * @throws HttpClientErrorException if the token was refused.
+	 * @throws RestClientException      if the batch could not be delivered.
+	 */
+	private boolean send(List<AuditRequestDto> batch, Authentication authentication) {
+		RequestWrapper<List<AuditRequestDto>> request = new RequestWrapper<>();
+		request.setRequest(batch);
+		SecurityContext context = SecurityContextHolder.createEmptyContext();
+		context.setAuthentication(authentication);
+		SecurityContextHolder.setContext(context);
+		try {
+			ResponseEntity<String> response = restTemplate.exchange(bulkUrl, HttpMethod.POST,
+					new HttpEntity<>(request), String.class);
+			if (response.getBody() != null && !ExceptionUtils.getServiceErrorList(response.getBody()).isEmpty()) {
+				LOGGER.error("Audit manager rejected " + batch.size() + " audits : " + response.getBody());
+				return false;
+			}
+			return true;
+		} catch (HttpClientErrorException e) {
+			if (isRetryable(e.getStatusCode())) {
+				throw new RestClientException(e.getMessage(), e);
+			}
+			if (isUnauthorized(e.getStatusCode())) {
+				throw e;
+			}
+			LOGGER.error("Audit manager rejected " + batch.size() + " audits : " + e.getResponseBodyAsString());
+			return false;
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	private static boolean isRetryable(HttpStatus status) {
+		return status == HttpStatus.REQUEST_TIMEOUT || status == HttpStatus.TOO_MANY_REQUESTS;
+	}
+
+	private static boolean isUnauthorized(HttpStatus status) {
+		return status == HttpStatus.UNAUTHORIZED || status == HttpStatus.FORBIDDEN;
+	}
+
+	/**
+	 * Sends the oldest spilled batch, and the following ones while the audit
+	 * manager accepts them, with an authentication it just accepted.
+	 */
+	private void replaySpilled(Authentication authentication) {
+		File[] files = new File(spillDirectory)
+				.listFiles((dir, name) -> name.startsWith(SPILL_PREFIX) && name.endsWith(SPILL_EXTENSION));
+		if (files == null || files.length == 0) {
+			return;
+		}
+		Arrays.sort(files);
+		for (File file : files) {
+			List<AuditRequestDto> batch;
+			try {
+				batch = objectMapper.readValue(file, new TypeReference<List<AuditRequestDto>>() {
+				});
+			} catch (IOException e) {
+				LOGGER.error("Unreadable spilled audits " + file + " : " + e.getMessage());
+				rename(file, REJECTED_EXTENSION);
+				continue;
+			}
+			try {
+				if (send(batch, authentication)) {
+					Files.deleteIfExists(file.toPath());
+				} else {
+					rename(file, REJECTED_EXTENSION);
+				}
+			} catch (RestClientException e) {
+				return;
+			} catch (IOException e) {
+				LOGGER.error("Could not delete spilled audits " + file + " : " + e.getMessage());
+				return;
+			}
+		}
+	}
+
+	private void spill(List<AuditRequestDto> batch, String extension) {
+		try {
+			Path directory = Files.createDirectories(Paths.get(spillDirectory));
+			String name = String.format("%s%013d-%09d", SPILL_PREFIX, System.currentTimeMillis(),
+					spillSequence.incrementAndGet());
+			Path temporary = directory.resolve(name + ".tmp");
+			objectMapper.writeValue(temporary.toFile(), batch);
+			Files.move(temporary, directory.resolve(name + extension), StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			LOGGER.error("Could not spill " + batch.size() + " audits : " + batch, e);
+		}
+	}
+
+	private void rename(File file, String extension) {
+		try {
+			Path path = file.toPath();
+			String name = path.getFileName().toString();
+			Files.move(path, path.resolveSibling(name.substring(0, name.length() - SPILL_EXTENSION.length()) + extension),
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			LOGGER.error("Could not set aside spilled audits " + file + " : " + e.getMessage());
+		}
+	}
+
+	private static List<AuditRequestDto> audits(List<QueuedAudit> queued) {
+		List<AuditRequestDto> audits = new ArrayList<>(queued.size());
+		for (QueuedAudit audit : queued) {
+			audits.add(audit.audit);
+		}
+		return audits;
+	}
+
+	/**
+	 * An audit with the authentication of the request which emitted it.
+	 */
+	private static class QueuedAudit {
+
+		private final AuditRequestDto audit;
+
+		private final Authentication authentication;
+
+		QueuedAudit(AuditRequestDto audit, Authentication authentication) {
+			this.audit = audit;
+			this.authentication = authentication;
+		}
+	}
+}
@@ -79,6 +79,11 @@ public class AuditUtil {
 	
 	@Autowired
 	private Environment env;
+
+	@Autowired
+	private AuditEmitter auditEmitter;
+
+	private boolean localProfile;
 	
 	private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(AuditUtil.class);
 	/**
@@ -94,6 +99,8 @@ public class AuditUtil {
 			Integer eventCount = Integer.getInteger(System.getProperty("seqGen"));
 			eventCounter = new AtomicInteger(eventCount);
 		}
+		localProfile = Arrays.stream(env.getActiveProfiles())
+				.anyMatch(environment -> environment.equalsIgnoreCase("local"));
 
 	}
 
@@ -137,11 +144,13 @@ public class AuditUtil {
 		auditRequestDto.setCreatedBy(SecurityContextHolder.getContext().getAuthentication().getName());
 		
 		//if current profile is local or dev donot call this method
-		if(Arrays.stream(env.getActiveProfiles()).anyMatch(
-				   environment -> (environment.equalsIgnoreCase("local")) )) {
+		if (localProfile) {
 			LOGGER.info("Recieved Audit : "+auditRequestDto.toString());
 			
 		}
+		if (auditEmitter.isEnabled()) {
+			auditEmitter.emit(auditRequestDto);
+		}
 		//callAuditManager(auditRequestDto);
 
 	}
@@ -0,0 +1,104 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.masterdata.entity.BlacklistedWords;
+import io.mosip.kernel.masterdata.repository.BlacklistedWordsRepository;
+
+/**
+ * Provides the {@link BlacklistedWordsMatcher} of the non deleted blacklisted
+ * words of all languages.
+ * 
+ * Unless <code>mosip.kernel.masterdata.blacklisted-words.cache.enabled</code> is
+ * false, the matcher is compiled once and shared until a blacklisted word change
+ * is committed, see {@link #invalidate()}, or until it is older than
+ * <code>mosip.kernel.masterdata.blacklisted-words.cache.refresh-interval</code>
+ * seconds, to pick up changes made by other instances. Otherwise the words are
+ * read and compiled on every call.
+ * 
+ * @since 1.1.0
+ *
+ */
+@Component
+public class BlacklistedWordsIndex {
+
+	/**
+	 * Incremented on every committed blacklisted word change.
+	 */
+	private static final ModificationCounter MODIFICATIONS = ModificationCounter.forEntities(BlacklistedWords.class);
+
+	@Value("${mosip.kernel.masterdata.blacklisted-words.cache.enabled:true}")
+	private boolean cacheEnabled;
+
+	@Value("${mosip.kernel.masterdata.blacklisted-words.cache.refresh-interval:300}")
+	private long refreshInterval;
+
+	@Value("${mosip.kernel.masterdata.blacklisted-words.match-substring:false}")
+	private boolean matchSubstring;
+
+	@Autowired
+	private BlacklistedWordsRepository blacklistedWordsRepository;
+
+	private volatile Snapshot snapshot;
+
+	/**
+	 * Marks the matcher as stale once the current transaction commits, or
+	 * immediately outside of a transaction.
+	 */
+	public static void invalidate() {
+		MODIFICATIONS.increment();
+	}
+
+	/**
+	 * Method to get the matcher of the blacklisted words.
+	 * 
+	 * @return the {@link BlacklistedWordsMatcher}
+	 */
+	public BlacklistedWordsMatcher getMatcher() {
+		if (!cacheEnabled) {
+			return compile();
+		}
+		Snapshot current = snapshot;
+		if (current == null || current.isStale()) {
+			synchronized (this) {
+				current = snapshot;
+				if (current == null || current.isStale()) {
+					long version = MODIFICATIONS.get();
+					current = new Snapshot(compile(), version);
+					snapshot = current;
+				}
+			}
+		}
+		return current.matcher;
+	}
+
+	private BlacklistedWordsMatcher compile() {
+		List<BlacklistedWords> blacklistedWords = blacklistedWordsRepository.findAllByIsDeletedFalseOrIsDeletedNull();
+		List<String> words = new ArrayList<>(blacklistedWords.size());
+		for (BlacklistedWords blacklistedWord : blacklistedWords) {
+			words.add(blacklistedWord.getWord());
+		}
+		return BlacklistedWordsMatcher.compile(words, matchSubstring);
+	}
+
+	private final class Snapshot {
+		private final BlacklistedWordsMatcher matcher;
+		private final long version;
+		private final long builtAt = System.currentTimeMillis();
+
+		private Snapshot(BlacklistedWordsMatcher matcher, long version) {
+			this.matcher = matcher;
+			this.version = version;
+		}
+
+		private boolean isStale() {
+			return version != MODIFICATIONS.get()
+					|| (refreshInterval > 0 && System.currentTimeMillis() - builtAt > refreshInterval * 1000);
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable matcher of the blacklisted words, comparing words after NFKC
+ * normalization and lower casing.
+ * 
+ * In exact mode a word matches when it is equal to a blacklisted word. In
+ * substring mode it matches when it contains any blacklisted word, found in a
+ * single pass over the word with an Aho-Corasick automaton of all the
+ * blacklisted words.
+ * 
+ * @since 1.1.0
+ *
+ */
+public final class BlacklistedWordsMatcher {
+
+	private static final char[] NO_KEYS = new char[0];
+
+	private static final int[] NO_TARGETS = new int[0];
+
+	private final boolean substring;
+
+	private final Set<String> words;
+
+	/**
+	 * The sorted characters of the transitions of each state.
+	 */
+	private final char[][] keys;
+
+	/**
+	 * The target states of the transitions of each state, in the order of keys.
+	 */
+	private final int[][] targets;
+
+	/**
+	 * The state to continue from when a state has no transition for a character.
+	 */
+	private final int[] failure;
+
+	/**
+	 * Whether a blacklisted word ends at each state or at one of its failure
+	 * states.
+	 */
+	private final boolean[] output;
+
+	private BlacklistedWordsMatcher(Set<String> words, boolean substring) {
+		this.words = words;
+		this.substring = substring;
+		List<Map<Character, Integer>> trie = new ArrayList<>();
+		List<Boolean> terminal = new ArrayList<>();
+		trie.add(new TreeMap<>());
+		terminal.add(Boolean.FALSE);
+		if (substring) {
+			for (String word : words) {
+				int state = 0;
+				for (int i = 0; i < word.length(); i++) {
+					Integer next = trie.get(state).get(word.charAt(i));
+					if (next == null) {
+						next = trie.size();
+						trie.add(new TreeMap<>());
+						terminal.add(Boolean.FALSE);
+						trie.get(state).put(word.charAt(i), next);
+					}
+					state = next;
+				}
+				terminal.set(state, Boolean.TRUE);
+			}
+		}
+		int size = trie.size();
+		keys = new char[size][];
+		targets = new int[size][];
+		failure = new int[size];
+		output = new boolean[size];
+		for (int state = 0; state < size; state++) {
+			Map<Character, Integer> transitions = trie.get(state);
+			keys[state] = transitions.isEmpty() ? NO_KEYS : new char[transitions.size()];
+			targets[state] = transitions.isEmpty() ? NO_TARGETS : new int[transitions.size()];
+			int i = 0;
+			for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+				keys[state][i] = transition.getKey();
+				targets[state][i++] = transition.getValue();
+			}
+			output[state] = terminal.get(state);
+		}
+		// breadth first, so the failure state of a parent is complete before its
+		// children
+		Deque<Integer> queue = new ArrayDeque<>();
+		for (int child : targets[0]) {
+			queue.add(child);
+		}
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			for (int i = 0; i < keys[state].length; i++) {
+				int child = targets[state][i];
+				int fallback = failure[state];
+				int next;
+				while ((next = transition(fallback, keys[state][i])) < 0 && fallback != 0) {
+					fallback = failure[fallback];
+				}
+				failure[child] = next < 0 ? 0 : next;
+				output[child] |= output[failure[child]];
+				queue.add(child);
+			}
+		}
+	}
+
+	/**
+	 * Method to compile the matcher of the blacklisted words.
+	 * 
+	 * @param words     the blacklisted words, null and empty words are ignored
+	 * @param substring true to match words containing a blacklisted word, false to
+	 *                  match only words equal to a blacklisted word
+	 * @return the matcher
+	 */
+	public static BlacklistedWordsMatcher compile(Collection<String> words, boolean substring) {
+		Set<String> normalized = new HashSet<>();
+		for (String word : words) {
+			if (word != null && !word.isEmpty()) {
+				normalized.add(normalize(word));
+			}
+		}
+		return new BlacklistedWordsMatcher(Collections.unmodifiableSet(normalized), substring);
+	}
+
+	/**
+	 * Method to normalize a word before matching.
+	 * 
+	 * @param word the word
+	 * @return the NFKC normalized lower case word
+	 */
+	public static String normalize(String word) {
+		return Normalizer.normalize(word, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Method to check a word against the blacklisted words.
+	 * 
+	 * @param word the word
+	 * @return true if the word is blacklisted, or contains a blacklisted word in
+	 *         substring mode
+	 */
+	public boolean matches(String word) {
+		if (word == null) {
+			return false;
+		}
+		String normalized = normalize(word);
+		if (words.contains(normalized)) {
+			return true;
+		}
+		if (!substring) {
+			return false;
+		}
+		int state = 0;
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			int next;
+			while ((next = transition(state, c)) < 0 && state != 0) {
+				state = failure[state];
+			}
+			state = next < 0 ? 0 : next;
+			if (output[state]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Method to check words against the blacklisted words.
+	 * 
+	 * @param words the words
+	 * @return true if any of the words is blacklisted
+	 */
+	public boolean matchesAny(Collection<String> words) {
+		for (String word : words) {
+			if (matches(word)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean isSubstring() {
+		return substring;
+	}
+
+	private int transition(int state, char c) {
+		int i = Arrays.binarySearch(keys[state], c);
+		return i < 0 ? -1 : targets[state][i];
+	}
+}
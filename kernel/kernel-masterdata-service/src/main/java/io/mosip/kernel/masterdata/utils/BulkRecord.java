@@ -0,0 +1,61 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.mosip.kernel.core.exception.ServiceError;
+
+/**
+ * One record of a bulk upload with its row number and the errors found while
+ * reading, validating or writing it.
+ *
+ * @param <T> the record type.
+ * @since 1.1.0
+ *
+ */
+public final class BulkRecord<T> {
+
+	private final long row;
+
+	private final T value;
+
+	private final List<ServiceError> errors = new ArrayList<>();
+
+	BulkRecord(long row, T value) {
+		this.row = row;
+		this.value = value;
+	}
+
+	/**
+	 * @return the row of the record, the line of the upload it starts on,
+	 *         starting at 1.
+	 */
+	public long getRow() {
+		return row;
+	}
+
+	/**
+	 * @return the record, null if it could not be read.
+	 */
+	public T getValue() {
+		return value;
+	}
+
+	public List<ServiceError> getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Rejects the record.
+	 *
+	 * @param errorCode the error code.
+	 * @param message   the error message.
+	 */
+	public void reject(String errorCode, String message) {
+		errors.add(new ServiceError(errorCode, message));
+	}
+
+	public boolean isRejected() {
+		return !errors.isEmpty();
+	}
+}
@@ -0,0 +1,248 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.mosip.kernel.masterdata.constant.BulkUploadErrorCode;
+import io.mosip.kernel.masterdata.exception.RequestException;
+
+/**
+ * Reads the records of a bulk upload one chunk at a time, so that an upload of
+ * any size is never held in memory.
+ *
+ * Two formats are read:
+ * <ul>
+ * <li><code>application/x-ndjson</code>, one JSON object per line;</li>
+ * <li><code>text/csv</code>, a header line naming the fields of the record
+ * followed by one line per record, fields being quoted with <code>"</code>
+ * when they contain a comma, a quote or a line break. An empty field is
+ * read as null.</li>
+ * </ul>
+ * Blank lines are skipped. Unknown fields are rejected. A record which can not
+ * be read is returned rejected with {@link BulkUploadErrorCode#INVALID_RECORD},
+ * the following records are still read. The row of a record is the line of the
+ * upload it starts on, in both formats.
+ *
+ * @param <T> the record type.
+ * @since 1.1.0
+ *
+ */
+public final class BulkRecordReader<T> implements Closeable {
+
+	public static final String NDJSON_VALUE = "application/x-ndjson";
+
+	public static final String CSV_VALUE = "text/csv";
+
+	private final BufferedReader reader;
+
+	private final ObjectReader objectReader;
+
+	private final ObjectMapper objectMapper;
+
+	private final boolean csv;
+
+	private String[] header;
+
+	/**
+	 * Number of lines read so far.
+	 */
+	private long line;
+
+	/**
+	 * Line the last CSV record read starts on.
+	 */
+	private long start;
+
+	private BulkRecordReader(BufferedReader reader, ObjectMapper objectMapper, Class<T> type, boolean csv) {
+		this.reader = reader;
+		this.objectMapper = objectMapper;
+		this.objectReader = objectMapper.readerFor(type).with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		this.csv = csv;
+	}
+
+	/**
+	 * Opens a reader on a bulk upload.
+	 *
+	 * @param in           the upload.
+	 * @param contentType  the content type of the upload.
+	 * @param type         the record type.
+	 * @param objectMapper the object mapper converting the records.
+	 * @return the reader.
+	 * @throws RequestException if the content type is not supported.
+	 */
+	public static <T> BulkRecordReader<T> open(InputStream in, String contentType, Class<T> type,
+			ObjectMapper objectMapper) {
+		MediaType mediaType;
+		try {
+			mediaType = MediaType.parseMediaType(contentType);
+		} catch (RuntimeException e) {
+			throw new RequestException(BulkUploadErrorCode.UNSUPPORTED_CONTENT_TYPE.getErrorCode(),
+					String.format(BulkUploadErrorCode.UNSUPPORTED_CONTENT_TYPE.getErrorMessage(), contentType));
+		}
+		boolean csv;
+		if (MediaType.valueOf(NDJSON_VALUE).includes(mediaType)) {
+			csv = false;
+		} else if (MediaType.valueOf(CSV_VALUE).includes(mediaType)) {
+			csv = true;
+		} else {
+			throw new RequestException(BulkUploadErrorCode.UNSUPPORTED_CONTENT_TYPE.getErrorCode(),
+					String.format(BulkUploadErrorCode.UNSUPPORTED_CONTENT_TYPE.getErrorMessage(), contentType));
+		}
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in,
+				mediaType.getCharset() == null ? StandardCharsets.UTF_8 : mediaType.getCharset()));
+		return new BulkRecordReader<>(reader, objectMapper, type, csv);
+	}
+
+	/**
+	 * Reads the next records.
+	 *
+	 * @param max the maximum number of records to read.
+	 * @return the records, empty once all the records are read.
+	 * @throws IOException if the upload can not be read.
+	 */
+	public List<BulkRecord<T>> read(int max) throws IOException {
+		List<BulkRecord<T>> records = new ArrayList<>(max);
+		while (records.size() < max) {
+			BulkRecord<T> record = csv ? readCsv() : readJson();
+			if (record == null) {
+				break;
+			}
+			records.add(record);
+		}
+		return records;
+	}
+
+	private BulkRecord<T> readJson() throws IOException {
+		String text = readNonBlankLine();
+		if (text == null) {
+			return null;
+		}
+		try {
+			return new BulkRecord<>(line, objectReader.readValue(text));
+		} catch (JsonProcessingException e) {
+			return invalid(line, e);
+		}
+	}
+
+	private BulkRecord<T> readCsv() throws IOException {
+		if (header == null) {
+			List<String> names = readCsvFields();
+			if (names == null) {
+				return null;
+			}
+			header = names.stream().map(String::trim).toArray(String[]::new);
+		}
+		List<String> fields = readCsvFields();
+		if (fields == null) {
+			return null;
+		}
+		long current = start;
+		if (fields.size() != header.length) {
+			BulkRecord<T> record = new BulkRecord<>(current, null);
+			record.reject(BulkUploadErrorCode.INVALID_RECORD.getErrorCode(),
+					String.format(BulkUploadErrorCode.INVALID_RECORD.getErrorMessage(),
+							"expected " + header.length + " fields, found " + fields.size()));
+			return record;
+		}
+		ObjectNode node = objectMapper.createObjectNode();
+		for (int i = 0; i < header.length; i++) {
+			if (!fields.get(i).isEmpty()) {
+				node.put(header[i], fields.get(i));
+			}
+		}
+		try {
+			return new BulkRecord<>(current, objectReader.readValue(node));
+		} catch (JsonProcessingException e) {
+			return invalid(current, e);
+		}
+	}
+
+	/**
+	 * Reads the fields of the next non blank CSV line, a quoted field spanning
+	 * several lines.
+	 */
+	private List<String> readCsvFields() throws IOException {
+		String text = readNonBlankLine();
+		if (text == null) {
+			return null;
+		}
+		start = line;
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		int i = 0;
+		while (true) {
+			if (i == text.length()) {
+				if (!quoted) {
+					fields.add(field.toString());
+					return fields;
+				}
+				text = reader.readLine();
+				if (text == null) {
+					throw new IOException(String.format(BulkUploadErrorCode.INVALID_RECORD.getErrorMessage(),
+							"unterminated quoted field"));
+				}
+				line++;
+				field.append('\n');
+				i = 0;
+				continue;
+			}
+			char c = text.charAt(i++);
+			if (quoted) {
+				if (c != '"') {
+					field.append(c);
+				} else if (i < text.length() && text.charAt(i) == '"') {
+					field.append('"');
+					i++;
+				} else {
+					quoted = false;
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else {
+				field.append(c);
+			}
+		}
+	}
+
+	private String readNonBlankLine() throws IOException {
+		String text;
+		do {
+			text = reader.readLine();
+			if (text == null) {
+				return null;
+			}
+			line++;
+		} while (text.trim().isEmpty());
+		return text;
+	}
+
+	private BulkRecord<T> invalid(long row, JsonProcessingException e) {
+		BulkRecord<T> record = new BulkRecord<>(row, null);
+		record.reject(BulkUploadErrorCode.INVALID_RECORD.getErrorCode(),
+				String.format(BulkUploadErrorCode.INVALID_RECORD.getErrorMessage(), e.getOriginalMessage()));
+		return record;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
@@ -0,0 +1,72 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.List;
+
+/**
+ * Validates and writes the records of one bulk upload of an entity, see
+ * {@link BulkUploadHelper}.
+ *
+ * A handler is created for each upload and is used by a single thread, so it
+ * may keep the keys of the records accepted so far in the upload.
+ *
+ * @param <T> the record type.
+ * @since 1.1.0
+ *
+ */
+public interface BulkUploadHandler<T> {
+
+	/**
+	 * @return the record type.
+	 */
+	Class<T> getType();
+
+	/**
+	 * @param value a record.
+	 * @return the id of the record, reported in its result.
+	 */
+	String getId(T value);
+
+	/**
+	 * @param value a record.
+	 * @return the language code of the record, reported in its result.
+	 */
+	String getLangCode(T value);
+
+	/**
+	 * Checks a chunk of records, in upload order, against the existing data and
+	 * the records accepted before in the upload, rejecting the invalid ones. The
+	 * records have passed the bean validation.
+	 *
+	 * @param records the records.
+	 */
+	void validate(List<BulkRecord<T>> records);
+
+	/**
+	 * Writes records in one transaction.
+	 *
+	 * @param values the records.
+	 * @return for each record, false if no row was written for it, as it no
+	 *         longer exists.
+	 */
+	boolean[] write(List<T> values);
+
+	/**
+	 * Forgets a record accepted by {@link #validate(List)} which could not be
+	 * written.
+	 *
+	 * @param value the record.
+	 */
+	void discard(T value);
+
+	/**
+	 * @param counts the update counts of a JDBC batch.
+	 * @return for each statement, false if it affected no row.
+	 */
+	static boolean[] written(int[] counts) {
+		boolean[] written = new boolean[counts.length];
+		for (int i = 0; i < counts.length; i++) {
+			written[i] = counts[i] != 0;
+		}
+		return written;
+	}
+}
@@ -0,0 +1,195 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.masterdata.constant.BulkUploadErrorCode;
+import io.mosip.kernel.masterdata.dto.response.BulkRecordResponseDto;
+
+/**
+ * Processes a bulk upload of masterdata records.
+ *
+ * The upload is read in chunks of
+ * <code>mosip.kernel.masterdata.bulk.chunk-size</code> records. The records of
+ * a chunk are bean validated in parallel, then checked in upload order by the
+ * {@link BulkUploadHandler} against the existing data, which it looks up once
+ * for the whole chunk, and the accepted records are written in one transaction
+ * as JDBC batches. If the transaction fails the records are written one by one
+ * to find the failing ones. A record for which no row was written, as it was
+ * removed since it was validated, is rejected with
+ * {@link BulkUploadErrorCode#RECORD_NOT_FOUND}.
+ *
+ * The result of each record is written to the response as one line of JSON
+ * once its chunk is processed, so a client sees the progress of a long upload
+ * and an upload never has to fit in memory.
+ *
+ * @since 1.1.0
+ *
+ */
+@Component
+public class BulkUploadHelper {
+
+	public static final String SUCCESS = "SUCCESS";
+
+	public static final String FAILURE = "FAILURE";
+
+	@Value("${mosip.kernel.masterdata.bulk.chunk-size:500}")
+	private int chunkSize;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private Validator validator;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	/**
+	 * Opens a bulk upload, checking its content type.
+	 *
+	 * @param in          the upload.
+	 * @param contentType the content type of the upload.
+	 * @param type        the record type.
+	 * @return the reader of the records.
+	 */
+	public <T> BulkRecordReader<T> open(InputStream in, String contentType, Class<T> type) {
+		return BulkRecordReader.open(in, contentType, type, objectMapper);
+	}
+
+	/**
+	 * Processes a bulk upload.
+	 *
+	 * @param reader  the reader of the records.
+	 * @param handler the handler validating and writing the records.
+	 * @param out     the response receiving the result of each record.
+	 * @return the number of records read and rejected.
+	 * @throws IOException if the upload can not be read or the response written.
+	 */
+	public <T> Summary upload(BulkRecordReader<T> reader, BulkUploadHandler<T> handler, OutputStream out)
+			throws IOException {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		Summary summary = new Summary();
+		List<BulkRecord<T>> records;
+		while (!(records = reader.read(chunkSize)).isEmpty()) {
+			records.parallelStream().filter(record -> !record.isRejected()).forEach(this::validate);
+			List<BulkRecord<T>> valid = records.stream().filter(record -> !record.isRejected())
+					.collect(Collectors.toList());
+			if (!valid.isEmpty()) {
+				handler.validate(valid);
+			}
+			write(transactionTemplate, handler,
+					valid.stream().filter(record -> !record.isRejected()).collect(Collectors.toList()));
+			for (BulkRecord<T> record : records) {
+				summary.total++;
+				if (record.isRejected()) {
+					summary.rejected++;
+				}
+				out.write(objectMapper.writeValueAsBytes(result(handler, record)));
+				out.write('\n');
+			}
+			out.flush();
+		}
+		return summary;
+	}
+
+	private <T> void validate(BulkRecord<T> record) {
+		for (ConstraintViolation<T> violation : validator.validate(record.getValue())) {
+			record.reject(BulkUploadErrorCode.INVALID_VALUE.getErrorCode(),
+					String.format(BulkUploadErrorCode.INVALID_VALUE.getErrorMessage(), violation.getPropertyPath(),
+							violation.getMessage()));
+		}
+	}
+
+	private <T> void write(TransactionTemplate transactionTemplate, BulkUploadHandler<T> handler,
+			List<BulkRecord<T>> records) {
+		if (records.isEmpty()) {
+			return;
+		}
+		try {
+			boolean[] written = writeInTransaction(transactionTemplate, handler,
+					records.stream().map(BulkRecord::getValue).collect(Collectors.toList()));
+			for (int i = 0; i < written.length; i++) {
+				if (!written[i]) {
+					rejectNotFound(handler, records.get(i));
+				}
+			}
+		} catch (DataAccessException e) {
+			if (records.size() == 1) {
+				reject(handler, records.get(0), e);
+				return;
+			}
+			for (BulkRecord<T> record : records) {
+				try {
+					if (!writeInTransaction(transactionTemplate, handler,
+							Collections.singletonList(record.getValue()))[0]) {
+						rejectNotFound(handler, record);
+					}
+				} catch (DataAccessException rowException) {
+					reject(handler, record, rowException);
+				}
+			}
+		}
+	}
+
+	private static <T> boolean[] writeInTransaction(TransactionTemplate transactionTemplate,
+			BulkUploadHandler<T> handler, List<T> values) {
+		return transactionTemplate.execute(status -> handler.write(values));
+	}
+
+	private static <T> void rejectNotFound(BulkUploadHandler<T> handler, BulkRecord<T> record) {
+		T value = record.getValue();
+		handler.discard(value);
+		record.reject(BulkUploadErrorCode.RECORD_NOT_FOUND.getErrorCode(),
+				String.format(BulkUploadErrorCode.RECORD_NOT_FOUND.getErrorMessage(),
+						handler.getId(value) + '|' + handler.getLangCode(value)));
+	}
+
+	private static <T> void reject(BulkUploadHandler<T> handler, BulkRecord<T> record, DataAccessException e) {
+		handler.discard(record.getValue());
+		record.reject(BulkUploadErrorCode.WRITE_EXCEPTION.getErrorCode(),
+				String.format(BulkUploadErrorCode.WRITE_EXCEPTION.getErrorMessage(), ExceptionUtils.parseException(e).trim()));
+	}
+
+	private static <T> BulkRecordResponseDto result(BulkUploadHandler<T> handler, BulkRecord<T> record) {
+		T value = record.getValue();
+		return new BulkRecordResponseDto(record.getRow(), value == null ? null : handler.getId(value),
+				value == null ? null : handler.getLangCode(value), record.isRejected() ? FAILURE : SUCCESS,
+				record.isRejected() ? new ArrayList<>(record.getErrors()) : null);
+	}
+
+	/**
+	 * Number of records read and rejected by an upload.
+	 */
+	public static final class Summary {
+
+		private long total;
+
+		private long rejected;
+
+		public long getTotal() {
+			return total;
+		}
+
+		public long getRejected() {
+			return rejected;
+		}
+	}
+}
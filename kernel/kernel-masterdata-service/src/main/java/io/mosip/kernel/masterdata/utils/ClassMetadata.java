@@ -0,0 +1,99 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Reflection metadata of a class resolved once and shared: the declared fields
+ * with their {@link FieldAccessor}s and, for public classes with a public no
+ * argument constructor, a constructor generated with {@link LambdaMetafactory}.
+ * 
+ * @since 1.1.0
+ *
+ */
+public final class ClassMetadata {
+
+	private static final Map<Class<?>, ClassMetadata> REGISTRY = new ConcurrentHashMap<>();
+
+	private final Class<?> type;
+
+	private final List<FieldAccessor> declaredFields;
+
+	private final Supplier<Object> constructor;
+
+	private ClassMetadata(Class<?> type) {
+		this.type = type;
+		Field[] fields = type.getDeclaredFields();
+		List<FieldAccessor> accessors = new ArrayList<>(fields.length);
+		for (Field field : fields) {
+			accessors.add(new FieldAccessor(field));
+		}
+		this.declaredFields = Collections.unmodifiableList(accessors);
+		this.constructor = constructor(type);
+	}
+
+	/**
+	 * Method to get the metadata of a class.
+	 * 
+	 * @param type the class
+	 * @return the shared {@link ClassMetadata}
+	 */
+	public static ClassMetadata of(Class<?> type) {
+		return REGISTRY.computeIfAbsent(type, ClassMetadata::new);
+	}
+
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * @return the accessors of the fields declared by the class, in the order of
+	 *         {@link Class#getDeclaredFields()}
+	 */
+	public List<FieldAccessor> getDeclaredFields() {
+		return declaredFields;
+	}
+
+	/**
+	 * Method to create an instance with the no argument constructor.
+	 * 
+	 * @return the new instance
+	 * @throws InstantiationException if the class cannot be instantiated
+	 * @throws IllegalAccessException if the constructor is not accessible
+	 */
+	public Object newInstance() throws InstantiationException, IllegalAccessException {
+		if (constructor != null) {
+			return constructor.get();
+		}
+		return type.newInstance();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Supplier<Object> constructor(Class<?> type) {
+		if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())
+				|| type.isInterface()) {
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle handle = lookup.findConstructor(type, MethodType.methodType(void.class));
+			CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+					MethodType.methodType(Object.class), handle, MethodType.methodType(type));
+			return (Supplier<Object>) site.getTarget().invokeExact();
+		} catch (Throwable e) {
+			// no accessible no argument constructor, fall back to Class#newInstance
+			return null;
+		}
+	}
+}
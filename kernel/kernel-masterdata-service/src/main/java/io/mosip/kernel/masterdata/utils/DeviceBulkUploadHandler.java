@@ -0,0 +1,212 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import io.mosip.kernel.core.util.EmptyCheckUtils;
+import io.mosip.kernel.masterdata.constant.BulkUploadErrorCode;
+import io.mosip.kernel.masterdata.constant.DeviceErrorCode;
+import io.mosip.kernel.masterdata.constant.DeviceSpecificationErrorCode;
+import io.mosip.kernel.masterdata.constant.RequestErrorCode;
+import io.mosip.kernel.masterdata.dto.DeviceDto;
+import io.mosip.kernel.masterdata.entity.Zone;
+
+/**
+ * {@link BulkUploadHandler} creating or updating devices, writing a device
+ * history record for each device written. No history record is written for a
+ * device which no longer exists when it is updated.
+ *
+ * The device specification and the device are looked up with one query per
+ * chunk, the zones of the user once per upload. A device created without id
+ * in the primary language gets a generated id, a device in the secondary
+ * language must exist in the primary language.
+ *
+ * @since 1.1.0
+ *
+ */
+public class DeviceBulkUploadHandler implements BulkUploadHandler<DeviceDto> {
+
+	private static final String FIND_BY_IDS = "SELECT id, lang_code FROM master.device_master"
+			+ " WHERE id IN (:ids) AND (is_deleted IS NULL OR is_deleted = false)";
+
+	private static final String FIND_SPECIFICATIONS = "SELECT id, lang_code FROM master.device_spec"
+			+ " WHERE id IN (:ids) AND is_active = true AND (is_deleted IS NULL OR is_deleted = false)";
+
+	private static final String INSERT = "INSERT INTO master.device_master (id, name, serial_num, ip_address,"
+			+ " mac_address, dspec_id, validity_end_dtimes, zone_code, lang_code, is_active, cr_by, cr_dtimes,"
+			+ " is_deleted) VALUES (:id, :name, :serialNum, :ipAddress, :macAddress, :deviceSpecId, :validityDateTime,"
+			+ " :zoneCode, :langCode, :isActive, :user, :dateTime, false)";
+
+	private static final String UPDATE = "UPDATE master.device_master SET name = :name, serial_num = :serialNum,"
+			+ " ip_address = :ipAddress, mac_address = :macAddress, dspec_id = :deviceSpecId,"
+			+ " validity_end_dtimes = :validityDateTime, zone_code = :zoneCode, is_active = :isActive,"
+			+ " upd_by = :user, upd_dtimes = :dateTime"
+			+ " WHERE id = :id AND lang_code = :langCode AND (is_deleted IS NULL OR is_deleted = false)";
+
+	private static final String INSERT_HISTORY = "INSERT INTO master.device_master_h (id, name, serial_num,"
+			+ " ip_address, mac_address, dspec_id, validity_end_dtimes, zone_code, lang_code, is_active, cr_by,"
+			+ " cr_dtimes, upd_by, upd_dtimes, is_deleted, del_dtimes, eff_dtimes)"
+			+ " SELECT id, name, serial_num, ip_address, mac_address, dspec_id, validity_end_dtimes, zone_code,"
+			+ " lang_code, is_active, cr_by, cr_dtimes, upd_by, upd_dtimes, is_deleted, del_dtimes, :dateTime"
+			+ " FROM master.device_master WHERE id = :id AND lang_code = :langCode";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final ZoneUtils zoneUtils;
+
+	private final String primaryLang;
+
+	private final boolean update;
+
+	/**
+	 * Keys of the devices created in the upload.
+	 */
+	private final Set<String> created = new HashSet<>();
+
+	private Set<String> userZones;
+
+	/**
+	 * @param jdbcTemplate the template writing the devices.
+	 * @param zoneUtils    the zone utils giving the zones of the user.
+	 * @param primaryLang  the primary language.
+	 * @param update       true to update existing devices, false to create new
+	 *                     ones.
+	 */
+	public DeviceBulkUploadHandler(NamedParameterJdbcTemplate jdbcTemplate, ZoneUtils zoneUtils, String primaryLang,
+			boolean update) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.zoneUtils = zoneUtils;
+		this.primaryLang = primaryLang;
+		this.update = update;
+	}
+
+	@Override
+	public Class<DeviceDto> getType() {
+		return DeviceDto.class;
+	}
+
+	@Override
+	public String getId(DeviceDto value) {
+		return value.getId();
+	}
+
+	@Override
+	public String getLangCode(DeviceDto value) {
+		return value.getLangCode();
+	}
+
+	@Override
+	public void validate(List<BulkRecord<DeviceDto>> records) {
+		if (userZones == null) {
+			userZones = zoneUtils.getUserZones().stream().map(Zone::getCode).collect(Collectors.toSet());
+		}
+		Set<String> ids = new HashSet<>();
+		Set<String> specificationIds = new HashSet<>();
+		for (BulkRecord<DeviceDto> record : records) {
+			if (!EmptyCheckUtils.isNullEmpty(record.getValue().getId())) {
+				ids.add(record.getValue().getId());
+			}
+			specificationIds.add(record.getValue().getDeviceSpecId());
+		}
+		Set<String> existing = new HashSet<>();
+		if (!ids.isEmpty()) {
+			jdbcTemplate.query(FIND_BY_IDS, new MapSqlParameterSource("ids", ids), rs -> {
+				existing.add(key(rs.getString(1), rs.getString(2)));
+			});
+		}
+		Set<String> specifications = new HashSet<>();
+		jdbcTemplate.query(FIND_SPECIFICATIONS, new MapSqlParameterSource("ids", specificationIds), rs -> {
+			specifications.add(key(rs.getString(1), rs.getString(2)));
+		});
+		for (BulkRecord<DeviceDto> record : records) {
+			DeviceDto device = record.getValue();
+			if (EmptyCheckUtils.isNullEmpty(device.getId())) {
+				if (update) {
+					record.reject(DeviceErrorCode.DECOMMISSIONED.getErrorCode(),
+							DeviceErrorCode.DECOMMISSIONED.getErrorMessage());
+					continue;
+				}
+				if (!primaryLang.equals(device.getLangCode())) {
+					record.reject(RequestErrorCode.REQUEST_INVALID_SEC_LANG_ID.getErrorCode(),
+							RequestErrorCode.REQUEST_INVALID_SEC_LANG_ID.getErrorMessage());
+					continue;
+				}
+				device.setId(UUID.randomUUID().toString());
+			}
+			String key = key(device.getId(), device.getLangCode());
+			if (!update) {
+				if (existing.contains(key) || created.contains(key)) {
+					record.reject(BulkUploadErrorCode.RECORD_ALREADY_EXISTS.getErrorCode(),
+							String.format(BulkUploadErrorCode.RECORD_ALREADY_EXISTS.getErrorMessage(), key));
+				} else if (!primaryLang.equals(device.getLangCode())
+						&& !existing.contains(key(device.getId(), primaryLang))
+						&& !created.contains(key(device.getId(), primaryLang))) {
+					record.reject(RequestErrorCode.REQUEST_INVALID_SEC_LANG_ID.getErrorCode(),
+							RequestErrorCode.REQUEST_INVALID_SEC_LANG_ID.getErrorMessage());
+				}
+			} else if (!existing.contains(key)) {
+				record.reject(DeviceErrorCode.DECOMMISSIONED.getErrorCode(),
+						DeviceErrorCode.DECOMMISSIONED.getErrorMessage());
+			}
+			if (!userZones.contains(device.getZoneCode())) {
+				record.reject(DeviceErrorCode.INVALID_DEVICE_ZONE.getErrorCode(),
+						DeviceErrorCode.INVALID_DEVICE_ZONE.getErrorMessage());
+			}
+			if (!specifications.contains(key(device.getDeviceSpecId(), device.getLangCode()))) {
+				record.reject(DeviceSpecificationErrorCode.DEVICE_SPECIFICATION_NOT_FOUND_EXCEPTION.getErrorCode(),
+						DeviceSpecificationErrorCode.DEVICE_SPECIFICATION_NOT_FOUND_EXCEPTION.getErrorMessage());
+			}
+			if (!record.isRejected() && !update) {
+				created.add(key);
+			}
+		}
+	}
+
+	@Override
+	public boolean[] write(List<DeviceDto> values) {
+		String contextUser = MetaDataUtils.getContextUser();
+		Timestamp now = Timestamp.valueOf(MetaDataUtils.getCurrentDateTime());
+		SqlParameterSource[] batch = new SqlParameterSource[values.size()];
+		for (int i = 0; i < batch.length; i++) {
+			DeviceDto device = values.get(i);
+			batch[i] = new MapSqlParameterSource().addValue("id", device.getId()).addValue("name", device.getName())
+					.addValue("serialNum", device.getSerialNum()).addValue("ipAddress", device.getIpAddress())
+					.addValue("macAddress", device.getMacAddress()).addValue("deviceSpecId", device.getDeviceSpecId())
+					.addValue("validityDateTime",
+							device.getValidityDateTime() == null ? null
+									: Timestamp.valueOf(device.getValidityDateTime()))
+					.addValue("zoneCode", device.getZoneCode()).addValue("langCode", device.getLangCode())
+					.addValue("isActive", device.getIsActive()).addValue("user", contextUser)
+					.addValue("dateTime", now);
+		}
+		boolean[] written = BulkUploadHandler.written(jdbcTemplate.batchUpdate(update ? UPDATE : INSERT, batch));
+		List<SqlParameterSource> history = new ArrayList<>(batch.length);
+		for (int i = 0; i < batch.length; i++) {
+			if (written[i]) {
+				history.add(batch[i]);
+			}
+		}
+		if (!history.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_HISTORY, history.toArray(new SqlParameterSource[history.size()]));
+		}
+		return written;
+	}
+
+	@Override
+	public void discard(DeviceDto value) {
+		created.remove(key(value.getId(), value.getLangCode()));
+	}
+
+	private static String key(String id, String langCode) {
+		return id + '|' + langCode;
+	}
+}
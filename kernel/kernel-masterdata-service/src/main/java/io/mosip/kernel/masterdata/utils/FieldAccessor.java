@@ -0,0 +1,125 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reads and writes a field through a {@link MethodHandle} resolved once,
+ * instead of toggling accessibility and going through reflection on every
+ * call. Obtained from {@link ClassMetadata}.
+ * 
+ * @since 1.1.0
+ *
+ */
+public final class FieldAccessor {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final Field field;
+
+	private volatile MethodHandle getter;
+
+	private volatile MethodHandle setter;
+
+	FieldAccessor(Field field) {
+		this.field = field;
+	}
+
+	public String getName() {
+		return field.getName();
+	}
+
+	public Class<?> getType() {
+		return field.getType();
+	}
+
+	public boolean isStatic() {
+		return Modifier.isStatic(field.getModifiers());
+	}
+
+	public boolean isFinal() {
+		return Modifier.isFinal(field.getModifiers());
+	}
+
+	public boolean isAnnotationPresent(Class<? extends Annotation> annotationClass) {
+		return field.isAnnotationPresent(annotationClass);
+	}
+
+	/**
+	 * Method to read the field value of a bean.
+	 * 
+	 * @param bean the bean to read from
+	 * @return the field value, boxed if primitive
+	 * @throws IllegalAccessException   if the field cannot be accessed
+	 * @throws IllegalArgumentException if the bean does not declare the field
+	 */
+	public Object get(Object bean) throws IllegalAccessException {
+		MethodHandle handle = getter;
+		if (handle == null) {
+			handle = getter = unreflect(true);
+		}
+		try {
+			return handle.invokeExact(bean);
+		} catch (ClassCastException e) {
+			throw new IllegalArgumentException(e);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Method to write the field value of a bean.
+	 * 
+	 * @param bean  the bean to write to
+	 * @param value the value, unboxed if the field is primitive
+	 * @throws IllegalAccessException   if the field cannot be accessed
+	 * @throws IllegalArgumentException if the bean does not declare the field or
+	 *                                  the value is of the wrong type
+	 */
+	public void set(Object bean, Object value) throws IllegalAccessException {
+		if (isFinal()) {
+			// method handles cannot write final fields, reflection can once accessible
+			field.setAccessible(true);
+			field.set(bean, value);
+			return;
+		}
+		MethodHandle handle = setter;
+		if (handle == null) {
+			handle = setter = unreflect(false);
+		}
+		try {
+			handle.invokeExact(bean, value);
+		} catch (ClassCastException e) {
+			throw new IllegalArgumentException(e);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private MethodHandle unreflect(boolean read) throws IllegalAccessException {
+		field.setAccessible(true);
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		if (isStatic()) {
+			MethodHandle handle = read ? lookup.unreflectGetter(field) : lookup.unreflectSetter(field);
+			handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			return handle.asType(read ? GETTER_TYPE : SETTER_TYPE);
+		}
+		return read ? lookup.unreflectGetter(field).asType(GETTER_TYPE)
+				: lookup.unreflectSetter(field).asType(SETTER_TYPE);
+	}
+
+	@Override
+	public String toString() {
+		return field.toString();
+	}
+}
@@ -10,36 +10,54 @@ import io.mosip.kernel.masterdata.constant.MasterdataSearchErrorCode;
 import io.mosip.kernel.masterdata.dto.request.SearchSort;
 import io.mosip.kernel.masterdata.exception.MasterDataServiceException;
 import io.mosip.kernel.masterdata.exception.RequestException;
-import lombok.AllArgsConstructor;
 
 /**
  * {@link FieldComparator} used to compare two object fields based on the passed
  * {@link SearchSort}
  * 
+ * The value comparison and the sort direction are resolved once on creation
+ * from the field type and the sort type, not on every comparison.
+ * 
  * @author Abhishek Kumar
  * @since 1.0.0
  */
-@AllArgsConstructor
 public class FieldComparator<T> implements Comparator<T> {
 
-	private Field field;
-	private SearchSort sort;
+	private final FieldAccessor field;
+	private final SearchSort sort;
+	private final Comparator<Object> valueComparator;
+	/**
+	 * 1 for ascending, -1 for descending, 0 for an invalid sort type.
+	 */
+	private final int direction;
+
+	public FieldComparator(Field field, SearchSort sort) {
+		this(new FieldAccessor(field), sort);
+	}
+
+	public FieldComparator(FieldAccessor field, SearchSort sort) {
+		this.field = field;
+		this.sort = sort;
+		this.valueComparator = valueComparator(field.getType());
+		if ("DESC".equalsIgnoreCase(sort.getSortType())) {
+			direction = -1;
+		} else if ("ASC".equalsIgnoreCase(sort.getSortType())) {
+			direction = 1;
+		} else {
+			direction = 0;
+		}
+	}
 
 	@Override
 	public int compare(T o1, T o2) {
+		if (direction == 0) {
+			throw new RequestException(MasterdataSearchErrorCode.INVALID_SORT_TYPE.getErrorCode(),
+					String.format(MasterdataSearchErrorCode.INVALID_SORT_TYPE.getErrorMessage(), sort.getSortType()));
+		}
 		try {
-			field.setAccessible(true);
-			Class<?> type = field.getType();
 			Object value1 = field.get(o1);
 			Object value2 = field.get(o2);
-			if ("DESC".equalsIgnoreCase(sort.getSortType())) {
-				return compare(type, value2, value1);
-			} else if ("ASC".equalsIgnoreCase(sort.getSortType())) {
-				return compare(type, value1, value2);
-			} else {
-				throw new RequestException(MasterdataSearchErrorCode.INVALID_SORT_TYPE.getErrorCode(), String
-						.format(MasterdataSearchErrorCode.INVALID_SORT_TYPE.getErrorMessage(), sort.getSortType()));
-			}
+			return direction > 0 ? valueComparator.compare(value1, value2) : valueComparator.compare(value2, value1);
 		} catch (IllegalArgumentException | IllegalAccessException e) {
 			throw new MasterDataServiceException(MasterdataSearchErrorCode.ERROR_OCCURED_WHILE_SORTING.getErrorCode(),
 					MasterdataSearchErrorCode.ERROR_OCCURED_WHILE_SORTING.getErrorMessage(), e);
@@ -48,87 +66,39 @@ public class FieldComparator<T> implements Comparator<T> {
 	}
 
 	public int compare(Class<?> type, Object obj1, Object obj2) {
-		if (type.equals(String.class)) {
-			String value1 = (String) obj1;
-			String value2 = (String) obj2;
-			return value1.compareTo(value2);
-		}
-		if ("boolean".equals(type.toString()) || type.equals(Boolean.class)) {
-			Boolean value1 = Boolean.class.cast(obj1);
-			Boolean value2 = Boolean.class.cast(obj2);
-			return value1.compareTo(value2);
-		}
-		if ("int".equals(type.toString()) || type.equals(Integer.class)) {
-			Integer value1 = (Integer) obj1;
-			Integer value2 = (Integer) obj2;
-			return value1.compareTo(value2);
-		}
-
-		if ("double".equals(type.toString()) || type.equals(Double.class)) {
-			Double value1 = (Double) obj1;
-			Double value2 = (Double) obj2;
-			return value1.compareTo(value2);
-		}
-
-		if ("long".equals(type.toString()) || type.equals(Long.class)) {
-			Long value1 = (Long) obj1;
-			Long value2 = (Long) obj2;
-			return value1.compareTo(value2);
-		}
-
-		if ("float".equals(type.toString()) || type.equals(Float.class)) {
-			Float value1 = (Float) obj1;
-			Float value2 = (Float) obj2;
-			return value1.compareTo(value2);
-		}
-
-		if ("short".equals(type.toString()) || type.equals(Short.class)) {
-			Short value1 = (Short) obj1;
-			Short value2 = (Short) obj2;
-			return value1.compareTo(value2);
-		}
-
-		if (type.equals(LocalDateTime.class)) {
-			LocalDateTime value1 = (LocalDateTime) obj1;
-			LocalDateTime value2 = (LocalDateTime) obj2;
-			if (value1 == null ^ value2 == null) {
-				return (value1 == null) ? -1 : 1;
-			}
-
-			if (value1 == null && value2 == null) {
-				return 0;
-			}
-
-			return value1.compareTo(value2);
-		}
-
-		if (type.equals(LocalDate.class)) {
-			LocalDate value1 = (LocalDate) obj1;
-			LocalDate value2 = (LocalDate) obj2;
-			if (value1 == null ^ value2 == null) {
-				return (value1 == null) ? -1 : 1;
-			}
-
-			if (value1 == null && value2 == null) {
-				return 0;
-			}
-
-			return value1.compareTo(value2);
-		}
+		return valueComparator(type).compare(obj1, obj2);
+	}
 
-		if (type.equals(Date.class)) {
-			Date value1 = (Date) obj1;
-			Date value2 = (Date) obj2;
-			return value1.compareTo(value2);
+	/**
+	 * Method to resolve how values of a type are compared: natural order for
+	 * strings, dates and primitives or their wrappers, natural order with nulls
+	 * first for {@link LocalDateTime} and {@link LocalDate}, and the string value
+	 * otherwise.
+	 * 
+	 * @param type the field type
+	 * @return the value comparator
+	 */
+	@SuppressWarnings("unchecked")
+	private static Comparator<Object> valueComparator(Class<?> type) {
+		if (type.equals(String.class) || type.equals(boolean.class) || type.equals(Boolean.class)
+				|| type.equals(int.class) || type.equals(Integer.class) || type.equals(double.class)
+				|| type.equals(Double.class) || type.equals(long.class) || type.equals(Long.class)
+				|| type.equals(float.class) || type.equals(Float.class) || type.equals(short.class)
+				|| type.equals(Short.class) || type.equals(Date.class)) {
+			return (value1, value2) -> ((Comparable<Object>) value1).compareTo(value2);
 		}
-
-		if ("float".equals(type.toString()) || type.equals(Float.class)) {
-			Float value1 = (Float) obj1;
-			Float value2 = (Float) obj2;
-			return value1.compareTo(value2);
+		if (type.equals(LocalDateTime.class) || type.equals(LocalDate.class)) {
+			return (value1, value2) -> {
+				if (value1 == null ^ value2 == null) {
+					return (value1 == null) ? -1 : 1;
+				}
+				if (value1 == null && value2 == null) {
+					return 0;
+				}
+				return ((Comparable<Object>) value1).compareTo(value2);
+			};
 		}
-
-		return obj1.toString().compareTo(obj2.toString());
+		return (value1, value2) -> value1.toString().compareTo(value2.toString());
 	}
 
 }
@@ -0,0 +1,35 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * {@link PageImpl} carrying the continuation token of the next keyset page.
+ *
+ * @since 1.1.0
+ */
+public class KeysetPage<T> extends PageImpl<T> {
+
+	private static final long serialVersionUID = 4373619245532768231L;
+
+	private final String nextPageToken;
+
+	/**
+	 * Constructor for KeysetPage.
+	 *
+	 * @param content       the content of the page
+	 * @param pageable      the paging information
+	 * @param total         the total amount of rows
+	 * @param nextPageToken token of the next page, null on the last page
+	 */
+	public KeysetPage(List<T> content, Pageable pageable, long total, String nextPageToken) {
+		super(content, pageable, total);
+		this.nextPageToken = nextPageToken;
+	}
+
+	public String getNextPageToken() {
+		return nextPageToken;
+	}
+}
@@ -0,0 +1,213 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import io.mosip.kernel.core.util.EmptyCheckUtils;
+import io.mosip.kernel.masterdata.constant.BulkUploadErrorCode;
+import io.mosip.kernel.masterdata.constant.LocationErrorCode;
+import io.mosip.kernel.masterdata.dto.LocationDto;
+import io.mosip.kernel.masterdata.entity.Location;
+
+/**
+ * {@link BulkUploadHandler} creating or updating locations.
+ *
+ * The checks of the single location APIs are made with one query per chunk
+ * instead of one per location: a created location must not exist, a location
+ * in the secondary language must exist in the primary language, the parent
+ * location must be active in the same language, the name must be unique in its
+ * hierarchy level and a location with active children can not be deactivated.
+ * Locations created earlier in the upload are taken into account, so a
+ * hierarchy is uploaded parents first in one upload. The codes of the created
+ * locations are the given ones, as the children refer to them.
+ *
+ * @since 1.1.0
+ *
+ */
+public class LocationBulkUploadHandler implements BulkUploadHandler<LocationDto> {
+
+	private static final String FIND_BY_CODES = "SELECT code, lang_code, is_active FROM master.location"
+			+ " WHERE code IN (:codes) AND (is_deleted IS NULL OR is_deleted = false)";
+
+	private static final String FIND_BY_NAMES = "SELECT code, lang_code, name, hierarchy_level FROM master.location"
+			+ " WHERE name IN (:names)";
+
+	private static final String FIND_PARENTS = "SELECT DISTINCT parent_loc_code, lang_code FROM master.location"
+			+ " WHERE parent_loc_code IN (:codes) AND is_active = true AND (is_deleted IS NULL OR is_deleted = false)";
+
+	private static final String INSERT = "INSERT INTO master.location (code, name, hierarchy_level, hierarchy_level_name,"
+			+ " parent_loc_code, lang_code, is_active, cr_by, cr_dtimes, is_deleted)"
+			+ " VALUES (:code, :name, :hierarchyLevel, :hierarchyName, :parentLocCode, :langCode, :isActive, :createdBy,"
+			+ " :createdDateTime, false)";
+
+	private static final String UPDATE = "UPDATE master.location SET name = :name, hierarchy_level = :hierarchyLevel,"
+			+ " hierarchy_level_name = :hierarchyName, parent_loc_code = :parentLocCode, is_active = :isActive,"
+			+ " upd_by = :updatedBy, upd_dtimes = :updatedDateTime"
+			+ " WHERE code = :code AND lang_code = :langCode AND (is_deleted IS NULL OR is_deleted = false)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final String primaryLang;
+
+	private final boolean update;
+
+	/**
+	 * Keys of the locations created in the upload.
+	 */
+	private final Set<String> created = new HashSet<>();
+
+	/**
+	 * Codes of the locations created or renamed in the upload by name, level and
+	 * language.
+	 */
+	private final Map<String, String> names = new HashMap<>();
+
+	/**
+	 * @param jdbcTemplate the template writing the locations.
+	 * @param primaryLang  the primary language.
+	 * @param update       true to update existing locations, false to create new
+	 *                     ones.
+	 */
+	public LocationBulkUploadHandler(NamedParameterJdbcTemplate jdbcTemplate, String primaryLang, boolean update) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.primaryLang = primaryLang;
+		this.update = update;
+	}
+
+	@Override
+	public Class<LocationDto> getType() {
+		return LocationDto.class;
+	}
+
+	@Override
+	public String getId(LocationDto value) {
+		return value.getCode();
+	}
+
+	@Override
+	public String getLangCode(LocationDto value) {
+		return value.getLangCode();
+	}
+
+	@Override
+	public void validate(List<BulkRecord<LocationDto>> records) {
+		Set<String> codes = new HashSet<>();
+		Set<String> recordNames = new HashSet<>();
+		for (BulkRecord<LocationDto> record : records) {
+			codes.add(record.getValue().getCode());
+			if (!EmptyCheckUtils.isNullEmpty(record.getValue().getParentLocCode())) {
+				codes.add(record.getValue().getParentLocCode());
+			}
+			recordNames.add(record.getValue().getName());
+		}
+		Map<String, Boolean> existing = new HashMap<>();
+		jdbcTemplate.query(FIND_BY_CODES, new MapSqlParameterSource("codes", codes), rs -> {
+			existing.put(key(rs.getString(1), rs.getString(2)), rs.getBoolean(3));
+		});
+		Map<String, String> existingNames = new HashMap<>();
+		jdbcTemplate.query(FIND_BY_NAMES, new MapSqlParameterSource("names", recordNames), rs -> {
+			existingNames.put(nameKey(rs.getString(3), rs.getShort(4), rs.getString(2)), rs.getString(1));
+		});
+		Set<String> parents = new HashSet<>();
+		if (update) {
+			jdbcTemplate.query(FIND_PARENTS, new MapSqlParameterSource("codes", codes), rs -> {
+				parents.add(key(rs.getString(1), rs.getString(2)));
+			});
+		}
+		for (BulkRecord<LocationDto> record : records) {
+			LocationDto location = record.getValue();
+			String key = key(location.getCode(), location.getLangCode());
+			if (!update) {
+				if (existing.containsKey(key) || created.contains(key)) {
+					record.reject(BulkUploadErrorCode.RECORD_ALREADY_EXISTS.getErrorCode(),
+							String.format(BulkUploadErrorCode.RECORD_ALREADY_EXISTS.getErrorMessage(), key));
+				} else if (!primaryLang.equals(location.getLangCode())
+						&& !existing.containsKey(key(location.getCode(), primaryLang))
+						&& !created.contains(key(location.getCode(), primaryLang))) {
+					record.reject(LocationErrorCode.DATA_IN_PRIMARY_LANG_MISSING.getErrorCode(), String
+							.format(LocationErrorCode.DATA_IN_PRIMARY_LANG_MISSING.getErrorMessage(), location.getCode()));
+				}
+			} else if (!existing.containsKey(key)) {
+				record.reject(LocationErrorCode.LOCATION_NOT_FOUND_EXCEPTION.getErrorCode(),
+						LocationErrorCode.LOCATION_NOT_FOUND_EXCEPTION.getErrorMessage());
+			}
+			if (!EmptyCheckUtils.isNullEmpty(location.getParentLocCode())) {
+				String parentKey = key(location.getParentLocCode(), location.getLangCode());
+				if (!Boolean.TRUE.equals(existing.get(parentKey)) && !created.contains(parentKey)) {
+					record.reject(LocationErrorCode.PARENT_LOC_NOT_EXIST.getErrorCode(), String
+							.format(LocationErrorCode.PARENT_LOC_NOT_EXIST.getErrorMessage(), location.getParentLocCode()));
+				}
+			}
+			String nameKey = nameKey(location.getName(), location.getHierarchyLevel(), location.getLangCode());
+			String sameName = names.containsKey(nameKey) ? names.get(nameKey) : existingNames.get(nameKey);
+			if (sameName != null && !sameName.equals(location.getCode())) {
+				record.reject(LocationErrorCode.LOCATION_ALREDAY_EXIST_UNDER_HIERARCHY.getErrorCode(), String.format(
+						LocationErrorCode.LOCATION_ALREDAY_EXIST_UNDER_HIERARCHY.getErrorMessage(), location.getName()));
+			}
+			if (update && !location.getIsActive() && parents.contains(key)) {
+				record.reject(LocationErrorCode.LOCATION_CHILD_STATUS_EXCEPTION.getErrorCode(),
+						LocationErrorCode.LOCATION_CHILD_STATUS_EXCEPTION.getErrorMessage());
+			}
+			if (!record.isRejected()) {
+				if (!update) {
+					created.add(key);
+				}
+				names.put(nameKey, location.getCode());
+			}
+		}
+	}
+
+	@Override
+	public boolean[] write(List<LocationDto> values) {
+		SqlParameterSource[] batch = new SqlParameterSource[values.size()];
+		int[] counts;
+		if (update) {
+			String contextUser = MetaDataUtils.getContextUser();
+			Timestamp now = Timestamp.valueOf(MetaDataUtils.getCurrentDateTime());
+			for (int i = 0; i < batch.length; i++) {
+				batch[i] = parameters(values.get(i)).addValue("updatedBy", contextUser).addValue("updatedDateTime",
+						now);
+			}
+			counts = jdbcTemplate.batchUpdate(UPDATE, batch);
+		} else {
+			List<Location> locations = MetaDataUtils.setCreateMetaData(values, Location.class);
+			for (int i = 0; i < batch.length; i++) {
+				batch[i] = parameters(values.get(i)).addValue("createdBy", locations.get(i).getCreatedBy())
+						.addValue("createdDateTime", Timestamp.valueOf(locations.get(i).getCreatedDateTime()));
+			}
+			counts = jdbcTemplate.batchUpdate(INSERT, batch);
+		}
+		LocationHierarchyIndex.invalidate();
+		return BulkUploadHandler.written(counts);
+	}
+
+	@Override
+	public void discard(LocationDto value) {
+		created.remove(key(value.getCode(), value.getLangCode()));
+		names.remove(nameKey(value.getName(), value.getHierarchyLevel(), value.getLangCode()));
+	}
+
+	private static MapSqlParameterSource parameters(LocationDto location) {
+		return new MapSqlParameterSource().addValue("code", location.getCode()).addValue("name", location.getName())
+				.addValue("hierarchyLevel", location.getHierarchyLevel())
+				.addValue("hierarchyName", location.getHierarchyName())
+				.addValue("parentLocCode", location.getParentLocCode()).addValue("langCode", location.getLangCode())
+				.addValue("isActive", location.getIsActive());
+	}
+
+	private static String key(String code, String langCode) {
+		return code + '|' + langCode;
+	}
+
+	private static String nameKey(String name, short hierarchyLevel, String langCode) {
+		return name + '|' + hierarchyLevel + '|' + langCode;
+	}
+}
@@ -0,0 +1,275 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.masterdata.util.model.Node;
+import io.mosip.kernel.core.masterdata.util.spi.UBtree;
+import io.mosip.kernel.masterdata.entity.Location;
+import io.mosip.kernel.masterdata.repository.LocationRepository;
+
+/**
+ * Shared, immutable index of the location hierarchy of each language.
+ * 
+ * The active locations of a language are indexed by code with their parent
+ * and children, and laid out in depth first order with the range of each
+ * subtree, so that the children, descendants and ancestors of a location are
+ * read without querying the database or walking the whole list.
+ * 
+ * A new index is built, copy-on-write, on the first query after a location
+ * change is committed, see {@link #invalidate()}, or once it is older than
+ * <code>mosip.kernel.masterdata.location.hierarchy-index.refresh-interval</code>
+ * seconds, to pick up changes made by other instances.
+ * 
+ * @since 1.1.0
+ *
+ */
+@Component
+public class LocationHierarchyIndex {
+
+	/**
+	 * Incremented on every committed location change.
+	 */
+	private static final ModificationCounter MODIFICATIONS = ModificationCounter.forEntities(Location.class);
+
+	@Value("${mosip.kernel.masterdata.location.hierarchy-index.enabled:false}")
+	private boolean enabled;
+
+	@Value("${mosip.kernel.masterdata.location.hierarchy-index.refresh-interval:300}")
+	private long refreshInterval;
+
+	@Autowired
+	private LocationRepository locationRepository;
+
+	@Autowired
+	private UBtree<Location> locationTree;
+
+	private final Map<String, Hierarchy> hierarchies = new ConcurrentHashMap<>();
+
+	private final Map<String, Tree> trees = new ConcurrentHashMap<>();
+
+	/**
+	 * Marks the indexes as stale once the current transaction commits, or
+	 * immediately outside of a transaction.
+	 */
+	public static void invalidate() {
+		MODIFICATIONS.increment();
+	}
+
+	/**
+	 * @return true if location hierarchy queries are answered by the index.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @param code     the location code.
+	 * @param langCode the language code.
+	 * @return the active location, or null.
+	 */
+	public Location getLocation(String code, String langCode) {
+		return getHierarchy(langCode).locations.get(code);
+	}
+
+	/**
+	 * @param code     the location code.
+	 * @param langCode the language code.
+	 * @return the active children of the location.
+	 */
+	public List<Location> getChildren(String code, String langCode) {
+		return getHierarchy(langCode).children.getOrDefault(code, Collections.emptyList());
+	}
+
+	/**
+	 * @param code     the location code.
+	 * @param langCode the language code.
+	 * @return the active descendants of the location, through active locations,
+	 *         in depth first order.
+	 */
+	public List<Location> getDescendants(String code, String langCode) {
+		Hierarchy hierarchy = getHierarchy(langCode);
+		int[] range = hierarchy.ranges.get(code);
+		if (range == null) {
+			return Collections.emptyList();
+		}
+		return hierarchy.order.subList(range[0] + 1, range[1]);
+	}
+
+	/**
+	 * @param code     the location code.
+	 * @param langCode the language code.
+	 * @return the active ancestors of the location, through active locations,
+	 *         nearest first.
+	 */
+	public List<Location> getAncestors(String code, String langCode) {
+		Hierarchy hierarchy = getHierarchy(langCode);
+		List<Location> ancestors = new ArrayList<>();
+		Location location = hierarchy.locations.get(code);
+		while (location != null && location.getParentLocCode() != null) {
+			location = hierarchy.locations.get(location.getParentLocCode());
+			if (location == null || ancestors.contains(location)) {
+				break;
+			}
+			ancestors.add(location);
+		}
+		return ancestors;
+	}
+
+	/**
+	 * Returns the shared tree of the locations of a language below the root
+	 * level. The nodes must not be modified.
+	 * 
+	 * @param langCode the language code.
+	 * @param isActive whether the active or the inactive locations are wanted.
+	 * @return the tree nodes.
+	 */
+	public List<Node<Location>> getTree(String langCode, boolean isActive) {
+		String key = langCode + '_' + isActive;
+		Tree tree = trees.get(key);
+		if (tree == null || tree.isStale()) {
+			synchronized (trees) {
+				tree = trees.get(key);
+				if (tree == null || tree.isStale()) {
+					long version = MODIFICATIONS.get();
+					List<Location> locations = locationRepository.findAllByLangCode(langCode, isActive).stream()
+							.filter(location -> location.getHierarchyLevel() != 0).collect(Collectors.toList());
+					tree = new Tree(Collections.unmodifiableList(locationTree.createTree(locations)), version);
+					trees.put(key, tree);
+				}
+			}
+		}
+		return tree.nodes;
+	}
+
+	private Hierarchy getHierarchy(String langCode) {
+		Hierarchy hierarchy = hierarchies.get(langCode);
+		if (hierarchy == null || hierarchy.isStale()) {
+			synchronized (hierarchies) {
+				hierarchy = hierarchies.get(langCode);
+				if (hierarchy == null || hierarchy.isStale()) {
+					long version = MODIFICATIONS.get();
+					hierarchy = new Hierarchy(locationRepository.findAllByLangCode(langCode), version);
+					hierarchies.put(langCode, hierarchy);
+				}
+			}
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * State built from the locations at a given modification count.
+	 */
+	private abstract class Snapshot {
+		private final long version;
+		private final long builtAt = System.currentTimeMillis();
+
+		private Snapshot(long version) {
+			this.version = version;
+		}
+
+		protected boolean isStale() {
+			return version != MODIFICATIONS.get()
+					|| (refreshInterval > 0 && System.currentTimeMillis() - builtAt > refreshInterval * 1000);
+		}
+	}
+
+	/**
+	 * The tree of the locations of a language.
+	 */
+	private final class Tree extends Snapshot {
+		private final List<Node<Location>> nodes;
+
+		private Tree(List<Node<Location>> nodes, long version) {
+			super(version);
+			this.nodes = nodes;
+		}
+	}
+
+	/**
+	 * The indexed hierarchy of a language.
+	 */
+	private final class Hierarchy extends Snapshot {
+		private final Map<String, Location> locations = new HashMap<>();
+		private final Map<String, List<Location>> children = new HashMap<>();
+		/**
+		 * The locations in depth first order.
+		 */
+		private final List<Location> order;
+		/**
+		 * The range of the subtree of each location in the order, start inclusive
+		 * and end exclusive, the location itself being at the start.
+		 */
+		private final Map<String, int[]> ranges = new HashMap<>();
+
+		private Hierarchy(List<Location> list, long version) {
+			super(version);
+			for (Location location : list) {
+				locations.put(location.getCode(), location);
+			}
+			List<Location> roots = new ArrayList<>();
+			for (Location location : list) {
+				if (locations.get(location.getCode()) != location) {
+					continue;
+				}
+				String parent = location.getParentLocCode();
+				if (parent != null && locations.containsKey(parent) && !parent.equals(location.getCode())) {
+					children.computeIfAbsent(parent, code -> new ArrayList<>()).add(location);
+				} else {
+					roots.add(location);
+				}
+			}
+			children.replaceAll((code, locationChildren) -> Collections.unmodifiableList(locationChildren));
+			List<Location> tour = new ArrayList<>(locations.size());
+			Set<String> visited = new HashSet<>();
+			for (Location root : roots) {
+				visit(root, tour, visited);
+			}
+			this.order = Collections.unmodifiableList(tour);
+		}
+
+		/**
+		 * Lays out the subtree of a location in depth first order, without
+		 * recursion. Locations in a parent cycle are not reachable from a root and
+		 * are left out.
+		 */
+		private void visit(Location root, List<Location> tour, Set<String> visited) {
+			Deque<Object[]> stack = new ArrayDeque<>();
+			stack.push(new Object[] { root, 0 });
+			visited.add(root.getCode());
+			ranges.put(root.getCode(), new int[] { tour.size(), 0 });
+			tour.add(root);
+			while (!stack.isEmpty()) {
+				Object[] frame = stack.peek();
+				Location location = (Location) frame[0];
+				int next = (Integer) frame[1];
+				List<Location> locationChildren = children.getOrDefault(location.getCode(), Collections.emptyList());
+				if (next < locationChildren.size()) {
+					frame[1] = next + 1;
+					Location child = locationChildren.get(next);
+					if (visited.add(child.getCode())) {
+						ranges.put(child.getCode(), new int[] { tour.size(), 0 });
+						tour.add(child);
+						stack.push(new Object[] { child, 0 });
+					}
+				} else {
+					ranges.get(location.getCode())[1] = tour.size();
+					stack.pop();
+				}
+			}
+		}
+	}
+}
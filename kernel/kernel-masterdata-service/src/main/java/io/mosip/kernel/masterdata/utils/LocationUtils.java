@@ -1,8 +1,15 @@
 package io.mosip.kernel.masterdata.utils;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
@@ -10,60 +17,62 @@ import io.mosip.kernel.masterdata.entity.Location;
 
 @Component
 public class LocationUtils {
-	ThreadLocal<List<Location>> local;
-	ThreadLocal<List<Location>> list;
 
 	public List<Location> getDescedants(List<Location> locations, Location location) {
 		Objects.requireNonNull(locations);
-		initialize(locations);
-		list.get().add(location);
-		getImmdChild(locations, location);
-		return list.get();
-	}
-
-	private void initialize(List<Location> locations) {
-		local = new ThreadLocal<>();
-		local.set(locations);
-		list = new ThreadLocal<>();
-		list.set(new ArrayList<>());
-	}
-
-	private void getImmdChild(List<Location> locations, Location location) {
-		locations.stream().filter(child -> isChild(child, location)).forEach(i -> {
-			list.get().add(i);
-			getImmdChild(local.get(), i);
-		});
-	}
-
-	private void getImmdParent(List<Location> locations, Location location) {
-		locations.stream().filter(parent -> isParent(parent, location)).forEach(i -> {
-			list.get().add(i);
-			getImmdParent(local.get(), i);
-		});
+		Map<String, List<Location>> children = new HashMap<>();
+		for (Location child : locations) {
+			Objects.requireNonNull(child);
+			if (child.getParentLocCode() != null) {
+				children.computeIfAbsent(key(child.getParentLocCode(), child.getLangCode()), k -> new ArrayList<>())
+						.add(child);
+			}
+		}
+		return walk(location, children, true);
 	}
 
 	public List<Location> getAncestors(List<Location> locations, Location location) {
-		initialize(locations);
-		list.get().add(location);
-		getImmdParent(locations, location);
-		return list.get();
+		Map<String, List<Location>> parents = new HashMap<>();
+		for (Location parent : locations) {
+			if (parent.getCode() != null) {
+				parents.computeIfAbsent(key(parent.getCode(), parent.getLangCode()), k -> new ArrayList<>())
+						.add(parent);
+			}
+		}
+		return walk(location, parents, false);
 	}
 
-	private boolean isChild(Location child, Location parent) {
-		Objects.requireNonNull(child);
-		Objects.requireNonNull(parent);
-		if (child.getParentLocCode() != null)
-			return child.getParentLocCode().equals(parent.getCode())
-					&& child.getLangCode().equals(parent.getLangCode());
-		else
-			return false;
+	/**
+	 * Collects the location and the locations reachable from it, in depth first
+	 * order, each one once.
+	 */
+	private List<Location> walk(Location location, Map<String, List<Location>> links, boolean down) {
+		List<Location> list = new ArrayList<>();
+		list.add(location);
+		Set<Location> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<Location> stack = new ArrayDeque<>();
+		stack.push(location);
+		visited.add(location);
+		while (!stack.isEmpty()) {
+			Location current = stack.pop();
+			String linkCode = down ? current.getCode() : current.getParentLocCode();
+			List<Location> linked = linkCode == null ? Collections.emptyList()
+					: links.getOrDefault(key(linkCode, current.getLangCode()), Collections.emptyList());
+			// pushed in reverse, so that they are listed in the order of the input
+			for (int i = linked.size() - 1; i >= 0; i--) {
+				Location next = linked.get(i);
+				if (visited.add(next)) {
+					stack.push(next);
+				}
+			}
+			if (current != location) {
+				list.add(current);
+			}
+		}
+		return list;
 	}
 
-	private boolean isParent(Location parent, Location child) {
-		if (parent.getCode() != null)
-			return parent.getCode().equals(child.getParentLocCode())
-					&& child.getLangCode().equals(parent.getLangCode());
-		else
-			return false;
+	private static String key(String code, String langCode) {
+		return code + '\u0000' + langCode;
 	}
 }
@@ -1,16 +1,17 @@
 
 package io.mosip.kernel.masterdata.utils;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.persistence.EmbeddedId;
@@ -42,6 +43,11 @@ import io.mosip.kernel.masterdata.entity.RegisteredDevice;
  * MapperUtils class provides methods to map or copy values from source object
  * to destination object.
  * 
+ * The fields to copy between a source and a destination class are resolved
+ * once per class pair into a copy plan, and the values are copied through
+ * {@link FieldAccessor}s, so mapping a list does no per object reflection
+ * lookup.
+ * 
  * @author Bal Vikash Sharma
  * @author Urvil Joshi
  * @since 1.0.0
@@ -69,6 +75,24 @@ public class MapperUtils {
 	 */
 	private static Boolean mapNullValues = Boolean.TRUE;
 
+	/**
+	 * Copy plans of {@link #mapValues(Object, Object)} per source and destination
+	 * class.
+	 */
+	private static final Map<ClassPair, List<MappingStep>> MAPPING_PLANS = new ConcurrentHashMap<>();
+
+	/**
+	 * Copy plans of {@link #mapFieldValues(Object, Object)} per source and
+	 * destination class.
+	 */
+	private static final Map<ClassPair, List<FieldCopy>> FIELD_COPIES = new ConcurrentHashMap<>();
+
+	/**
+	 * Copy plans of {@link #setBaseFieldValue(Object, Object)} per source and
+	 * destination class.
+	 */
+	private static final Map<ClassPair, List<FieldCopy>> BASE_FIELD_COPIES = new ConcurrentHashMap<>();
+
 	/**
 	 * Parse a date string of pattern UTC_DATETIME_PATTERN into
 	 * {@link LocalDateTime}
@@ -163,7 +187,7 @@ public class MapperUtils {
 		Objects.requireNonNull(destinationClass, "destination class should not be null");
 		Object destination = null;
 		try {
-			destination = destinationClass.newInstance();
+			destination = ClassMetadata.of(destinationClass).newInstance();
 		} catch (InstantiationException | IllegalAccessException e) {
 			throw new DataAccessLayerException("KER-MSD-991", "Exception in mapping vlaues from source : "
 					+ source.getClass().getName() + " to destination : " + destinationClass.getClass().getName(), e);
@@ -216,10 +240,14 @@ public class MapperUtils {
 
 		Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
 		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
-		Field[] sourceFields = source.getClass().getDeclaredFields();
-		Field[] destinationFields = destination.getClass().getDeclaredFields();
-
-		mapFieldValues(source, destination, sourceFields, destinationFields);
+		ClassPair classes = new ClassPair(source.getClass(), destination.getClass());
+		List<FieldCopy> copies = FIELD_COPIES.get(classes);
+		if (copies == null) {
+			copies = fieldCopies(ClassMetadata.of(classes.source).getDeclaredFields(),
+					ClassMetadata.of(classes.destination).getDeclaredFields());
+			FIELD_COPIES.putIfAbsent(classes, copies);
+		}
+		mapFieldValues(source, destination, copies);
 
 	}
 
@@ -237,49 +265,13 @@ public class MapperUtils {
 	public static <S, D> void setBaseFieldValue(S source, D destination) {
 		Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
 		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
-		String sourceSupername = source.getClass().getSuperclass().getName();// super class of source object
-		String destinationSupername = destination.getClass().getSuperclass().getName();// super class of destination
-		// object
-		String baseEntityClassName = BaseEntity.class.getName();// base entity fully qualified name
-		String objectClassName = Object.class.getName();// object class fully qualified name
-
-		String baseDtoClassName = BaseDto.class.getName();// base entity fully qualified name
-
-		if (sourceSupername.equals(baseEntityClassName) && destinationSupername.equals(baseDtoClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			sourceFields = source.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			return;
-		}
-		if (sourceSupername.equals(baseDtoClassName) && destinationSupername.equals(baseEntityClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			destinationFields = destination.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			return;
-		}
-
-		// if source is an entity
-		if (sourceSupername.equals(baseEntityClassName) && !destinationSupername.equals(baseEntityClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-		} else if (destinationSupername.equals(baseEntityClassName) && !sourceSupername.equals(baseEntityClassName)) {
-			// if destination is an entity
-			Field[] sourceFields = source.getClass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-		} else {
-			if (!sourceSupername.equals(objectClassName) && !destinationSupername.equals(objectClassName)) {
-				Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-				Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-				mapFieldValues(source, destination, sourceFields, destinationFields);
-			}
+		ClassPair classes = new ClassPair(source.getClass(), destination.getClass());
+		List<FieldCopy> copies = BASE_FIELD_COPIES.get(classes);
+		if (copies == null) {
+			copies = baseFieldCopies(classes.source, classes.destination);
+			BASE_FIELD_COPIES.putIfAbsent(classes, copies);
 		}
-
+		mapFieldValues(source, destination, copies);
 	}
 
 	/*
@@ -299,82 +291,137 @@ public class MapperUtils {
 	 */
 	private static <S, D> void mapValues(S source, D destination)
 			throws IllegalAccessException, InstantiationException {
+		ClassPair classes = new ClassPair(source.getClass(), destination.getClass());
+		List<MappingStep> plan = MAPPING_PLANS.get(classes);
+		if (plan == null) {
+			plan = mappingPlan(classes.source, classes.destination);
+			MAPPING_PLANS.putIfAbsent(classes, plan);
+		}
+		for (MappingStep step : plan) {
+			step.apply(source, destination);
+		}
+	}
 
-		mapFieldValues(source, destination);// this method simply map values if field name and type are same
-
-		if (source.getClass().isAnnotationPresent(Entity.class)) {
-			mapEntityToDto(source, destination);
+	/**
+	 * Method to build the steps mapping a source class to a destination class:
+	 * the values of the fields having same name and type, then, if the source is
+	 * an entity, its composite key and super class values to the DTO, or the DTO
+	 * values to the super class values and composite key of the entity.
+	 * 
+	 * @param sourceClass      the source class
+	 * @param destinationClass the destination class
+	 * @return the mapping steps in order
+	 */
+	private static List<MappingStep> mappingPlan(Class<?> sourceClass, Class<?> destinationClass) {
+		List<MappingStep> plan = new ArrayList<>();
+		List<FieldCopy> fieldCopies = fieldCopies(ClassMetadata.of(sourceClass).getDeclaredFields(),
+				ClassMetadata.of(destinationClass).getDeclaredFields());
+		plan.add((source, destination) -> mapFieldValues(source, destination, fieldCopies));
+		if (sourceClass.isAnnotationPresent(Entity.class)) {
+			boolean isIdMapped = false;// a flag to check if there any composite key is present and is mapped
+			boolean isSuperMapped = false;// a flag to check is class extends the BaseEntity and is mapped
+			for (FieldAccessor sfield : ClassMetadata.of(sourceClass).getDeclaredFields()) {
+				if (!isIdMapped && sfield.isAnnotationPresent(EmbeddedId.class)) {
+					/**
+					 * Take the composite key object and map all values to destination object
+					 */
+					plan.add((source, destination) -> mapFieldValues(sfield.get(source), destination));
+					isIdMapped = true;
+				} else if (!isSuperMapped) {
+					List<FieldCopy> baseCopies = baseFieldCopies(sourceClass, destinationClass);
+					plan.add((source, destination) -> mapFieldValues(source, destination, baseCopies));
+					isSuperMapped = true;
+				}
+			}
 		} else {
-			mapDtoToEntity(source, destination);
+			List<FieldCopy> baseCopies = baseFieldCopies(sourceClass, destinationClass);
+			plan.add((source, destination) -> mapFieldValues(source, destination, baseCopies));
+			for (FieldAccessor field : ClassMetadata.of(destinationClass).getDeclaredFields()) {
+				/**
+				 * Map DTO matching field values to the composite key of the entity
+				 */
+				if (field.isAnnotationPresent(EmbeddedId.class)) {
+					ClassMetadata idClass = ClassMetadata.of(field.getType());
+					plan.add((source, destination) -> {
+						Object id = idClass.newInstance();
+						mapFieldValues(source, id);
+						field.set(destination, id);
+					});
+					break;
+				}
+			}
 		}
+		return Collections.unmodifiableList(plan);
 	}
 
 	/**
-	 * This method map source DTO to a class object which extends {@link BaseEntity}
+	 * Method to build the {@link BaseEntity} values copies between a source class
+	 * and a destination class, depending on which of them is an entity or a
+	 * {@link BaseDto}.
 	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @throws InstantiationException if not able to create instance of field having
-	 *                                annotation {@link EmbeddedId}
-	 * @throws IllegalAccessException if provided fields are not accessible
+	 * @param sourceClass      the source class
+	 * @param destinationClass the destination class
+	 * @return the field copies in order
 	 */
-	private static <S, D> void mapDtoToEntity(S source, D destination)
-			throws InstantiationException, IllegalAccessException {
-		Field[] fields = destination.getClass().getDeclaredFields();
-		setBaseFieldValue(source, destination);// map super class values
-		for (Field field : fields) {
-			/**
-			 * Map DTO matching field values to super class field values
-			 */
-			if (field.isAnnotationPresent(EmbeddedId.class)) {
-				Object id = field.getType().newInstance();
-				mapFieldValues(source, id);
-				field.setAccessible(true);
-				field.set(destination, id);
-				field.setAccessible(false);
-				break;
-			}
+	private static List<FieldCopy> baseFieldCopies(Class<?> sourceClass, Class<?> destinationClass) {
+		String sourceSupername = sourceClass.getSuperclass().getName();// super class of source object
+		String destinationSupername = destinationClass.getSuperclass().getName();// super class of destination
+		// object
+		String baseEntityClassName = BaseEntity.class.getName();// base entity fully qualified name
+		String objectClassName = Object.class.getName();// object class fully qualified name
+
+		String baseDtoClassName = BaseDto.class.getName();// base entity fully qualified name
+
+		List<FieldAccessor> sourceFields = ClassMetadata.of(sourceClass).getDeclaredFields();
+		List<FieldAccessor> sourceSuperFields = ClassMetadata.of(sourceClass.getSuperclass()).getDeclaredFields();
+		List<FieldAccessor> destinationFields = ClassMetadata.of(destinationClass).getDeclaredFields();
+		List<FieldAccessor> destinationSuperFields = ClassMetadata.of(destinationClass.getSuperclass())
+				.getDeclaredFields();
+		List<FieldCopy> copies = new ArrayList<>();
+		if (sourceSupername.equals(baseEntityClassName) && destinationSupername.equals(baseDtoClassName)) {
+			copies.addAll(fieldCopies(sourceSuperFields, destinationSuperFields));
+			copies.addAll(fieldCopies(sourceFields, destinationSuperFields));
+		} else if (sourceSupername.equals(baseDtoClassName) && destinationSupername.equals(baseEntityClassName)) {
+			copies.addAll(fieldCopies(sourceSuperFields, destinationSuperFields));
+			copies.addAll(fieldCopies(sourceSuperFields, destinationFields));
+		} else if (sourceSupername.equals(baseEntityClassName) && !destinationSupername.equals(baseEntityClassName)) {
+			// if source is an entity
+			copies.addAll(fieldCopies(sourceSuperFields, destinationFields));
+		} else if (destinationSupername.equals(baseEntityClassName) && !sourceSupername.equals(baseEntityClassName)) {
+			// if destination is an entity
+			copies.addAll(fieldCopies(sourceFields, destinationSuperFields));
+		} else if (!sourceSupername.equals(objectClassName) && !destinationSupername.equals(objectClassName)) {
+			copies.addAll(fieldCopies(sourceSuperFields, destinationSuperFields));
 		}
+		return Collections.unmodifiableList(copies);
 	}
 
 	/**
-	 * Map source which extends {@link BaseEntity} to a DTO object.
+	 * Method to match source fields to destination fields. Only fields having same
+	 * name and type are matched and source fields which are static or final are
+	 * ignored.
 	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @throws IllegalAccessException if provided fields are not accessible
+	 * @param sourceFields      source fields
+	 * @param destinationFields destination fields
+	 * @return the field copies in order
 	 */
-	private static <S, D> void mapEntityToDto(S source, D destination) throws IllegalAccessException {
-		Field[] sourceFields = source.getClass().getDeclaredFields();
-		/*
-		 * Here source is a Entity so we need to take values from Entity object and set
-		 * the matching fields in the destination object mostly an DTO.
-		 */
-		boolean isIdMapped = false;// a flag to check if there any composite key is present and is mapped
-		boolean isSuperMapped = false;// a flag to check is class extends the BaseEntity and is mapped
-		for (Field sfield : sourceFields) {
-			sfield.setAccessible(true);// mark accessible true because fields my be private, for safety
-			if (!isIdMapped && sfield.isAnnotationPresent(EmbeddedId.class)) {
-				/**
-				 * Map the composite key values from source to destination if field name is same
-				 */
-				/**
-				 * Take the field and get the composite key object and map all values to
-				 * destination object
-				 */
-				mapFieldValues(sfield.get(source), destination);
-				sfield.setAccessible(false);
-				isIdMapped = true;// set flag so no need to check and map again
-			} else if (!isSuperMapped) {
-				setBaseFieldValue(source, destination);// this method check whether source is entity or destination
-														// and maps values accordingly
-				isSuperMapped = true;
+	private static List<FieldCopy> fieldCopies(List<FieldAccessor> sourceFields,
+			List<FieldAccessor> destinationFields) {
+		List<FieldCopy> copies = new ArrayList<>();
+		for (FieldAccessor sfield : sourceFields) {
+			// Do not set values either static or final
+			if (sfield.isStatic() || sfield.isFinal()) {
+				continue;
+			}
+			for (FieldAccessor dfield : destinationFields) {
+				// map only those field whose name and type is same
+				if (sfield.getName().equals(dfield.getName()) && sfield.getType().equals(dfield.getType())) {
+					copies.add(new FieldCopy(sfield, dfield));
+					break;
+				}
 			}
 		}
+		return Collections.unmodifiableList(copies);
 	}
 
 	/**
@@ -384,35 +431,12 @@ public class MapperUtils {
 	 * @param <D>         is a type parameter
 	 * @param source      which value is going to be mapped
 	 * @param destination where values is going to be mapped
-	 * @param sf          source fields
-	 * @param dtf         destination fields
+	 * @param copies      the field copies
 	 */
-	private static <D, S> void mapFieldValues(S source, D destination, Field[] sourceFields,
-			Field[] destinationFields) {
+	private static <D, S> void mapFieldValues(S source, D destination, List<FieldCopy> copies) {
 		try {
-			for (Field sfield : sourceFields) {
-				// Do not set values either static or final
-				if (Modifier.isStatic(sfield.getModifiers()) || Modifier.isFinal(sfield.getModifiers())) {
-					continue;
-				}
-
-				// make field accessible possibly private
-				sfield.setAccessible(true);
-
-				for (Field dfield : destinationFields) {
-
-					Class<?> sourceType = sfield.getType();
-					Class<?> destinationType = dfield.getType();
-
-					// map only those field whose name and type is same
-					if (sfield.getName().equals(dfield.getName()) && sourceType.equals(destinationType)) {
-
-						// for normal field values
-						dfield.setAccessible(true);
-						setFieldValue(source, destination, sfield, dfield);
-						break;
-					}
-				}
+			for (FieldCopy copy : copies) {
+				setFieldValue(source, destination, copy.source, copy.destination);
 			}
 		} catch (IllegalAccessException e) {
 
@@ -432,16 +456,67 @@ public class MapperUtils {
 	 * @param dtf         destination fields
 	 * @throws IllegalAccessException if provided fields are not accessible
 	 */
-	private static <S, D> void setFieldValue(S source, D destination, Field sf, Field dtf)
+	private static <S, D> void setFieldValue(S source, D destination, FieldAccessor sf, FieldAccessor dtf)
 			throws IllegalAccessException {
+		Object value = sf.get(source);
 		// check whether user wants to map null values into destination object or not
-		if (!mapNullValues && EmptyCheckUtils.isNullEmpty(sf.get(source))) {
+		if (!mapNullValues && EmptyCheckUtils.isNullEmpty(value)) {
 			return;
 		}
-		dtf.set(destination, sf.get(source));
-		dtf.setAccessible(false);
-		sf.setAccessible(false);
+		dtf.set(destination, value);
+	}
+
+	/**
+	 * A step of the copy plan of a source and destination class.
+	 */
+	@FunctionalInterface
+	private interface MappingStep {
+		void apply(Object source, Object destination) throws IllegalAccessException, InstantiationException;
+	}
+
+	/**
+	 * A source field whose value is copied to a destination field.
+	 */
+	private static final class FieldCopy {
+		private final FieldAccessor source;
+		private final FieldAccessor destination;
+
+		private FieldCopy(FieldAccessor source, FieldAccessor destination) {
+			this.source = source;
+			this.destination = destination;
+		}
 	}
+
+	/**
+	 * Key of the copy plans.
+	 */
+	private static final class ClassPair {
+		private final Class<?> source;
+		private final Class<?> destination;
+
+		private ClassPair(Class<?> source, Class<?> destination) {
+			this.source = source;
+			this.destination = destination;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ClassPair)) {
+				return false;
+			}
+			ClassPair other = (ClassPair) obj;
+			return source == other.source && destination == other.destination;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * source.hashCode() + destination.hashCode();
+		}
+	}
+
 	// ----------------------------------------------------------------------------------------------------------------------------
 
 	public static List<HolidayDto> mapHolidays(List<Holiday> holidays) {
@@ -5,9 +5,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import javax.persistence.Column;
@@ -22,6 +30,8 @@ import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
 
 import org.hibernate.HibernateException;
 import org.springframework.beans.factory.annotation.Value;
@@ -61,6 +71,22 @@ public class MasterdataSearchHelper {
 	@Value("${master.search.maximum.rows}")
 	private int maximumRows;
 
+	/**
+	 * Order the rows by the sort columns followed by the entity id and issue
+	 * continuation tokens to seek the next page instead of skipping rows.
+	 */
+	@Value("${mosip.kernel.masterdata.search.keyset.enabled:false}")
+	private boolean keysetEnabled;
+
+	/**
+	 * How the total number of rows is computed, one of exact, cached or none.
+	 */
+	@Value("${mosip.kernel.masterdata.search.count-mode:exact}")
+	private String countMode;
+
+	@Value("${mosip.kernel.masterdata.search.count-cache.ttl:60}")
+	private long countCacheTtl;
+
 	private static final String LANGCODE_COLUMN_NAME = "langCode";
 	private static final String ENTITY_IS_NULL = "entity is null";
 	private static final String WILD_CARD_CHARACTER = "%";
@@ -72,6 +98,20 @@ public class MasterdataSearchHelper {
 	private static final String MACHINE_SPEC_ID = "machineSpecId";
 	private static final String DEVICE_SPEC_ID = "deviceSpecId";
 	private static final String IS_ACTIVE_COLUMN_NAME = "isActive";
+	private static final String COUNT_MODE_CACHED = "cached";
+	private static final String COUNT_MODE_NONE = "none";
+	private static final int COUNT_CACHE_MAX_SIZE = 1000;
+	private static final String NATIVE_KEYSET_ORDER = " order by m.id, m.lang_code";
+	private static final String NATIVE_KEYSET_SEEK = " and (m.id, m.lang_code) > (:lastId, :lastLangCode)";
+	private static final Map<String, String> NATIVE_KEY_COLUMNS = new HashMap<>();
+	static {
+		NATIVE_KEY_COLUMNS.put("id", "id");
+		NATIVE_KEY_COLUMNS.put(LANGCODE_COLUMN_NAME, "lang_code");
+	}
+	private static final List<KeyColumn> NATIVE_KEYS = Arrays.asList(new KeyColumn("id", true, String.class),
+			new KeyColumn(LANGCODE_COLUMN_NAME, true, String.class));
+
+	private final Map<String, CachedCount> countCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Field for interface used to interact with the persistence context.
@@ -119,17 +159,26 @@ public class MasterdataSearchHelper {
 		// applying sorting
 		sortQuery(criteriaBuilder, rootQuery, selectQuery, searchDto.getSort());
 
+		// applying keyset ordering and the seek predicate of the received token
+		List<KeyColumn> keys = keysetEnabled ? keysetQuery(criteriaBuilder, rootQuery, selectQuery, entity,
+				searchDto.getSort(), pagination.getPageToken()) : null;
+		boolean seek = keys != null && pagination.getPageToken() != null && !pagination.getPageToken().isEmpty();
+		boolean lookAhead = keys != null || COUNT_MODE_NONE.equalsIgnoreCase(countMode);
+		boolean hasNext = false;
+
 		try {
 			// creating executable query from select criteria query
 			TypedQuery<E> executableQuery = entityManager.createQuery(selectQuery);
-			// creating executable query from count criteria query
-			TypedQuery<Long> countExecutableQuery = entityManager.createQuery(countQuery);
-			// getting the rows count
-			rows = countExecutableQuery.getSingleResult();
 			// adding pagination
-			paginationQuery(executableQuery, searchDto.getPagination());
+			paginationQuery(executableQuery, pagination, seek, lookAhead);
 			// executing query and returning data
 			result = executableQuery.getResultList();
+			if (lookAhead && result.size() > pagination.getPageFetch()) {
+				hasNext = true;
+				result = new ArrayList<>(result.subList(0, pagination.getPageFetch()));
+			}
+			// getting the rows count
+			rows = countRows(countQuery, entity, searchDto, optionalFilters, result.size(), hasNext);
 		} catch (HibernateException hibernateException) {
 			throw new DataAccessLayerException(HibernateErrorCode.HIBERNATE_EXCEPTION.getErrorCode(),
 					hibernateException.getMessage(), hibernateException);
@@ -139,12 +188,178 @@ public class MasterdataSearchHelper {
 			throw new DataAccessLayerException(HibernateErrorCode.ERR_DATABASE.getErrorCode(),
 					runtimeException.getMessage(), runtimeException);
 		}
-		return new PageImpl<>(result,
-				PageRequest.of(searchDto.getPagination().getPageStart(), searchDto.getPagination().getPageFetch()),
-				rows);
+		PageRequest pageRequest = PageRequest.of(pagination.getPageStart(), pagination.getPageFetch());
+		if (keys != null) {
+			String nextPageToken = hasNext ? nextPageToken(entity, keys, result.get(result.size() - 1)) : null;
+			return new KeysetPage<>(result, pageRequest, rows, nextPageToken);
+		}
+		return new PageImpl<>(result, pageRequest, rows);
 
 	}
 
+	/**
+	 * Method to compute the total number of rows according to the count mode
+	 * 
+	 * @param countQuery      criteria count query
+	 * @param entity          the searched entity
+	 * @param searchDto       the search request
+	 * @param optionalFilters filters to be considered as 'or' statements
+	 * @param fetched         number of rows of the current page
+	 * @param hasNext         whether a row exists after the current page
+	 * @return the total number of rows, a lower bound when the count is disabled
+	 */
+	private <E> long countRows(CriteriaQuery<Long> countQuery, Class<E> entity, SearchDto searchDto,
+			OptionalFilter[] optionalFilters, int fetched, boolean hasNext) {
+		Pagination pagination = searchDto.getPagination();
+		if (COUNT_MODE_NONE.equalsIgnoreCase(countMode)) {
+			return (long) pagination.getPageStart() * pagination.getPageFetch() + fetched + (hasNext ? 1 : 0);
+		}
+		String key = entity.getName() + '|' + searchDto.getLanguageCode() + '|' + searchDto.getFilters() + '|'
+				+ Arrays.toString(optionalFilters);
+		return count(key, () -> entityManager.createQuery(countQuery).getSingleResult());
+	}
+
+	/**
+	 * Method to run a count query, reusing the count of the same filters in the
+	 * cached count mode
+	 * 
+	 * @param key   the filters of the count
+	 * @param query runs the count query
+	 * @return the count
+	 */
+	private long count(String key, LongSupplier query) {
+		if (!COUNT_MODE_CACHED.equalsIgnoreCase(countMode)) {
+			return query.getAsLong();
+		}
+		long now = System.currentTimeMillis();
+		CachedCount cached = countCache.get(key);
+		if (cached != null && cached.expiresAt > now) {
+			return cached.count;
+		}
+		long count = query.getAsLong();
+		if (countCache.size() >= COUNT_CACHE_MAX_SIZE) {
+			countCache.clear();
+		}
+		countCache.put(key, new CachedCount(count, now + TimeUnit.SECONDS.toMillis(countCacheTtl)));
+		return count;
+	}
+
+	/**
+	 * Method to order the criteria query by the sort columns followed by the id
+	 * of the entity and to add the seek predicate of the page token
+	 * 
+	 * @param builder     used to construct criteria query
+	 * @param root        root type in the from clause,always refers entity
+	 * @param selectQuery criteria select query
+	 * @param entity      the searched entity
+	 * @param sortFilter  requested sorting
+	 * @param pageToken   token of the previous page, if any
+	 * @return the key columns, null if the entity can not be paged by keyset
+	 */
+	private <E> List<KeyColumn> keysetQuery(CriteriaBuilder builder, Root<E> root, CriteriaQuery<E> selectQuery,
+			Class<E> entity, List<SearchSort> sortFilter, String pageToken) {
+		List<KeyColumn> keys = new ArrayList<>();
+		if (sortFilter != null) {
+			sortFilter.stream().filter(this::validateSort).forEach(i -> keys.add(new KeyColumn(i.getSortField(),
+					!OrderEnum.desc.name().equalsIgnoreCase(i.getSortType()), root.get(i.getSortField()).getJavaType())));
+		}
+		for (SingularAttribute<? super E, ?> id : idAttributes(entity)) {
+			if (keys.stream().noneMatch(key -> key.name.equals(id.getName()))) {
+				keys.add(new KeyColumn(id.getName(), true, id.getJavaType()));
+			}
+		}
+		if (keys.isEmpty() || keys.stream().anyMatch(key -> !PageToken.isSupported(key.type))) {
+			return null;
+		}
+		selectQuery.orderBy(keys.stream()
+				.map(key -> key.ascending ? builder.asc(root.get(key.name)) : builder.desc(root.get(key.name)))
+				.collect(Collectors.toList()));
+		if (pageToken != null && !pageToken.isEmpty()) {
+			List<String> values = PageToken.decode(pageToken, signature(entity, keys), keys.size());
+			List<Predicate> alternatives = new ArrayList<>();
+			List<Predicate> equalities = new ArrayList<>();
+			for (int i = 0; i < keys.size(); i++) {
+				KeyColumn key = keys.get(i);
+				Object value = PageToken.parse(key.type, values.get(i), pageToken);
+				Predicate after = after(builder, root.get(key.name), key.ascending, value);
+				if (after != null) {
+					equalities.add(after);
+					alternatives.add(builder.and(equalities.toArray(new Predicate[equalities.size()])));
+					equalities.remove(equalities.size() - 1);
+				}
+				equalities.add(value == null ? builder.isNull(root.get(key.name))
+						: builder.equal(root.get(key.name), value));
+			}
+			Predicate seek = builder.or(alternatives.toArray(new Predicate[alternatives.size()]));
+			selectQuery.where(selectQuery.getRestriction() == null ? seek
+					: builder.and(selectQuery.getRestriction(), seek));
+		}
+		return keys;
+	}
+
+	/**
+	 * Method to build the predicate selecting the values ordered after the given
+	 * one, nulls being ordered last ascending and first descending
+	 * 
+	 * @param builder   used to construct criteria query
+	 * @param path      the key column
+	 * @param ascending the direction of the column
+	 * @param value     the value of the last row
+	 * @return {@link Predicate}, null if no value can follow
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Predicate after(CriteriaBuilder builder, Path path, boolean ascending, Object value) {
+		if (value == null) {
+			return ascending ? null : builder.isNotNull(path);
+		}
+		if (ascending) {
+			return builder.or(builder.greaterThan(path, (Comparable) value), builder.isNull(path));
+		}
+		return builder.lessThan(path, (Comparable) value);
+	}
+
+	private <E> List<SingularAttribute<? super E, ?>> idAttributes(Class<E> entity) {
+		EntityType<E> type = entityManager.getMetamodel().entity(entity);
+		List<SingularAttribute<? super E, ?>> ids = new ArrayList<>();
+		if (type.hasSingleIdAttribute()) {
+			ids.add(type.getId(type.getIdType().getJavaType()));
+		} else {
+			TreeSet<SingularAttribute<? super E, ?>> sorted = new TreeSet<>(
+					(a, b) -> a.getName().compareTo(b.getName()));
+			sorted.addAll(type.getIdClassAttributes());
+			ids.addAll(sorted);
+		}
+		return ids;
+	}
+
+	private String signature(Class<?> entity, List<KeyColumn> keys) {
+		return PageToken.signature(entity, keys.stream()
+				.map(key -> key.name + (key.ascending ? ":asc" : ":desc")).collect(Collectors.toList()));
+	}
+
+	private <E> String nextPageToken(Class<E> entity, List<KeyColumn> keys, E last) {
+		List<String> values = new ArrayList<>(keys.size());
+		for (KeyColumn key : keys) {
+			values.add(PageToken.format(readAttribute(last, key.name)));
+		}
+		return PageToken.encode(signature(entity, keys), values);
+	}
+
+	private Object readAttribute(Object bean, String name) {
+		for (Class<?> type = bean.getClass(); type != null; type = type.getSuperclass()) {
+			for (FieldAccessor field : ClassMetadata.of(type).getDeclaredFields()) {
+				if (!field.isStatic() && field.getName().equals(name)) {
+					try {
+						return field.get(bean);
+					} catch (IllegalAccessException e) {
+						throw new IllegalStateException(e);
+					}
+				}
+			}
+		}
+		throw new IllegalStateException("No attribute " + name + " in " + bean.getClass().getName());
+	}
+
 	/**
 	 * Method to add the filters to the criteria query
 	 * 
@@ -279,20 +494,28 @@ public class MasterdataSearchHelper {
 	/**
 	 * Method to add pagination in criteria query
 	 * 
-	 * @param query to be added with pagination
-	 * @param page  contains the pagination details
+	 * @param query     to be added with pagination
+	 * @param page      contains the pagination details
+	 * @param seek      whether the rows are skipped by a seek predicate instead
+	 *                  of an offset
+	 * @param lookAhead whether one more row is fetched to detect the next page
 	 */
-	private void paginationQuery(Query query, Pagination page) {
+	private void paginationQuery(Query query, Pagination page, boolean seek, boolean lookAhead) {
 		if (page != null) {
-			if (page.getPageStart() < 0 || page.getPageFetch() < 1) {
-				throw new RequestException(MasterdataSearchErrorCode.INVALID_PAGINATION_VALUE.getErrorCode(),
-						String.format(MasterdataSearchErrorCode.INVALID_PAGINATION_VALUE.getErrorMessage(),
-								page.getPageStart(), page.getPageFetch()),
-						null);
-			} else {
+			validatePagination(page);
+			if (!seek) {
 				query.setFirstResult(page.getPageStart() * page.getPageFetch());
-				query.setMaxResults(page.getPageFetch());
 			}
+			query.setMaxResults(lookAhead ? lookAheadFetch(page.getPageFetch()) : page.getPageFetch());
+		}
+	}
+
+	private void validatePagination(Pagination page) {
+		if (page.getPageStart() < 0 || page.getPageFetch() < 1) {
+			throw new RequestException(MasterdataSearchErrorCode.INVALID_PAGINATION_VALUE.getErrorCode(),
+					String.format(MasterdataSearchErrorCode.INVALID_PAGINATION_VALUE.getErrorMessage(),
+							page.getPageStart(), page.getPageFetch()),
+					null);
 		}
 	}
 
@@ -551,19 +774,15 @@ public class MasterdataSearchHelper {
 			nativeQuery.append(" and m." + columnName + "=:" + searchFilter.getColumnName());
 		}
 
-		Query query = entityManager.createNativeQuery(nativeQuery.toString(), Machine.class);
-		if (!searchDto.getLanguageCode().equals("all")) {
-			query.setParameter(LANGCODE_COLUMN_NAME, searchDto.getLanguageCode());
-		}
-		setMachineQueryParams(query, searchDto.getFilters());
-		query.setParameter(TYPE_NAME, typeName);
-		query.setParameter("zoneCode", zoneCodes);
-
-		List<Machine> result = query.getResultList();
-		return new PageImpl<>(result,
-				PageRequest.of(searchDto.getPagination().getPageStart(), searchDto.getPagination().getPageFetch()),
-				query.getResultList().size());
-
+		String countKey = Machine.class.getName() + '|' + isAssigned + '|' + typeName + '|' + zoneCodes;
+		return nativeSearch(nativeQuery, searchDto, Machine.class, countKey, query -> {
+			if (!searchDto.getLanguageCode().equals("all")) {
+				query.setParameter(LANGCODE_COLUMN_NAME, searchDto.getLanguageCode());
+			}
+			setMachineQueryParams(query, searchDto.getFilters());
+			query.setParameter(TYPE_NAME, typeName);
+			query.setParameter("zoneCode", zoneCodes);
+		});
 	}
 
 	public Page<Device> nativeDeviceQuerySearch(SearchDto searchDto, String typeName, List<Zone> zones,
@@ -594,23 +813,115 @@ public class MasterdataSearchHelper {
 			nativeQuery.append(" and m." + columnName + "=:" + searchFilter.getColumnName());
 		}
 
-		nativeQuery.append(" OFFSET " + searchDto.getPagination().getPageStart() + " ROWS FETCH NEXT "
-				+ searchDto.getPagination().getPageFetch() + " ROWS ONLY");
+		String countKey = Device.class.getName() + '|' + isAssigned + '|' + typeName + '|' + zoneCodes;
+		return nativeSearch(nativeQuery, searchDto, Device.class, countKey, query -> {
+			setDeviceQueryParams(query, searchDto.getFilters());
+			if (!searchDto.getLanguageCode().equals("all")) {
+				query.setParameter(LANGCODE_COLUMN_NAME, searchDto.getLanguageCode());
+			}
+			query.setParameter(TYPE_NAME, typeName);
+			query.setParameter("zoneCode", zoneCodes);
+		});
+	}
+
+	/**
+	 * Method to sort and page a native search. The rows are ordered by the sort
+	 * columns followed by the id and language code, keyset pagination applying
+	 * when no sort column is requested. The total is computed by a count query
+	 * according to the count mode, except in keyset mode.
+	 * 
+	 * @param nativeQuery the filtered select query, without ordering
+	 * @param searchDto   the search request
+	 * @param entity      the searched entity
+	 * @param countKey    key of the cached count, with the parameters not held by
+	 *                    the search request
+	 * @param parameters  sets the parameters of the select and count queries
+	 * @return {@link Page} of entity
+	 */
+	@SuppressWarnings("unchecked")
+	private <E extends BaseEntity> Page<E> nativeSearch(StringBuilder nativeQuery, SearchDto searchDto,
+			Class<E> entity, String countKey, Consumer<Query> parameters) {
+		Pagination pagination = searchDto.getPagination();
+		validatePagination(pagination);
+		pagination.setPageFetch(Math.min(pagination.getPageFetch(), maximumRows));
+		List<SearchSort> sort = searchDto.getSort() == null ? Collections.emptyList() : searchDto.getSort();
+		boolean keyset = keysetEnabled && sort.isEmpty();
+		String pageToken = pagination.getPageToken();
+		boolean seek = keyset && pageToken != null && !pageToken.isEmpty();
+		String countQuery = nativeQuery.toString().replaceFirst("SELECT \\*", "SELECT count(*)");
+		if (seek) {
+			nativeQuery.append(NATIVE_KEYSET_SEEK);
+		}
+		nativeQuery.append(nativeOrder(sort, entity));
+
+		Query query = entityManager.createNativeQuery(nativeQuery.toString(), entity);
+		parameters.accept(query);
+		if (seek) {
+			setSeekParams(query, entity, pageToken);
+		} else {
+			query.setFirstResult(pagination.getPageStart() * pagination.getPageFetch());
+		}
+		query.setMaxResults(lookAheadFetch(pagination.getPageFetch()));
+		List<E> result = query.getResultList();
+		boolean hasNext = result.size() > pagination.getPageFetch();
+		List<E> content = hasNext ? new ArrayList<>(result.subList(0, pagination.getPageFetch())) : result;
 
-		Query query = entityManager.createNativeQuery(nativeQuery.toString(), Device.class);
+		long rows;
+		if (keyset || COUNT_MODE_NONE.equalsIgnoreCase(countMode)) {
+			rows = (long) pagination.getPageStart() * pagination.getPageFetch() + content.size() + (hasNext ? 1 : 0);
+		} else {
+			rows = count(countKey + '|' + searchDto.getLanguageCode() + '|' + searchDto.getFilters(), () -> {
+				Query count = entityManager.createNativeQuery(countQuery);
+				parameters.accept(count);
+				return ((Number) count.getSingleResult()).longValue();
+			});
+		}
+		PageRequest pageRequest = PageRequest.of(pagination.getPageStart(), pagination.getPageFetch());
+		if (keyset) {
+			String nextPageToken = hasNext ? nextPageToken(entity, NATIVE_KEYS, content.get(content.size() - 1)) : null;
+			return new KeysetPage<>(content, pageRequest, rows, nextPageToken);
+		}
+		return new PageImpl<>(content, pageRequest, rows);
+	}
 
-		setDeviceQueryParams(query, searchDto.getFilters());
-		if (!searchDto.getLanguageCode().equals("all")) {
-			query.setParameter(LANGCODE_COLUMN_NAME, searchDto.getLanguageCode());
+	/**
+	 * Method to build the order by clause of a native search
+	 * 
+	 * @param sort   requested sorting
+	 * @param entity the searched entity
+	 * @return the order by clause
+	 */
+	private <E extends BaseEntity> String nativeOrder(List<SearchSort> sort, Class<E> entity) {
+		if (sort.isEmpty()) {
+			return NATIVE_KEYSET_ORDER;
 		}
-		query.setParameter(TYPE_NAME, typeName);
-		query.setParameter("zoneCode", zoneCodes);
-		List<Device> result = query.getResultList();
+		StringBuilder order = new StringBuilder(" order by ");
+		for (SearchSort searchSort : sort) {
+			String columnName = NATIVE_KEY_COLUMNS.containsKey(searchSort.getSortField())
+					? NATIVE_KEY_COLUMNS.get(searchSort.getSortField())
+					: getColumnName(searchSort.getSortField(), entity);
+			if (columnName == null) {
+				throw new RequestException(MasterdataSearchErrorCode.INVALID_SORT_FIELD.getErrorCode(), String
+						.format(MasterdataSearchErrorCode.INVALID_SORT_FIELD.getErrorMessage(), searchSort.getSortField()));
+			}
+			order.append("m.").append(columnName)
+					.append(OrderEnum.desc.name().equalsIgnoreCase(searchSort.getSortType()) ? " desc, " : " asc, ");
+		}
+		return order.append("m.id, m.lang_code").toString();
+	}
 
-		return new PageImpl<>(result,
-				PageRequest.of(searchDto.getPagination().getPageStart(), searchDto.getPagination().getPageFetch()),
-				query.getResultList().size());
+	private void setSeekParams(Query query, Class<?> entity, String pageToken) {
+		List<String> values = PageToken.decode(pageToken, signature(entity, NATIVE_KEYS), NATIVE_KEYS.size());
+		if (values.contains(null)) {
+			throw new RequestException(MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorCode(),
+					String.format(MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorMessage(), pageToken));
+		}
+		query.setParameter("lastId", values.get(0));
+		query.setParameter("lastLangCode", values.get(1));
+	}
 
+	private static int lookAheadFetch(int pageFetch) {
+		return pageFetch < Integer.MAX_VALUE ? pageFetch + 1 : pageFetch;
 	}
 
 	private void setDeviceQueryParams(Query query, List<SearchFilter> list) {
@@ -693,4 +1004,32 @@ public class MasterdataSearchHelper {
 		}
 		return columnName;
 	}
+
+	/**
+	 * Column of the keyset ordering.
+	 */
+	private static final class KeyColumn {
+		private final String name;
+		private final boolean ascending;
+		private final Class<?> type;
+
+		private KeyColumn(String name, boolean ascending, Class<?> type) {
+			this.name = name;
+			this.ascending = ascending;
+			this.type = type;
+		}
+	}
+
+	/**
+	 * Row count cached with its expiry time.
+	 */
+	private static final class CachedCount {
+		private final long count;
+		private final long expiresAt;
+
+		private CachedCount(long count, long expiresAt) {
+			this.count = count;
+			this.expiresAt = expiresAt;
+		}
+	}
 }
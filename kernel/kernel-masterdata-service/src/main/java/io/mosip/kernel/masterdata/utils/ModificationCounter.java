@@ -0,0 +1,89 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Count of the committed changes of the entities a cache is built from. A
+ * cache keeps the count it was built at and is stale once the count differs.
+ *
+ * A counter is registered for its entity types, and the
+ * {@link ModificationListener} of these entities increments it on every
+ * persist, update and remove. Changes made by bulk queries, which bypass the
+ * entity listeners, are reported with {@link #increment()}.
+ *
+ * @since 1.1.0
+ *
+ */
+public final class ModificationCounter {
+
+	private static final Map<Class<?>, List<ModificationCounter>> COUNTERS = new ConcurrentHashMap<>();
+
+	private final AtomicLong count = new AtomicLong();
+
+	private ModificationCounter() {
+	}
+
+	/**
+	 * Creates a counter incremented on every change of the given entities.
+	 *
+	 * @param entityTypes the entity classes, listened by
+	 *                    {@link ModificationListener}.
+	 * @return the counter.
+	 */
+	public static ModificationCounter forEntities(Class<?>... entityTypes) {
+		ModificationCounter counter = new ModificationCounter();
+		for (Class<?> entityType : entityTypes) {
+			COUNTERS.computeIfAbsent(entityType, type -> new CopyOnWriteArrayList<>()).add(counter);
+		}
+		return counter;
+	}
+
+	/**
+	 * Increments the counters of the type of the changed entity, looking up the
+	 * superclasses too in case of a proxy.
+	 *
+	 * @param entity the persisted, updated or removed entity.
+	 */
+	static void entityChanged(Object entity) {
+		for (Class<?> type = entity.getClass(); type != Object.class; type = type.getSuperclass()) {
+			List<ModificationCounter> counters = COUNTERS.get(type);
+			if (counters != null) {
+				for (ModificationCounter counter : counters) {
+					counter.increment();
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @return the number of committed changes.
+	 */
+	public long get() {
+		return count.get();
+	}
+
+	/**
+	 * Increments the count once the current transaction commits, or immediately
+	 * outside of a transaction.
+	 */
+	public void increment() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					count.incrementAndGet();
+				}
+			});
+		} else {
+			count.incrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package io.mosip.kernel.masterdata.utils;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Entity listener incrementing the {@link ModificationCounter}s of the changed
+ * entity, which invalidates the caches built from it.
+ *
+ * @since 1.1.0
+ *
+ */
+public class ModificationListener {
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void onChange(Object entity) {
+		ModificationCounter.entityChanged(entity);
+	}
+}
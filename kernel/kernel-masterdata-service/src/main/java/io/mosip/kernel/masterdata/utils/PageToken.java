@@ -0,0 +1,164 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.masterdata.constant.MasterdataSearchErrorCode;
+import io.mosip.kernel.masterdata.exception.RequestException;
+
+/**
+ * Opaque continuation token of a keyset page. The token carries the sort key
+ * values of the last row of a page together with a signature of the entity and
+ * the sort columns, so that a token is only accepted by the query that issued
+ * it.
+ *
+ * @since 1.1.0
+ */
+public final class PageToken {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private static final TypeReference<List<String>> VALUES_TYPE = new TypeReference<List<String>>() {
+	};
+
+	private static final Map<Class<?>, Function<String, Object>> PARSERS = new HashMap<>();
+
+	static {
+		PARSERS.put(String.class, value -> value);
+		PARSERS.put(Long.class, Long::valueOf);
+		PARSERS.put(long.class, Long::valueOf);
+		PARSERS.put(Integer.class, Integer::valueOf);
+		PARSERS.put(int.class, Integer::valueOf);
+		PARSERS.put(Short.class, Short::valueOf);
+		PARSERS.put(short.class, Short::valueOf);
+		PARSERS.put(Double.class, Double::valueOf);
+		PARSERS.put(double.class, Double::valueOf);
+		PARSERS.put(Float.class, Float::valueOf);
+		PARSERS.put(float.class, Float::valueOf);
+		PARSERS.put(Boolean.class, Boolean::valueOf);
+		PARSERS.put(boolean.class, Boolean::valueOf);
+		PARSERS.put(BigDecimal.class, BigDecimal::new);
+		PARSERS.put(LocalDate.class, LocalDate::parse);
+		PARSERS.put(LocalDateTime.class, LocalDateTime::parse);
+	}
+
+	private PageToken() {
+	}
+
+	/**
+	 * Whether values of the given type can be carried by a token.
+	 *
+	 * @param type the java type of a sort column
+	 * @return true if supported
+	 */
+	public static boolean isSupported(Class<?> type) {
+		return PARSERS.containsKey(type);
+	}
+
+	/**
+	 * Builds the signature of a keyset query.
+	 *
+	 * @param entity  the searched entity
+	 * @param columns the key columns in order, each with its direction
+	 * @return the signature
+	 */
+	public static String signature(Class<?> entity, List<String> columns) {
+		StringBuilder builder = new StringBuilder(entity.getName());
+		columns.forEach(column -> builder.append('|').append(column));
+		return Integer.toHexString(builder.toString().hashCode());
+	}
+
+	/**
+	 * Encodes the key values of the last row of a page.
+	 *
+	 * @param signature the signature of the query
+	 * @param values    the key values, as returned by {@link #format(Object)}
+	 * @return the url safe token
+	 */
+	public static String encode(String signature, List<String> values) {
+		List<String> payload = new ArrayList<>(values.size() + 1);
+		payload.add(signature);
+		payload.addAll(values);
+		try {
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(payload));
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Decodes a token issued by {@link #encode(String, List)}.
+	 *
+	 * @param token     the token received
+	 * @param signature the signature of the current query
+	 * @param size      the number of key columns of the current query
+	 * @return the key values
+	 * @throws RequestException if the token is malformed or was issued by a
+	 *                          different query
+	 */
+	public static List<String> decode(String token, String signature, int size) {
+		List<String> payload;
+		try {
+			payload = MAPPER.readValue(Base64.getUrlDecoder().decode(token.getBytes(StandardCharsets.US_ASCII)),
+					VALUES_TYPE);
+		} catch (IOException | IllegalArgumentException e) {
+			throw invalid(token);
+		}
+		if (payload == null || payload.size() != size + 1 || !signature.equals(payload.get(0))) {
+			throw invalid(token);
+		}
+		return Collections.unmodifiableList(payload.subList(1, payload.size()));
+	}
+
+	/**
+	 * Formats a key value for {@link #encode(String, List)}.
+	 *
+	 * @param value the value
+	 * @return the formatted value, null for null
+	 */
+	public static String format(Object value) {
+		return value == null ? null : value.toString();
+	}
+
+	/**
+	 * Parses a key value decoded from a token.
+	 *
+	 * @param type  the java type of the key column
+	 * @param value the formatted value
+	 * @param token the token, for the error message
+	 * @return the typed value, null for null
+	 */
+	public static Object parse(Class<?> type, String value, String token) {
+		if (value == null) {
+			return null;
+		}
+		Function<String, Object> parser = PARSERS.get(type);
+		if (parser == null) {
+			throw invalid(token);
+		}
+		try {
+			return parser.apply(value);
+		} catch (NumberFormatException | DateTimeParseException e) {
+			throw invalid(token);
+		}
+	}
+
+	private static RequestException invalid(String token) {
+		return new RequestException(MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorCode(),
+				String.format(MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorMessage(), token));
+	}
+}
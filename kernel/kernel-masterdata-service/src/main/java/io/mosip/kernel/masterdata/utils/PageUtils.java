@@ -50,10 +50,31 @@ public class PageUtils {
 			pageResponse.setFromRecord(start);
 			pageResponse.setToRecord((long) (start - 1) + page.getNumberOfElements());
 			pageResponse.setTotalRecord(totalItem);
+			if (page instanceof KeysetPage) {
+				pageResponse.setNextPageToken(((KeysetPage<T>) page).getNextPageToken());
+			}
 		}
 		return pageResponse;
 	}
 
+	/**
+	 * Method to create the page metadata of a page sorted and paged by the
+	 * database
+	 * 
+	 * @param page the page of entities
+	 * @param data the page content
+	 * @return {@link PageResponseDto}
+	 */
+	public static <T, D> PageResponseDto<D> pageResponse(Page<T> page, List<D> data) {
+		PageResponseDto<D> pageResponse = pageResponse(page);
+		pageResponse.setData(data);
+		return pageResponse;
+	}
+
+	public <T extends BaseEntity> boolean isPersistentSort(Class<T> clazz, List<SearchSort> searchSorts) {
+		return sortUtils.isPersistentSort(clazz, searchSorts);
+	}
+
 	public <T extends BaseEntity> void validateSortField(Class<T> clazz, List<SearchSort> searchSorts) {
 		sortUtils.validateSortField(clazz, searchSorts);
 	}
@@ -0,0 +1,152 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.mosip.kernel.masterdata.entity.Holiday;
+import io.mosip.kernel.masterdata.entity.RegExceptionalHoliday;
+import io.mosip.kernel.masterdata.entity.RegistrationCenter;
+
+/**
+ * Immutable calendar of a registration center in one language.
+ *
+ * The holidays of the center holiday location and the exceptional holidays of
+ * the center are kept as one bitset per year indexed by the day of the year,
+ * and the working days of the week as a bit mask, so that a date is checked
+ * without any query or date parsing.
+ *
+ * @since 1.1.0
+ *
+ */
+public final class RegistrationCenterCalendar {
+
+	private final RegistrationCenter registrationCenter;
+
+	private final Map<Integer, BitSet> holidays;
+
+	private final Map<Integer, BitSet> exceptionalHolidays;
+
+	private final Map<Integer, List<Holiday>> holidaysByYear;
+
+	private final int workingDays;
+
+	private RegistrationCenterCalendar(RegistrationCenter registrationCenter, Map<Integer, BitSet> holidays,
+			Map<Integer, BitSet> exceptionalHolidays, Map<Integer, List<Holiday>> holidaysByYear, int workingDays) {
+		this.registrationCenter = registrationCenter;
+		this.holidays = holidays;
+		this.exceptionalHolidays = exceptionalHolidays;
+		this.holidaysByYear = holidaysByYear;
+		this.workingDays = workingDays;
+	}
+
+	/**
+	 * Builds the calendar of a registration center.
+	 *
+	 * @param registrationCenter  the registration center.
+	 * @param holidays            the active holidays of the center holiday
+	 *                            location, in any language.
+	 * @param exceptionalHolidays the active exceptional holidays of the center.
+	 * @param workingDays         the working days of the week of the center.
+	 * @return the calendar.
+	 */
+	public static RegistrationCenterCalendar build(RegistrationCenter registrationCenter, List<Holiday> holidays,
+			List<RegExceptionalHoliday> exceptionalHolidays, Collection<DayOfWeek> workingDays) {
+		Map<Integer, BitSet> holidayDays = new HashMap<>();
+		Map<Integer, List<Holiday>> holidaysByYear = new HashMap<>();
+		for (Holiday holiday : holidays) {
+			LocalDate date = holiday.getHolidayDate();
+			if (date == null) {
+				continue;
+			}
+			mark(holidayDays, date);
+			if (registrationCenter.getLangCode() == null
+					|| registrationCenter.getLangCode().equals(holiday.getLangCode())) {
+				holidaysByYear.computeIfAbsent(date.getYear(), year -> new ArrayList<>()).add(holiday);
+			}
+		}
+		Map<Integer, BitSet> exceptionalDays = new HashMap<>();
+		for (RegExceptionalHoliday exceptionalHoliday : exceptionalHolidays) {
+			if (exceptionalHoliday.getExceptionHolidayDate() != null) {
+				mark(exceptionalDays, exceptionalHoliday.getExceptionHolidayDate());
+			}
+		}
+		int mask = 0;
+		for (DayOfWeek day : workingDays) {
+			mask |= 1 << day.ordinal();
+		}
+		holidaysByYear.replaceAll((year, list) -> Collections.unmodifiableList(list));
+		return new RegistrationCenterCalendar(registrationCenter, holidayDays, exceptionalDays, holidaysByYear, mask);
+	}
+
+	/**
+	 * Converts the <code>day_seq</code> of the <code>daysofweek_list</code>
+	 * table, 1 being Sunday, to a {@link DayOfWeek}.
+	 *
+	 * @param daySeq the day sequence.
+	 * @return the day of the week.
+	 */
+	public static DayOfWeek dayOfWeek(int daySeq) {
+		return DayOfWeek.SUNDAY.plus(daySeq - 1L);
+	}
+
+	private static void mark(Map<Integer, BitSet> days, LocalDate date) {
+		days.computeIfAbsent(date.getYear(), year -> new BitSet(366)).set(date.getDayOfYear() - 1);
+	}
+
+	private static boolean isMarked(Map<Integer, BitSet> days, LocalDate date) {
+		BitSet year = days.get(date.getYear());
+		return year != null && year.get(date.getDayOfYear() - 1);
+	}
+
+	public RegistrationCenter getRegistrationCenter() {
+		return registrationCenter;
+	}
+
+	/**
+	 * @param year the year.
+	 * @return the holidays of the year in the language of the center.
+	 */
+	public List<Holiday> getHolidays(int year) {
+		return holidaysByYear.getOrDefault(year, Collections.emptyList());
+	}
+
+	/**
+	 * @param date the date.
+	 * @return true if the date is a holiday of the center holiday location.
+	 */
+	public boolean isHoliday(LocalDate date) {
+		return isMarked(holidays, date);
+	}
+
+	/**
+	 * @param date the date.
+	 * @return true if the date is an exceptional holiday of the center.
+	 */
+	public boolean isExceptionalHoliday(LocalDate date) {
+		return isMarked(exceptionalHolidays, date);
+	}
+
+	/**
+	 * @param day the day of the week.
+	 * @return true if the center works on that day of the week.
+	 */
+	public boolean isWorkingDay(DayOfWeek day) {
+		return (workingDays & 1 << day.ordinal()) != 0;
+	}
+
+	/**
+	 * @param date the date.
+	 * @return true if the center is open on the date, that is the date is a
+	 *         working day which is neither a holiday nor an exceptional holiday.
+	 */
+	public boolean isOpen(LocalDate date) {
+		return isWorkingDay(date.getDayOfWeek()) && !isHoliday(date) && !isExceptionalHoliday(date);
+	}
+}
@@ -0,0 +1,177 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.time.DayOfWeek;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.masterdata.entity.DaysOfWeek;
+import io.mosip.kernel.masterdata.entity.Holiday;
+import io.mosip.kernel.masterdata.entity.RegExceptionalHoliday;
+import io.mosip.kernel.masterdata.entity.RegWorkingNonWorking;
+import io.mosip.kernel.masterdata.entity.RegistrationCenter;
+import io.mosip.kernel.masterdata.repository.DaysOfWeekListRepo;
+import io.mosip.kernel.masterdata.repository.HolidayRepository;
+import io.mosip.kernel.masterdata.repository.RegExceptionalHolidayRepository;
+import io.mosip.kernel.masterdata.repository.RegWorkingNonWorkingRepo;
+import io.mosip.kernel.masterdata.repository.RegistrationCenterRepository;
+
+/**
+ * Cache of the {@link RegistrationCenterCalendar} of each registration center
+ * and language.
+ *
+ * A calendar is built from the registration center, holiday, exceptional
+ * holiday and working day tables on its first use. The cached calendars are
+ * rebuilt on use after a change of any of these tables is committed, see
+ * {@link #invalidate()}, or once they are older than
+ * <code>mosip.kernel.masterdata.registration-center.calendar-cache.refresh-interval</code>
+ * seconds, to pick up changes made by other instances.
+ *
+ * @since 1.1.0
+ *
+ */
+@Component
+public class RegistrationCenterCalendarCache {
+
+	/**
+	 * Incremented on every committed registration center or calendar change.
+	 */
+	private static final ModificationCounter MODIFICATIONS = ModificationCounter.forEntities(RegistrationCenter.class,
+			Holiday.class, RegExceptionalHoliday.class, RegWorkingNonWorking.class, DaysOfWeek.class);
+
+	@Value("${mosip.kernel.masterdata.registration-center.calendar-cache.enabled:false}")
+	private boolean enabled;
+
+	@Value("${mosip.kernel.masterdata.registration-center.calendar-cache.refresh-interval:300}")
+	private long refreshInterval;
+
+	@Autowired
+	private RegistrationCenterRepository registrationCenterRepository;
+
+	@Autowired
+	private HolidayRepository holidayRepository;
+
+	@Autowired
+	private RegExceptionalHolidayRepository regExceptionalHolidayRepository;
+
+	@Autowired
+	private RegWorkingNonWorkingRepo regWorkingNonWorkingRepo;
+
+	@Autowired
+	private DaysOfWeekListRepo daysOfWeekListRepo;
+
+	private final Map<String, Entry> calendars = new ConcurrentHashMap<>();
+
+	/**
+	 * Marks the calendars as stale once the current transaction commits, or
+	 * immediately outside of a transaction.
+	 */
+	public static void invalidate() {
+		MODIFICATIONS.increment();
+	}
+
+	/**
+	 * @return true if the registration center calendars are cached.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Gets the calendar of a registration center.
+	 *
+	 * @param registrationCenterId the registration center id.
+	 * @param langCode             the language code.
+	 * @return the calendar, null if the registration center does not exist.
+	 */
+	public RegistrationCenterCalendar getCalendar(String registrationCenterId, String langCode) {
+		String key = registrationCenterId + '|' + langCode;
+		Entry entry = calendars.get(key);
+		if (entry == null || entry.isStale()) {
+			synchronized (this) {
+				entry = calendars.get(key);
+				if (entry == null || entry.isStale()) {
+					long version = MODIFICATIONS.get();
+					RegistrationCenterCalendar calendar = build(registrationCenterId, langCode);
+					if (calendar == null) {
+						calendars.remove(key);
+						return null;
+					}
+					entry = new Entry(calendar, version, System.currentTimeMillis());
+					calendars.put(key, entry);
+				}
+			}
+		}
+		return entry.calendar;
+	}
+
+	private RegistrationCenterCalendar build(String registrationCenterId, String langCode) {
+		RegistrationCenter registrationCenter = registrationCenterRepository.findByIdAndLangCode(registrationCenterId,
+				langCode);
+		if (registrationCenter == null) {
+			return null;
+		}
+		List<Holiday> holidays = registrationCenter.getHolidayLocationCode() == null ? Collections.emptyList()
+				: holidayRepository.findHolidayByHolidayIdLocationCode(registrationCenter.getHolidayLocationCode());
+		return RegistrationCenterCalendar.build(registrationCenter, holidays,
+				regExceptionalHolidayRepository.findByRegIdAndLangcode(registrationCenterId, langCode),
+				workingDays(registrationCenterId, langCode));
+	}
+
+	/**
+	 * The working days of the center, or the globally working days if none are
+	 * defined for the center.
+	 */
+	private Set<DayOfWeek> workingDays(String registrationCenterId, String langCode) {
+		Map<String, DayOfWeek> days = new HashMap<>();
+		Set<DayOfWeek> globalWorkingDays = EnumSet.noneOf(DayOfWeek.class);
+		for (DaysOfWeek day : daysOfWeekListRepo.findBylangCode(langCode)) {
+			DayOfWeek dayOfWeek = RegistrationCenterCalendar.dayOfWeek(day.getDaySeq());
+			days.put(day.getCode(), dayOfWeek);
+			if (day.isGlobalWorking()) {
+				globalWorkingDays.add(dayOfWeek);
+			}
+		}
+		List<RegWorkingNonWorking> centerDays = regWorkingNonWorkingRepo
+				.findByRegCenterIdAndlanguagecode(registrationCenterId, langCode);
+		if (centerDays.isEmpty()) {
+			return globalWorkingDays;
+		}
+		Set<DayOfWeek> workingDays = EnumSet.noneOf(DayOfWeek.class);
+		for (RegWorkingNonWorking centerDay : centerDays) {
+			DayOfWeek dayOfWeek = days.get(centerDay.getDayCode());
+			if (centerDay.isWorking() && dayOfWeek != null) {
+				workingDays.add(dayOfWeek);
+			}
+		}
+		return workingDays;
+	}
+
+	private final class Entry {
+
+		private final RegistrationCenterCalendar calendar;
+
+		private final long version;
+
+		private final long builtAt;
+
+		private Entry(RegistrationCenterCalendar calendar, long version, long builtAt) {
+			this.calendar = calendar;
+			this.version = version;
+			this.builtAt = builtAt;
+		}
+
+		private boolean isStale() {
+			return version != MODIFICATIONS.get()
+					|| (refreshInterval > 0 && System.currentTimeMillis() - builtAt > refreshInterval * 1000);
+		}
+	}
+}
@@ -113,8 +113,12 @@ public class RegistrationCenterServiceHelper {
 		OptionalFilter zoneOptionalFilter = new OptionalFilter(zoneFilter);
 		Pagination pagination = dto.getPagination();
 		List<SearchSort> sort = dto.getSort();
-		dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-		dto.setSort(Collections.emptyList());
+		// sorting on the derived fields is applied in memory on every row
+		boolean pagedByDatabase = pagination != null && pageUtils.isPersistentSort(RegistrationCenter.class, sort);
+		if (!pagedByDatabase) {
+			dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
+			dto.setSort(Collections.emptyList());
+		}
 		List<RegWorkingNonWorking> workingNonWorkingDays = regWorkingNonWorkingRepo
 				.findByLanguagecode(dto.getLanguageCode());
 		List<RegExceptionalHoliday> exceptionalHoliday = regExceptionalHolidayRepository
@@ -126,7 +130,8 @@ public class RegistrationCenterServiceHelper {
 			setCenterMetadata(registrationCenters, locations, zones);
 			setWorkingNonWorking(registrationCenters, workingNonWorkingDays);
 			setExceptionalHoliday(registrationCenters, exceptionalHoliday);
-			pageDto = pageUtils.sortPage(registrationCenters, sort, pagination);
+			pageDto = pagedByDatabase ? PageUtils.pageResponse(page, registrationCenters)
+					: pageUtils.sortPage(registrationCenters, sort, pagination);
 		}
 
 		return pageDto;
@@ -0,0 +1,254 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.masterdata.entity.RegistrationCenter;
+import io.mosip.kernel.masterdata.repository.RegistrationCenterRepository;
+
+/**
+ * In-memory grid index of the active registration centers of each language,
+ * answering proximity queries without scanning the registration_center table.
+ * 
+ * The centers are bucketed by latitude and longitude into cells of
+ * <code>mosip.kernel.masterdata.registration-center.spatial-index.cell-size</code>
+ * degrees, and a query only computes the distance of the centers in the cells
+ * overlapping the bounding box of its radius. Distances are computed with the
+ * same haversine formula as the
+ * <code>RegistrationCenter.findRegistrationCentersByLat</code> query.
+ * 
+ * The index of a language is rebuilt on the first query after a registration
+ * center change is committed, see {@link #invalidate()}, or once it is older
+ * than
+ * <code>mosip.kernel.masterdata.registration-center.spatial-index.refresh-interval</code>
+ * seconds, to pick up changes made by other instances.
+ * 
+ * @since 1.1.0
+ *
+ */
+@Component
+public class RegistrationCenterSpatialIndex {
+
+	/**
+	 * Earth radius in miles, as used by the database query.
+	 */
+	private static final double EARTH_RADIUS_MILES = 3961;
+
+	private static final double MILES_PER_DEGREE = EARTH_RADIUS_MILES * Math.PI / 180;
+
+	/**
+	 * Incremented on every committed registration center change.
+	 */
+	private static final ModificationCounter MODIFICATIONS = ModificationCounter.forEntities(RegistrationCenter.class);
+
+	@Value("${mosip.kernel.masterdata.registration-center.spatial-index.enabled:false}")
+	private boolean enabled;
+
+	@Value("${mosip.kernel.masterdata.registration-center.spatial-index.cell-size:0.25}")
+	private double cellSize;
+
+	@Value("${mosip.kernel.masterdata.registration-center.spatial-index.refresh-interval:300}")
+	private long refreshInterval;
+
+	@Autowired
+	private RegistrationCenterRepository registrationCenterRepository;
+
+	private final Map<String, Grid> grids = new ConcurrentHashMap<>();
+
+	/**
+	 * Marks the indexes as stale once the current transaction commits, or
+	 * immediately outside of a transaction.
+	 */
+	public static void invalidate() {
+		MODIFICATIONS.increment();
+	}
+
+	/**
+	 * @return true if proximity queries are answered by the index.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Finds the active registration centers of a language within a distance of a
+	 * point.
+	 * 
+	 * @param latitude      the latitude of the point.
+	 * @param longitude     the longitude of the point.
+	 * @param distanceMiles the distance in miles.
+	 * @param langCode      the language code.
+	 * @return the centers, nearest first.
+	 */
+	public List<RegistrationCenter> findNearest(double latitude, double longitude, double distanceMiles,
+			String langCode) {
+		return getGrid(langCode).find(latitude, longitude, distanceMiles);
+	}
+
+	private Grid getGrid(String langCode) {
+		Grid grid = grids.get(langCode);
+		if (grid == null || grid.isStale()) {
+			synchronized (this) {
+				grid = grids.get(langCode);
+				if (grid == null || grid.isStale()) {
+					long version = MODIFICATIONS.get();
+					grid = new Grid(registrationCenterRepository.findActiveByLangCode(langCode), cellSize, version,
+							System.currentTimeMillis());
+					grids.put(langCode, grid);
+				}
+			}
+		}
+		return grid;
+	}
+
+	/**
+	 * Haversine distance in miles between two points.
+	 */
+	static double distance(double latitude1, double longitude1, double latitude2, double longitude2) {
+		double sinLatitude = Math.sin(Math.toRadians((latitude1 - latitude2) / 2));
+		double sinLongitude = Math.sin(Math.toRadians((longitude1 - longitude2) / 2));
+		return 2 * EARTH_RADIUS_MILES * Math.asin(Math.sqrt(sinLatitude * sinLatitude
+				+ Math.cos(Math.toRadians(latitude2)) * Math.cos(Math.toRadians(latitude1)) * sinLongitude * sinLongitude));
+	}
+
+	private static Double parseCoordinate(String coordinate) {
+		if (coordinate == null) {
+			return null;
+		}
+		try {
+			return Double.valueOf(coordinate.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * A registration center with its parsed coordinates.
+	 */
+	private static final class Point {
+		private final RegistrationCenter center;
+		private final double latitude;
+		private final double longitude;
+
+		private Point(RegistrationCenter center, double latitude, double longitude) {
+			this.center = center;
+			this.latitude = latitude;
+			this.longitude = longitude;
+		}
+	}
+
+	/**
+	 * A registration center within the distance of a query.
+	 */
+	private static final class Match {
+		private final RegistrationCenter center;
+		private final double distance;
+
+		private Match(RegistrationCenter center, double distance) {
+			this.center = center;
+			this.distance = distance;
+		}
+	}
+
+	/**
+	 * Immutable grid of the centers of a language.
+	 */
+	private final class Grid {
+		private final Map<Long, List<Point>> cells = new HashMap<>();
+		private final List<Point> points = new ArrayList<>();
+		private final double size;
+		private final long version;
+		private final long builtAt;
+
+		private Grid(List<RegistrationCenter> centers, double size, long version, long builtAt) {
+			this.size = size;
+			this.version = version;
+			this.builtAt = builtAt;
+			for (RegistrationCenter center : centers) {
+				Double latitude = parseCoordinate(center.getLatitude());
+				Double longitude = parseCoordinate(center.getLongitude());
+				if (latitude != null && longitude != null) {
+					Point point = new Point(center, latitude, longitude);
+					points.add(point);
+					cells.computeIfAbsent(key(cell(latitude), cell(longitude)), k -> new ArrayList<>()).add(point);
+				}
+			}
+		}
+
+		private boolean isStale() {
+			return version != MODIFICATIONS.get()
+					|| (refreshInterval > 0 && System.currentTimeMillis() - builtAt > refreshInterval * 1000);
+		}
+
+		private List<RegistrationCenter> find(double latitude, double longitude, double distanceMiles) {
+			double latitudeSpan = distanceMiles / MILES_PER_DEGREE;
+			double maxLatitude = Math.abs(latitude) + latitudeSpan;
+			List<Point> candidates;
+			if (maxLatitude >= 89 || latitudeSpan >= 90) {
+				candidates = points;
+			} else {
+				double longitudeSpan = latitudeSpan / Math.cos(Math.toRadians(maxLatitude));
+				candidates = longitudeSpan >= 180 ? points
+						: collect(latitude - latitudeSpan, latitude + latitudeSpan, longitude - longitudeSpan,
+								longitude + longitudeSpan);
+			}
+			List<Match> matches = new ArrayList<>();
+			for (Point point : candidates) {
+				double distance = distance(latitude, longitude, point.latitude, point.longitude);
+				if (distance < distanceMiles) {
+					matches.add(new Match(point.center, distance));
+				}
+			}
+			matches.sort(Comparator.comparingDouble(match -> match.distance));
+			List<RegistrationCenter> result = new ArrayList<>(matches.size());
+			for (Match match : matches) {
+				result.add(match.center);
+			}
+			return result;
+		}
+
+		private List<Point> collect(double minLatitude, double maxLatitude, double minLongitude,
+				double maxLongitude) {
+			List<Point> candidates = new ArrayList<>();
+			// the longitudes beyond the antimeridian are looked up on its other side
+			if (minLongitude < -180) {
+				collect(candidates, minLatitude, maxLatitude, minLongitude + 360, 180);
+				minLongitude = -180;
+			}
+			if (maxLongitude > 180) {
+				collect(candidates, minLatitude, maxLatitude, -180, maxLongitude - 360);
+				maxLongitude = 180;
+			}
+			collect(candidates, minLatitude, maxLatitude, minLongitude, maxLongitude);
+			return candidates;
+		}
+
+		private void collect(List<Point> candidates, double minLatitude, double maxLatitude, double minLongitude,
+				double maxLongitude) {
+			for (long latitudeCell = cell(minLatitude); latitudeCell <= cell(maxLatitude); latitudeCell++) {
+				for (long longitudeCell = cell(minLongitude); longitudeCell <= cell(maxLongitude); longitudeCell++) {
+					List<Point> cell = cells.get(key(latitudeCell, longitudeCell));
+					if (cell != null) {
+						candidates.addAll(cell);
+					}
+				}
+			}
+		}
+
+		private long cell(double coordinate) {
+			return (long) Math.floor(coordinate / size);
+		}
+
+		private long key(long latitudeCell, long longitudeCell) {
+			return (latitudeCell << 32) ^ (longitudeCell & 0xffffffffL);
+		}
+	}
+}
@@ -1,11 +1,13 @@
 package io.mosip.kernel.masterdata.utils;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.Transient;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -21,11 +23,24 @@ import io.mosip.kernel.masterdata.exception.RequestException;
  * {@link SortUtils} use to sort the list based on the sort criteria this class
  * support multiple field sorting
  * 
+ * The sortable fields of each class are resolved once through
+ * {@link ClassMetadata} and shared by all instances.
+ * 
  * @author Abhishek Kumar
  * @since 1.0.0
  */
 public class SortUtils {
 
+	/**
+	 * The fields of each class with those of its super class.
+	 */
+	private static final Map<Class<?>, List<FieldAccessor>> FIELDS = new ConcurrentHashMap<>();
+
+	/**
+	 * The fields of each entity class with those of its super class.
+	 */
+	private static final Map<Class<?>, List<FieldAccessor>> ENTITY_FIELDS = new ConcurrentHashMap<>();
+
 	/**
 	 * Method to sort the list based on the sorting parameter support mutliple sort
 	 * criteria
@@ -36,7 +51,7 @@ public class SortUtils {
 	 * @return sorted list
 	 */
 	public <T> List<T> sort(List<T> list, List<SearchSort> sortCriteria) {
-		List<Field> fields = null;
+		List<FieldAccessor> fields = null;
 		if (toBeSorted(list, sortCriteria)) {
 			T data = list.get(0);
 			fields = extractField(data);
@@ -45,8 +60,9 @@ public class SortUtils {
 				SearchSort sort = sortCriteria.get(i);
 				comparatorlist.add(new FieldComparator<T>(findField(fields, sort.getSortField()), sort));
 			}
-			return list.parallelStream().sorted(new MultiFieldComparator<T>(comparatorlist))
-					.collect(Collectors.toList());
+			List<T> sortedList = new ArrayList<>(list);
+			sortedList.sort(new MultiFieldComparator<T>(comparatorlist));
+			return sortedList;
 		}
 		return list;
 	}
@@ -68,28 +84,32 @@ public class SortUtils {
 	 * 
 	 * @param <T>   generic type
 	 * @param clazz input class
-	 * @return {@link List} of {@link Field} for the input along with super class
-	 *         {@link Field}
+	 * @return {@link List} of {@link FieldAccessor} for the input along with super
+	 *         class {@link FieldAccessor}
 	 */
-	private <T> List<Field> extractField(T clazz) {
-		List<Field> fields = new ArrayList<>();
-		fields.addAll(Arrays.asList(clazz.getClass().getDeclaredFields()));
-		if (clazz.getClass().getSuperclass() != Object.class) {
-			fields.addAll(Arrays.asList(clazz.getClass().getSuperclass().getDeclaredFields()));
-		}
-		return fields;
+	private <T> List<FieldAccessor> extractField(T clazz) {
+		return FIELDS.computeIfAbsent(clazz.getClass(), type -> {
+			List<FieldAccessor> fields = new ArrayList<>();
+			fields.addAll(ClassMetadata.of(type).getDeclaredFields());
+			if (type.getSuperclass() != Object.class) {
+				fields.addAll(ClassMetadata.of(type.getSuperclass()).getDeclaredFields());
+			}
+			return Collections.unmodifiableList(fields);
+		});
 	}
 
-	private <T extends BaseEntity> List<Field> extractEntityFields(Class<T> clazz) {
-		List<Field> fields = new ArrayList<>();
-		fields.addAll(Arrays.asList(clazz.getDeclaredFields()));
-		fields.addAll(Arrays.asList(clazz.getSuperclass().getDeclaredFields()));
-		return fields;
+	private <T extends BaseEntity> List<FieldAccessor> extractEntityFields(Class<T> clazz) {
+		return ENTITY_FIELDS.computeIfAbsent(clazz, type -> {
+			List<FieldAccessor> fields = new ArrayList<>();
+			fields.addAll(ClassMetadata.of(type).getDeclaredFields());
+			fields.addAll(ClassMetadata.of(type.getSuperclass()).getDeclaredFields());
+			return Collections.unmodifiableList(fields);
+		});
 
 	}
 
-	private Field findField(List<Field> fields, String name) {
-		Optional<Field> field = fields.stream().filter(f -> f.getName().equalsIgnoreCase(name)).findFirst();
+	private FieldAccessor findField(List<FieldAccessor> fields, String name) {
+		Optional<FieldAccessor> field = fields.stream().filter(f -> f.getName().equalsIgnoreCase(name)).findFirst();
 		if (StringUtils.isBlank(name)) {
 			throw new RequestException(MasterdataSearchErrorCode.INVALID_SORT_INPUT.getErrorCode(),
 					MasterdataSearchErrorCode.INVALID_SORT_INPUT.getErrorMessage());
@@ -108,7 +128,7 @@ public class SortUtils {
 	 * @param searchSorts - {@link SearchSort}
 	 */
 	public <T extends BaseEntity> void validateSortField(Class<T> clazz, List<SearchSort> searchSorts) {
-		List<Field> fields = extractEntityFields(clazz);
+		List<FieldAccessor> fields = extractEntityFields(clazz);
 		for (SearchSort searchSort : searchSorts) {
 			findField(fields, searchSort.getSortField());
 			findType(searchSort.getSortType());
@@ -131,8 +151,8 @@ public class SortUtils {
 
 	public <T> void validateSortLocationField(Class<LocationSearchDto> clazz, Class<Location> class2,
 			List<SearchSort> searchSorts) {
-		List<Field> fields = extractFields(clazz);
-		List<Field> entityFields = extractEntityFields(class2);
+		List<FieldAccessor> fields = extractFields(clazz);
+		List<FieldAccessor> entityFields = extractEntityFields(class2);
 		fields.addAll(entityFields);
 		for (SearchSort searchSort : searchSorts) {
 			findField(fields, searchSort.getSortField());
@@ -142,8 +162,8 @@ public class SortUtils {
 
 	public <T extends BaseEntity, E> void validateSortField(Class<E> clazz, Class<T> class2,
 			List<SearchSort> searchSorts) {
-		List<Field> fields = extractFields(clazz);
-		List<Field> entityFields = extractEntityFields(class2);
+		List<FieldAccessor> fields = extractFields(clazz);
+		List<FieldAccessor> entityFields = extractEntityFields(class2);
 		fields.addAll(entityFields);
 		for (SearchSort searchSort : searchSorts) {
 			findField(fields, searchSort.getSortField());
@@ -151,10 +171,31 @@ public class SortUtils {
 		}
 	}
 
-	private <T> List<Field> extractFields(Class<T> clazz) {
-		List<Field> fields = new ArrayList<>();
-		fields.addAll(Arrays.asList(clazz.getDeclaredFields()));
-		return fields;
+	/**
+	 * Method to check whether every sort field is a persistent attribute of the
+	 * entity, in which case the sorting and the pagination can be applied by the
+	 * database instead of in memory
+	 * 
+	 * @param clazz       - entity class
+	 * @param searchSorts - {@link SearchSort}
+	 * @return true if every sort field is persistent, false otherwise
+	 */
+	public <T extends BaseEntity> boolean isPersistentSort(Class<T> clazz, List<SearchSort> searchSorts) {
+		if (searchSorts == null) {
+			return true;
+		}
+		List<FieldAccessor> fields = extractEntityFields(clazz);
+		return searchSorts.stream().allMatch(searchSort -> fields.stream()
+				.anyMatch(field -> field.getName().equals(searchSort.getSortField()) && isPersistent(field)));
+	}
+
+	private boolean isPersistent(FieldAccessor field) {
+		return !field.isStatic() && !field.isAnnotationPresent(Transient.class)
+				&& (field.getType().isPrimitive() || Comparable.class.isAssignableFrom(field.getType()));
+	}
+
+	private <T> List<FieldAccessor> extractFields(Class<T> clazz) {
+		return new ArrayList<>(ClassMetadata.of(clazz).getDeclaredFields());
 	}
 
 }
@@ -1,12 +1,17 @@
 package io.mosip.kernel.masterdata.utils;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,12 +33,31 @@ import io.mosip.kernel.masterdata.repository.ZoneUserRepository;
 /**
  * Zone utility
  * 
+ * When <code>mosip.kernel.masterdata.zone-cache.enabled</code> is set, the
+ * zones are read from an in-memory index of the zone tree, and the zones
+ * resolved for each user are cached. Both are rebuilt after a zone or zone user
+ * change is committed, see {@link #invalidateZones()} and
+ * {@link #invalidateZoneUsers()}, or once older than
+ * <code>mosip.kernel.masterdata.zone-cache.refresh-interval</code> seconds, to
+ * pick up changes made by other instances.
+ * 
  * @author Abhishek Kumar
  * @since 1.0.0
  */
 @Component
 public class ZoneUtils {
 
+	/**
+	 * Incremented on every committed zone change.
+	 */
+	private static final ModificationCounter ZONE_MODIFICATIONS = ModificationCounter.forEntities(Zone.class);
+
+	/**
+	 * Incremented on every committed zone user change.
+	 */
+	private static final ModificationCounter ZONE_USER_MODIFICATIONS = ModificationCounter
+			.forEntities(ZoneUser.class);
+
 	@Autowired
 	private ZoneRepository zoneRepository;
 
@@ -50,6 +74,31 @@ public class ZoneUtils {
 	@Value("${mosip.primary-language}")
 	private String primaryLangugage;
 
+	@Value("${mosip.kernel.masterdata.zone-cache.enabled:false}")
+	private boolean cacheEnabled;
+
+	@Value("${mosip.kernel.masterdata.zone-cache.refresh-interval:60}")
+	private long refreshInterval;
+
+	private volatile ZoneIndex zoneIndex;
+
+	private final Map<String, UserZones> userZonesCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Marks the zone index as stale once the current transaction commits.
+	 */
+	public static void invalidateZones() {
+		ZONE_MODIFICATIONS.increment();
+	}
+
+	/**
+	 * Marks the resolved user zones as stale once the current transaction
+	 * commits.
+	 */
+	public static void invalidateZoneUsers() {
+		ZONE_USER_MODIFICATIONS.increment();
+	}
+
 	/**
 	 * Method to get the all the users zones based on the passed list of zone and
 	 * will fetch all the child hierarchy.
@@ -100,6 +149,9 @@ public class ZoneUtils {
 	 * @return list of zones
 	 */
 	public List<Zone> getUserZones() {
+		if (cacheEnabled) {
+			return getCachedUserZones(SecurityContextHolder.getContext().getAuthentication().getName());
+		}
 		List<Zone> zones = null;
 		try {
 			zones = zoneRepository.findAllNonDeleted();
@@ -126,6 +178,12 @@ public class ZoneUtils {
 	 */
 	public List<Zone> getZones(Zone zone) {
 		Objects.requireNonNull(zone, "zone cannot be null");
+		if (cacheEnabled) {
+			Set<String> subtreeCodes = getZoneIndex().subtree(zone.getCode(), zone.getLangCode()).stream()
+					.map(Zone::getCode).collect(Collectors.toSet());
+			return getUserZones().stream().filter(z -> subtreeCodes.contains(z.getCode()))
+					.collect(Collectors.toList());
+		}
 		Set<String> zoneList = new HashSet<>();
 		List<Zone> zones = getUserZones();
 		if (zones != null && !zones.isEmpty()) {
@@ -183,6 +241,15 @@ public class ZoneUtils {
 	 */
 	public List<Zone> getUserLeafZones(String langCode) {
 		String userName = SecurityContextHolder.getContext().getAuthentication().getName();
+		if (cacheEnabled) {
+			ZoneIndex index = getZoneIndex();
+			UserZones userZones = getCachedUserZones(index, userName);
+			if (userZones == null || userZones.zoneCode == null) {
+				return Collections.emptyList();
+			}
+			String lang = langCode.equals("all") ? primaryLangugage : langCode;
+			return index.leaves(userZones.zoneCode, lang);
+		}
 		List<ZoneUser> userZones = getZoneUser(userName);
 		if (userZones != null && !userZones.isEmpty()) {
 			Optional<String> zoneId = userZones.stream().map(ZoneUser::getZoneCode).findFirst();
@@ -235,6 +302,9 @@ public class ZoneUtils {
 	 * @return list of zones
 	 */
 	public List<Zone> getUserZonesByUserId(String userId) {
+		if (cacheEnabled) {
+			return getCachedUserZones(userId);
+		}
 		List<Zone> zones = null;
 		try {
 			zones = zoneRepository.findAllNonDeleted();
@@ -254,6 +324,9 @@ public class ZoneUtils {
 	}
 
 	public List<Zone> getChildZoneList(List<String> zoneIds, String zoneCode, String langCode) {
+		if (cacheEnabled) {
+			return new ArrayList<>(getZoneIndex().subtree(zoneCode, langCode));
+		}
 		List<Zone> zones = null;
 		Zone zone = zoneRepository.findZoneByCodeAndLangCodeNonDeleted(zoneCode, langCode);
 		zones = zoneRepository.findAllNonDeleted();
@@ -261,4 +334,217 @@ public class ZoneUtils {
 		return zoneHeirarchyList;
 	}
 
+	/**
+	 * Method to fetch the zones of a user and all their child zones from the
+	 * cache, resolving them on a miss.
+	 * 
+	 * @param userId the user id
+	 * @return list of zones
+	 */
+	private List<Zone> getCachedUserZones(String userId) {
+		UserZones userZones = getCachedUserZones(getZoneIndex(), userId);
+		if (userZones == null) {
+			return Collections.emptyList();
+		}
+		if (userZones.zoneCode == null) {
+			throw new MasterDataServiceException(ZoneErrorCode.USER_ZONE_UNAVAILABLE.getErrorCode(),
+					String.format(ZoneErrorCode.USER_ZONE_UNAVAILABLE.getErrorMessage(), userId));
+		}
+		return new ArrayList<>(userZones.zones);
+	}
+
+	/**
+	 * Method to get the cached zones of a user, resolving them if stale.
+	 * 
+	 * @param index  the current zone index
+	 * @param userId the user id
+	 * @return the user zones, or null when there are no zones at all
+	 */
+	private UserZones getCachedUserZones(ZoneIndex index, String userId) {
+		if (index.zones.isEmpty()) {
+			return null;
+		}
+		UserZones userZones = userZonesCache.get(userId);
+		if (userZones == null || userZones.isStale(index)) {
+			long userVersion = ZONE_USER_MODIFICATIONS.get();
+			List<ZoneUser> zoneUsers = getZoneUser(userId);
+			if (zoneUsers == null) {
+				zoneUsers = Collections.emptyList();
+			}
+			Set<String> zoneCodes = new HashSet<>();
+			for (ZoneUser zoneUser : zoneUsers) {
+				index.subtree(zoneUser.getZoneCode(), zoneUser.getLangCode()).forEach(z -> zoneCodes.add(z.getCode()));
+			}
+			List<Zone> zones = index.zones.stream().filter(z -> zoneCodes.contains(z.getCode()))
+					.collect(Collectors.toList());
+			userZones = new UserZones(Collections.unmodifiableList(zones),
+					zoneUsers.isEmpty() ? null : zoneUsers.get(0).getZoneCode(), index, userVersion);
+			userZonesCache.put(userId, userZones);
+		}
+		return userZones;
+	}
+
+	/**
+	 * Method to get the zone index, rebuilding it if stale.
+	 * 
+	 * @return the zone index
+	 */
+	private ZoneIndex getZoneIndex() {
+		ZoneIndex index = zoneIndex;
+		if (index == null || index.isStale()) {
+			synchronized (this) {
+				index = zoneIndex;
+				if (index == null || index.isStale()) {
+					long version = ZONE_MODIFICATIONS.get();
+					List<Zone> zones = null;
+					try {
+						zones = zoneRepository.findAllNonDeleted();
+					} catch (DataAccessException e) {
+						throw new MasterDataServiceException(ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorCode(),
+								ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorMessage());
+					}
+					index = new ZoneIndex(zones == null ? Collections.emptyList() : zones, version);
+					zoneIndex = index;
+					userZonesCache.clear();
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Immutable index of the non deleted zones, with the subtree of each zone laid
+	 * out in depth first order per language.
+	 */
+	private final class ZoneIndex {
+		private final List<Zone> zones;
+		private final long version;
+		private final long builtAt = System.currentTimeMillis();
+		private final Map<String, Map<String, Zone>> byLangAndCode = new HashMap<>();
+		private final Map<String, Map<String, List<Zone>>> children = new HashMap<>();
+		private final Map<String, List<Zone>> order = new HashMap<>();
+		/**
+		 * The range of the subtree of each zone in the order of its language, start
+		 * inclusive and end exclusive.
+		 */
+		private final Map<String, Map<String, int[]>> ranges = new HashMap<>();
+
+		private ZoneIndex(List<Zone> zones, long version) {
+			this.zones = Collections.unmodifiableList(new ArrayList<>(zones));
+			this.version = version;
+			for (Zone zone : zones) {
+				byLangAndCode.computeIfAbsent(zone.getLangCode(), lang -> new HashMap<>()).putIfAbsent(zone.getCode(),
+						zone);
+			}
+			for (Map.Entry<String, Map<String, Zone>> entry : byLangAndCode.entrySet()) {
+				String lang = entry.getKey();
+				Map<String, Zone> langZones = entry.getValue();
+				Map<String, List<Zone>> langChildren = new HashMap<>();
+				List<Zone> roots = new ArrayList<>();
+				for (Zone zone : zones) {
+					if (!lang.equals(zone.getLangCode()) || langZones.get(zone.getCode()) != zone) {
+						continue;
+					}
+					String parent = zone.getParentZoneCode();
+					if (parent != null && langZones.containsKey(parent) && !parent.equals(zone.getCode())) {
+						langChildren.computeIfAbsent(parent, code -> new ArrayList<>()).add(zone);
+					} else {
+						roots.add(zone);
+					}
+				}
+				children.put(lang, langChildren);
+				List<Zone> tour = new ArrayList<>(langZones.size());
+				Map<String, int[]> langRanges = new HashMap<>();
+				for (Zone root : roots) {
+					visit(root, langChildren, tour, langRanges);
+				}
+				order.put(lang, tour);
+				ranges.put(lang, langRanges);
+			}
+		}
+
+		/**
+		 * Lays out the subtree of a zone in depth first order, without recursion.
+		 */
+		private void visit(Zone root, Map<String, List<Zone>> langChildren, List<Zone> tour,
+				Map<String, int[]> langRanges) {
+			Deque<Zone> path = new ArrayDeque<>();
+			Deque<Integer> next = new ArrayDeque<>();
+			langRanges.put(root.getCode(), new int[] { tour.size(), 0 });
+			tour.add(root);
+			path.push(root);
+			next.push(0);
+			while (!path.isEmpty()) {
+				Zone zone = path.peek();
+				int index = next.pop();
+				List<Zone> zoneChildren = langChildren.getOrDefault(zone.getCode(), Collections.emptyList());
+				if (index < zoneChildren.size()) {
+					next.push(index + 1);
+					Zone child = zoneChildren.get(index);
+					if (!langRanges.containsKey(child.getCode())) {
+						langRanges.put(child.getCode(), new int[] { tour.size(), 0 });
+						tour.add(child);
+						path.push(child);
+						next.push(0);
+					}
+				} else {
+					langRanges.get(zone.getCode())[1] = tour.size();
+					path.pop();
+				}
+			}
+		}
+
+		/**
+		 * @return the zone and all its child zones of the language
+		 */
+		private List<Zone> subtree(String code, String lang) {
+			int[] range = ranges.getOrDefault(lang, Collections.emptyMap()).get(code);
+			if (range == null) {
+				return Collections.emptyList();
+			}
+			return order.get(lang).subList(range[0], range[1]);
+		}
+
+		/**
+		 * @return the zones without child zones in the subtree of the zone
+		 */
+		private List<Zone> leaves(String code, String lang) {
+			Map<String, List<Zone>> langChildren = children.getOrDefault(lang, Collections.emptyMap());
+			return subtree(code, lang).stream().filter(z -> !langChildren.containsKey(z.getCode()))
+					.collect(Collectors.toList());
+		}
+
+		private boolean isStale() {
+			return version != ZONE_MODIFICATIONS.get()
+					|| (refreshInterval > 0 && System.currentTimeMillis() - builtAt > refreshInterval * 1000);
+		}
+	}
+
+	/**
+	 * The zones resolved for a user.
+	 */
+	private final class UserZones {
+		private final List<Zone> zones;
+		/**
+		 * The zone code of the first zone user, the root of the user's leaf zones, or
+		 * null when the user has no zone.
+		 */
+		private final String zoneCode;
+		private final ZoneIndex index;
+		private final long version;
+		private final long builtAt = System.currentTimeMillis();
+
+		private UserZones(List<Zone> zones, String zoneCode, ZoneIndex index, long version) {
+			this.zones = zones;
+			this.zoneCode = zoneCode;
+			this.index = index;
+			this.version = version;
+		}
+
+		private boolean isStale(ZoneIndex currentIndex) {
+			return index != currentIndex || version != ZONE_USER_MODIFICATIONS.get()
+					|| (refreshInterval > 0 && System.currentTimeMillis() - builtAt > refreshInterval * 1000);
+		}
+	}
+
 }
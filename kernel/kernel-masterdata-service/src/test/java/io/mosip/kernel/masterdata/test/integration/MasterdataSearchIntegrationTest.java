@@ -5,6 +5,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDate;
@@ -91,6 +92,7 @@ import io.mosip.kernel.masterdata.service.LocationService;
 import io.mosip.kernel.masterdata.test.TestBootApplication;
 import io.mosip.kernel.masterdata.utils.AuditUtil;
 import io.mosip.kernel.masterdata.utils.DeviceUtils;
+import io.mosip.kernel.masterdata.utils.KeysetPage;
 import io.mosip.kernel.masterdata.utils.MachineUtil;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataSearchHelper;
@@ -722,6 +724,40 @@ public class MasterdataSearchIntegrationTest {
 				.andExpect(status().isOk());
 	}
 
+	@Test
+	@WithUserDetails("global-admin")
+	public void searchMachinePageTokenTest() throws Exception {
+		Machine first = new Machine();
+		first.setId("1001");
+		first.setLangCode("eng");
+		Machine second = new Machine();
+		second.setId("1002");
+		second.setLangCode("eng");
+		when(filterTypeValidator.validate(Mockito.eq(MachineSearchDto.class), Mockito.anyList())).thenReturn(true);
+		when(masterdataSearchHelper.searchMasterdata(Mockito.eq(Machine.class),
+				Mockito.argThat(dto -> dto != null && dto.getPagination().getPageFetch() == 1
+						&& dto.getPagination().getPageToken() == null),
+				Mockito.any())).thenReturn(new KeysetPage<>(Arrays.asList(first), PageRequest.of(0, 1), 2, "token-1"));
+		when(masterdataSearchHelper.searchMasterdata(Mockito.eq(Machine.class),
+				Mockito.argThat(dto -> dto != null && dto.getPagination().getPageFetch() == 1
+						&& "token-1".equals(dto.getPagination().getPageToken())),
+				Mockito.any())).thenReturn(new KeysetPage<>(Arrays.asList(second), PageRequest.of(1, 1), 2, null));
+
+		machineSearchDto.setPagination(new Pagination(0, 1));
+		mockMvc.perform(post("/machines/search").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(machineRequestDto))).andExpect(status().isOk())
+				.andExpect(jsonPath("$.response.data[0].id").value("1001"))
+				.andExpect(jsonPath("$.response.fromRecord").value(1))
+				.andExpect(jsonPath("$.response.nextPageToken").value("token-1"));
+
+		machineSearchDto.setPagination(new Pagination(1, 1, "token-1"));
+		mockMvc.perform(post("/machines/search").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(machineRequestDto))).andExpect(status().isOk())
+				.andExpect(jsonPath("$.response.data[0].id").value("1002"))
+				.andExpect(jsonPath("$.response.fromRecord").value(2))
+				.andExpect(jsonPath("$.response.nextPageToken").doesNotExist());
+	}
+
 	@Test
 	@WithUserDetails("global-admin")
 	public void searchMachineByMappedStatusFieldTest() throws Exception {
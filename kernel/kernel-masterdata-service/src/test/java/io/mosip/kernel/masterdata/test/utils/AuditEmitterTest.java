@@ -0,0 +1,211 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.mosip.kernel.masterdata.dto.request.AuditRequestDto;
+import io.mosip.kernel.masterdata.utils.AuditEmitter;
+
+public class AuditEmitterTest {
+
+	private static final String BULK_URL = "http://localhost/auditmanager/audits/bulk";
+
+	@Rule
+	public TemporaryFolder spillDirectory = new TemporaryFolder();
+
+	private RestTemplate restTemplate;
+
+	private AuditEmitter emitter;
+
+	@Before
+	public void setUp() {
+		restTemplate = mock(RestTemplate.class);
+		emitter = new AuditEmitter();
+		ReflectionTestUtils.setField(emitter, "enabled", true);
+		ReflectionTestUtils.setField(emitter, "bulkUrl", BULK_URL);
+		ReflectionTestUtils.setField(emitter, "queueCapacity", 100);
+		ReflectionTestUtils.setField(emitter, "batchSize", 10);
+		ReflectionTestUtils.setField(emitter, "flushInterval", 20L);
+		ReflectionTestUtils.setField(emitter, "maxRetries", 1);
+		ReflectionTestUtils.setField(emitter, "retryBackoff", 1L);
+		ReflectionTestUtils.setField(emitter, "spillDirectory", spillDirectory.getRoot().getAbsolutePath());
+		ReflectionTestUtils.setField(emitter, "restTemplate", restTemplate);
+		ReflectionTestUtils.setField(emitter, "objectMapper", new ObjectMapper().registerModule(new JavaTimeModule()));
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		emitter.stop();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	public void sendBatchTest() throws InterruptedException {
+		when(restTemplate.exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+				.thenReturn(new ResponseEntity<>("{\"response\":{\"status\":true}}", HttpStatus.OK));
+		emitter.start();
+		for (int i = 0; i < 5; i++) {
+			emitter.emit(audit("ADM-" + i));
+		}
+		await(() -> {
+			try {
+				verify(restTemplate, atLeast(1)).exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class),
+						eq(String.class));
+				return true;
+			} catch (AssertionError e) {
+				return false;
+			}
+		});
+		assertEquals(0, spilled(".json").length);
+	}
+
+	@Test
+	public void spillAndReplayTest() throws InterruptedException, IOException {
+		when(restTemplate.exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+				.thenThrow(new ResourceAccessException("connection refused"));
+		emitter.start();
+		emitter.emit(audit("ADM-1"));
+		await(() -> spilled(".json").length == 1);
+		List<?> spilledAudits = new ObjectMapper().registerModule(new JavaTimeModule())
+				.readValue(spilled(".json")[0], List.class);
+		assertEquals(1, spilledAudits.size());
+
+		doReturn(new ResponseEntity<>("{\"response\":{\"status\":true}}", HttpStatus.OK)).when(restTemplate)
+				.exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+		emitter.emit(audit("ADM-2"));
+		await(() -> spilled(".json").length == 0);
+	}
+
+	@Test
+	public void sendWithAuthenticationOfEmittingRequestTest() throws InterruptedException {
+		List<Authentication> sentWith = new CopyOnWriteArrayList<>();
+		when(restTemplate.exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+				.thenAnswer(invocation -> {
+					sentWith.add(SecurityContextHolder.getContext().getAuthentication());
+					return new ResponseEntity<>("{\"response\":{\"status\":true}}", HttpStatus.OK);
+				});
+		Authentication first = new TestingAuthenticationToken("110001", "token1");
+		Authentication second = new TestingAuthenticationToken("110002", "token2");
+		emitter.start();
+		SecurityContextHolder.getContext().setAuthentication(first);
+		emitter.emit(audit("ADM-1"));
+		SecurityContextHolder.getContext().setAuthentication(second);
+		emitter.emit(audit("ADM-2"));
+		await(() -> sentWith.size() == 2);
+		assertEquals(Arrays.asList(first, second), sentWith);
+	}
+
+	@Test
+	public void unauthorizedBatchSpilledWithoutRetryTest() throws InterruptedException {
+		when(restTemplate.exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+				.thenThrow(new HttpClientErrorException(HttpStatus.UNAUTHORIZED));
+		emitter.start();
+		emitter.emit(audit("ADM-1"));
+		await(() -> spilled(".json").length == 1);
+		Thread.sleep(100);
+		verify(restTemplate, times(1)).exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class),
+				eq(String.class));
+		assertEquals(0, spilled(".rejected").length);
+	}
+
+	@Test
+	public void fullQueueSpilledByWorkerTest() throws InterruptedException {
+		CountDownLatch sending = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(restTemplate.exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+				.thenAnswer(invocation -> {
+					sending.countDown();
+					release.await();
+					return new ResponseEntity<>("{\"response\":{\"status\":true}}", HttpStatus.OK);
+				});
+		ReflectionTestUtils.setField(emitter, "queueCapacity", 1);
+		emitter.start();
+		emitter.emit(audit("ADM-1"));
+		sending.await();
+		emitter.emit(audit("ADM-2"));
+		emitter.emit(audit("ADM-3"));
+		await(() -> spilled(".json").length == 1);
+		release.countDown();
+	}
+
+	@Test
+	public void rejectedBatchTest() throws InterruptedException {
+		when(restTemplate.exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+				.thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+		emitter.start();
+		emitter.emit(audit("ADM-1"));
+		await(() -> spilled(".rejected").length == 1);
+		assertEquals(0, spilled(".json").length);
+	}
+
+	private File[] spilled(String extension) {
+		File[] files = spillDirectory.getRoot().listFiles((dir, name) -> name.endsWith(extension));
+		return files == null ? new File[0] : files;
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		while (!condition.getAsBoolean()) {
+			assertTrue("condition not met in time", System.currentTimeMillis() < deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private static AuditRequestDto audit(String eventId) {
+		AuditRequestDto auditRequestDto = new AuditRequestDto();
+		auditRequestDto.setEventId(eventId);
+		auditRequestDto.setEventName("eventName");
+		auditRequestDto.setEventType("SYSTEM");
+		auditRequestDto.setActionTimeStamp(LocalDateTime.now());
+		auditRequestDto.setHostName("hostName");
+		auditRequestDto.setHostIp("127.0.0.1");
+		auditRequestDto.setApplicationId("10009");
+		auditRequestDto.setApplicationName("Admin_Portal");
+		auditRequestDto.setSessionUserId("110001");
+		auditRequestDto.setSessionUserName("110001");
+		auditRequestDto.setId("NO_ID");
+		auditRequestDto.setIdType("NO_ID_TYPE");
+		auditRequestDto.setCreatedBy("110001");
+		auditRequestDto.setModuleId("KER-MSD");
+		auditRequestDto.setModuleName("Kernel masterdata");
+		auditRequestDto.setDescription("description");
+		return auditRequestDto;
+	}
+}
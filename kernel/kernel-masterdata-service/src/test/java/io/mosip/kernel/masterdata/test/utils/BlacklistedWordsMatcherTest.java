@@ -0,0 +1,77 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.mosip.kernel.masterdata.utils.BlacklistedWordsMatcher;
+
+public class BlacklistedWordsMatcherTest {
+
+	@Test
+	public void exactMatchTest() {
+		BlacklistedWordsMatcher matcher = BlacklistedWordsMatcher.compile(Arrays.asList("not-allowed", "damn"),
+				false);
+		assertTrue(matcher.matches("not-allowed"));
+		assertTrue(matcher.matches("NOT-Allowed"));
+		assertFalse(matcher.matches("damnation"));
+		assertFalse(matcher.matches("allowed"));
+		assertFalse(matcher.matches(null));
+		assertTrue(matcher.matchesAny(Arrays.asList("fine", "Damn")));
+		assertFalse(matcher.matchesAny(Arrays.asList("fine", "good")));
+	}
+
+	@Test
+	public void substringMatchTest() {
+		BlacklistedWordsMatcher matcher = BlacklistedWordsMatcher.compile(Arrays.asList("he", "she", "his", "hers"),
+				true);
+		assertTrue(matcher.matches("ushers"));
+		assertTrue(matcher.matches("AHISHE"));
+		assertFalse(matcher.matches("hi"));
+		assertFalse(matcher.matches("xyz"));
+	}
+
+	@Test
+	public void normalizedMatchTest() {
+		BlacklistedWordsMatcher matcher = BlacklistedWordsMatcher.compile(Arrays.asList("ＢＡＤ"), true);
+		assertTrue(matcher.matches("bad"));
+		assertTrue(matcher.matches("aBADc"));
+	}
+
+	@Test
+	public void emptyWordIgnoredTest() {
+		BlacklistedWordsMatcher matcher = BlacklistedWordsMatcher.compile(Arrays.asList("", null), true);
+		assertFalse(matcher.matches("anything"));
+		assertFalse(matcher.matches(""));
+	}
+
+	@Test
+	public void substringMatchesContainsTest() {
+		Random random = new Random(7);
+		List<String> words = new ArrayList<>();
+		for (int i = 0; i < 400; i++) {
+			StringBuilder word = new StringBuilder();
+			int length = 1 + random.nextInt(5);
+			for (int j = 0; j < length; j++) {
+				word.append((char) ('a' + random.nextInt(4)));
+			}
+			words.add(word.toString());
+		}
+		List<String> blacklisted = words.subList(0, 200);
+		BlacklistedWordsMatcher matcher = BlacklistedWordsMatcher.compile(blacklisted, true);
+		for (String word : words.subList(200, 400)) {
+			boolean contains = blacklisted.stream().anyMatch(word::contains);
+			if (contains) {
+				assertTrue(word, matcher.matches(word));
+			} else {
+				assertFalse(word, matcher.matches(word));
+			}
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.masterdata.constant.BulkUploadErrorCode;
+import io.mosip.kernel.masterdata.dto.LocationDto;
+import io.mosip.kernel.masterdata.exception.RequestException;
+import io.mosip.kernel.masterdata.utils.BulkRecord;
+import io.mosip.kernel.masterdata.utils.BulkRecordReader;
+
+public class BulkRecordReaderTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	public void readCsvTest() throws IOException {
+		String csv = "code,name,hierarchyLevel,hierarchyName,parentLocCode,langCode,isActive\n"
+				+ "MOR,Morocco,0,Country,,eng,true\n" + "\n"
+				+ "RSK,\"Rabat, \"\"Sale\"\" Kenitra\",1,Region,MOR,eng,true\n"
+				+ "KTA,Kenitra,two,Province,RSK,eng,true\n" + "RBT,Rabat\n";
+		try (BulkRecordReader<LocationDto> reader = open(csv, "text/csv")) {
+			List<BulkRecord<LocationDto>> records = reader.read(2);
+			assertEquals(2, records.size());
+			assertEquals(2, records.get(0).getRow());
+			assertEquals("MOR", records.get(0).getValue().getCode());
+			assertNull(records.get(0).getValue().getParentLocCode());
+			assertFalse(records.get(0).isRejected());
+			assertEquals(4, records.get(1).getRow());
+			assertEquals("Rabat, \"Sale\" Kenitra", records.get(1).getValue().getName());
+			assertEquals(1, records.get(1).getValue().getHierarchyLevel());
+
+			records = reader.read(2);
+			assertEquals(2, records.size());
+			assertTrue(records.get(0).isRejected());
+			assertEquals(BulkUploadErrorCode.INVALID_RECORD.getErrorCode(),
+					records.get(0).getErrors().get(0).getErrorCode());
+			assertTrue(records.get(1).isRejected());
+			assertEquals(6, records.get(1).getRow());
+
+			assertTrue(reader.read(2).isEmpty());
+		}
+	}
+
+	@Test
+	public void readNdjsonTest() throws IOException {
+		String ndjson = "{\"code\":\"MOR\",\"name\":\"Morocco\",\"hierarchyLevel\":0,\"hierarchyName\":\"Country\",\"langCode\":\"eng\",\"isActive\":true}\n"
+				+ "\n" + "{\"code\":\"RSK\",\"unknown\":true}\n";
+		try (BulkRecordReader<LocationDto> reader = open(ndjson, "application/x-ndjson")) {
+			List<BulkRecord<LocationDto>> records = reader.read(10);
+			assertEquals(2, records.size());
+			assertEquals("Morocco", records.get(0).getValue().getName());
+			assertEquals(3, records.get(1).getRow());
+			assertTrue(records.get(1).isRejected());
+			assertNull(records.get(1).getValue());
+		}
+	}
+
+	@Test(expected = RequestException.class)
+	public void unsupportedContentTypeTest() throws IOException {
+		open("", "application/json");
+	}
+
+	private BulkRecordReader<LocationDto> open(String content, String contentType) {
+		return BulkRecordReader.open(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), contentType,
+				LocationDto.class, objectMapper);
+	}
+}
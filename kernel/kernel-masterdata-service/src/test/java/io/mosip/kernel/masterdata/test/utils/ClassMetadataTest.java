@@ -0,0 +1,79 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.mosip.kernel.masterdata.dto.LocationDto;
+import io.mosip.kernel.masterdata.entity.Location;
+import io.mosip.kernel.masterdata.utils.ClassMetadata;
+import io.mosip.kernel.masterdata.utils.FieldAccessor;
+import io.mosip.kernel.masterdata.utils.MapperUtils;
+
+public class ClassMetadataTest {
+
+	@Test
+	public void sharedMetadataTest() {
+		assertSame(ClassMetadata.of(TestPojo.class), ClassMetadata.of(TestPojo.class));
+		List<String> names = ClassMetadata.of(TestPojo.class).getDeclaredFields().stream()
+				.map(FieldAccessor::getName).collect(Collectors.toList());
+		assertEquals(Arrays.stream(TestPojo.class.getDeclaredFields()).map(f -> f.getName())
+				.collect(Collectors.toList()), names);
+	}
+
+	@Test
+	public void newInstanceTest() throws Exception {
+		assertTrue(ClassMetadata.of(TestPojo.class).newInstance() instanceof TestPojo);
+	}
+
+	@Test
+	public void fieldAccessorTest() throws Exception {
+		TestPojo pojo = new TestPojo("name", 1, 2.5);
+		accessor("name").set(pojo, "other");
+		accessor("id").set(pojo, 7);
+		accessor("amount").set(pojo, 3.5d);
+		assertEquals("other", accessor("name").get(pojo));
+		assertEquals(7, accessor("id").get(pojo));
+		assertEquals(3.5d, accessor("amount").get(pojo));
+		assertEquals("other", pojo.getName());
+		assertEquals(7, pojo.getId());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void fieldAccessorWrongBeanTest() throws Exception {
+		accessor("name").get("not a pojo");
+	}
+
+	@Test
+	public void mapEntityToDtoTest() {
+		Location location = new Location();
+		location.setCode("KTA");
+		location.setName("Kenitra");
+		location.setHierarchyLevel((short) 2);
+		location.setParentLocCode("RSK");
+		location.setLangCode("eng");
+		location.setIsActive(true);
+		List<LocationDto> dtos = MapperUtils.mapAll(Arrays.asList(location, location), LocationDto.class);
+		for (LocationDto dto : dtos) {
+			assertEquals("KTA", dto.getCode());
+			assertEquals("Kenitra", dto.getName());
+			assertEquals(2, dto.getHierarchyLevel());
+			assertEquals("RSK", dto.getParentLocCode());
+			assertEquals("eng", dto.getLangCode());
+			assertEquals(Boolean.TRUE, dto.getIsActive());
+		}
+	}
+
+	private static FieldAccessor accessor(String name) {
+		Optional<FieldAccessor> accessor = ClassMetadata.of(TestPojo.class).getDeclaredFields().stream()
+				.filter(f -> f.getName().equals(name)).findFirst();
+		return accessor.get();
+	}
+}
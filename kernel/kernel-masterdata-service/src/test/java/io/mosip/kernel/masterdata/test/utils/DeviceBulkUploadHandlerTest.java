@@ -0,0 +1,80 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.mosip.kernel.masterdata.dto.DeviceDto;
+import io.mosip.kernel.masterdata.utils.DeviceBulkUploadHandler;
+import io.mosip.kernel.masterdata.utils.ZoneUtils;
+
+public class DeviceBulkUploadHandlerTest {
+
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	private DeviceBulkUploadHandler handler;
+
+	@Before
+	public void setUp() {
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("110001", "token"));
+		jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+		handler = new DeviceBulkUploadHandler(jdbcTemplate, mock(ZoneUtils.class), "eng", true);
+	}
+
+	@After
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	public void updateOfRemovedDeviceNotWrittenTest() {
+		when(jdbcTemplate.batchUpdate(startsWith("UPDATE"), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { 1, 0 });
+
+		boolean[] written = handler.write(Arrays.asList(device("10001"), device("10002")));
+
+		assertArrayEquals(new boolean[] { true, false }, written);
+		verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO master.device_master_h"),
+				argThat((SqlParameterSource[] batch) -> batch.length == 1
+						&& "10001".equals(batch[0].getValue("id"))));
+	}
+
+	@Test
+	public void updateOfRemovedDevicesWritesNoHistoryTest() {
+		when(jdbcTemplate.batchUpdate(startsWith("UPDATE"), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { 0 });
+
+		boolean[] written = handler.write(Arrays.asList(device("10001")));
+
+		assertFalse(written[0]);
+		verify(jdbcTemplate).batchUpdate(startsWith("UPDATE"), any(SqlParameterSource[].class));
+		verifyNoMoreInteractions(jdbcTemplate);
+	}
+
+	private static DeviceDto device(String id) {
+		DeviceDto device = new DeviceDto();
+		device.setId(id);
+		device.setName("Printer");
+		device.setDeviceSpecId("165");
+		device.setZoneCode("MOR");
+		device.setLangCode("eng");
+		device.setIsActive(true);
+		return device;
+	}
+}
@@ -0,0 +1,104 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.masterdata.util.model.Node;
+import io.mosip.kernel.core.masterdata.util.spi.UBtree;
+import io.mosip.kernel.masterdata.entity.Location;
+import io.mosip.kernel.masterdata.repository.LocationRepository;
+import io.mosip.kernel.masterdata.utils.LocationHierarchyIndex;
+import io.mosip.kernel.masterdata.utils.LocationUtils;
+
+public class LocationHierarchyIndexTest {
+
+	private LocationRepository locationRepository;
+
+	private LocationHierarchyIndex index;
+
+	private List<Location> locations;
+
+	@Before
+	public void setUp() {
+		locationRepository = Mockito.mock(LocationRepository.class);
+		index = new LocationHierarchyIndex();
+		UBtree<Location> locationTree = location -> new Node<>(location.getCode(), location,
+				location.getParentLocCode());
+		ReflectionTestUtils.setField(index, "locationRepository", locationRepository);
+		ReflectionTestUtils.setField(index, "locationTree", locationTree);
+		ReflectionTestUtils.setField(index, "refreshInterval", 0L);
+		locations = Arrays.asList(location("MOR", (short) 0, null), location("RSK", (short) 1, "MOR"),
+				location("KTA", (short) 2, "RSK"), location("KNT", (short) 3, "KTA"),
+				location("RBT", (short) 3, "KTA"), location("MRS", (short) 2, "RSK"),
+				location("TNG", (short) 1, "MOR"), location("TTA", (short) 2, "TNG"));
+		when(locationRepository.findAllByLangCode("eng")).thenReturn(locations);
+		when(locationRepository.findAllByLangCode("eng", true)).thenReturn(locations);
+	}
+
+	@Test
+	public void getChildrenTest() {
+		assertEquals(Arrays.asList("KTA", "MRS"), codes(index.getChildren("RSK", "eng")));
+		assertTrue(index.getChildren("KNT", "eng").isEmpty());
+		assertTrue(index.getChildren("XXX", "eng").isEmpty());
+	}
+
+	@Test
+	public void getDescendantsTest() {
+		assertEquals(Arrays.asList("KTA", "KNT", "RBT", "MRS"), codes(index.getDescendants("RSK", "eng")));
+		assertEquals(7, index.getDescendants("MOR", "eng").size());
+		assertTrue(index.getDescendants("RBT", "eng").isEmpty());
+	}
+
+	@Test
+	public void getAncestorsTest() {
+		assertEquals(Arrays.asList("KTA", "RSK", "MOR"), codes(index.getAncestors("KNT", "eng")));
+		assertTrue(index.getAncestors("MOR", "eng").isEmpty());
+		assertNull(index.getLocation("XXX", "eng"));
+	}
+
+	@Test
+	public void getTreeTest() {
+		List<Node<Location>> tree = index.getTree("eng", true);
+		assertEquals(7, tree.size());
+		index.getTree("eng", true);
+		verify(locationRepository, times(1)).findAllByLangCode("eng", true);
+	}
+
+	@Test
+	public void rebuildAfterInvalidateTest() {
+		index.getChildren("RSK", "eng");
+		LocationHierarchyIndex.invalidate();
+		index.getChildren("RSK", "eng");
+		verify(locationRepository, times(2)).findAllByLangCode("eng");
+	}
+
+	@Test
+	public void locationUtilsTest() {
+		LocationUtils locationUtils = new LocationUtils();
+		assertEquals(Arrays.asList("RSK", "KTA", "KNT", "RBT", "MRS"),
+				codes(locationUtils.getDescedants(locations, locations.get(1))));
+		assertEquals(Arrays.asList("KNT", "KTA", "RSK", "MOR"),
+				codes(locationUtils.getAncestors(locations, locations.get(3))));
+	}
+
+	private static List<String> codes(List<Location> locations) {
+		return locations.stream().map(Location::getCode).collect(Collectors.toList());
+	}
+
+	private static Location location(String code, short level, String parent) {
+		return new Location(code, code, level, "level" + level, parent, "eng", null);
+	}
+}
@@ -0,0 +1,76 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.mosip.kernel.masterdata.constant.MasterdataSearchErrorCode;
+import io.mosip.kernel.masterdata.entity.Machine;
+import io.mosip.kernel.masterdata.entity.RegistrationCenter;
+import io.mosip.kernel.masterdata.exception.RequestException;
+import io.mosip.kernel.masterdata.utils.PageToken;
+
+public class PageTokenTest {
+
+	private static final List<String> COLUMNS = Arrays.asList("name:asc", "id:asc", "langCode:asc");
+
+	@Test
+	public void encodeDecodeTest() {
+		String signature = PageToken.signature(Machine.class, COLUMNS);
+		LocalDateTime time = LocalDateTime.of(2019, 1, 1, 10, 15, 30, 123000000);
+		String token = PageToken.encode(signature,
+				Arrays.asList(PageToken.format(time), PageToken.format(null), PageToken.format("eng")));
+		assertFalse(token.contains("="));
+		List<String> values = PageToken.decode(token, signature, 3);
+		assertEquals(time, PageToken.parse(LocalDateTime.class, values.get(0), token));
+		assertNull(PageToken.parse(String.class, values.get(1), token));
+		assertEquals("eng", PageToken.parse(String.class, values.get(2), token));
+	}
+
+	@Test
+	public void supportedTypesTest() {
+		assertTrue(PageToken.isSupported(String.class));
+		assertTrue(PageToken.isSupported(boolean.class));
+		assertTrue(PageToken.isSupported(LocalDateTime.class));
+		assertFalse(PageToken.isSupported(Object.class));
+		assertEquals(Short.valueOf((short) 3), PageToken.parse(Short.class, "3", "token"));
+	}
+
+	@Test
+	public void tokenOfOtherQueryTest() {
+		String token = PageToken.encode(PageToken.signature(Machine.class, COLUMNS), Arrays.asList("a", "b", "c"));
+		assertInvalid(token, PageToken.signature(RegistrationCenter.class, COLUMNS), 3);
+		assertInvalid(token, PageToken.signature(Machine.class, Arrays.asList("name:desc", "id:asc", "langCode:asc")),
+				3);
+		assertInvalid(token, PageToken.signature(Machine.class, COLUMNS), 2);
+	}
+
+	@Test
+	public void malformedTokenTest() {
+		String signature = PageToken.signature(Machine.class, COLUMNS);
+		assertInvalid("not a token", signature, 3);
+		assertInvalid("bm90IGpzb24", signature, 3);
+	}
+
+	@Test(expected = RequestException.class)
+	public void malformedValueTest() {
+		PageToken.parse(Long.class, "abc", "token");
+	}
+
+	private void assertInvalid(String token, String signature, int size) {
+		try {
+			PageToken.decode(token, signature, size);
+		} catch (RequestException e) {
+			assertEquals(MasterdataSearchErrorCode.INVALID_PAGE_TOKEN.getErrorCode(), e.getErrorCode());
+			return;
+		}
+		throw new AssertionError("token accepted: " + token);
+	}
+}
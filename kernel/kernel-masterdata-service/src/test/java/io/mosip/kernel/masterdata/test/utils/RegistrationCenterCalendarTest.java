@@ -0,0 +1,83 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.mosip.kernel.masterdata.entity.Holiday;
+import io.mosip.kernel.masterdata.entity.RegExceptionalHoliday;
+import io.mosip.kernel.masterdata.entity.RegistrationCenter;
+import io.mosip.kernel.masterdata.utils.RegistrationCenterCalendar;
+
+public class RegistrationCenterCalendarTest {
+
+	private RegistrationCenterCalendar calendar;
+
+	@Before
+	public void setUp() {
+		RegistrationCenter registrationCenter = new RegistrationCenter();
+		registrationCenter.setId("10001");
+		registrationCenter.setLangCode("eng");
+		registrationCenter.setHolidayLocationCode("KAR");
+		List<Holiday> holidays = Arrays.asList(holiday("2019-12-25", "eng"), holiday("2019-12-25", "ara"),
+				holiday("2020-01-01", "eng"), holiday("2020-12-31", "ara"));
+		RegExceptionalHoliday exceptionalHoliday = new RegExceptionalHoliday();
+		exceptionalHoliday.setRegistrationCenterId("10001");
+		exceptionalHoliday.setExceptionHolidayDate(LocalDate.parse("2020-02-29"));
+		calendar = RegistrationCenterCalendar.build(registrationCenter, holidays, Arrays.asList(exceptionalHoliday),
+				EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+	}
+
+	@Test
+	public void holidayTest() {
+		assertTrue(calendar.isHoliday(LocalDate.parse("2019-12-25")));
+		assertTrue(calendar.isHoliday(LocalDate.parse("2020-12-31")));
+		assertFalse(calendar.isHoliday(LocalDate.parse("2020-12-25")));
+		assertFalse(calendar.isHoliday(LocalDate.parse("2018-01-01")));
+		assertEquals(1, calendar.getHolidays(2019).size());
+		assertEquals(1, calendar.getHolidays(2020).size());
+		assertTrue(calendar.getHolidays(2021).isEmpty());
+	}
+
+	@Test
+	public void exceptionalHolidayTest() {
+		assertTrue(calendar.isExceptionalHoliday(LocalDate.parse("2020-02-29")));
+		assertFalse(calendar.isExceptionalHoliday(LocalDate.parse("2020-03-01")));
+		assertFalse(calendar.isHoliday(LocalDate.parse("2020-02-29")));
+	}
+
+	@Test
+	public void openTest() {
+		assertTrue(calendar.isOpen(LocalDate.parse("2020-01-02")));
+		assertFalse(calendar.isOpen(LocalDate.parse("2020-01-01")));
+		assertFalse(calendar.isOpen(LocalDate.parse("2020-01-04")));
+		assertFalse(calendar.isOpen(LocalDate.parse("2020-12-31")));
+		assertTrue(calendar.isWorkingDay(DayOfWeek.FRIDAY));
+		assertFalse(calendar.isWorkingDay(DayOfWeek.SUNDAY));
+	}
+
+	@Test
+	public void daySequenceTest() {
+		assertEquals(DayOfWeek.SUNDAY, RegistrationCenterCalendar.dayOfWeek(1));
+		assertEquals(DayOfWeek.MONDAY, RegistrationCenterCalendar.dayOfWeek(2));
+		assertEquals(DayOfWeek.SATURDAY, RegistrationCenterCalendar.dayOfWeek(7));
+	}
+
+	private static Holiday holiday(String date, String langCode) {
+		Holiday holiday = new Holiday();
+		holiday.setHolidayDate(LocalDate.parse(date));
+		holiday.setLangCode(langCode);
+		holiday.setLocationCode("KAR");
+		holiday.setHolidayName("holiday");
+		return holiday;
+	}
+}
@@ -0,0 +1,121 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.masterdata.entity.RegistrationCenter;
+import io.mosip.kernel.masterdata.repository.RegistrationCenterRepository;
+import io.mosip.kernel.masterdata.utils.RegistrationCenterSpatialIndex;
+
+public class RegistrationCenterSpatialIndexTest {
+
+	private RegistrationCenterRepository registrationCenterRepository;
+
+	private RegistrationCenterSpatialIndex index;
+
+	private List<RegistrationCenter> centers;
+
+	@Before
+	public void setUp() {
+		registrationCenterRepository = Mockito.mock(RegistrationCenterRepository.class);
+		index = new RegistrationCenterSpatialIndex();
+		ReflectionTestUtils.setField(index, "registrationCenterRepository", registrationCenterRepository);
+		ReflectionTestUtils.setField(index, "cellSize", 0.25);
+		ReflectionTestUtils.setField(index, "refreshInterval", 0L);
+		centers = new ArrayList<>();
+		Random random = new Random(42);
+		for (int i = 0; i < 500; i++) {
+			centers.add(center("1" + i, 34 + random.nextDouble() * 2, -7 + random.nextDouble() * 2));
+		}
+		centers.add(center("2001", 10.5, 179.95));
+		centers.add(center("2002", 10.5, -179.95));
+		centers.add(center("2003", " 35.0 ", "-6.5"));
+		centers.add(center("2004", "", null));
+		when(registrationCenterRepository.findActiveByLangCode("eng")).thenReturn(centers);
+	}
+
+	@Test
+	public void findNearestMatchesFullScanTest() {
+		Random random = new Random(7);
+		for (int i = 0; i < 50; i++) {
+			double latitude = 34 + random.nextDouble() * 2;
+			double longitude = -7 + random.nextDouble() * 2;
+			double distance = random.nextDouble() * 40;
+			assertEquals(fullScan(latitude, longitude, distance),
+					ids(index.findNearest(latitude, longitude, distance, "eng")));
+		}
+		verify(registrationCenterRepository, times(1)).findActiveByLangCode("eng");
+	}
+
+	@Test
+	public void findNearestAcrossAntimeridianTest() {
+		List<String> ids = ids(index.findNearest(10.5, 179.99, 10, "eng"));
+		assertEquals(2, ids.size());
+		assertEquals("2001", ids.get(0));
+		assertTrue(ids.contains("2002"));
+	}
+
+	@Test
+	public void findNearestAfterInvalidateTest() {
+		index.findNearest(35, -6.5, 1, "eng");
+		RegistrationCenterSpatialIndex.invalidate();
+		index.findNearest(35, -6.5, 1, "eng");
+		verify(registrationCenterRepository, times(2)).findActiveByLangCode("eng");
+	}
+
+	private List<String> fullScan(double latitude, double longitude, double distance) {
+		List<RegistrationCenter> matches = new ArrayList<>();
+		List<Double> distances = new ArrayList<>();
+		for (RegistrationCenter center : centers) {
+			if (center.getLatitude() == null || center.getLatitude().trim().isEmpty() || center.getLongitude() == null) {
+				continue;
+			}
+			double centerLatitude = Double.parseDouble(center.getLatitude().trim());
+			double centerLongitude = Double.parseDouble(center.getLongitude().trim());
+			double sinLatitude = Math.sin(Math.toRadians((latitude - centerLatitude) / 2));
+			double sinLongitude = Math.sin(Math.toRadians((longitude - centerLongitude) / 2));
+			double centerDistance = 2 * 3961 * Math.asin(Math.sqrt(sinLatitude * sinLatitude + Math.cos(
+					Math.toRadians(centerLatitude)) * Math.cos(Math.toRadians(latitude)) * sinLongitude * sinLongitude));
+			if (centerDistance < distance) {
+				int position = 0;
+				while (position < distances.size() && distances.get(position) <= centerDistance) {
+					position++;
+				}
+				distances.add(position, centerDistance);
+				matches.add(position, center);
+			}
+		}
+		return ids(matches);
+	}
+
+	private static List<String> ids(List<RegistrationCenter> centers) {
+		return centers.stream().map(RegistrationCenter::getId).collect(Collectors.toList());
+	}
+
+	private static RegistrationCenter center(String id, double latitude, double longitude) {
+		return center(id, Double.toString(latitude), Double.toString(longitude));
+	}
+
+	private static RegistrationCenter center(String id, String latitude, String longitude) {
+		RegistrationCenter center = new RegistrationCenter();
+		center.setId(id);
+		center.setLangCode("eng");
+		center.setLatitude(latitude);
+		center.setLongitude(longitude);
+		center.setIsActive(true);
+		return center;
+	}
+}
@@ -0,0 +1,161 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.masterdata.util.model.Node;
+import io.mosip.kernel.core.masterdata.util.spi.UBtree;
+import io.mosip.kernel.masterdata.entity.Zone;
+import io.mosip.kernel.masterdata.entity.ZoneUser;
+import io.mosip.kernel.masterdata.exception.MasterDataServiceException;
+import io.mosip.kernel.masterdata.repository.ZoneRepository;
+import io.mosip.kernel.masterdata.repository.ZoneUserRepository;
+import io.mosip.kernel.masterdata.utils.ZoneUtils;
+
+public class ZoneUtilsCacheTest {
+
+	private ZoneRepository zoneRepository;
+
+	private ZoneUserRepository zoneUserRepository;
+
+	private ZoneUtils zoneUtils;
+
+	private ZoneUtils uncachedZoneUtils;
+
+	private List<Zone> zones;
+
+	@Before
+	public void setUp() {
+		zoneRepository = Mockito.mock(ZoneRepository.class);
+		zoneUserRepository = Mockito.mock(ZoneUserRepository.class);
+		zoneUtils = zoneUtils(true);
+		uncachedZoneUtils = zoneUtils(false);
+		zones = new ArrayList<>();
+		zones.add(new Zone("AAA", "eng", "AAA", (short) 0, "AAA", null, "AAA"));
+		zones.add(new Zone("BBB", "eng", "AAA", (short) 1, "BBB", "AAA", "AAA/BBB"));
+		zones.add(new Zone("CCC", "eng", "AAA", (short) 1, "CCC", "AAA", "AAA/CCC"));
+		zones.add(new Zone("DDD", "eng", "AAA", (short) 1, "DDD", "AAA", "AAA/DDD"));
+		zones.add(new Zone("AAA1", "eng", "AAA", (short) 2, "AAA1", "BBB", "AAA/BBB/AAA1"));
+		zones.add(new Zone("AAA2", "eng", "AAA", (short) 2, "AAA2", "CCC", "AAA/CCC/AAA2"));
+		zones.add(new Zone("AAA3", "eng", "AAA", (short) 2, "AAA3", "DDD", "AAA/DDD/AAA3"));
+		zones.add(new Zone("AAA4", "eng", "AAA", (short) 3, "AAA4", "AAA3", "AAA/DDD/AAA3/AAA4"));
+		zones.add(new Zone("AAA", "ara", "AAA", (short) 0, "AAA", null, "AAA"));
+		zones.add(new Zone("DDD", "ara", "AAA", (short) 1, "DDD", "AAA", "AAA/DDD"));
+		when(zoneRepository.findAllNonDeleted()).thenReturn(zones);
+		when(zoneRepository.findZoneByCodeAndLangCodeNonDeleted("DDD", "eng")).thenReturn(zones.get(3));
+		when(zoneUserRepository.findByUserIdNonDeleted("zonal-admin"))
+				.thenReturn(Collections.singletonList(zoneUser("zonal-admin", "DDD", "eng")));
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("zonal-admin", null));
+	}
+
+	@After
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	public void getUserZonesTest() {
+		assertEquals(codes(uncachedZoneUtils.getUserZones()), codes(zoneUtils.getUserZones()));
+		assertEquals(Arrays.asList("DDD", "AAA3", "AAA4", "DDD"), codes(zoneUtils.getUserZones()));
+		verify(zoneRepository, times(2)).findAllNonDeleted();
+		verify(zoneUserRepository, times(2)).findByUserIdNonDeleted("zonal-admin");
+	}
+
+	@Test
+	public void getUserZonesByUserIdTest() {
+		when(zoneUserRepository.findByUserIdNonDeleted("admin")).thenReturn(
+				Arrays.asList(zoneUser("admin", "BBB", "eng"), zoneUser("admin", "AAA3", "eng")));
+		assertEquals(codes(uncachedZoneUtils.getUserZonesByUserId("admin")),
+				codes(zoneUtils.getUserZonesByUserId("admin")));
+		assertEquals(Arrays.asList("BBB", "AAA1", "AAA3", "AAA4"), codes(zoneUtils.getUserZonesByUserId("admin")));
+	}
+
+	@Test(expected = MasterDataServiceException.class)
+	public void getUserZonesNoUserZoneTest() {
+		zoneUtils.getUserZonesByUserId("unknown");
+	}
+
+	@Test
+	public void getUserZonesNoZoneTest() {
+		when(zoneRepository.findAllNonDeleted()).thenReturn(Collections.emptyList());
+		assertTrue(zoneUtils.getUserZones().isEmpty());
+	}
+
+	@Test
+	public void getZonesTest() {
+		assertEquals(codes(uncachedZoneUtils.getZones(zones.get(6))), codes(zoneUtils.getZones(zones.get(6))));
+		assertEquals(Arrays.asList("AAA3", "AAA4"), codes(zoneUtils.getZones(zones.get(6))));
+		assertTrue(zoneUtils.getZones(zones.get(1)).isEmpty());
+	}
+
+	@Test
+	public void getUserLeafZonesTest() {
+		assertEquals(codes(uncachedZoneUtils.getUserLeafZones("eng")), codes(zoneUtils.getUserLeafZones("eng")));
+		assertEquals(Arrays.asList("AAA4"), codes(zoneUtils.getUserLeafZones("eng")));
+		assertEquals(Arrays.asList("DDD"), codes(zoneUtils.getUserLeafZones("all")));
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("unknown", null));
+		assertTrue(zoneUtils.getUserLeafZones("eng").isEmpty());
+	}
+
+	@Test
+	public void getChildZoneListTest() {
+		assertEquals(codes(uncachedZoneUtils.getChildZoneList(null, "DDD", "eng")),
+				codes(zoneUtils.getChildZoneList(null, "DDD", "eng")));
+		assertTrue(zoneUtils.getChildZoneList(null, "XXX", "eng").isEmpty());
+	}
+
+	@Test
+	public void invalidateTest() {
+		zoneUtils.getUserZones();
+		ZoneUtils.invalidateZoneUsers();
+		zoneUtils.getUserZones();
+		verify(zoneRepository, times(1)).findAllNonDeleted();
+		verify(zoneUserRepository, times(2)).findByUserIdNonDeleted("zonal-admin");
+		ZoneUtils.invalidateZones();
+		zoneUtils.getUserZones();
+		verify(zoneRepository, times(2)).findAllNonDeleted();
+		verify(zoneUserRepository, times(3)).findByUserIdNonDeleted("zonal-admin");
+	}
+
+	private ZoneUtils zoneUtils(boolean cacheEnabled) {
+		ZoneUtils utils = new ZoneUtils();
+		UBtree<Zone> zoneTree = zone -> new Node<>(zone.getCode(), zone, zone.getParentZoneCode());
+		ReflectionTestUtils.setField(utils, "zoneRepository", zoneRepository);
+		ReflectionTestUtils.setField(utils, "zoneUserRepository", zoneUserRepository);
+		ReflectionTestUtils.setField(utils, "zoneTree", zoneTree);
+		ReflectionTestUtils.setField(utils, "hierarchyPathDelimiter", "/");
+		ReflectionTestUtils.setField(utils, "primaryLangugage", "ara");
+		ReflectionTestUtils.setField(utils, "cacheEnabled", cacheEnabled);
+		ReflectionTestUtils.setField(utils, "refreshInterval", 0L);
+		return utils;
+	}
+
+	private static ZoneUser zoneUser(String userId, String zoneCode, String langCode) {
+		ZoneUser zoneUser = new ZoneUser();
+		zoneUser.setUserId(userId);
+		zoneUser.setZoneCode(zoneCode);
+		zoneUser.setLangCode(langCode);
+		return zoneUser;
+	}
+
+	private static List<String> codes(List<Zone> zones) {
+		return zones.stream().map(Zone::getCode).collect(Collectors.toList());
+	}
+}
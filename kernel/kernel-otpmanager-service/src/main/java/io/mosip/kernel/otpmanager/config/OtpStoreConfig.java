@@ -0,0 +1,59 @@
+package io.mosip.kernel.otpmanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.mosip.kernel.otpmanager.repository.OtpRepository;
+import io.mosip.kernel.otpmanager.store.DatabaseOtpStore;
+import io.mosip.kernel.otpmanager.store.InMemoryOtpStore;
+import io.mosip.kernel.otpmanager.store.OtpStore;
+
+/**
+ * Configuration class for the {@link OtpStore} Bean. A clustered store can be
+ * plugged in by declaring an {@link OtpStore} Bean, which replaces this one.
+ * 
+ * @since 1.1.0
+ *
+ */
+@Configuration
+public class OtpStoreConfig {
+
+	/**
+	 * The store type, <code>db</code> or <code>memory</code>.
+	 */
+	@Value("${mosip.kernel.otp.store-type:db}")
+	private String storeType;
+
+	/**
+	 * Whether the in-memory store saves the OTPs to the database too.
+	 */
+	@Value("${mosip.kernel.otp.store-durable:false}")
+	private boolean storeDurable;
+
+	@Value("${mosip.kernel.otp.expiry-time}")
+	private long otpExpiryLimit;
+
+	@Value("${mosip.kernel.otp.key-freeze-time}")
+	private long keyFreezeDuration;
+
+	/**
+	 * Bean for the OTP store.
+	 * 
+	 * @param otpRepository the OTP repository.
+	 * @return the OTP store.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(OtpStore.class)
+	public OtpStore otpStore(OtpRepository otpRepository) {
+		if ("memory".equalsIgnoreCase(storeType)) {
+			/*
+			 * A key can be frozen until the OTP expires, and stays frozen for the
+			 * freeze time after that.
+			 */
+			return new InMemoryOtpStore(otpExpiryLimit + keyFreezeDuration, storeDurable ? otpRepository : null);
+		}
+		return new DatabaseOtpStore(otpRepository);
+	}
+}
@@ -9,8 +9,9 @@ package io.mosip.kernel.otpmanager.constant;
  *
  */
 public enum SqlQueryConstants {
-	UPDATE("UPDATE"), ID("id"), NEW_OTP_STATUS("newOtpStatus"), NEW_NUM_OF_ATTEMPT("newNumOfAttempt"),
-	NEW_VALIDATION_TIME("newValidationTime");
+	UPDATE("UPDATE"), DELETE("DELETE FROM"), ID("id"), NEW_OTP_STATUS("newOtpStatus"), NEW_NUM_OF_ATTEMPT("newNumOfAttempt"),
+	NEW_VALIDATION_TIME("newValidationTime"), OLD_OTP_STATUS("oldOtpStatus"), OLD_NUM_OF_ATTEMPT("oldNumOfAttempt"),
+	OLD_VALIDATION_TIME("oldValidationTime");
 
 	/**
 	 * The property.
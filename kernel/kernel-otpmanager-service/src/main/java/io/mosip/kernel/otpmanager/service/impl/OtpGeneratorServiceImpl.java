@@ -12,8 +12,8 @@ import io.mosip.kernel.core.otpmanager.spi.OtpGenerator;
 import io.mosip.kernel.otpmanager.constant.OtpStatusConstants;
 import io.mosip.kernel.otpmanager.dto.OtpGeneratorRequestDto;
 import io.mosip.kernel.otpmanager.dto.OtpGeneratorResponseDto;
-import io.mosip.kernel.otpmanager.entity.OtpEntity;
-import io.mosip.kernel.otpmanager.repository.OtpRepository;
+import io.mosip.kernel.otpmanager.store.OtpState;
+import io.mosip.kernel.otpmanager.store.OtpStore;
 import io.mosip.kernel.otpmanager.util.OtpManagerUtils;
 import io.mosip.kernel.otpmanager.util.OtpProvider;
 
@@ -29,10 +29,10 @@ import io.mosip.kernel.otpmanager.util.OtpProvider;
 @Service
 public class OtpGeneratorServiceImpl implements OtpGenerator<OtpGeneratorRequestDto, OtpGeneratorResponseDto> {
 	/**
-	 * The reference that autowires OtpRepository class.
+	 * The reference that autowires OtpStore class.
 	 */
 	@Autowired
-	private OtpRepository otpRepository;
+	private OtpStore otpStore;
 
 	@Autowired
 	private OtpProvider otpProvider;
@@ -83,7 +83,7 @@ public class OtpGeneratorServiceImpl implements OtpGenerator<OtpGeneratorRequest
 		/*
 		 * Checking whether the key exists in the repository.
 		 */
-		OtpEntity keyCheck = otpRepository.findById(OtpEntity.class, otpDto.getKey());
+		OtpState keyCheck = otpStore.get(otpDto.getKey());
 		if ((keyCheck != null) && (keyCheck.getStatusCode().equals(OtpStatusConstants.KEY_FREEZED.getProperty()))
 				&& (OtpManagerUtils.timeDifferenceInSeconds(keyCheck.getUpdatedDtimes(),
 						LocalDateTime.now(ZoneId.of("UTC"))) <= Integer.parseInt(keyFreezeTime))) {
@@ -91,11 +91,9 @@ public class OtpGeneratorServiceImpl implements OtpGenerator<OtpGeneratorRequest
 			response.setStatus(OtpStatusConstants.BLOCKED_USER.getProperty());
 		} else {
 			generatedOtp = otpProvider.computeOtp(otpDto.getKey(), otpLength, macAlgorithm);
-			OtpEntity otp = new OtpEntity();
-			otp.setId(otpDto.getKey());
-			otp.setValidationRetryCount(0);
-			otp.setOtp(generatedOtp);
-			otpRepository.save(otp);
+			LocalDateTime generatedDtimes = OtpManagerUtils.getCurrentLocalDateTime();
+			otpStore.put(otpDto.getKey(), new OtpState(generatedOtp, OtpStatusConstants.UNUSED_OTP.getProperty(), 0,
+					generatedDtimes, generatedDtimes));
 			response.setOtp(generatedOtp);
 			response.setStatus(OtpStatusConstants.GENERATION_SUCCESSFUL.getProperty());
 		}
@@ -1,9 +1,7 @@
 package io.mosip.kernel.otpmanager.service.impl;
 
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,11 +15,11 @@ import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.otpmanager.spi.OtpValidator;
 import io.mosip.kernel.otpmanager.constant.OtpErrorConstants;
 import io.mosip.kernel.otpmanager.constant.OtpStatusConstants;
-import io.mosip.kernel.otpmanager.constant.SqlQueryConstants;
 import io.mosip.kernel.otpmanager.dto.OtpValidatorResponseDto;
-import io.mosip.kernel.otpmanager.entity.OtpEntity;
 import io.mosip.kernel.otpmanager.exception.RequiredKeyNotFoundException;
-import io.mosip.kernel.otpmanager.repository.OtpRepository;
+import io.mosip.kernel.otpmanager.store.OtpState;
+import io.mosip.kernel.otpmanager.store.OtpStore;
+import io.mosip.kernel.otpmanager.store.OtpTransition;
 import io.mosip.kernel.otpmanager.util.OtpManagerUtils;
 
 /**
@@ -36,10 +34,10 @@ import io.mosip.kernel.otpmanager.util.OtpManagerUtils;
 @Service
 public class OtpValidatorServiceImpl implements OtpValidator<ResponseEntity<OtpValidatorResponseDto>> {
 	/**
-	 * The reference that autowires OtpRepository.
+	 * The reference that autowires OtpStore.
 	 */
 	@Autowired
-	OtpRepository otpRepository;
+	OtpStore otpStore;
 
 	/**
 	 * The reference that autowires OtpManagerUtils.
@@ -71,88 +69,91 @@ public class OtpValidatorServiceImpl implements OtpValidator<ResponseEntity<OtpV
 	 */
 	@Override
 	public ResponseEntity<OtpValidatorResponseDto> validateOtp(String key, String otp) {
-		ResponseEntity<OtpValidatorResponseDto> validationResponseEntity;
 		if(activeProfile.equalsIgnoreCase("local")) {
 		return proxyForLocalProfile(otp);
 		}
 		// This method validates the input parameters.
 		otpUtils.validateOtpRequestArguments(key, otp);
-		OtpValidatorResponseDto responseDto;
-	
-		// The OTP entity for a specific key.
-		OtpEntity otpResponse = otpRepository.findById(OtpEntity.class, key);
-		responseDto = new OtpValidatorResponseDto();
-		responseDto.setMessage(OtpStatusConstants.FAILURE_MESSAGE.getProperty());
-		responseDto.setStatus(OtpStatusConstants.FAILURE_STATUS.getProperty());
-		validationResponseEntity = new ResponseEntity<>(responseDto, HttpStatus.OK);
-
-		requireKeyNotFound(otpResponse);
-		// This variable holds the update query to be performed.
-		String updateString;
-		// This variable holds the count of number
-		int attemptCount = otpResponse.getValidationRetryCount();
-		if ((OtpManagerUtils.timeDifferenceInSeconds(otpResponse.getGeneratedDtimes(),
-				OtpManagerUtils.getCurrentLocalDateTime())) > (Integer.parseInt(otpExpiryLimit))) {
+		int attemptsAllowed = Integer.parseInt(numberOfValidationAttemptsAllowed);
+		int freezeDuration = Integer.parseInt(keyFreezeDuration);
+		int expiryLimit = Integer.parseInt(otpExpiryLimit);
+		LocalDateTime now = OtpManagerUtils.getCurrentLocalDateTime();
+
+		// The OTP state for the key is validated and updated in one operation.
+		OtpTransition transition = otpStore.validate(key,
+				otpState -> validate(otpState, otp, now, attemptsAllowed, freezeDuration, expiryLimit));
+		requireKeyNotFound(transition);
+		OtpValidatorResponseDto responseDto = new OtpValidatorResponseDto();
+		responseDto.setStatus(transition.getStatus().getProperty());
+		responseDto.setMessage(transition.getMessage().getProperty());
+		return new ResponseEntity<>(responseDto, HttpStatus.OK);
+	}
 
-			responseDto.setStatus(OtpStatusConstants.FAILURE_STATUS.getProperty());
-			responseDto.setMessage(OtpStatusConstants.OTP_EXPIRED_STATUS.getProperty());
-			return new ResponseEntity<>(responseDto, HttpStatus.OK);
+	/**
+	 * This method computes the outcome of a validation attempt and the state of
+	 * the OTP after it. It must not have side effects, since the store may apply
+	 * it more than once.
+	 * 
+	 * @param otpState        the current OTP state.
+	 * @param otp             the OTP.
+	 * @param now             the validation time.
+	 * @param attemptsAllowed the number of validation attempts allowed.
+	 * @param freezeDuration  the key freeze time in seconds.
+	 * @param expiryLimit     the OTP expiry time in seconds.
+	 * @return the transition.
+	 */
+	private OtpTransition validate(OtpState otpState, String otp, LocalDateTime now, int attemptsAllowed,
+			int freezeDuration, int expiryLimit) {
+		if (OtpManagerUtils.timeDifferenceInSeconds(otpState.getGeneratedDtimes(), now) > expiryLimit) {
+			return new OtpTransition(OtpStatusConstants.FAILURE_STATUS, OtpStatusConstants.OTP_EXPIRED_STATUS,
+					otpState);
 		}
+		int attemptCount = otpState.getValidationRetryCount();
+		boolean unused = otpState.getStatusCode().equals(OtpStatusConstants.UNUSED_OTP.getProperty());
+		boolean matches = otp.equals(otpState.getOtp());
+		OtpState next = otpState;
 		// This condition increases the validation attempt count.
-		if ((attemptCount < Integer.parseInt(numberOfValidationAttemptsAllowed))
-				&& (otpResponse.getStatusCode().equals(OtpStatusConstants.UNUSED_OTP.getProperty()))) {
-			updateString = SqlQueryConstants.UPDATE.getProperty() + " " + OtpEntity.class.getSimpleName()
-					+ " SET validation_retry_count = :newNumOfAttempt,"
-					+ "upd_dtimes = :newValidationTime WHERE id=:id";
-			HashMap<String, Object> updateMap = createUpdateMap(key, null, attemptCount + 1,
-					LocalDateTime.now(ZoneId.of("UTC")));
-			updateData(updateString, updateMap);
+		if (attemptCount < attemptsAllowed && unused) {
+			next = otpState.update(otpState.getStatusCode(), attemptCount + 1, now);
 		}
 		/*
 		 * This condition freezes the key for a certain time, if the validation attempt
 		 * reaches the maximum allowed limit.
 		 */
-		if ((attemptCount == Integer.parseInt(numberOfValidationAttemptsAllowed) - 1)
-				&& (!otp.equals(otpResponse.getOtp()))) {
-			updateString = SqlQueryConstants.UPDATE.getProperty() + " " + OtpEntity.class.getSimpleName()
-					+ " SET status_code = :newOtpStatus," + "upd_dtimes = :newValidationTime,"
-					+ "validation_retry_count = :newNumOfAttempt WHERE id=:id";
-			HashMap<String, Object> updateMap = createUpdateMap(key, OtpStatusConstants.KEY_FREEZED.getProperty(), 0,
-					OtpManagerUtils.getCurrentLocalDateTime());
-			updateData(updateString, updateMap);
-			responseDto.setStatus(OtpStatusConstants.FAILURE_STATUS.getProperty());
-			responseDto.setMessage(OtpStatusConstants.FAILURE_AND_FREEZED_MESSAGE.getProperty());
-			validationResponseEntity = new ResponseEntity<>(responseDto, HttpStatus.OK);
-			return validationResponseEntity;
-
+		if (attemptCount == attemptsAllowed - 1 && !matches) {
+			return new OtpTransition(OtpStatusConstants.FAILURE_STATUS,
+					OtpStatusConstants.FAILURE_AND_FREEZED_MESSAGE,
+					otpState.update(OtpStatusConstants.KEY_FREEZED.getProperty(), 0, now));
 		}
-		validationResponseEntity = unFreezeKey(key, otp, otpResponse, attemptCount, responseDto,
-				validationResponseEntity);
 		/*
-		 * This condition validates the OTP if neither the key is in freezed condition,
-		 * nor the OTP has expired. If the OTP validation is successful the specific
-		 * message is returned as response and the entire record is deleted. If the OTP
-		 * is expired, the specific message is returned as response and the entire
-		 * record is deleted.
+		 * If the key is freezed, the validation is blocked for the assigned freeze
+		 * period. Once the freeze time is completed, the key is unfreezed.
 		 */
-		if ((otpResponse.getOtp().equals(otp))
-				&& (otpResponse.getStatusCode().equals(OtpStatusConstants.UNUSED_OTP.getProperty())
-						&& ((OtpManagerUtils.timeDifferenceInSeconds(otpResponse.getGeneratedDtimes(),
-								OtpManagerUtils.getCurrentLocalDateTime())) <= (Integer.parseInt(otpExpiryLimit))))) {
-			responseDto.setStatus(OtpStatusConstants.SUCCESS_STATUS.getProperty());
-			responseDto.setMessage(OtpStatusConstants.SUCCESS_MESSAGE.getProperty());
-			otpRepository.deleteById(key);
-			return new ResponseEntity<>(responseDto, HttpStatus.OK);
+		if (otpState.getStatusCode().equals(OtpStatusConstants.KEY_FREEZED.getProperty())) {
+			if (OtpManagerUtils.timeDifferenceInSeconds(otpState.getUpdatedDtimes(), now) <= freezeDuration) {
+				return new OtpTransition(OtpStatusConstants.FAILURE_STATUS,
+						OtpStatusConstants.FAILURE_AND_FREEZED_MESSAGE, otpState);
+			}
+			if (matches) {
+				return new OtpTransition(OtpStatusConstants.SUCCESS_STATUS, OtpStatusConstants.SUCCESS_MESSAGE, null);
+			}
+			next = otpState.update(OtpStatusConstants.UNUSED_OTP.getProperty(), attemptCount + 1, now);
 		}
-		return validationResponseEntity;
+		/*
+		 * If the OTP validation is successful the entire record is removed.
+		 */
+		if (matches && unused) {
+			return new OtpTransition(OtpStatusConstants.SUCCESS_STATUS, OtpStatusConstants.SUCCESS_MESSAGE, null);
+		}
+		return new OtpTransition(OtpStatusConstants.FAILURE_STATUS, OtpStatusConstants.FAILURE_MESSAGE, next);
 	}
 
-	private void requireKeyNotFound(OtpEntity otpResponse) {
+	private void requireKeyNotFound(OtpTransition transition) {
 		/*
 		 * Checking whether the key exists in repository or not. If not, throw an
 		 * exception.
 		 */
-		if (otpResponse == null) {
+		if (transition == null) {
 			List<ServiceError> validationErrorsList = new ArrayList<>();
 			validationErrorsList.add(new ServiceError(OtpErrorConstants.OTP_VAL_KEY_NOT_FOUND.getErrorCode(),
 					OtpErrorConstants.OTP_VAL_KEY_NOT_FOUND.getErrorMessage()));
@@ -176,82 +177,4 @@ public class OtpValidatorServiceImpl implements OtpValidator<ResponseEntity<OtpV
 			return validationResponseEntity;
 		}
 	}
-
-	/**
-	 * This method handles the freeze conditions i.e., If the key is freezed, it
-	 * blocks the validation for the assigned freeze period. If the key is freezed
-	 * and has completed the freeze time, it unfreezes the key.
-	 * 
-	 * @param key                      the key.
-	 * @param otp                      the OTP.
-	 * @param otpResponse              the OTP response.
-	 * @param attemptCount             the attempt count.
-	 * @param responseDto              the response dto.
-	 * @param validationResponseEntity the validation response entity.
-	 * @return the response entity.
-	 */
-	private ResponseEntity<OtpValidatorResponseDto> unFreezeKey(String key, String otp, OtpEntity otpResponse,
-			int attemptCount, OtpValidatorResponseDto responseDto,
-			ResponseEntity<OtpValidatorResponseDto> validationResponseEntity) {
-		String updateString;
-		if (otpResponse.getStatusCode().equals(OtpStatusConstants.KEY_FREEZED.getProperty())) {
-			if ((OtpManagerUtils.timeDifferenceInSeconds(otpResponse.getUpdatedDtimes(),
-					OtpManagerUtils.getCurrentLocalDateTime())) > (Integer.parseInt(keyFreezeDuration))) {
-				updateString = SqlQueryConstants.UPDATE.getProperty() + " " + OtpEntity.class.getSimpleName()
-						+ " SET status_code = :newOtpStatus," + " validation_retry_count = :newNumOfAttempt,"
-						+ " upd_dtimes = :newValidationTime WHERE id=:id";
-				HashMap<String, Object> updateMap = createUpdateMap(key, OtpStatusConstants.UNUSED_OTP.getProperty(),
-						Integer.valueOf(attemptCount + 1), OtpManagerUtils.getCurrentLocalDateTime());
-				if (otp.equals(otpResponse.getOtp())) {
-					responseDto.setStatus(OtpStatusConstants.SUCCESS_STATUS.getProperty());
-					responseDto.setMessage(OtpStatusConstants.SUCCESS_MESSAGE.getProperty());
-					validationResponseEntity = new ResponseEntity<>(responseDto, HttpStatus.OK);
-					otpRepository.deleteById(key);
-				} else {
-					updateData(updateString, updateMap);
-				}
-			} else {
-				responseDto.setMessage(OtpStatusConstants.FAILURE_AND_FREEZED_MESSAGE.getProperty());
-				validationResponseEntity = new ResponseEntity<>(responseDto, HttpStatus.OK);
-			}
-		}
-		return validationResponseEntity;
-	}
-
-	/**
-	 * This method creates the UPDATE map required for UPDATE operations.
-	 * 
-	 * @param key                the key to be updated.
-	 * @param status             the status to be updated.
-	 * @param newNumberOfAttempt the new number of attempt value.
-	 * @param localDateTime      the new LocalDateTime.
-	 * @return the map.
-	 */
-	private HashMap<String, Object> createUpdateMap(String key, String status, Integer newNumberOfAttempt,
-			LocalDateTime localDateTime) {
-		HashMap<String, Object> updateMap = new HashMap<>();
-		if (key != null) {
-			updateMap.put(SqlQueryConstants.ID.getProperty(), key);
-		}
-		if (status != null) {
-			updateMap.put(SqlQueryConstants.NEW_OTP_STATUS.getProperty(), status);
-		}
-		if (newNumberOfAttempt != null) {
-			updateMap.put(SqlQueryConstants.NEW_NUM_OF_ATTEMPT.getProperty(), newNumberOfAttempt);
-		}
-		if (localDateTime != null) {
-			updateMap.put(SqlQueryConstants.NEW_VALIDATION_TIME.getProperty(), localDateTime);
-		}
-		return updateMap;
-	}
-
-	/**
-	 * This method handles UPDATE query operations.
-	 * 
-	 * @param updateString the query string.
-	 * @param updateMap    the query map.
-	 */
-	private void updateData(String updateString, HashMap<String, Object> updateMap) {
-		otpRepository.createQueryUpdateOrDelete(updateString, updateMap);
-	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package io.mosip.kernel.otpmanager.store;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.mosip.kernel.otpmanager.constant.OtpStatusConstants;
+import io.mosip.kernel.otpmanager.constant.SqlQueryConstants;
+import io.mosip.kernel.otpmanager.entity.OtpEntity;
+import io.mosip.kernel.otpmanager.repository.OtpRepository;
+
+/**
+ * {@link OtpStore} backed by the <code>otp_transaction</code> table.
+ * 
+ * A validation is applied with an UPDATE, or a DELETE if the OTP has to be
+ * removed, conditional on the state it was computed from, and computed again
+ * on the reloaded state if another validation updated or removed the OTP in
+ * between, so that an OTP is never validated twice.
+ * 
+ * @since 1.1.0
+ *
+ */
+public class DatabaseOtpStore implements OtpStore {
+
+	/**
+	 * The number of times a validation is computed again on a concurrently
+	 * updated OTP before failing.
+	 */
+	private static final int MAX_RETRIES = 3;
+
+	private static final String CONDITIONAL_UPDATE = SqlQueryConstants.UPDATE.getProperty() + " "
+			+ OtpEntity.class.getSimpleName()
+			+ " SET status_code = :newOtpStatus, validation_retry_count = :newNumOfAttempt,"
+			+ " upd_dtimes = :newValidationTime WHERE id = :id AND status_code = :oldOtpStatus"
+			+ " AND validation_retry_count = :oldNumOfAttempt AND upd_dtimes = :oldValidationTime";
+
+	private static final String CONDITIONAL_DELETE = SqlQueryConstants.DELETE.getProperty() + " "
+			+ OtpEntity.class.getSimpleName() + " WHERE id = :id AND status_code = :oldOtpStatus"
+			+ " AND validation_retry_count = :oldNumOfAttempt AND upd_dtimes = :oldValidationTime";
+
+	private final OtpRepository otpRepository;
+
+	public DatabaseOtpStore(OtpRepository otpRepository) {
+		this.otpRepository = otpRepository;
+	}
+
+	@Override
+	public OtpState get(String key) {
+		OtpEntity entity = otpRepository.findById(OtpEntity.class, key);
+		return entity == null ? null : OtpState.of(entity);
+	}
+
+	@Override
+	public void put(String key, OtpState state) {
+		otpRepository.save(state.toEntity(key));
+	}
+
+	@Override
+	public OtpTransition validate(String key, Function<OtpState, OtpTransition> validation) {
+		OtpState current = null;
+		for (int i = 0; i < MAX_RETRIES; i++) {
+			current = get(key);
+			if (current == null) {
+				return null;
+			}
+			OtpTransition transition = validation.apply(current);
+			OtpState next = transition.getNext();
+			if (next == current) {
+				return transition;
+			}
+			if (next == null) {
+				if (otpRepository.createQueryUpdateOrDelete(CONDITIONAL_DELETE, createDeleteMap(key, current)) == 1) {
+					return transition;
+				}
+			} else if (otpRepository.createQueryUpdateOrDelete(CONDITIONAL_UPDATE,
+					createUpdateMap(key, current, next)) == 1) {
+				return transition;
+			}
+		}
+		return new OtpTransition(OtpStatusConstants.FAILURE_STATUS, OtpStatusConstants.FAILURE_MESSAGE, current);
+	}
+
+	/**
+	 * This method creates the UPDATE map of a conditional update.
+	 * 
+	 * @param key     the key to be updated.
+	 * @param current the state expected in the table.
+	 * @param next    the state to be updated to.
+	 * @return the map.
+	 */
+	private Map<String, Object> createUpdateMap(String key, OtpState current, OtpState next) {
+		Map<String, Object> updateMap = createDeleteMap(key, current);
+		updateMap.put(SqlQueryConstants.NEW_OTP_STATUS.getProperty(), next.getStatusCode());
+		updateMap.put(SqlQueryConstants.NEW_NUM_OF_ATTEMPT.getProperty(), next.getValidationRetryCount());
+		updateMap.put(SqlQueryConstants.NEW_VALIDATION_TIME.getProperty(), next.getUpdatedDtimes());
+		return updateMap;
+	}
+
+	/**
+	 * This method creates the DELETE map of a conditional delete.
+	 * 
+	 * @param key     the key to be deleted.
+	 * @param current the state expected in the table.
+	 * @return the map.
+	 */
+	private Map<String, Object> createDeleteMap(String key, OtpState current) {
+		Map<String, Object> deleteMap = new HashMap<>();
+		deleteMap.put(SqlQueryConstants.ID.getProperty(), key);
+		deleteMap.put(SqlQueryConstants.OLD_OTP_STATUS.getProperty(), current.getStatusCode());
+		deleteMap.put(SqlQueryConstants.OLD_NUM_OF_ATTEMPT.getProperty(), current.getValidationRetryCount());
+		deleteMap.put(SqlQueryConstants.OLD_VALIDATION_TIME.getProperty(), current.getUpdatedDtimes());
+		return deleteMap;
+	}
+}
@@ -0,0 +1,183 @@
+package io.mosip.kernel.otpmanager.store;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import io.mosip.kernel.otpmanager.entity.OtpEntity;
+import io.mosip.kernel.otpmanager.repository.OtpRepository;
+import io.mosip.kernel.otpmanager.util.OtpManagerUtils;
+
+/**
+ * In-process {@link OtpStore}.
+ * 
+ * The state of each OTP is held in an {@link AtomicReference} and validations
+ * are applied by compare-and-set, retrying on concurrent updates of the same
+ * key. Entries expire a retention period after the OTP generation and are
+ * evicted lazily and by a periodic sweep.
+ * 
+ * When a repository is given, generated OTPs are also saved to and used OTPs
+ * deleted from the <code>otp_transaction</code> table, and OTPs missing in
+ * memory are loaded from it. Attempt counts and freezes stay in memory.
+ * 
+ * @since 1.1.0
+ *
+ */
+public class InMemoryOtpStore implements OtpStore, AutoCloseable {
+
+	/**
+	 * The state of an entry whose OTP has been used.
+	 */
+	private static final OtpState REMOVED = new OtpState(null, null, 0, null, null);
+
+	private static final long SWEEP_INTERVAL_SECONDS = 60;
+
+	private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final long retentionSeconds;
+
+	private final OtpRepository otpRepository;
+
+	private final ScheduledExecutorService sweeper;
+
+	/**
+	 * @param retentionSeconds the time after generation for which an OTP is
+	 *                         kept.
+	 * @param otpRepository    the repository used as durable fallback, or null.
+	 */
+	public InMemoryOtpStore(long retentionSeconds, OtpRepository otpRepository) {
+		this.retentionSeconds = retentionSeconds;
+		this.otpRepository = otpRepository;
+		this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "otp-store-sweeper");
+			thread.setDaemon(true);
+			return thread;
+		});
+		sweeper.scheduleWithFixedDelay(this::evictExpired, SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS,
+				TimeUnit.SECONDS);
+	}
+
+	@Override
+	public OtpState get(String key) {
+		Entry entry = getEntry(key);
+		if (entry == null) {
+			return null;
+		}
+		OtpState state = entry.state.get();
+		return state == REMOVED ? null : state;
+	}
+
+	@Override
+	public void put(String key, OtpState state) {
+		if (otpRepository != null) {
+			otpRepository.save(state.toEntity(key));
+		}
+		entries.put(key, new Entry(state, expiresAt(state)));
+	}
+
+	@Override
+	public OtpTransition validate(String key, Function<OtpState, OtpTransition> validation) {
+		Entry entry = getEntry(key);
+		if (entry == null) {
+			return null;
+		}
+		while (true) {
+			OtpState current = entry.state.get();
+			if (current == REMOVED) {
+				return null;
+			}
+			OtpTransition transition = validation.apply(current);
+			OtpState next = transition.getNext();
+			if (next == current) {
+				return transition;
+			}
+			if (entry.state.compareAndSet(current, next == null ? REMOVED : next)) {
+				if (next == null) {
+					entries.remove(key, entry);
+					if (otpRepository != null) {
+						otpRepository.deleteById(key);
+					}
+				}
+				return transition;
+			}
+		}
+	}
+
+	/**
+	 * This method evicts the expired entries.
+	 */
+	public void evictExpired() {
+		LocalDateTime now = OtpManagerUtils.getCurrentLocalDateTime();
+		entries.values().removeIf(entry -> entry.isExpired(now));
+	}
+
+	/**
+	 * This method returns the number of entries held, including the expired ones
+	 * not evicted yet.
+	 * 
+	 * @return the number of entries.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	@Override
+	public void close() {
+		sweeper.shutdownNow();
+	}
+
+	/**
+	 * This method returns the live entry of a key, loading it from the repository
+	 * if missing.
+	 * 
+	 * @param key the key.
+	 * @return the entry, or null if there is none.
+	 */
+	private Entry getEntry(String key) {
+		Entry entry = entries.get(key);
+		if (entry != null && entry.isExpired(OtpManagerUtils.getCurrentLocalDateTime())) {
+			entries.remove(key, entry);
+			entry = null;
+		}
+		if (entry == null && otpRepository != null) {
+			OtpEntity entity = otpRepository.findById(OtpEntity.class, key);
+			if (entity != null) {
+				OtpState state = OtpState.of(entity);
+				Entry loaded = new Entry(state, expiresAt(state));
+				if (!loaded.isExpired(OtpManagerUtils.getCurrentLocalDateTime())) {
+					Entry existing = entries.putIfAbsent(key, loaded);
+					entry = existing != null ? existing : loaded;
+				}
+			}
+		}
+		return entry;
+	}
+
+	private LocalDateTime expiresAt(OtpState state) {
+		return state.getGeneratedDtimes().plusSeconds(retentionSeconds);
+	}
+
+	/**
+	 * The state of an OTP along with its expiry.
+	 */
+	private static final class Entry {
+
+		private final AtomicReference<OtpState> state;
+
+		private final LocalDateTime expiresAt;
+
+		private Entry(OtpState state, LocalDateTime expiresAt) {
+			this.state = new AtomicReference<>(state);
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(LocalDateTime now) {
+			return now.isAfter(expiresAt);
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package io.mosip.kernel.otpmanager.store;
+
+import java.time.LocalDateTime;
+
+import io.mosip.kernel.otpmanager.entity.OtpEntity;
+
+/**
+ * Immutable snapshot of the state of an OTP held by an {@link OtpStore}.
+ * 
+ * @since 1.1.0
+ *
+ */
+public final class OtpState {
+
+	/**
+	 * The generated OTP.
+	 */
+	private final String otp;
+
+	/**
+	 * The status of the OTP.
+	 */
+	private final String statusCode;
+
+	/**
+	 * The number of validation attempts.
+	 */
+	private final int validationRetryCount;
+
+	/**
+	 * The time at which the OTP was generated.
+	 */
+	private final LocalDateTime generatedDtimes;
+
+	/**
+	 * The time at which the OTP validation was last attempted.
+	 */
+	private final LocalDateTime updatedDtimes;
+
+	public OtpState(String otp, String statusCode, int validationRetryCount, LocalDateTime generatedDtimes,
+			LocalDateTime updatedDtimes) {
+		this.otp = otp;
+		this.statusCode = statusCode;
+		this.validationRetryCount = validationRetryCount;
+		this.generatedDtimes = generatedDtimes;
+		this.updatedDtimes = updatedDtimes;
+	}
+
+	/**
+	 * This method creates the state of an OTP entity.
+	 * 
+	 * @param entity the OTP entity.
+	 * @return the state.
+	 */
+	public static OtpState of(OtpEntity entity) {
+		return new OtpState(entity.getOtp(), entity.getStatusCode(), entity.getValidationRetryCount(),
+				entity.getGeneratedDtimes(), entity.getUpdatedDtimes());
+	}
+
+	/**
+	 * This method creates the OTP entity of this state.
+	 * 
+	 * @param key the key.
+	 * @return the entity.
+	 */
+	public OtpEntity toEntity(String key) {
+		OtpEntity entity = new OtpEntity();
+		entity.setId(key);
+		entity.setOtp(otp);
+		entity.setStatusCode(statusCode);
+		entity.setValidationRetryCount(validationRetryCount);
+		entity.setGeneratedDtimes(generatedDtimes);
+		entity.setUpdatedDtimes(updatedDtimes);
+		return entity;
+	}
+
+	/**
+	 * This method returns a copy of this state with the given status and attempt
+	 * count, updated at the given time.
+	 * 
+	 * @param newStatusCode           the new status.
+	 * @param newValidationRetryCount the new attempt count.
+	 * @param newUpdatedDtimes        the update time.
+	 * @return the new state.
+	 */
+	public OtpState update(String newStatusCode, int newValidationRetryCount, LocalDateTime newUpdatedDtimes) {
+		return new OtpState(otp, newStatusCode, newValidationRetryCount, generatedDtimes, newUpdatedDtimes);
+	}
+
+	public String getOtp() {
+		return otp;
+	}
+
+	public String getStatusCode() {
+		return statusCode;
+	}
+
+	public int getValidationRetryCount() {
+		return validationRetryCount;
+	}
+
+	public LocalDateTime getGeneratedDtimes() {
+		return generatedDtimes;
+	}
+
+	public LocalDateTime getUpdatedDtimes() {
+		return updatedDtimes;
+	}
+}
@@ -0,0 +1,47 @@
+package io.mosip.kernel.otpmanager.store;
+
+import java.util.function.Function;
+
+/**
+ * Store of the OTP state against a key.
+ * 
+ * Implementations must apply {@link #validate(String, Function)} atomically
+ * per key, so that concurrent validations of a key never lose an attempt. The
+ * store in use is the {@link OtpStore} bean of the application context; the
+ * default one is selected by the property
+ * <code>mosip.kernel.otp.store-type</code>.
+ * 
+ * @since 1.1.0
+ *
+ */
+public interface OtpStore {
+
+	/**
+	 * This method returns the state of the OTP of a key.
+	 * 
+	 * @param key the key.
+	 * @return the state, or null if there is no OTP for the key.
+	 */
+	OtpState get(String key);
+
+	/**
+	 * This method stores the state of a newly generated OTP of a key, replacing
+	 * any previous one.
+	 * 
+	 * @param key   the key.
+	 * @param state the state.
+	 */
+	void put(String key, OtpState state);
+
+	/**
+	 * This method atomically applies a validation to the state of the OTP of a
+	 * key. The validation may be invoked more than once if the state changes
+	 * concurrently, and must not have side effects.
+	 * 
+	 * @param key        the key.
+	 * @param validation the validation computing the transition of the current
+	 *                   state.
+	 * @return the applied transition, or null if there is no OTP for the key.
+	 */
+	OtpTransition validate(String key, Function<OtpState, OtpTransition> validation);
+}
@@ -0,0 +1,41 @@
+package io.mosip.kernel.otpmanager.store;
+
+import io.mosip.kernel.otpmanager.constant.OtpStatusConstants;
+
+/**
+ * The result of a validation applied to an {@link OtpState}: the status and
+ * message to respond with and the state to store in place of the current one.
+ * 
+ * @since 1.1.0
+ *
+ */
+public final class OtpTransition {
+
+	private final OtpStatusConstants status;
+
+	private final OtpStatusConstants message;
+
+	/**
+	 * The next state, the current state if unchanged, or null if the OTP has to
+	 * be removed.
+	 */
+	private final OtpState next;
+
+	public OtpTransition(OtpStatusConstants status, OtpStatusConstants message, OtpState next) {
+		this.status = status;
+		this.message = message;
+		this.next = next;
+	}
+
+	public OtpStatusConstants getStatus() {
+		return status;
+	}
+
+	public OtpStatusConstants getMessage() {
+		return message;
+	}
+
+	public OtpState getNext() {
+		return next;
+	}
+}
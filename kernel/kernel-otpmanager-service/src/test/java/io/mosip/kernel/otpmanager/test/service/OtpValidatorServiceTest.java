@@ -1,6 +1,8 @@
 package io.mosip.kernel.otpmanager.test.service;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -46,10 +48,26 @@ public class OtpValidatorServiceTest {
 		entity.setStatusCode("OTP_UNUSED");
 		entity.setUpdatedDtimes(LocalDateTime.now(ZoneId.of("UTC")).plusSeconds(50));
 		when(repository.findById(OtpEntity.class, "testKey")).thenReturn(entity);
+		when(repository.createQueryUpdateOrDelete(anyString(), anyMapOf(String.class, Object.class))).thenReturn(1);
 		mockMvc.perform(get("/otp/validate?key=testKey&otp=1234").contentType(MediaType.APPLICATION_JSON))
 				.andExpect(status().isOk()).andExpect(jsonPath("$.response.status", is("success")));
 	}
 
+	@WithUserDetails("individual")
+	@Test
+	public void testOtpValidatorServiceWhenOtpRemovedConcurrently() throws Exception {
+		OtpEntity entity = new OtpEntity();
+		entity.setOtp("1234");
+		entity.setId("testKey");
+		entity.setValidationRetryCount(0);
+		entity.setStatusCode("OTP_UNUSED");
+		entity.setUpdatedDtimes(LocalDateTime.now(ZoneId.of("UTC")).plusSeconds(50));
+		when(repository.findById(OtpEntity.class, "testKey")).thenReturn(entity);
+		when(repository.createQueryUpdateOrDelete(anyString(), anyMapOf(String.class, Object.class))).thenReturn(0);
+		mockMvc.perform(get("/otp/validate?key=testKey&otp=1234").contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.response.status", is("failure")));
+	}
+
 	@WithUserDetails("individual")
 	@Test
 	public void testOtpValidatorServiceNegativeCase() throws Exception {
@@ -0,0 +1,126 @@
+package io.mosip.kernel.otpmanager.test.store;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.mosip.kernel.otpmanager.constant.OtpStatusConstants;
+import io.mosip.kernel.otpmanager.constant.SqlQueryConstants;
+import io.mosip.kernel.otpmanager.entity.OtpEntity;
+import io.mosip.kernel.otpmanager.repository.OtpRepository;
+import io.mosip.kernel.otpmanager.store.DatabaseOtpStore;
+import io.mosip.kernel.otpmanager.store.OtpState;
+import io.mosip.kernel.otpmanager.store.OtpTransition;
+import io.mosip.kernel.otpmanager.util.OtpManagerUtils;
+
+public class DatabaseOtpStoreTest {
+
+	private Table table;
+
+	private DatabaseOtpStore store;
+
+	@Before
+	public void setUp() {
+		table = new Table();
+		OtpRepository otpRepository = mock(OtpRepository.class);
+		when(otpRepository.findById(eq(OtpEntity.class), anyString()))
+				.thenAnswer(invocation -> table.find((String) invocation.getArguments()[1]));
+		when(otpRepository.createQueryUpdateOrDelete(anyString(), anyMapOf(String.class, Object.class)))
+				.thenAnswer(invocation -> table.execute((String) invocation.getArguments()[0],
+						(Map<?, ?>) invocation.getArguments()[1]));
+		store = new DatabaseOtpStore(otpRepository);
+	}
+
+	@Test
+	public void testConcurrentValidationsOfSameOtpSucceedOnce() throws Exception {
+		LocalDateTime now = OtpManagerUtils.getCurrentLocalDateTime();
+		table.row = new OtpState("123456", OtpStatusConstants.UNUSED_OTP.getProperty(), 0, now, now);
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		List<Callable<OtpTransition>> tasks = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			tasks.add(() -> store.validate("testKey", state -> {
+				await(barrier);
+				return new OtpTransition(OtpStatusConstants.SUCCESS_STATUS, OtpStatusConstants.SUCCESS_MESSAGE,
+						null);
+			}));
+		}
+		int successes = 0;
+		for (Future<OtpTransition> future : executor.invokeAll(tasks)) {
+			OtpTransition transition = future.get();
+			if (transition != null && transition.getStatus() == OtpStatusConstants.SUCCESS_STATUS) {
+				successes++;
+			}
+		}
+		executor.shutdown();
+		assertEquals(1, successes);
+		assertNull(table.row);
+	}
+
+	@Test
+	public void testValidationOfRemovedOtpIsNotFound() {
+		LocalDateTime now = OtpManagerUtils.getCurrentLocalDateTime();
+		table.row = new OtpState("123456", OtpStatusConstants.UNUSED_OTP.getProperty(), 0, now, now);
+		OtpTransition transition = store.validate("testKey", state -> {
+			table.row = null;
+			return new OtpTransition(OtpStatusConstants.SUCCESS_STATUS, OtpStatusConstants.SUCCESS_MESSAGE, null);
+		});
+		assertNull(transition);
+	}
+
+	private static void await(CyclicBarrier barrier) {
+		try {
+			barrier.await();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Single row <code>otp_transaction</code> table applying the conditional
+	 * statements atomically.
+	 */
+	private static class Table {
+
+		private volatile OtpState row;
+
+		synchronized OtpEntity find(String key) {
+			return row == null ? null : row.toEntity(key);
+		}
+
+		synchronized int execute(String statement, Map<?, ?> params) {
+			if (row == null
+					|| !row.getStatusCode().equals(params.get(SqlQueryConstants.OLD_OTP_STATUS.getProperty()))
+					|| !params.get(SqlQueryConstants.OLD_NUM_OF_ATTEMPT.getProperty())
+							.equals(row.getValidationRetryCount())
+					|| !row.getUpdatedDtimes().equals(params.get(SqlQueryConstants.OLD_VALIDATION_TIME.getProperty()))) {
+				return 0;
+			}
+			if (statement.startsWith(SqlQueryConstants.DELETE.getProperty())) {
+				row = null;
+			} else {
+				row = row.update((String) params.get(SqlQueryConstants.NEW_OTP_STATUS.getProperty()),
+						(Integer) params.get(SqlQueryConstants.NEW_NUM_OF_ATTEMPT.getProperty()),
+						(LocalDateTime) params.get(SqlQueryConstants.NEW_VALIDATION_TIME.getProperty()));
+			}
+			return 1;
+		}
+	}
+}
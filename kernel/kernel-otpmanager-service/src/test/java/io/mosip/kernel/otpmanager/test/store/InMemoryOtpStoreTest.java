@@ -0,0 +1,75 @@
+package io.mosip.kernel.otpmanager.test.store;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.mosip.kernel.otpmanager.constant.OtpStatusConstants;
+import io.mosip.kernel.otpmanager.store.InMemoryOtpStore;
+import io.mosip.kernel.otpmanager.store.OtpState;
+import io.mosip.kernel.otpmanager.store.OtpTransition;
+import io.mosip.kernel.otpmanager.util.OtpManagerUtils;
+
+public class InMemoryOtpStoreTest {
+
+	private InMemoryOtpStore store;
+
+	@Before
+	public void setUp() {
+		store = new InMemoryOtpStore(120, null);
+	}
+
+	@After
+	public void tearDown() {
+		store.close();
+	}
+
+	@Test
+	public void testConcurrentAttemptsAreAllCounted() throws Exception {
+		LocalDateTime now = OtpManagerUtils.getCurrentLocalDateTime();
+		store.put("testKey", new OtpState("123456", OtpStatusConstants.UNUSED_OTP.getProperty(), 0, now, now));
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Callable<OtpTransition>> tasks = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			tasks.add(() -> store.validate("testKey",
+					state -> new OtpTransition(OtpStatusConstants.FAILURE_STATUS, OtpStatusConstants.FAILURE_MESSAGE,
+							state.update(state.getStatusCode(), state.getValidationRetryCount() + 1, now))));
+		}
+		for (Future<OtpTransition> future : executor.invokeAll(tasks)) {
+			future.get();
+		}
+		executor.shutdown();
+		assertEquals(1000, store.get("testKey").getValidationRetryCount());
+	}
+
+	@Test
+	public void testRemovedOtpIsNotFound() {
+		LocalDateTime now = OtpManagerUtils.getCurrentLocalDateTime();
+		store.put("testKey", new OtpState("123456", OtpStatusConstants.UNUSED_OTP.getProperty(), 0, now, now));
+		store.validate("testKey",
+				state -> new OtpTransition(OtpStatusConstants.SUCCESS_STATUS, OtpStatusConstants.SUCCESS_MESSAGE, null));
+		assertNull(store.get("testKey"));
+		assertNull(store.validate("testKey", state -> new OtpTransition(OtpStatusConstants.SUCCESS_STATUS,
+				OtpStatusConstants.SUCCESS_MESSAGE, null)));
+	}
+
+	@Test
+	public void testExpiredOtpIsEvicted() {
+		LocalDateTime generated = OtpManagerUtils.getCurrentLocalDateTime().minusSeconds(300);
+		store.put("testKey",
+				new OtpState("123456", OtpStatusConstants.UNUSED_OTP.getProperty(), 0, generated, generated));
+		store.evictExpired();
+		assertEquals(0, store.size());
+	}
+}
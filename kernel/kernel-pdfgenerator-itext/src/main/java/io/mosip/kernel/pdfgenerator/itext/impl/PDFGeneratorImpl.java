@@ -6,6 +6,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.security.GeneralSecurityException;
 import java.security.PrivateKey;
@@ -13,6 +14,7 @@ import java.security.Provider;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.imageio.ImageIO;
 
@@ -31,6 +33,8 @@ import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Image;
+import com.itextpdf.layout.font.FontProvider;
+import com.itextpdf.layout.font.FontSet;
 import com.itextpdf.text.DocumentException;
 import com.itextpdf.text.Rectangle;
 import com.itextpdf.text.pdf.PdfCopy;
@@ -63,6 +67,10 @@ import io.mosip.kernel.pdfgenerator.itext.constant.PDFGeneratorExceptionCodeCons
  * Template as a {@link String}, {@link File}, or {@link InputStream}, and
  * convert it to PDF in the form of an {@link OutputStream}, {@link File}
  * 
+ * The standard and shipped fonts are loaded once in a shared {@link FontSet},
+ * each conversion gets its own {@link FontProvider} on it as font providers
+ * cache fonts of the document being converted.
+ * 
  * @author Urvil Joshi
  * @author Uday Kumar
  * @author Neha
@@ -74,6 +82,17 @@ import io.mosip.kernel.pdfgenerator.itext.constant.PDFGeneratorExceptionCodeCons
 public class PDFGeneratorImpl implements PDFGenerator {
 	private static final String OUTPUT_FILE_EXTENSION = ".pdf";
 
+	/**
+	 * The default font family of {@link DefaultFontProvider}.
+	 */
+	private static final String DEFAULT_FONT_FAMILY = "Times";
+
+	private static final PageSize PAGE_SIZE = PageSize.A4.rotate();
+
+	private final MediaDeviceDescription mediaDescription = createMediaDescription();
+
+	private volatile FontSet fontSet;
+
 	@Value("${mosip.kernel.pdf_owner_password}")
 	private String pdfOwnerPassword;
 
@@ -88,7 +107,7 @@ public class PDFGeneratorImpl implements PDFGenerator {
 		isValidInputStream(is);
 		OutputStream os = new ByteArrayOutputStream();
 		try {
-			HtmlConverter.convertToPdf(is, os);
+			HtmlConverter.convertToPdf(is, os, getConverterProperties());
 		} catch (Exception e) {
 			throw new PDFGeneratorException(PDFGeneratorExceptionCodeConstant.PDF_EXCEPTION.getErrorCode(),
 					e.getMessage());
@@ -106,7 +125,7 @@ public class PDFGeneratorImpl implements PDFGenerator {
 	public OutputStream generate(String template) throws IOException {
 		OutputStream os = new ByteArrayOutputStream();
 		try {
-			HtmlConverter.convertToPdf(template, os);
+			HtmlConverter.convertToPdf(template, os, getConverterProperties());
 		} catch (Exception e) {
 			throw new PDFGeneratorException(PDFGeneratorExceptionCodeConstant.PDF_EXCEPTION.getErrorCode(),
 					PDFGeneratorExceptionCodeConstant.PDF_EXCEPTION.getErrorMessage(), e);
@@ -125,7 +144,7 @@ public class PDFGeneratorImpl implements PDFGenerator {
 	public void generate(String templatePath, String outpuFilePath, String outputFileName) throws IOException {
 		File outputFile = new File(outpuFilePath + outputFileName + OUTPUT_FILE_EXTENSION);
 		try {
-			HtmlConverter.convertToPdf(new File(templatePath), outputFile);
+			HtmlConverter.convertToPdf(new File(templatePath), outputFile, getConverterProperties());
 		} catch (Exception e) {
 			throw new PDFGeneratorException(PDFGeneratorExceptionCodeConstant.PDF_EXCEPTION.getErrorCode(),
 					PDFGeneratorExceptionCodeConstant.PDF_EXCEPTION.getErrorMessage(), e);
@@ -141,20 +160,30 @@ public class PDFGeneratorImpl implements PDFGenerator {
 	 */
 	@Override
 	public OutputStream generate(InputStream is, String resourceLoc) throws IOException {
-		isValidInputStream(is);
 		OutputStream os = new ByteArrayOutputStream();
+		generate(is, resourceLoc, os);
+		return os;
+	}
+
+	/**
+	 * Converts a processed template to PDF, in landscape A4 pages, writing the PDF
+	 * to the output stream as it is generated. The output stream is not closed.
+	 * 
+	 * @param is          the processed template.
+	 * @param resourceLoc the base location of the resources of the template.
+	 * @param os          the output stream, for example on a file channel.
+	 * @throws IOException if an I/O exception occurs.
+	 * @since 1.1.0
+	 */
+	public void generate(InputStream is, String resourceLoc, OutputStream os) throws IOException {
+		isValidInputStream(is);
 		PdfWriter pdfWriter = new PdfWriter(os);
+		pdfWriter.setCloseStream(false);
 		PdfDocument pdfDoc = new PdfDocument(pdfWriter);
-		ConverterProperties converterProperties = new ConverterProperties();
 		pdfDoc.setTagged();
-		PageSize pageSize = PageSize.A4.rotate();
-		pdfDoc.setDefaultPageSize(pageSize);
-		float screenWidth = CssUtils.parseAbsoluteLength("" + pageSize.getWidth());
-		MediaDeviceDescription mediaDescription = new MediaDeviceDescription(MediaType.SCREEN);
-		mediaDescription.setWidth(screenWidth);
-		DefaultFontProvider dfp = new DefaultFontProvider(true, true, false);
+		pdfDoc.setDefaultPageSize(PAGE_SIZE);
+		ConverterProperties converterProperties = getConverterProperties();
 		converterProperties.setMediaDeviceDescription(mediaDescription);
-		converterProperties.setFontProvider(dfp);
 		converterProperties.setBaseUri(resourceLoc);
 		converterProperties.setCreateAcroForm(true);
 		try {
@@ -163,7 +192,30 @@ public class PDFGeneratorImpl implements PDFGenerator {
 			throw new PDFGeneratorException(PDFGeneratorExceptionCodeConstant.PDF_EXCEPTION.getErrorCode(),
 					e.getMessage());
 		}
-		return os;
+	}
+
+	/**
+	 * Converts processed templates to PDF in parallel, as
+	 * {@link #generate(InputStream, String)} does for one template.
+	 * 
+	 * @param dataStreams the processed templates.
+	 * @param resourceLoc the base location of the resources of the templates.
+	 * @return the PDFs, in the order of the templates.
+	 * @throws IOException if an I/O exception occurs.
+	 * @since 1.1.0
+	 */
+	public List<OutputStream> generate(List<InputStream> dataStreams, String resourceLoc) throws IOException {
+		try {
+			return dataStreams.parallelStream().map(is -> {
+				try {
+					return generate(is, resourceLoc);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}).collect(Collectors.toList());
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
 	}
 
 	/*
@@ -312,6 +364,32 @@ public class PDFGeneratorImpl implements PDFGenerator {
 		}
 	}
 
+	/**
+	 * Creates converter properties with a font provider on the shared font set,
+	 * loading the fonts on first use.
+	 */
+	private ConverterProperties getConverterProperties() {
+		FontSet fonts = fontSet;
+		if (fonts == null) {
+			synchronized (this) {
+				fonts = fontSet;
+				if (fonts == null) {
+					fonts = new DefaultFontProvider(true, true, false).getFontSet();
+					fontSet = fonts;
+				}
+			}
+		}
+		ConverterProperties converterProperties = new ConverterProperties();
+		converterProperties.setFontProvider(new FontProvider(fonts, DEFAULT_FONT_FAMILY));
+		return converterProperties;
+	}
+
+	private static MediaDeviceDescription createMediaDescription() {
+		MediaDeviceDescription mediaDescription = new MediaDeviceDescription(MediaType.SCREEN);
+		mediaDescription.setWidth(CssUtils.parseAbsoluteLength("" + PAGE_SIZE.getWidth()));
+		return mediaDescription;
+	}
+
 	private void isValidInputStream(InputStream dataInputStream) {
 		if (EmptyCheckUtils.isNullEmpty(dataInputStream)) {
 			throw new PDFGeneratorException(
@@ -1,6 +1,7 @@
 package io.mosip.kernel.pdfgenerator.itext.test;
 
 import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -227,6 +228,37 @@ public class PDFGeneratorTest {
 
 	}
 
+	@Test
+	public void testPdfGenerationToOutputStreamPassingResourceLoc() throws IOException {
+		ClassLoader classLoader = getClass().getClassLoader();
+		String inputFile = classLoader.getResource("responsive.html").getFile();
+		String resourceLoc = new File(inputFile).getParentFile().getAbsolutePath();
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		try (InputStream is = new FileInputStream(inputFile)) {
+			((PDFGeneratorImpl) pdfGenerator).generate(is, resourceLoc, bos);
+		}
+		assertEquals("%PDF-", new String(bos.toByteArray(), 0, 5));
+	}
+
+	@Test
+	public void testPdfGenerationBatchPassingResourceLoc() throws IOException {
+		ClassLoader classLoader = getClass().getClassLoader();
+		String inputFile = classLoader.getResource("responsive.html").getFile();
+		String resourceLoc = new File(inputFile).getParentFile().getAbsolutePath();
+		List<InputStream> inputStreams = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			inputStreams.add(new FileInputStream(inputFile));
+		}
+		List<OutputStream> pdfs = ((PDFGeneratorImpl) pdfGenerator).generate(inputStreams, resourceLoc);
+		assertEquals(4, pdfs.size());
+		for (OutputStream pdf : pdfs) {
+			assertTrue(((ByteArrayOutputStream) pdf).size() > 0);
+		}
+		for (InputStream is : inputStreams) {
+			is.close();
+		}
+	}
+
 	@Test(expected = PDFGeneratorException.class)
 	public void testPdfGeneratorExceptionInInputStreamPassingResourceLoc() throws IOException {
 		ClassLoader classLoader = getClass().getClassLoader();
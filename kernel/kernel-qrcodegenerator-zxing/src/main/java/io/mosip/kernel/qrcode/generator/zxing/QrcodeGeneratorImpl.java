@@ -2,9 +2,14 @@ package io.mosip.kernel.qrcode.generator.zxing;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.google.zxing.BarcodeFormat;
@@ -20,11 +25,17 @@ import io.mosip.kernel.core.qrcodegenerator.spi.QrCodeGenerator;
 import io.mosip.kernel.qrcode.generator.zxing.constant.QrVersion;
 import io.mosip.kernel.qrcode.generator.zxing.constant.QrcodeConstants;
 import io.mosip.kernel.qrcode.generator.zxing.constant.QrcodeExceptionConstants;
+import io.mosip.kernel.qrcode.generator.zxing.util.QrcodePngEncoder;
 import io.mosip.kernel.qrcode.generator.zxing.util.QrcodegeneratorUtils;
 
 /**
  * Class which provides functionality to generate QR Code
  * 
+ * The PNG images are written with {@link MatrixToImageWriter}, or with
+ * {@link QrcodePngEncoder} when
+ * <code>mosip.kernel.qrcode.raw-png-encoder.enabled</code> is true. Batches of
+ * QR codes are encoded in parallel, each thread reusing its own output buffers.
+ * 
  * @author Urvil Joshi
  *
  * @since 1.0.0
@@ -37,16 +48,41 @@ public class QrcodeGeneratorImpl implements QrCodeGenerator<QrVersion> {
 	 */
 	private static QRCodeWriter qrCodeWriter;
 	/**
-	 * Configurations for QrCode Generator
+	 * Configurations for QrCode Generator for each {@link QrVersion}, never
+	 * modified once built so that they can be shared by concurrent calls
+	 */
+	private static Map<QrVersion, Map<EncodeHintType, Object>> configMaps;
+
+	/**
+	 * Output buffer reused by the calls of a thread writing with
+	 * {@link MatrixToImageWriter}
 	 */
-	private static Map<EncodeHintType, Object> configMap;
+	private static final ThreadLocal<ByteArrayOutputStream> outputStreams = ThreadLocal
+			.withInitial(ByteArrayOutputStream::new);
+
+	/**
+	 * {@link QrcodePngEncoder} reused by the calls of a thread
+	 */
+	private static final ThreadLocal<QrcodePngEncoder> pngEncoders = ThreadLocal.withInitial(QrcodePngEncoder::new);
 
 	static {
 		qrCodeWriter = new QRCodeWriter();
-		configMap = new EnumMap<>(EncodeHintType.class);
-		configMap.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.L);
+		configMaps = new EnumMap<>(QrVersion.class);
+		for (QrVersion version : QrVersion.values()) {
+			Map<EncodeHintType, Object> configMap = new EnumMap<>(EncodeHintType.class);
+			configMap.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.L);
+			configMap.put(EncodeHintType.QR_VERSION, version.getVersion());
+			configMaps.put(version, Collections.unmodifiableMap(configMap));
+		}
 	}
 
+	/**
+	 * Write the PNG images with {@link QrcodePngEncoder} instead of
+	 * {@link MatrixToImageWriter}
+	 */
+	@Value("${mosip.kernel.qrcode.raw-png-encoder.enabled:false}")
+	private boolean rawPngEncoder;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -56,19 +92,66 @@ public class QrcodeGeneratorImpl implements QrCodeGenerator<QrVersion> {
 	@Override
 	public byte[] generateQrCode(String data, QrVersion version) throws QrcodeGenerationException, IOException {
 		QrcodegeneratorUtils.verifyInput(data, version);
-		configMap.put(EncodeHintType.QR_VERSION, version.getVersion());
 		BitMatrix byteMatrix = null;
 		try {
 			byteMatrix = qrCodeWriter.encode(data, BarcodeFormat.QR_CODE, version.getSize(), version.getSize(),
-					configMap);
+					configMaps.get(version));
 		} catch (WriterException | IllegalArgumentException exception) {
 			throw new QrcodeGenerationException(QrcodeExceptionConstants.QRCODE_GENERATION_EXCEPTION.getErrorCode(),
 					QrcodeExceptionConstants.QRCODE_GENERATION_EXCEPTION.getErrorMessage() + exception.getMessage(),
 					exception);
 		}
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		if (rawPngEncoder) {
+			return pngEncoders.get().encode(byteMatrix);
+		}
+		ByteArrayOutputStream outputStream = outputStreams.get();
+		outputStream.reset();
 		MatrixToImageWriter.writeToStream(byteMatrix, QrcodeConstants.FILE_FORMAT, outputStream);
 		return outputStream.toByteArray();
 
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.core.qrcodegenerator.spi.QrCodeGenerator#generateQrCodes(
+	 * java.util.List, java.lang.Object)
+	 */
+	@Override
+	public List<byte[]> generateQrCodes(List<String> data, QrVersion version)
+			throws QrcodeGenerationException, IOException {
+		try {
+			return data.parallelStream().map(qrData -> {
+				try {
+					return generateQrCode(qrData, version);
+				} catch (QrcodeGenerationException e) {
+					throw new GenerationFailure(e);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}).collect(Collectors.toList());
+		} catch (GenerationFailure e) {
+			throw e.getCause();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Carries a {@link QrcodeGenerationException} out of the parallel stream
+	 */
+	private static class GenerationFailure extends RuntimeException {
+
+		private static final long serialVersionUID = -2512336712290335314L;
+
+		GenerationFailure(QrcodeGenerationException cause) {
+			super(cause);
+		}
+
+		@Override
+		public synchronized QrcodeGenerationException getCause() {
+			return (QrcodeGenerationException) super.getCause();
+		}
+	}
 }
@@ -0,0 +1,141 @@
+package io.mosip.kernel.qrcode.generator.zxing.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import com.google.zxing.common.BitArray;
+import com.google.zxing.common.BitMatrix;
+
+/**
+ * Encoder writing a {@link BitMatrix} as a 1 bit grayscale PNG image, black
+ * for the set bits and white for the others, without going through a
+ * BufferedImage and ImageIO.
+ *
+ * The scanlines, the compressed image data and the output are kept in buffers
+ * reused from one image to the next, so an encoder is not thread safe and is
+ * meant to be kept per thread.
+ *
+ * @since 1.1.0
+ */
+public class QrcodePngEncoder {
+
+	private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+
+	private static final byte[] IHDR = { 'I', 'H', 'D', 'R' };
+
+	private static final byte[] IDAT = { 'I', 'D', 'A', 'T' };
+
+	private static final byte[] IEND = { 'I', 'E', 'N', 'D' };
+
+	private static final int BIT_DEPTH = 1;
+
+	private static final int COLOR_TYPE_GRAYSCALE = 0;
+
+	private static final int FILTER_NONE = 0;
+
+	private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+	private final CRC32 crc = new CRC32();
+
+	private final byte[] header = new byte[13];
+
+	private final byte[] word = new byte[4];
+
+	private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+	private BitArray row = new BitArray(0);
+
+	private byte[] scanlines = new byte[0];
+
+	private byte[] imageData = new byte[256];
+
+	/**
+	 * Encode the matrix as a PNG image
+	 *
+	 * @param matrix the matrix to encode, the set bits are black
+	 * @return array of byte containing the PNG image
+	 */
+	public byte[] encode(BitMatrix matrix) {
+		int width = matrix.getWidth();
+		int height = matrix.getHeight();
+		int scanlineLength = (width + 7) / 8 + 1;
+		int scanlinesLength = scanlineLength * height;
+		if (scanlines.length < scanlinesLength) {
+			scanlines = new byte[scanlinesLength];
+		}
+		for (int y = 0; y < height; y++) {
+			row = matrix.getRow(y, row);
+			writeScanline(row, width, y * scanlineLength);
+		}
+		int imageDataLength = deflate(scanlinesLength);
+
+		writeInt(header, 0, width);
+		writeInt(header, 4, height);
+		header[8] = BIT_DEPTH;
+		header[9] = COLOR_TYPE_GRAYSCALE;
+		header[10] = 0;
+		header[11] = 0;
+		header[12] = 0;
+
+		outputStream.reset();
+		outputStream.write(SIGNATURE, 0, SIGNATURE.length);
+		writeChunk(IHDR, header, header.length);
+		writeChunk(IDAT, imageData, imageDataLength);
+		writeChunk(IEND, header, 0);
+		return outputStream.toByteArray();
+	}
+
+	/**
+	 * Pack a row of the matrix, most significant bit first, with 1 for white and
+	 * 0 for black. The bits past the width are left white.
+	 */
+	private void writeScanline(BitArray row, int width, int offset) {
+		scanlines[offset] = FILTER_NONE;
+		int index = offset + 1;
+		for (int x = 0; x < width; x += 8) {
+			int packed = 0;
+			for (int bit = 0; bit < 8; bit++) {
+				packed <<= 1;
+				if (x + bit >= width || !row.get(x + bit)) {
+					packed |= 1;
+				}
+			}
+			scanlines[index++] = (byte) packed;
+		}
+	}
+
+	private int deflate(int scanlinesLength) {
+		deflater.reset();
+		deflater.setInput(scanlines, 0, scanlinesLength);
+		deflater.finish();
+		int length = 0;
+		while (!deflater.finished()) {
+			if (length == imageData.length) {
+				imageData = Arrays.copyOf(imageData, imageData.length * 2);
+			}
+			length += deflater.deflate(imageData, length, imageData.length - length);
+		}
+		return length;
+	}
+
+	private void writeChunk(byte[] type, byte[] data, int length) {
+		writeInt(word, 0, length);
+		outputStream.write(word, 0, 4);
+		outputStream.write(type, 0, type.length);
+		outputStream.write(data, 0, length);
+		crc.reset();
+		crc.update(type, 0, type.length);
+		crc.update(data, 0, length);
+		writeInt(word, 0, (int) crc.getValue());
+		outputStream.write(word, 0, 4);
+	}
+
+	private static void writeInt(byte[] buffer, int offset, int value) {
+		buffer[offset] = (byte) (value >>> 24);
+		buffer[offset + 1] = (byte) (value >>> 16);
+		buffer[offset + 2] = (byte) (value >>> 8);
+		buffer[offset + 3] = (byte) value;
+	}
+}
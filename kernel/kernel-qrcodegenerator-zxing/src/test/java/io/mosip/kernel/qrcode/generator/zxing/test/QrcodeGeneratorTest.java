@@ -1,13 +1,28 @@
 package io.mosip.kernel.qrcode.generator.zxing.test;
 
 import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
 
 import io.mosip.kernel.core.exception.NullPointerException;
 import io.mosip.kernel.core.qrcodegenerator.exception.InvalidInputException;
@@ -64,4 +79,42 @@ public class QrcodeGeneratorTest {
 				QrVersion.V25);
 	}
 
+	@Test
+	public void testGenerateQrCodes() throws Exception {
+		List<String> data = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			data.add("data" + i);
+		}
+		List<byte[]> qrCodes = generatorImpl.generateQrCodes(data, QrVersion.V25);
+		assertEquals(data.size(), qrCodes.size());
+		for (int i = 0; i < data.size(); i++) {
+			assertArrayEquals(generatorImpl.generateQrCode(data.get(i), QrVersion.V25), qrCodes.get(i));
+		}
+	}
+
+	@Test
+	public void testGenerateQrCodesRawPngEncoder() throws Exception {
+		List<String> data = Arrays.asList("data1", "data2", "data3");
+		ReflectionTestUtils.setField(generatorImpl, "rawPngEncoder", true);
+		try {
+			List<byte[]> qrCodes = generatorImpl.generateQrCodes(data, QrVersion.V30);
+			for (int i = 0; i < data.size(); i++) {
+				assertEquals(data.get(i), decode(qrCodes.get(i)));
+			}
+		} finally {
+			ReflectionTestUtils.setField(generatorImpl, "rawPngEncoder", false);
+		}
+	}
+
+	@Test(expected = InvalidInputException.class)
+	public void testGenerateQrCodesInvalidInputException() throws Exception {
+		generatorImpl.generateQrCodes(Arrays.asList("data", "     "), QrVersion.V25);
+	}
+
+	private static String decode(byte[] qrCode) throws Exception {
+		BinaryBitmap bitmap = new BinaryBitmap(new HybridBinarizer(
+				new BufferedImageLuminanceSource(ImageIO.read(new ByteArrayInputStream(qrCode)))));
+		return new QRCodeReader().decode(bitmap).getText();
+	}
+
 }
@@ -0,0 +1,99 @@
+package io.mosip.kernel.qrcode.generator.zxing.test.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.qrcodegenerator.exception.QrcodeGenerationException;
+import io.mosip.kernel.qrcode.generator.zxing.QrcodeGeneratorImpl;
+import io.mosip.kernel.qrcode.generator.zxing.constant.QrVersion;
+
+/**
+ * Cost of generating a batch of QR codes one by one, in parallel with
+ * MatrixToImageWriter and in parallel with the raw PNG encoder of
+ * {@link QrcodeGeneratorImpl}.
+ *
+ * Run with the test classpath: <code>java -cp ... QrcodeGenerationBenchmark</code>
+ *
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QrcodeGenerationBenchmark {
+
+	@Param({ "V10", "V30" })
+	private QrVersion version;
+
+	@Param({ "100" })
+	private int batchSize;
+
+	private List<String> data;
+
+	private QrcodeGeneratorImpl imageWriterGenerator;
+
+	private QrcodeGeneratorImpl rawPngGenerator;
+
+	@Setup
+	public void setup() {
+		data = new ArrayList<>(batchSize);
+		for (int i = 0; i < batchSize; i++) {
+			data.add("N : UserName" + i + "\nD : 17-05-1996\nuin : " + (927391028372L + i));
+		}
+		imageWriterGenerator = new QrcodeGeneratorImpl();
+		rawPngGenerator = new QrcodeGeneratorImpl();
+		ReflectionTestUtils.setField(rawPngGenerator, "rawPngEncoder", true);
+	}
+
+	@Benchmark
+	public int oneByOne() throws QrcodeGenerationException, IOException {
+		int length = 0;
+		for (String qrData : data) {
+			length += imageWriterGenerator.generateQrCode(qrData, version).length;
+		}
+		return length;
+	}
+
+	@Benchmark
+	public int batchImageWriter() throws QrcodeGenerationException, IOException {
+		return totalLength(imageWriterGenerator.generateQrCodes(data, version));
+	}
+
+	@Benchmark
+	public int batchRawPng() throws QrcodeGenerationException, IOException {
+		return totalLength(rawPngGenerator.generateQrCodes(data, version));
+	}
+
+	private static int totalLength(List<byte[]> qrCodes) {
+		int length = 0;
+		for (byte[] qrCode : qrCodes) {
+			length += qrCode.length;
+		}
+		return length;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(QrcodeGenerationBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
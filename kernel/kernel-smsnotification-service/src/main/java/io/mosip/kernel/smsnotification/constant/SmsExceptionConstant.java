@@ -10,6 +10,7 @@ package io.mosip.kernel.smsnotification.constant;
 public enum SmsExceptionConstant {
 
 	SMS_ILLEGAL_INPUT("KER-NOS-001", "Number and message can't be empty, null"),
+	SMS_QUEUE_FULL("KER-NOS-005", "Sms queue is full, retry later"),
     INTERNAL_SERVER_ERROR("KER-NOS-500", "Internal server error");
 
 	/**
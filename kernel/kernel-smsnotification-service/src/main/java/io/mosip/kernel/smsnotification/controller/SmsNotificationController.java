@@ -5,6 +5,7 @@ import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,8 +14,10 @@ import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.http.ResponseFilter;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.notification.model.SMSResponseDto;
+import io.mosip.kernel.smsnotification.dto.SmsQueueMetricsDto;
 import io.mosip.kernel.smsnotification.dto.SmsRequestDto;
 import io.mosip.kernel.smsnotification.service.SmsNotification;
+import io.mosip.kernel.smsnotification.util.SmsDispatcher;
 
 /**
  * This controller class receives contact number and message in data transfer
@@ -34,6 +37,12 @@ public class SmsNotificationController {
 	@Autowired
 	SmsNotification smsNotifierService;
 
+	/**
+	 * The dispatcher of the queued SMS.
+	 */
+	@Autowired
+	SmsDispatcher smsDispatcher;
+
 	/**
 	 * This method sends sms to the contact number provided.
 	 * 
@@ -50,4 +59,16 @@ public class SmsNotificationController {
 				smsRequestDto.getRequest().getMessage()));
 		return responseWrapper;
 	}
+
+	/**
+	 * @return the metrics of the SMS dispatch queue.
+	 */
+	@PreAuthorize("hasAnyRole('ZONAL_ADMIN','GLOBAL_ADMIN')")
+	@ResponseFilter
+	@GetMapping(value = "/sms/queue/metrics")
+	public ResponseWrapper<SmsQueueMetricsDto> getQueueMetrics() {
+		ResponseWrapper<SmsQueueMetricsDto> responseWrapper = new ResponseWrapper<>();
+		responseWrapper.setResponse(smsDispatcher.getMetrics());
+		return responseWrapper;
+	}
 }
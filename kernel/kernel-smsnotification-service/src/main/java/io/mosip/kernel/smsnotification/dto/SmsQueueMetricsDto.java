@@ -0,0 +1,79 @@
+package io.mosip.kernel.smsnotification.dto;
+
+import lombok.Data;
+
+/**
+ * The class for the metrics of the SMS dispatch queue.
+ * 
+ * @since 1.1.0
+ */
+@Data
+public class SmsQueueMetricsDto {
+	/**
+	 * Whether the SMS are sent through the queue.
+	 */
+	private boolean enabled;
+
+	/**
+	 * The SMS waiting in the queue.
+	 */
+	private int queued;
+
+	/**
+	 * The SMS accepted since start.
+	 */
+	private long enqueued;
+
+	/**
+	 * The SMS refused as the queue was full since start.
+	 */
+	private long rejected;
+
+	/**
+	 * The SMS sent since start.
+	 */
+	private long sent;
+
+	/**
+	 * The requests made to the SMS gateway since start.
+	 */
+	private long requests;
+
+	/**
+	 * The retried requests since start.
+	 */
+	private long retried;
+
+	/**
+	 * The SMS not sent after all retries since start.
+	 */
+	private long failed;
+
+	/**
+	 * The average delivery latency in milliseconds, from enqueue to the
+	 * acknowledgement of the gateway, over the recent SMS.
+	 */
+	private double averageLatency;
+
+	/**
+	 * The median delivery latency in milliseconds over the recent SMS.
+	 */
+	private long p50Latency;
+
+	/**
+	 * The 95th percentile of the delivery latency in milliseconds over the
+	 * recent SMS.
+	 */
+	private long p95Latency;
+
+	/**
+	 * The 99th percentile of the delivery latency in milliseconds over the
+	 * recent SMS.
+	 */
+	private long p99Latency;
+
+	/**
+	 * The maximum delivery latency in milliseconds over the recent SMS.
+	 */
+	private long maxLatency;
+}
@@ -104,6 +104,23 @@ public class ApiExceptionHandler {
 		return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
 	}
 
+	/**
+	 * This method handles SmsQueueFullException type of exception.
+	 * 
+	 * @param httpServletRequest the request.
+	 * @param e                  the exception.
+	 * @return the response entity.
+	 * @throws IOException IOException.
+	 */
+	@ExceptionHandler(SmsQueueFullException.class)
+	public ResponseEntity<ResponseWrapper<ServiceError>> onSmsQueueFull(final HttpServletRequest httpServletRequest,
+			final SmsQueueFullException e) throws IOException {
+		ResponseWrapper<ServiceError> errorResponse = setErrors(httpServletRequest);
+		ServiceError error = new ServiceError(e.getErrorCode(), e.getErrorText());
+		errorResponse.getErrors().add(error);
+		return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
 	@ExceptionHandler(value = { Exception.class, RuntimeException.class })
 	public ResponseEntity<ResponseWrapper<ServiceError>> defaultErrorHandler(
 			final HttpServletRequest httpServletRequest, Exception e) throws IOException {
@@ -0,0 +1,24 @@
+package io.mosip.kernel.smsnotification.exception;
+
+import io.mosip.kernel.core.exception.BaseUncheckedException;
+
+/**
+ * Exception thrown when an SMS can not be queued as the dispatch queue is full.
+ * 
+ * @since 1.1.0
+ */
+public class SmsQueueFullException extends BaseUncheckedException {
+
+	/**
+	 * Generated serial version.
+	 */
+	private static final long serialVersionUID = -2371940563862254837L;
+
+	/**
+	 * @param errorCode    the error code.
+	 * @param errorMessage the error message.
+	 */
+	public SmsQueueFullException(String errorCode, String errorMessage) {
+		super(errorCode, errorMessage);
+	}
+}
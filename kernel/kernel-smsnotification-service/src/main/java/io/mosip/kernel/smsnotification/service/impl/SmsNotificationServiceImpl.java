@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import io.mosip.kernel.core.notification.model.SMSResponseDto;
 import io.mosip.kernel.core.notification.spi.SMSServiceProvider;
 import io.mosip.kernel.smsnotification.service.SmsNotification;
+import io.mosip.kernel.smsnotification.util.SmsDispatcher;
 import io.mosip.kernel.smsserviceprovider.msg91.constant.SmsPropertyConstant;
 
 /**
@@ -27,6 +28,9 @@ public class SmsNotificationServiceImpl implements SmsNotification {
 	@Autowired
 	private SMSServiceProvider smsServiceProvider;
 
+	@Autowired
+	private SmsDispatcher smsDispatcher;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -42,6 +46,13 @@ public class SmsNotificationServiceImpl implements SmsNotification {
 			smsResponseDTO.setStatus("success");
 			return smsResponseDTO;
 		}
+		if (smsDispatcher.isEnabled()) {
+			smsDispatcher.enqueue(contactNumber, contentMessage);
+			SMSResponseDto smsResponseDTO = new SMSResponseDto();
+			smsResponseDTO.setMessage(SmsPropertyConstant.SUCCESS_RESPONSE.getProperty());
+			smsResponseDTO.setStatus("success");
+			return smsResponseDTO;
+		}
 		return smsServiceProvider.sendSms(contactNumber, contentMessage);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,337 @@
+package io.mosip.kernel.smsnotification.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.notification.exception.InvalidNumberException;
+import io.mosip.kernel.core.notification.spi.SMSServiceProvider;
+import io.mosip.kernel.core.util.StringUtils;
+import io.mosip.kernel.smsnotification.constant.SmsExceptionConstant;
+import io.mosip.kernel.smsnotification.dto.SmsQueueMetricsDto;
+import io.mosip.kernel.smsnotification.exception.SmsQueueFullException;
+import io.mosip.kernel.smsserviceprovider.msg91.constant.SmsPropertyConstant;
+
+/**
+ * Dispatcher sending the SMS from a bounded in-memory queue, batching the
+ * recipients of a same message and limiting the rate of the requests to the
+ * SMS gateway.
+ *
+ * The number is validated before the request returns, an SMS is refused when
+ * <code>mosip.kernel.sms.dispatcher.queue-capacity</code> SMS are already
+ * waiting. Each worker takes up to
+ * <code>mosip.kernel.sms.dispatcher.batch-size</code> SMS from the queue and
+ * sends those with the same message in one request of up to
+ * <code>mosip.kernel.sms.dispatcher.max-recipients</code> numbers, or one
+ * request per number if the {@link SMSServiceProvider} does not send several
+ * numbers in one request, so that a retry never sends an SMS twice. The requests
+ * of all the workers share a token bucket of
+ * <code>mosip.kernel.sms.dispatcher.rate-limit</code> requests per second. A
+ * failed request is retried with an exponential backoff, after which its SMS
+ * are counted as failed and dropped.
+ *
+ * The queue is not persisted, the SMS still queued are lost on shutdown. They
+ * mostly carry one time passwords, which would have expired by the next start.
+ *
+ * @since 1.1.0
+ */
+@Component
+public class SmsDispatcher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SmsDispatcher.class);
+
+	private static final long MAX_BACKOFF = 60000;
+
+	/**
+	 * Latencies kept for the percentiles, a power of two
+	 */
+	private static final int LATENCY_SAMPLES = 1024;
+
+	@Value("${mosip.kernel.sms.dispatcher.enabled:false}")
+	private boolean enabled;
+
+	@Value("${mosip.kernel.sms.dispatcher.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${mosip.kernel.sms.dispatcher.workers:4}")
+	private int workers;
+
+	@Value("${mosip.kernel.sms.dispatcher.batch-size:100}")
+	private int batchSize;
+
+	@Value("${mosip.kernel.sms.dispatcher.max-recipients:50}")
+	private int maxRecipients;
+
+	@Value("${mosip.kernel.sms.dispatcher.rate-limit:10}")
+	private double rateLimit;
+
+	@Value("${mosip.kernel.sms.dispatcher.burst:10}")
+	private int burst;
+
+	@Value("${mosip.kernel.sms.dispatcher.max-retries:3}")
+	private int maxRetries;
+
+	@Value("${mosip.kernel.sms.dispatcher.retry-backoff:1000}")
+	private long retryBackoff;
+
+	@Value("${mosip.kernel.sms.number.length}")
+	private int numberLength;
+
+	@Autowired
+	private SMSServiceProvider smsServiceProvider;
+
+	private final AtomicLong enqueuedCount = new AtomicLong();
+
+	private final AtomicLong rejectedCount = new AtomicLong();
+
+	private final AtomicLong sentCount = new AtomicLong();
+
+	private final AtomicLong requestCount = new AtomicLong();
+
+	private final AtomicLong retryCount = new AtomicLong();
+
+	private final AtomicLong failedCount = new AtomicLong();
+
+	private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_SAMPLES);
+
+	private final AtomicLong latencyCount = new AtomicLong();
+
+	private BlockingQueue<Sms> queue;
+
+	private TokenBucket rateLimiter;
+
+	private int recipientsPerRequest;
+
+	private volatile boolean running;
+
+	private List<Thread> workerThreads;
+
+	/**
+	 * Starts the workers if the dispatcher is enabled.
+	 */
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		rateLimiter = new TokenBucket(rateLimit, burst);
+		recipientsPerRequest = smsServiceProvider.supportsMultipleRecipients() ? maxRecipients : 1;
+		running = true;
+		workerThreads = new ArrayList<>(workers);
+		for (int i = 0; i < workers; i++) {
+			Thread worker = new Thread(this::dispatch, "sms-dispatcher-" + i);
+			worker.setDaemon(true);
+			worker.start();
+			workerThreads.add(worker);
+		}
+	}
+
+	/**
+	 * Stops the workers, dropping the SMS still queued.
+	 *
+	 * @throws InterruptedException if interrupted while waiting for the workers
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		if (workerThreads == null) {
+			return;
+		}
+		running = false;
+		for (Thread worker : workerThreads) {
+			worker.interrupt();
+		}
+		for (Thread worker : workerThreads) {
+			worker.join(TimeUnit.SECONDS.toMillis(5));
+		}
+		int dropped = queue.size();
+		if (dropped > 0) {
+			LOGGER.warn("{} sms dropped on shutdown", dropped);
+		}
+		queue.clear();
+		workerThreads = null;
+	}
+
+	/**
+	 * @return true if the SMS are sent by the dispatcher.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Queues an SMS.
+	 *
+	 * @param contactNumber the number to send the SMS to.
+	 * @param message       the message.
+	 * @throws InvalidNumberException if the number is invalid.
+	 * @throws SmsQueueFullException  if the queue is full.
+	 */
+	public void enqueue(String contactNumber, String message) {
+		validateInput(contactNumber);
+		if (!queue.offer(new Sms(contactNumber, message, System.nanoTime()))) {
+			rejectedCount.incrementAndGet();
+			throw new SmsQueueFullException(SmsExceptionConstant.SMS_QUEUE_FULL.getErrorCode(),
+					SmsExceptionConstant.SMS_QUEUE_FULL.getErrorMessage());
+		}
+		enqueuedCount.incrementAndGet();
+	}
+
+	/**
+	 * @return the metrics of the queue.
+	 */
+	public SmsQueueMetricsDto getMetrics() {
+		SmsQueueMetricsDto metrics = new SmsQueueMetricsDto();
+		metrics.setEnabled(enabled);
+		metrics.setQueued(queue == null ? 0 : queue.size());
+		metrics.setEnqueued(enqueuedCount.get());
+		metrics.setRejected(rejectedCount.get());
+		metrics.setSent(sentCount.get());
+		metrics.setRequests(requestCount.get());
+		metrics.setRetried(retryCount.get());
+		metrics.setFailed(failedCount.get());
+		int samples = (int) Math.min(latencyCount.get(), LATENCY_SAMPLES);
+		if (samples > 0) {
+			long[] sorted = new long[samples];
+			long total = 0;
+			for (int i = 0; i < samples; i++) {
+				sorted[i] = latencies.get(i);
+				total += sorted[i];
+			}
+			Arrays.sort(sorted);
+			metrics.setAverageLatency((double) total / samples);
+			metrics.setP50Latency(percentile(sorted, 50));
+			metrics.setP95Latency(percentile(sorted, 95));
+			metrics.setP99Latency(percentile(sorted, 99));
+			metrics.setMaxLatency(sorted[samples - 1]);
+		}
+		return metrics;
+	}
+
+	private void dispatch() {
+		List<Sms> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				Sms first = queue.poll(1, TimeUnit.SECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				for (List<Sms> sameMessage : groupByMessage(batch)) {
+					for (int from = 0; from < sameMessage.size(); from += recipientsPerRequest) {
+						send(sameMessage.subList(from, Math.min(from + recipientsPerRequest, sameMessage.size())));
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private static Collection<List<Sms>> groupByMessage(List<Sms> batch) {
+		Map<String, List<Sms>> groups = new LinkedHashMap<>();
+		for (Sms sms : batch) {
+			groups.computeIfAbsent(sms.message, message -> new ArrayList<>()).add(sms);
+		}
+		return groups.values();
+	}
+
+	private void send(List<Sms> recipients) throws InterruptedException {
+		String message = recipients.get(0).message;
+		List<String> numbers = new ArrayList<>(recipients.size());
+		for (Sms sms : recipients) {
+			numbers.add(sms.contactNumber);
+		}
+		for (int attempt = 0;; attempt++) {
+			rateLimiter.acquire();
+			requestCount.incrementAndGet();
+			try {
+				if (numbers.size() == 1) {
+					smsServiceProvider.sendSms(numbers.get(0), message);
+				} else {
+					smsServiceProvider.sendSms(numbers, message);
+				}
+				sentCount.addAndGet(numbers.size());
+				recordLatencies(recipients);
+				return;
+			} catch (InvalidNumberException e) {
+				failed(numbers, e);
+				return;
+			} catch (RuntimeException e) {
+				if (attempt >= maxRetries) {
+					failed(numbers, e);
+					return;
+				}
+				retryCount.incrementAndGet();
+				Thread.sleep(Math.min(retryBackoff << attempt, MAX_BACKOFF));
+			}
+		}
+	}
+
+	private void failed(List<String> numbers, RuntimeException e) {
+		failedCount.addAndGet(numbers.size());
+		LOGGER.error("sms to {} numbers not sent: {}", numbers.size(), e.getMessage());
+	}
+
+	private void recordLatencies(List<Sms> recipients) {
+		long now = System.nanoTime();
+		for (Sms sms : recipients) {
+			long latency = TimeUnit.NANOSECONDS.toMillis(now - sms.enqueuedAt);
+			latencies.set((int) (latencyCount.getAndIncrement() & (LATENCY_SAMPLES - 1)), latency);
+		}
+	}
+
+	private static long percentile(long[] sorted, int percentile) {
+		int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, index)];
+	}
+
+	private void validateInput(String contactNumber) {
+		if (!StringUtils.isNumeric(contactNumber) || contactNumber.length() != numberLength) {
+			throw new InvalidNumberException(
+					io.mosip.kernel.smsserviceprovider.msg91.constant.SmsExceptionConstant.SMS_INVALID_CONTACT_NUMBER
+							.getErrorCode(),
+					io.mosip.kernel.smsserviceprovider.msg91.constant.SmsExceptionConstant.SMS_INVALID_CONTACT_NUMBER
+							.getErrorMessage() + numberLength + SmsPropertyConstant.SUFFIX_MESSAGE.getProperty());
+		}
+	}
+
+	/**
+	 * An SMS waiting in the queue
+	 */
+	private static final class Sms {
+
+		private final String contactNumber;
+
+		private final String message;
+
+		private final long enqueuedAt;
+
+		Sms(String contactNumber, String message, long enqueuedAt) {
+			this.contactNumber = contactNumber;
+			this.message = message;
+			this.enqueuedAt = enqueuedAt;
+		}
+	}
+}
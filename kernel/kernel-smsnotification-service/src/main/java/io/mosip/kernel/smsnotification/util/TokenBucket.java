@@ -0,0 +1,59 @@
+package io.mosip.kernel.smsnotification.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket limiting the rate of the requests to an SMS gateway.
+ *
+ * The bucket holds up to <code>burst</code> tokens and is refilled with
+ * <code>ratePerSecond</code> tokens per second. A caller takes a token, waiting
+ * for it if the bucket is empty. The tokens are reserved in arrival order, so
+ * the callers waiting at the same time are spread over the following slots
+ * instead of all waking up for the same token.
+ *
+ * @since 1.1.0
+ */
+public class TokenBucket {
+
+	private final double capacity;
+
+	private final double nanosPerToken;
+
+	private double tokens;
+
+	private long lastRefill;
+
+	/**
+	 * @param ratePerSecond the tokens added per second, not limited if zero or
+	 *                      negative.
+	 * @param burst         the maximum tokens held, at least one.
+	 */
+	public TokenBucket(double ratePerSecond, int burst) {
+		this.capacity = Math.max(1, burst);
+		this.nanosPerToken = ratePerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / ratePerSecond : 0;
+		this.tokens = capacity;
+		this.lastRefill = System.nanoTime();
+	}
+
+	/**
+	 * Takes a token, waiting until it is available.
+	 *
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public void acquire() throws InterruptedException {
+		if (nanosPerToken == 0) {
+			return;
+		}
+		long wait;
+		synchronized (this) {
+			long now = System.nanoTime();
+			tokens = Math.min(capacity, tokens + (now - lastRefill) / nanosPerToken);
+			lastRefill = now;
+			tokens--;
+			wait = tokens < 0 ? (long) (-tokens * nanosPerToken) : 0;
+		}
+		if (wait > 0) {
+			TimeUnit.NANOSECONDS.sleep(wait);
+		}
+	}
+}
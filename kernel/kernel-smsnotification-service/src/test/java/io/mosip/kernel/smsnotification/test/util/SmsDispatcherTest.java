@@ -0,0 +1,148 @@
+package io.mosip.kernel.smsnotification.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.notification.exception.InvalidNumberException;
+import io.mosip.kernel.smsnotification.dto.SmsQueueMetricsDto;
+import io.mosip.kernel.smsnotification.exception.SmsQueueFullException;
+import io.mosip.kernel.smsnotification.util.SmsDispatcher;
+
+public class SmsDispatcherTest {
+
+	private StubSmsServiceProvider gateway;
+
+	private SmsDispatcher dispatcher;
+
+	@Before
+	public void setUp() {
+		gateway = new StubSmsServiceProvider();
+		dispatcher = new SmsDispatcher();
+		ReflectionTestUtils.setField(dispatcher, "enabled", true);
+		ReflectionTestUtils.setField(dispatcher, "queueCapacity", 100);
+		ReflectionTestUtils.setField(dispatcher, "workers", 2);
+		ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+		ReflectionTestUtils.setField(dispatcher, "maxRecipients", 10);
+		ReflectionTestUtils.setField(dispatcher, "rateLimit", 0d);
+		ReflectionTestUtils.setField(dispatcher, "burst", 1);
+		ReflectionTestUtils.setField(dispatcher, "maxRetries", 3);
+		ReflectionTestUtils.setField(dispatcher, "retryBackoff", 1L);
+		ReflectionTestUtils.setField(dispatcher, "numberLength", 10);
+		ReflectionTestUtils.setField(dispatcher, "smsServiceProvider", gateway);
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		dispatcher.stop();
+	}
+
+	@Test
+	public void batchTest() throws Exception {
+		gateway.latency = 50;
+		dispatcher.start();
+		for (int i = 0; i < 60; i++) {
+			dispatcher.enqueue(number(i), "your otp is " + (i % 2));
+		}
+		await(() -> gateway.sentNumbers().size() == 60);
+		assertEquals(60, new HashSet<>(gateway.sentNumbers()).size());
+		assertTrue(gateway.requests.size() < 60);
+		for (List<String> request : gateway.requests) {
+			assertTrue(request.size() <= 10);
+		}
+		SmsQueueMetricsDto metrics = dispatcher.getMetrics();
+		assertEquals(60, metrics.getEnqueued());
+		assertEquals(60, metrics.getSent());
+		assertEquals(gateway.requests.size(), metrics.getRequests());
+		assertTrue(metrics.getP50Latency() <= metrics.getP99Latency());
+		assertTrue(metrics.getP99Latency() <= metrics.getMaxLatency());
+		assertTrue(metrics.getMaxLatency() >= 50);
+	}
+
+	@Test
+	public void rateLimitTest() throws Exception {
+		ReflectionTestUtils.setField(dispatcher, "rateLimit", 20d);
+		ReflectionTestUtils.setField(dispatcher, "maxRecipients", 1);
+		dispatcher.start();
+		for (int i = 0; i < 11; i++) {
+			dispatcher.enqueue(number(i), "your otp is 4646");
+		}
+		await(() -> gateway.requests.size() == 11);
+		long elapsed = gateway.requestTimes.get(10) - gateway.requestTimes.get(0);
+		assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(450));
+	}
+
+	@Test
+	public void retryTest() throws Exception {
+		gateway.failures.set(2);
+		dispatcher.start();
+		dispatcher.enqueue(number(0), "your otp is 4646");
+		await(() -> gateway.requests.size() == 1);
+		SmsQueueMetricsDto metrics = dispatcher.getMetrics();
+		assertEquals(2, metrics.getRetried());
+		assertEquals(0, metrics.getFailed());
+	}
+
+	@Test
+	public void singleRecipientRetryTest() throws Exception {
+		gateway.multipleRecipients = false;
+		gateway.failures.set(1);
+		ReflectionTestUtils.setField(dispatcher, "workers", 1);
+		dispatcher.start();
+		for (int i = 0; i < 5; i++) {
+			dispatcher.enqueue(number(i), "your otp is 4646");
+		}
+		await(() -> gateway.requests.size() == 5);
+		for (List<String> request : gateway.requests) {
+			assertEquals(1, request.size());
+		}
+		assertEquals(5, new HashSet<>(gateway.sentNumbers()).size());
+		assertEquals(5, gateway.sentNumbers().size());
+		assertEquals(1, dispatcher.getMetrics().getRetried());
+	}
+
+	@Test
+	public void failedTest() throws Exception {
+		gateway.failures.set(4);
+		dispatcher.start();
+		dispatcher.enqueue(number(0), "your otp is 4646");
+		await(() -> dispatcher.getMetrics().getFailed() == 1);
+		assertEquals(0, gateway.requests.size());
+	}
+
+	@Test(expected = SmsQueueFullException.class)
+	public void queueFullTest() {
+		ReflectionTestUtils.setField(dispatcher, "queueCapacity", 1);
+		ReflectionTestUtils.setField(dispatcher, "workers", 0);
+		dispatcher.start();
+		dispatcher.enqueue(number(0), "your otp is 4646");
+		dispatcher.enqueue(number(1), "your otp is 4646");
+	}
+
+	@Test(expected = InvalidNumberException.class)
+	public void invalidNumberTest() {
+		dispatcher.start();
+		dispatcher.enqueue("98765", "your otp is 4646");
+	}
+
+	private static String number(int i) {
+		return String.valueOf(9000000000L + i);
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		while (!condition.getAsBoolean()) {
+			assertTrue("condition not met in time", System.currentTimeMillis() < deadline);
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package io.mosip.kernel.smsnotification.test.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.mosip.kernel.core.notification.model.SMSResponseDto;
+import io.mosip.kernel.core.notification.spi.SMSServiceProvider;
+
+/**
+ * Local SMS gateway recording the requests, which can fail the first requests
+ * and answer after a delay.
+ */
+public class StubSmsServiceProvider implements SMSServiceProvider {
+
+	/**
+	 * The numbers of each request, in the order received
+	 */
+	public final List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+	/**
+	 * The time in nanoseconds each request was received
+	 */
+	public final List<Long> requestTimes = new CopyOnWriteArrayList<>();
+
+	/**
+	 * The requests still to fail
+	 */
+	public final AtomicInteger failures = new AtomicInteger();
+
+	/**
+	 * The delay in milliseconds before answering
+	 */
+	public volatile long latency;
+
+	/**
+	 * Whether several numbers are sent in one request
+	 */
+	public volatile boolean multipleRecipients = true;
+
+	@Override
+	public SMSResponseDto sendSms(String contactNumber, String message) {
+		return sendSms(Collections.singletonList(contactNumber), message);
+	}
+
+	@Override
+	public SMSResponseDto sendSms(List<String> contactNumbers, String message) {
+		requestTimes.add(System.nanoTime());
+		if (failures.getAndDecrement() > 0) {
+			throw new RuntimeException("gateway unavailable");
+		}
+		if (latency > 0) {
+			try {
+				Thread.sleep(latency);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		requests.add(new ArrayList<>(contactNumbers));
+		SMSResponseDto response = new SMSResponseDto();
+		response.setMessage("Sms Request Sent");
+		response.setStatus("success");
+		return response;
+	}
+
+	@Override
+	public boolean supportsMultipleRecipients() {
+		return multipleRecipients;
+	}
+
+	/**
+	 * @return the numbers of all the requests.
+	 */
+	public List<String> sentNumbers() {
+		List<String> numbers = new ArrayList<>();
+		requests.forEach(numbers::addAll);
+		return numbers;
+	}
+}
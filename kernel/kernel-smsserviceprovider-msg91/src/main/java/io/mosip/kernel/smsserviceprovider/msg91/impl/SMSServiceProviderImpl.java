@@ -3,6 +3,8 @@
  */
 package io.mosip.kernel.smsserviceprovider.msg91.impl;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -57,8 +59,32 @@ public class SMSServiceProviderImpl implements SMSServiceProvider {
 
 	@Override
 	public SMSResponseDto sendSms(String contactNumber, String message) {
-		SMSResponseDto smsResponseDTO = new SMSResponseDto();
 		validateInput(contactNumber);
+		return send(contactNumber, message);
+	}
+
+	/**
+	 * Sends the message to all the numbers in one request, msg91 accepting the
+	 * recipients separated by commas.
+	 * 
+	 * @since 1.1.0
+	 */
+	@Override
+	public SMSResponseDto sendSms(List<String> contactNumbers, String message) {
+		contactNumbers.forEach(this::validateInput);
+		return send(String.join(",", contactNumbers), message);
+	}
+
+	/**
+	 * @since 1.1.0
+	 */
+	@Override
+	public boolean supportsMultipleRecipients() {
+		return true;
+	}
+
+	private SMSResponseDto send(String contactNumber, String message) {
+		SMSResponseDto smsResponseDTO = new SMSResponseDto();
 		UriComponentsBuilder sms = UriComponentsBuilder.fromHttpUrl(api)
 				.queryParam(SmsPropertyConstant.AUTH_KEY.getProperty(), authkey)
 				.queryParam(SmsPropertyConstant.SMS_MESSAGE.getProperty(), message)
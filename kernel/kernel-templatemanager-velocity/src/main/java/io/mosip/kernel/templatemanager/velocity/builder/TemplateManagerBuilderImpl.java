@@ -3,8 +3,8 @@ package io.mosip.kernel.templatemanager.velocity.builder;
 import java.nio.charset.StandardCharsets;
 import java.util.Properties;
 
-import org.apache.velocity.app.VelocityEngine;
 import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.RuntimeInstance;
 import org.apache.velocity.runtime.log.NullLogChute;
 import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 import org.apache.velocity.runtime.resource.loader.FileResourceLoader;
@@ -30,6 +30,7 @@ public class TemplateManagerBuilderImpl implements TemplateManagerBuilder {
 	private String templatePath = ".";
 	private boolean cache = Boolean.TRUE;
 	private String defaultEncoding = StandardCharsets.UTF_8.name();
+	private int templateCacheSize = 100;
 
 	/*
 	 * (non-Javadoc)
@@ -82,13 +83,27 @@ public class TemplateManagerBuilderImpl implements TemplateManagerBuilder {
 		return this;
 	}
 
+	/**
+	 * Method for setting up the number of compiled templates kept by the
+	 * {@link TemplateManager} for the templates merged as InputStream
+	 * 
+	 * @param templateCacheSize maximum number of compiled templates, default is
+	 *                          100, 0 to parse the template on every merge
+	 * @return {@link TemplateManagerBuilderImpl}
+	 * @since 1.1.0
+	 */
+	public TemplateManagerBuilderImpl templateCacheSize(int templateCacheSize) {
+		this.templateCacheSize = templateCacheSize;
+		return this;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see io.mosip.kernel.core.templatemanager.spi.TemplateManagerBuilder#build()
 	 */
 	@Override
-	public TemplateManager build() {
+	public TemplateManagerImpl build() {
 		final Properties properties = new Properties();
 		properties.put(RuntimeConstants.INPUT_ENCODING, defaultEncoding);
 		properties.put(RuntimeConstants.OUTPUT_ENCODING, defaultEncoding);
@@ -99,8 +114,8 @@ public class TemplateManagerBuilderImpl implements TemplateManagerBuilder {
 		properties.put(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS, NullLogChute.class.getName());
 		properties.put("classpath.resource.loader.class", ClasspathResourceLoader.class.getName());
 		properties.put("file.resource.loader.class", FileResourceLoader.class.getName());
-		VelocityEngine engine = new VelocityEngine(properties);
-		engine.init();
-		return new TemplateManagerImpl(engine);
+		RuntimeInstance runtime = new RuntimeInstance();
+		runtime.init(properties);
+		return new TemplateManagerImpl(runtime, defaultEncoding, templateCacheSize);
 	}
 }
@@ -1,12 +1,21 @@
 package io.mosip.kernel.templatemanager.velocity.impl;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -16,6 +25,9 @@ import org.apache.velocity.app.VelocityEngine;
 import org.apache.velocity.exception.MethodInvocationException;
 import org.apache.velocity.exception.ParseErrorException;
 import org.apache.velocity.exception.ResourceNotFoundException;
+import org.apache.velocity.exception.TemplateInitException;
+import org.apache.velocity.runtime.RuntimeServices;
+import org.apache.velocity.runtime.parser.ParseException;
 
 import io.mosip.kernel.core.templatemanager.exception.TemplateMethodInvocationException;
 import io.mosip.kernel.core.templatemanager.exception.TemplateParsingException;
@@ -28,37 +40,81 @@ import io.mosip.kernel.templatemanager.velocity.util.TemplateManagerUtil;
 /**
  * Implementation of {@link TemplateManager} which uses Velocity Template
  * Engine, TemplateManagerImpl will merge the template with values.
- * 
+ *
+ * A template passed as {@link InputStream} is parsed once and the compiled
+ * template is kept, keyed by the SHA-256 digest of its content, in a cache
+ * holding the most recently used templates, so merging the same template
+ * content again only renders it.
+ *
  * @author Abhishek Kumar
  * @version 1.0.0
  * @since 01-10-2018
  */
 public class TemplateManagerImpl implements TemplateManager {
 	private static final String DEFAULT_ENCODING_TYPE = StandardCharsets.UTF_8.name();
+	private static final String LOG_TAG = "templateManager-mergeTemplate";
 	private VelocityEngine velocityEngine;
+	private RuntimeServices runtimeServices;
+	private String encoding = DEFAULT_ENCODING_TYPE;
+	private Map<String, Template> compiledTemplates;
 
+	/**
+	 * Creates a template manager evaluating the templates passed as
+	 * {@link InputStream} on every merge.
+	 *
+	 * @param engine the velocity engine.
+	 */
 	public TemplateManagerImpl(VelocityEngine engine) {
 		this.velocityEngine = engine;
 	}
 
+	/**
+	 * Creates a template manager caching the templates passed as
+	 * {@link InputStream} once compiled.
+	 *
+	 * @param runtimeServices   the initialized velocity runtime.
+	 * @param encoding          the encoding of the templates passed as
+	 *                          {@link InputStream} and of the merged content.
+	 * @param templateCacheSize the maximum number of compiled templates kept, 0
+	 *                          to parse the template on every merge.
+	 * @since 1.1.0
+	 */
+	public TemplateManagerImpl(RuntimeServices runtimeServices, String encoding, final int templateCacheSize) {
+		this.runtimeServices = runtimeServices;
+		this.encoding = encoding;
+		if (templateCacheSize > 0) {
+			this.compiledTemplates = Collections
+					.synchronizedMap(new LinkedHashMap<String, Template>(16, 0.75f, true) {
+						private static final long serialVersionUID = 1L;
+
+						@Override
+						protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {
+							return size() > templateCacheSize;
+						}
+					});
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
-	 * 
+	 *
 	 * @see io.mosip.kernel.core.templatemanager.spi.TemplateManager#merge(java.io.
 	 * InputStream, java.util.Map)
 	 */
 	@Override
 	public InputStream merge(InputStream is, Map<String, Object> values) throws IOException {
-		StringWriter writer = new StringWriter();
-		// logging tag name
-		String logTag = "templateManager-mergeTemplate";
 		Objects.requireNonNull(is, TemplateManagerConstant.TEMPLATE_INPUT_STREAM_NULL.getMessage());
 		Objects.requireNonNull(values, TemplateManagerConstant.TEMPLATE_VALUES_NULL.getMessage());
+		if (runtimeServices != null) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			return merge(is, values, out) ? new ByteArrayInputStream(out.toByteArray()) : null;
+		}
+		StringWriter writer = new StringWriter();
 		VelocityContext context = TemplateManagerUtil.bindInputToContext(values);
 		try {
 			boolean isMerged = false;
 			if (context != null) {
-				isMerged = velocityEngine.evaluate(context, writer, logTag, new InputStreamReader(is));
+				isMerged = velocityEngine.evaluate(context, writer, LOG_TAG, new InputStreamReader(is));
 				if (isMerged)
 					return new ByteArrayInputStream(writer.toString().getBytes());
 			}
@@ -77,9 +133,68 @@ public class TemplateManagerImpl implements TemplateManager {
 		return null;
 	}
 
+	/**
+	 * Merges a template passed as {@link InputStream} and writes the merged
+	 * content to the output stream, in the encoding of the template manager. The
+	 * output stream is flushed but not closed.
+	 *
+	 * @param is     the template content.
+	 * @param values as Map&lt;String,Object &gt; where key is placeholder name and
+	 *               Object is Placeholder value
+	 * @param out    the output stream for the merged content.
+	 * @return true if successfully, false otherwise.
+	 * @throws IOException if an I/O exception occurs during reading the template
+	 *                     or writing to the output stream
+	 * @since 1.1.0
+	 */
+	public boolean merge(InputStream is, Map<String, Object> values, OutputStream out) throws IOException {
+		Objects.requireNonNull(out, TemplateManagerConstant.WRITER_NULL.getMessage());
+		Writer writer = new OutputStreamWriter(out, encoding);
+		boolean isMerged = merge(is, values, writer);
+		writer.flush();
+		return isMerged;
+	}
+
+	/**
+	 * Merges a template passed as {@link InputStream} and writes the merged
+	 * content to the writer. The writer is neither flushed nor closed.
+	 *
+	 * @param is     the template content.
+	 * @param values as Map&lt;String,Object &gt; where key is placeholder name and
+	 *               Object is Placeholder value
+	 * @param writer the writer for the merged content.
+	 * @return true if successfully, false otherwise.
+	 * @throws IOException if an I/O exception occurs during reading the template
+	 *                     or writing to the writer
+	 * @since 1.1.0
+	 */
+	public boolean merge(InputStream is, Map<String, Object> values, Writer writer) throws IOException {
+		Objects.requireNonNull(is, TemplateManagerConstant.TEMPLATE_INPUT_STREAM_NULL.getMessage());
+		Objects.requireNonNull(values, TemplateManagerConstant.TEMPLATE_VALUES_NULL.getMessage());
+		Objects.requireNonNull(writer, TemplateManagerConstant.WRITER_NULL.getMessage());
+		if (runtimeServices == null) {
+			InputStream merged = merge(is, values);
+			if (merged == null) {
+				return false;
+			}
+			writer.write(new String(readAll(merged)));
+			return true;
+		}
+		Template template = getCompiledTemplate(readAll(is));
+		VelocityContext context = TemplateManagerUtil.bindInputToContext(values);
+		try {
+			template.merge(context, writer);
+		} catch (MethodInvocationException e) {
+			throw new TemplateMethodInvocationException(
+					TemplateManagerExceptionCodeConstant.TEMPLATE_INVALID_REFERENCE.getErrorCode(),
+					TemplateManagerExceptionCodeConstant.TEMPLATE_INVALID_REFERENCE.getErrorMessage(), e);
+		}
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
-	 * 
+	 *
 	 * @see
 	 * io.mosip.kernel.core.templatemanager.spi.TemplateManager#merge(java.lang.
 	 * String, java.io.Writer, java.util.Map)
@@ -91,7 +206,7 @@ public class TemplateManagerImpl implements TemplateManager {
 
 	/*
 	 * (non-Javadoc)
-	 * 
+	 *
 	 * @see
 	 * io.mosip.kernel.core.templatemanager.spi.TemplateManager#merge(java.lang.
 	 * String, java.io.Writer, java.util.Map, java.lang.String)
@@ -108,7 +223,8 @@ public class TemplateManagerImpl implements TemplateManager {
 		Objects.requireNonNull(encodingType, TemplateManagerConstant.ENCODING_TYPE_NULL.getMessage());
 		Objects.requireNonNull(values, TemplateManagerConstant.TEMPLATE_VALUES_NULL.getMessage());
 		try {
-			template = velocityEngine.getTemplate(templateName, encodingType);
+			template = runtimeServices != null ? runtimeServices.getTemplate(templateName, encodingType)
+					: velocityEngine.getTemplate(templateName, encodingType);
 			// create context by using provided map of values
 			context = TemplateManagerUtil.bindInputToContext(values);
 			template.merge(context, writer);
@@ -128,4 +244,54 @@ public class TemplateManagerImpl implements TemplateManager {
 		return isMerged;
 	}
 
+	/**
+	 * Gets the compiled template of the content from the cache, compiling it if
+	 * it is not cached. Two threads missing the cache for the same content at
+	 * the same time both compile it, the last compiled template is kept.
+	 */
+	private Template getCompiledTemplate(byte[] content) {
+		if (compiledTemplates == null) {
+			return compile(content);
+		}
+		String key = digest(content);
+		Template template = compiledTemplates.get(key);
+		if (template == null) {
+			template = compile(content);
+			compiledTemplates.put(key, template);
+		}
+		return template;
+	}
+
+	private Template compile(byte[] content) {
+		try {
+			Template template = new Template();
+			template.setRuntimeServices(runtimeServices);
+			template.setName(LOG_TAG);
+			template.setEncoding(encoding);
+			template.setData(runtimeServices.parse(new StringReader(new String(content, encoding)), LOG_TAG));
+			template.initDocument();
+			return template;
+		} catch (ParseException | TemplateInitException | IOException e) {
+			throw new TemplateParsingException(TemplateManagerExceptionCodeConstant.TEMPLATE_PARSING.getErrorCode(),
+					TemplateManagerExceptionCodeConstant.TEMPLATE_PARSING.getErrorMessage(), e);
+		}
+	}
+
+	private static String digest(byte[] content) {
+		try {
+			return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static byte[] readAll(InputStream is) throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+		while ((read = is.read(buffer)) != -1) {
+			content.write(buffer, 0, read);
+		}
+		return content.toByteArray();
+	}
 }
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
@@ -26,6 +27,7 @@ import io.mosip.kernel.core.templatemanager.exception.TemplateResourceNotFoundEx
 import io.mosip.kernel.core.templatemanager.spi.TemplateManager;
 import io.mosip.kernel.core.templatemanager.spi.TemplateManagerBuilder;
 import io.mosip.kernel.templatemanager.velocity.builder.TemplateManagerBuilderImpl;
+import io.mosip.kernel.templatemanager.velocity.impl.TemplateManagerImpl;
 
 @SpringBootTest(classes = { TemplateManagerBuilderImpl.class })
 @RunWith(SpringRunner.class)
@@ -104,6 +106,35 @@ public class TemplatemanagerTest {
 		templateManager.merge(is, values);
 	}
 
+	@Test
+	public void testEvaluateCompiledTemplateToWriter() throws IOException {
+		TemplateManagerImpl templateManagerImpl = (TemplateManagerImpl) templateManager;
+		for (int i = 0; i < 2; i++) {
+			StringWriter writer = new StringWriter();
+			assertTrue(templateManagerImpl.merge(this.getClass().getClassLoader().getResourceAsStream("test.vm"),
+					valueMap, writer));
+			assertEquals(expected, writer.toString());
+		}
+	}
+
+	@Test
+	public void testEvaluateToOutputStreamWithoutCache() throws IOException {
+		TemplateManagerImpl templateManagerImpl = new TemplateManagerBuilderImpl().templateCacheSize(0).build();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertTrue(templateManagerImpl.merge(this.getClass().getClassLoader().getResourceAsStream("test.vm"), valueMap,
+				out));
+		assertEquals(expected, out.toString("UTF-8"));
+	}
+
+	@Test(expected = TemplateParsingException.class)
+	public void testEvaluateCompiledTemplateParseException() throws IOException {
+		Map<String, Object> values = new HashMap<>();
+		values.put("dummy", "test");
+		((TemplateManagerImpl) templateManager).merge(
+				this.getClass().getClassLoader().getResourceAsStream("parserException_template.vm"), values,
+				new StringWriter());
+	}
+
 	@Test(expected = NullPointerException.class)
 	public void testEvaluateNullValues() throws IOException {
 		InputStream is = this.getClass().getClassLoader().getResourceAsStream("test.vm");
@@ -0,0 +1,124 @@
+package io.mosip.kernel.templatemanager.velocity.test.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.log.NullLogChute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.mosip.kernel.templatemanager.velocity.builder.TemplateManagerBuilderImpl;
+import io.mosip.kernel.templatemanager.velocity.impl.TemplateManagerImpl;
+import io.mosip.kernel.templatemanager.velocity.test.Item;
+
+/**
+ * Cost of merging the same template passed as InputStream by evaluating it on
+ * every merge, by parsing it on every merge and by rendering the template
+ * compiled once and kept by {@link TemplateManagerImpl}.
+ *
+ * Run with the test classpath: <code>java -cp ... TemplateMergeBenchmark</code>
+ *
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateMergeBenchmark {
+
+	@Param({ "test.vm", "ekyc-full-template.html" })
+	private String templateName;
+
+	private byte[] template;
+
+	private Map<String, Object> values;
+
+	private TemplateManagerImpl evaluatingTemplateManager;
+
+	private TemplateManagerImpl parsingTemplateManager;
+
+	private TemplateManagerImpl cachingTemplateManager;
+
+	@Setup
+	public void setup() throws IOException {
+		template = readResource(templateName);
+		values = new HashMap<>();
+		List<Item> itemList = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			itemList.add(new Item("item" + i, String.valueOf(i * 10)));
+		}
+		values.put("itemName", "Coffee");
+		values.put("storeName", "Cafe Coffee Day");
+		values.put("phoneNo", "1234567");
+		values.put("itemList", itemList);
+
+		VelocityEngine engine = new VelocityEngine();
+		engine.setProperty(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS, NullLogChute.class.getName());
+		engine.init();
+		evaluatingTemplateManager = new TemplateManagerImpl(engine);
+		parsingTemplateManager = new TemplateManagerBuilderImpl().templateCacheSize(0).build();
+		cachingTemplateManager = new TemplateManagerBuilderImpl().build();
+	}
+
+	@Benchmark
+	public int evaluateEachMerge() throws IOException {
+		StringWriter writer = new StringWriter();
+		evaluatingTemplateManager.merge(new ByteArrayInputStream(template), values, writer);
+		return writer.getBuffer().length();
+	}
+
+	@Benchmark
+	public int parseEachMerge() throws IOException {
+		StringWriter writer = new StringWriter();
+		parsingTemplateManager.merge(new ByteArrayInputStream(template), values, writer);
+		return writer.getBuffer().length();
+	}
+
+	@Benchmark
+	public int compiledMerge() throws IOException {
+		StringWriter writer = new StringWriter();
+		cachingTemplateManager.merge(new ByteArrayInputStream(template), values, writer);
+		return writer.getBuffer().length();
+	}
+
+	private static byte[] readResource(String name) throws IOException {
+		try (InputStream is = TemplateMergeBenchmark.class.getClassLoader().getResourceAsStream(name)) {
+			ByteArrayOutputStream content = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = is.read(buffer)) != -1) {
+				content.write(buffer, 0, read);
+			}
+			return content.toByteArray();
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(TemplateMergeBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
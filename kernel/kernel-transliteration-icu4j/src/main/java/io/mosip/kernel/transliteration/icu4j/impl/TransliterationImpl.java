@@ -1,6 +1,7 @@
 package io.mosip.kernel.transliteration.icu4j.impl;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import javax.annotation.PostConstruct;
@@ -19,6 +20,9 @@ import io.mosip.kernel.transliteration.icu4j.constant.TransliterationPropertyCon
 /**
  * This class perform transliteration of text based on language code mention.
  * 
+ * ICU transliterators are compiled on creation and are not thread-safe, so each
+ * thread creates the transliterator of a language pair once and reuses it.
+ * 
  * @author Ritesh Sinha
  * @since 1.0.0
  *
@@ -44,6 +48,11 @@ public class TransliterationImpl implements Transliteration<String> {
 	 */
 	Map<String, String> languageIdMap;
 
+	/**
+	 * Transliterators of the current thread by transliterator id.
+	 */
+	private final ThreadLocal<Map<String, Transliterator>> transliterators = ThreadLocal.withInitial(HashMap::new);
+
 	/**
 	 * Method to create language map.
 	 */
@@ -66,8 +75,34 @@ public class TransliterationImpl implements Transliteration<String> {
 	 */
 	@Override
 	public String transliterate(String fromLanguage, String toLanguage, String text) {
+		return getTransliterator(fromLanguage, toLanguage).transliterate(text);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.core.transliteration.spi.Transliteration#transliterate(java.
+	 * lang.Object, java.lang.Object, java.util.Map)
+	 */
+	@Override
+	public Map<String, String> transliterate(String fromLanguage, String toLanguage, Map<String, String> texts) {
+		Transliterator transliterator = getTransliterator(fromLanguage, toLanguage);
+		Map<String, String> transliteratedTexts = new LinkedHashMap<>();
+		texts.forEach((field, text) -> transliteratedTexts.put(field,
+				text == null ? null : transliterator.transliterate(text)));
+		return transliteratedTexts;
+	}
 
-		Transliterator translitratedLanguage;
+	/**
+	 * Gets the transliterator of the current thread for a language pair, creating
+	 * it on first use.
+	 * 
+	 * @param fromLanguage the input language code.
+	 * @param toLanguage   the output language code.
+	 * @return the transliterator.
+	 */
+	private Transliterator getTransliterator(String fromLanguage, String toLanguage) {
 
 		String fromLanguageCode = languageIdMap.get(fromLanguage);
 
@@ -82,16 +117,20 @@ public class TransliterationImpl implements Transliteration<String> {
 		String languageId = fromLanguageCode
 				+ TransliterationPropertyConstant.TRANSLITERATION_ID_SEPARATOR.getProperty() + toLanguageCode;
 
-		try {
-			translitratedLanguage = Transliterator.getInstance(languageId);
-
-		} catch (IllegalArgumentException e) {
-			throw new InvalidTransliterationException(
-					TransliterationErrorConstant.TRANSLITERATION_INVALID_ID.getErrorCode(),
-					TransliterationErrorConstant.TRANSLITERATION_INVALID_ID.getErrorMessage(), e);
+		Map<String, Transliterator> threadTransliterators = transliterators.get();
+		Transliterator translitratedLanguage = threadTransliterators.get(languageId);
+		if (translitratedLanguage == null) {
+			try {
+				translitratedLanguage = Transliterator.getInstance(languageId);
+
+			} catch (IllegalArgumentException e) {
+				throw new InvalidTransliterationException(
+						TransliterationErrorConstant.TRANSLITERATION_INVALID_ID.getErrorCode(),
+						TransliterationErrorConstant.TRANSLITERATION_INVALID_ID.getErrorMessage(), e);
+			}
+			threadTransliterators.put(languageId, translitratedLanguage);
 		}
-
-		return translitratedLanguage.transliterate(text);
+		return translitratedLanguage;
 	}
 
 }
@@ -1,8 +1,13 @@
 package io.mosip.kernel.transliteration.icu4j.test;
 
 import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -71,4 +76,35 @@ public class TransliterationImplTest {
 	public void transliterateInvalidOutputLanguageCodeExceptionTest() {
 		transliterateImpl.transliterate("fra", "aradkn", "Bienvenue");
 	}
+
+	/**
+	 * This method test transliteration of several strings in one call.
+	 */
+	@Test
+	public void transliterateBatchTest() {
+		Map<String, String> texts = new LinkedHashMap<>();
+		texts.put("firstName", "Bienvenue");
+		texts.put("lastName", "Paris");
+		texts.put("middleName", null);
+
+		Map<String, String> frenchToArabic = transliterateImpl.transliterate(frenchLanguageCode, arabicLanguageCode,
+				texts);
+
+		assertEquals(3, frenchToArabic.size());
+		assertEquals(transliterateImpl.transliterate(frenchLanguageCode, arabicLanguageCode, "Bienvenue"),
+				frenchToArabic.get("firstName"));
+		assertEquals(transliterateImpl.transliterate(frenchLanguageCode, arabicLanguageCode, "Paris"),
+				frenchToArabic.get("lastName"));
+		assertNull(frenchToArabic.get("middleName"));
+	}
+
+	/**
+	 * This method test for invalid language code provided by user in one call.
+	 */
+	@Test(expected = InvalidTransliterationException.class)
+	public void transliterateBatchInvalidLanguageCodeExceptionTest() {
+		Map<String, String> texts = new LinkedHashMap<>();
+		texts.put("firstName", "Bienvenue");
+		transliterateImpl.transliterate("dnjksd", "ara", texts);
+	}
 }
@@ -0,0 +1,282 @@
+package io.mosip.kernel.virusscanner.clamav.client;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Client scanning streams with the INSTREAM command of clamd over a pool of
+ * connections kept open in session mode (IDSESSION), instead of opening a
+ * connection for every scan.
+ *
+ * At most <code>maxConnections</code> scans run at the same time, further
+ * scans wait for a free connection. The streams are sent in chunks of
+ * <code>chunkSize</code> bytes, read from a {@link FileChannel} they are
+ * transferred to the socket without being copied to the heap. Connections
+ * left idle for more than <code>idleTimeout</code> milliseconds are closed
+ * rather than reused, as clamd ends idle sessions itself (IdleTimeout, 30
+ * seconds by default).
+ *
+ * @since 1.1.0
+ */
+public class ClamdClient implements Closeable {
+
+	private static final byte[] IDSESSION = "zIDSESSION\0".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] INSTREAM = "zINSTREAM\0".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] END = "zEND\0".getBytes(StandardCharsets.US_ASCII);
+
+	private final InetSocketAddress address;
+
+	private final int chunkSize;
+
+	private final int timeout;
+
+	private final long idleTimeout;
+
+	private final Semaphore permits;
+
+	private final Deque<Connection> idleConnections = new ConcurrentLinkedDeque<>();
+
+	private volatile boolean closed;
+
+	/**
+	 * @param host           the host of clamd.
+	 * @param port           the port of clamd.
+	 * @param maxConnections the maximum number of connections, and so of
+	 *                       concurrent scans.
+	 * @param chunkSize      the size in bytes of the chunks the streams are sent
+	 *                       in.
+	 * @param timeout        the connect and read timeout in milliseconds.
+	 * @param idleTimeout    the time in milliseconds after which an idle
+	 *                       connection is closed instead of reused.
+	 */
+	public ClamdClient(String host, int port, int maxConnections, int chunkSize, int timeout, long idleTimeout) {
+		this.address = new InetSocketAddress(host, port);
+		this.chunkSize = chunkSize;
+		this.timeout = timeout;
+		this.idleTimeout = idleTimeout;
+		this.permits = new Semaphore(maxConnections, true);
+	}
+
+	/**
+	 * Scan a stream, the stream is read to its end but not closed.
+	 *
+	 * @param is the stream to scan.
+	 * @return the scan result.
+	 * @throws IOException if clamd can not be reached or the stream can not be
+	 *                     read.
+	 */
+	public ClamdScanResult scan(InputStream is) throws IOException {
+		Connection connection = lease();
+		boolean reusable = false;
+		try {
+			ClamdScanResult result = connection.scan(is);
+			reusable = result.getStatus() != ClamdScanResult.Status.ERROR;
+			return result;
+		} finally {
+			release(connection, reusable);
+		}
+	}
+
+	/**
+	 * Scan a file from the current position of the channel to its end. A
+	 * connection closed by clamd while idle is retried once on a new connection.
+	 *
+	 * @param channel the channel to scan, not closed.
+	 * @return the scan result.
+	 * @throws IOException if clamd can not be reached or the file can not be
+	 *                     read.
+	 */
+	public ClamdScanResult scan(FileChannel channel) throws IOException {
+		long position = channel.position();
+		for (;;) {
+			Connection connection = lease();
+			boolean reused = connection.scans > 0;
+			boolean reusable = false;
+			try {
+				ClamdScanResult result = connection.scan(channel, position);
+				reusable = result.getStatus() != ClamdScanResult.Status.ERROR;
+				return result;
+			} catch (IOException e) {
+				if (!reused) {
+					throw e;
+				}
+			} finally {
+				release(connection, reusable);
+			}
+		}
+	}
+
+	/**
+	 * Close the idle connections, the leased ones are closed on release.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		Connection connection;
+		while ((connection = idleConnections.poll()) != null) {
+			connection.close();
+		}
+	}
+
+	private Connection lease() throws IOException {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for a clamd connection", e);
+		}
+		try {
+			Connection connection;
+			while ((connection = idleConnections.pollFirst()) != null) {
+				if (System.currentTimeMillis() - connection.lastUsed < idleTimeout) {
+					return connection;
+				}
+				connection.close();
+			}
+			return new Connection();
+		} catch (IOException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	private void release(Connection connection, boolean reusable) {
+		if (reusable && !closed) {
+			connection.lastUsed = System.currentTimeMillis();
+			idleConnections.addFirst(connection);
+		} else {
+			connection.close();
+		}
+		permits.release();
+	}
+
+	/**
+	 * Connection in session mode, used by one scan at a time
+	 */
+	private final class Connection {
+
+		private final SocketChannel channel;
+
+		private final InputStream replies;
+
+		private final ByteBuffer header = ByteBuffer.allocate(4);
+
+		private byte[] chunk;
+
+		private long lastUsed;
+
+		private int scans;
+
+		Connection() throws IOException {
+			channel = SocketChannel.open();
+			try {
+				channel.socket().connect(address, timeout);
+				channel.socket().setSoTimeout(timeout);
+				channel.socket().setTcpNoDelay(true);
+				replies = new BufferedInputStream(channel.socket().getInputStream(), 256);
+				write(ByteBuffer.wrap(IDSESSION));
+			} catch (IOException e) {
+				channel.close();
+				throw e;
+			}
+		}
+
+		ClamdScanResult scan(InputStream is) throws IOException {
+			scans++;
+			write(ByteBuffer.wrap(INSTREAM));
+			if (chunk == null) {
+				chunk = new byte[chunkSize];
+			}
+			int length;
+			while ((length = fill(is)) > 0) {
+				writeHeader(length);
+				write(ByteBuffer.wrap(chunk, 0, length));
+			}
+			writeHeader(0);
+			return ClamdScanResult.parse(readReply());
+		}
+
+		ClamdScanResult scan(FileChannel file, long position) throws IOException {
+			scans++;
+			write(ByteBuffer.wrap(INSTREAM));
+			long size = file.size();
+			while (position < size) {
+				int length = (int) Math.min(chunkSize, size - position);
+				writeHeader(length);
+				long end = position + length;
+				while (position < end) {
+					long transferred = file.transferTo(position, end - position, channel);
+					if (transferred <= 0 && position >= file.size()) {
+						throw new EOFException("File truncated while being scanned");
+					}
+					position += transferred;
+				}
+			}
+			writeHeader(0);
+			return ClamdScanResult.parse(readReply());
+		}
+
+		private int fill(InputStream is) throws IOException {
+			int length = 0;
+			int read;
+			while (length < chunk.length && (read = is.read(chunk, length, chunk.length - length)) != -1) {
+				length += read;
+			}
+			return length;
+		}
+
+		private void writeHeader(int length) throws IOException {
+			header.clear();
+			header.putInt(length);
+			header.flip();
+			write(header);
+		}
+
+		private void write(ByteBuffer buffer) throws IOException {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+
+		private String readReply() throws IOException {
+			ByteArrayOutputStream reply = new ByteArrayOutputStream(64);
+			int read;
+			while ((read = replies.read()) != 0) {
+				if (read == -1) {
+					throw new EOFException("Connection closed by clamd");
+				}
+				reply.write(read);
+			}
+			return new String(reply.toByteArray(), StandardCharsets.US_ASCII);
+		}
+
+		void close() {
+			try {
+				if (channel.isOpen()) {
+					write(ByteBuffer.wrap(END));
+				}
+			} catch (IOException e) {
+				// the session is closed anyway
+			}
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// nothing left to release
+			}
+		}
+	}
+}
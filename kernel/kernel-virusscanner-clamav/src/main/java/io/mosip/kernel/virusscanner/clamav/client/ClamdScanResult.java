@@ -0,0 +1,90 @@
+package io.mosip.kernel.virusscanner.clamav.client;
+
+/**
+ * Result of a scan by {@link ClamdClient}.
+ *
+ * @since 1.1.0
+ */
+public class ClamdScanResult {
+
+	/**
+	 * Outcome of a scan
+	 */
+	public enum Status {
+		/** No virus found */
+		OK,
+		/** A virus was found, its name is the signature */
+		FOUND,
+		/** clamd could not scan the stream, the message is its reply */
+		ERROR
+	}
+
+	private final Status status;
+
+	private final String signature;
+
+	private final String message;
+
+	/**
+	 * @param status    the outcome of the scan
+	 * @param signature the name of the virus found, null unless FOUND
+	 * @param message   the reply of clamd
+	 */
+	public ClamdScanResult(Status status, String signature, String message) {
+		this.status = status;
+		this.signature = signature;
+		this.message = message;
+	}
+
+	/**
+	 * Parse the reply of clamd to an INSTREAM command, with or without the
+	 * request id prefixed in session mode.
+	 *
+	 * @param reply the reply without its terminating null character
+	 * @return the scan result
+	 */
+	public static ClamdScanResult parse(String reply) {
+		String message = reply;
+		int separator = message.indexOf(": ");
+		if (separator > 0 && isNumber(message.substring(0, separator))) {
+			message = message.substring(separator + 2);
+		}
+		if (message.endsWith(" FOUND")) {
+			String signature = message.substring(0, message.length() - " FOUND".length());
+			if (signature.startsWith("stream: ")) {
+				signature = signature.substring("stream: ".length());
+			}
+			return new ClamdScanResult(Status.FOUND, signature, message);
+		}
+		if (message.endsWith(" OK")) {
+			return new ClamdScanResult(Status.OK, null, message);
+		}
+		return new ClamdScanResult(Status.ERROR, null, message);
+	}
+
+	private static boolean isNumber(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (!Character.isDigit(value.charAt(i))) {
+				return false;
+			}
+		}
+		return !value.isEmpty();
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public String getSignature() {
+		return signature;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public String toString() {
+		return message;
+	}
+}
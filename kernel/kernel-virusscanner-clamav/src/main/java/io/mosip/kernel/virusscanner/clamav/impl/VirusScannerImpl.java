@@ -6,8 +6,18 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +26,8 @@ import org.springframework.stereotype.Component;
 
 import io.mosip.kernel.core.virusscanner.exception.VirusScannerException;
 import io.mosip.kernel.core.virusscanner.spi.VirusScanner;
+import io.mosip.kernel.virusscanner.clamav.client.ClamdClient;
+import io.mosip.kernel.virusscanner.clamav.client.ClamdScanResult;
 import io.mosip.kernel.virusscanner.clamav.constant.VirusScannerErrorCodes;
 import xyz.capybara.clamav.ClamavClient;
 import xyz.capybara.clamav.commands.scan.result.ScanResult;
@@ -43,9 +55,31 @@ public class VirusScannerImpl implements VirusScanner<Boolean, InputStream> {
 	@Value("${mosip.kernel.virus-scanner.port}")
 	private int port;
 
+	/** The maximum number of pooled connections, and of files scanned at once. */
+	@Value("${mosip.kernel.virus-scanner.pool.max-connections:8}")
+	private int maxConnections;
+
+	/** The size in bytes of the chunks the files are sent in. */
+	@Value("${mosip.kernel.virus-scanner.chunk-size:65536}")
+	private int chunkSize;
+
+	/** The connect and read timeout in milliseconds. */
+	@Value("${mosip.kernel.virus-scanner.timeout:60000}")
+	private int timeout;
+
+	/** The time in milliseconds after which an idle pooled connection is closed. */
+	@Value("${mosip.kernel.virus-scanner.pool.idle-timeout:20000}")
+	private long idleTimeout;
+
 	/** The clamav client. */
 	protected ClamavClient clamavClient;
 
+	/** The pooled clamd client used by the batch scans. */
+	protected ClamdClient clamdClient;
+
+	/** The executor running the batch scans. */
+	private ExecutorService scanExecutor;
+
 	/** The Constant LOGDISPLAY. */
 	private static final String LOGDISPLAY = "{} - {}";
 
@@ -63,6 +97,32 @@ public class VirusScannerImpl implements VirusScanner<Boolean, InputStream> {
 			this.clamavClient = new ClamavClient(host, port);
 	}
 
+	/**
+	 * Creates the pooled client and the executor used by the batch scans.
+	 */
+	public synchronized void createPooledConnection() {
+		if (this.clamdClient == null) {
+			this.clamdClient = new ClamdClient(host, port, maxConnections, chunkSize, timeout, idleTimeout);
+			this.scanExecutor = Executors.newFixedThreadPool(maxConnections, runnable -> {
+				Thread thread = new Thread(runnable, "virus-scanner");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * Closes the pooled connections.
+	 */
+	@PreDestroy
+	public synchronized void closePooledConnection() {
+		if (this.clamdClient != null) {
+			this.scanExecutor.shutdown();
+			this.clamdClient.close();
+			this.clamdClient = null;
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -221,4 +281,95 @@ public class VirusScannerImpl implements VirusScanner<Boolean, InputStream> {
 		return result;
 	}
 
+	/**
+	 * Scans the streams concurrently over the pooled connections, at most
+	 * <code>mosip.kernel.virus-scanner.pool.max-connections</code> at a time. The
+	 * streams are read to their end but not closed.
+	 * 
+	 * @param files the streams to scan by name
+	 * 
+	 * @return true for each stream free of virus and false for each infected
+	 *         one, by name in the order of the files
+	 * 
+	 * @since 1.1.0
+	 */
+	@Override
+	public Map<String, Boolean> scanFiles(Map<String, InputStream> files) {
+		createPooledConnection();
+		Map<String, Future<ClamdScanResult>> scans = new LinkedHashMap<>();
+		files.forEach((name, is) -> scans.put(name, scanExecutor.submit(() -> clamdClient.scan(is))));
+		return collect(scans);
+	}
+
+	/**
+	 * Scans the files concurrently over the pooled connections, at most
+	 * <code>mosip.kernel.virus-scanner.pool.max-connections</code> at a time. The
+	 * files are transferred from their {@link FileChannel} to the connection
+	 * without being copied to the heap.
+	 * 
+	 * @param docs the files to scan
+	 * 
+	 * @return true for each file free of virus and false for each infected one,
+	 *         by path in the order of the files
+	 * 
+	 * @since 1.1.0
+	 */
+	public Map<String, Boolean> scanDocuments(Collection<File> docs) {
+		createPooledConnection();
+		Map<String, Future<ClamdScanResult>> scans = new LinkedHashMap<>();
+		for (File doc : docs) {
+			scans.put(doc.getPath(), scanExecutor.submit(() -> {
+				try (FileChannel channel = FileChannel.open(doc.toPath(), StandardOpenOption.READ)) {
+					return clamdClient.scan(channel);
+				}
+			}));
+		}
+		return collect(scans);
+	}
+
+	/**
+	 * Waits for all the scans and maps them to their results, throwing the first
+	 * failure once every scan is done.
+	 */
+	private Map<String, Boolean> collect(Map<String, Future<ClamdScanResult>> scans) {
+		Map<String, Boolean> results = new LinkedHashMap<>();
+		VirusScannerException failure = null;
+		for (Map.Entry<String, Future<ClamdScanResult>> scan : scans.entrySet()) {
+			try {
+				ClamdScanResult scanResult = scan.getValue().get();
+				if (scanResult.getStatus() == ClamdScanResult.Status.OK) {
+					results.put(scan.getKey(), Boolean.TRUE);
+				} else if (scanResult.getStatus() == ClamdScanResult.Status.FOUND) {
+					LOGGER.warn("Virus Found in file " + scan.getKey() + ": " + scanResult.getSignature());
+					results.put(scan.getKey(), Boolean.FALSE);
+				} else if (failure == null) {
+					failure = new VirusScannerException(VirusScannerErrorCodes.IIS_EPP_EPV_SERVICE_NOT_ACCESSIBLE,
+							ANTIVIRUS_SERVICE_NOT_ACCESSIBLE + " : " + scanResult.getMessage());
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				scans.values().forEach(future -> future.cancel(true));
+				throw new VirusScannerException(VirusScannerErrorCodes.IIS_EPP_EPV_SERVICE_NOT_ACCESSIBLE,
+						ANTIVIRUS_SERVICE_NOT_ACCESSIBLE, e);
+			} catch (ExecutionException e) {
+				if (failure == null) {
+					failure = scanFailure(e.getCause());
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		return results;
+	}
+
+	private static VirusScannerException scanFailure(Throwable cause) {
+		if (cause instanceof FileNotFoundException || cause instanceof NoSuchFileException) {
+			return new VirusScannerException(VirusScannerErrorCodes.IIS_EPP_EPV_FILE_NOT_PRESENT, FILE_NOT_PRESENT,
+					cause);
+		}
+		return new VirusScannerException(VirusScannerErrorCodes.IIS_EPP_EPV_SERVICE_NOT_ACCESSIBLE,
+				ANTIVIRUS_SERVICE_NOT_ACCESSIBLE, cause);
+	}
+
 }
@@ -0,0 +1,118 @@
+package io.mosip.kernel.virusscanner.clamav.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local clamd answering the IDSESSION, INSTREAM and END commands, reporting a
+ * virus for the streams containing {@link #EICAR}.
+ */
+public class ClamdStub implements Closeable {
+
+	public static final String EICAR = "EICAR-STANDARD-ANTIVIRUS-TEST-FILE";
+
+	private final ServerSocket serverSocket;
+
+	private final AtomicInteger connections = new AtomicInteger();
+
+	private final AtomicInteger scans = new AtomicInteger();
+
+	private final AtomicInteger maxChunkSize = new AtomicInteger();
+
+	public ClamdStub() throws IOException {
+		serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		Thread acceptor = new Thread(this::accept, "clamd-stub");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	public int getConnections() {
+		return connections.get();
+	}
+
+	public int getScans() {
+		return scans.get();
+	}
+
+	public int getMaxChunkSize() {
+		return maxChunkSize.get();
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+
+	private void accept() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				connections.incrementAndGet();
+				Thread session = new Thread(() -> serve(socket), "clamd-stub-session");
+				session.setDaemon(true);
+				session.start();
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+		try (Socket session = socket;
+				DataInputStream in = new DataInputStream(session.getInputStream());
+				OutputStream out = session.getOutputStream()) {
+			int id = 0;
+			for (;;) {
+				String command = readCommand(in);
+				if (command == null || "zEND".equals(command)) {
+					return;
+				}
+				if ("zINSTREAM".equals(command)) {
+					String reply = ++id + ": stream: " + scan(in);
+					out.write((reply + "\0").getBytes(StandardCharsets.US_ASCII));
+					out.flush();
+				}
+			}
+		} catch (IOException e) {
+			// session closed by the client
+		}
+	}
+
+	private String scan(DataInputStream in) throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		int length;
+		while ((length = in.readInt()) > 0) {
+			maxChunkSize.accumulateAndGet(length, Math::max);
+			byte[] chunk = new byte[length];
+			in.readFully(chunk);
+			stream.write(chunk);
+		}
+		scans.incrementAndGet();
+		String content = new String(stream.toByteArray(), StandardCharsets.ISO_8859_1);
+		return content.contains(EICAR) ? "Eicar-Test-Signature FOUND" : "OK";
+	}
+
+	private static String readCommand(DataInputStream in) throws IOException {
+		StringBuilder command = new StringBuilder();
+		int read;
+		while ((read = in.read()) != 0) {
+			if (read == -1) {
+				return null;
+			}
+			command.append((char) read);
+		}
+		return command.toString();
+	}
+}
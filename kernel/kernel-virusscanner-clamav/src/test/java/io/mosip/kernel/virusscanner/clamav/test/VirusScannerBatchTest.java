@@ -0,0 +1,126 @@
+package io.mosip.kernel.virusscanner.clamav.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.virusscanner.exception.VirusScannerException;
+import io.mosip.kernel.virusscanner.clamav.client.ClamdClient;
+import io.mosip.kernel.virusscanner.clamav.client.ClamdScanResult;
+import io.mosip.kernel.virusscanner.clamav.impl.VirusScannerImpl;
+
+public class VirusScannerBatchTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ClamdStub clamd;
+
+	private VirusScannerImpl virusScanner;
+
+	@Before
+	public void setUp() throws IOException {
+		clamd = new ClamdStub();
+		virusScanner = new VirusScannerImpl();
+		ReflectionTestUtils.setField(virusScanner, "host", "localhost");
+		ReflectionTestUtils.setField(virusScanner, "port", clamd.getPort());
+		ReflectionTestUtils.setField(virusScanner, "maxConnections", 4);
+		ReflectionTestUtils.setField(virusScanner, "chunkSize", 1024);
+		ReflectionTestUtils.setField(virusScanner, "timeout", 5000);
+		ReflectionTestUtils.setField(virusScanner, "idleTimeout", 20000L);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		virusScanner.closePooledConnection();
+		clamd.close();
+	}
+
+	@Test
+	public void scanFilesTest() {
+		Map<String, InputStream> files = new LinkedHashMap<>();
+		for (int i = 0; i < 50; i++) {
+			files.put("file" + i, stream(i % 10 == 0 ? content(5000) + ClamdStub.EICAR : content(5000)));
+		}
+		Map<String, Boolean> results = virusScanner.scanFiles(files);
+		assertEquals(new ArrayList<>(files.keySet()), new ArrayList<>(results.keySet()));
+		for (int i = 0; i < 50; i++) {
+			assertEquals(i % 10 != 0, results.get("file" + i));
+		}
+		assertTrue(clamd.getConnections() <= 4);
+		assertEquals(50, clamd.getScans());
+		assertEquals(1024, clamd.getMaxChunkSize());
+	}
+
+	@Test
+	public void scanDocumentsTest() throws IOException {
+		File clean = folder.newFile("clean.txt");
+		Files.write(clean.toPath(), content(10000).getBytes(StandardCharsets.US_ASCII));
+		File infected = folder.newFile("infected.txt");
+		Files.write(infected.toPath(), (content(3000) + ClamdStub.EICAR).getBytes(StandardCharsets.US_ASCII));
+		Map<String, Boolean> results = virusScanner.scanDocuments(Arrays.asList(clean, infected));
+		assertEquals(Boolean.TRUE, results.get(clean.getPath()));
+		assertEquals(Boolean.FALSE, results.get(infected.getPath()));
+		assertEquals(1024, clamd.getMaxChunkSize());
+	}
+
+	@Test(expected = VirusScannerException.class)
+	public void scanDocumentsFileNotPresentTest() {
+		virusScanner.scanDocuments(Arrays.asList(new File(folder.getRoot(), "missing.txt")));
+	}
+
+	@Test(expected = VirusScannerException.class)
+	public void scanFilesServiceUnavailableTest() throws IOException {
+		clamd.close();
+		Map<String, InputStream> files = new LinkedHashMap<>();
+		files.put("file", stream(content(100)));
+		virusScanner.scanFiles(files);
+	}
+
+	@Test
+	public void connectionReuseTest() throws IOException {
+		try (ClamdClient client = new ClamdClient("localhost", clamd.getPort(), 2, 4096, 5000, 20000)) {
+			List<ClamdScanResult> results = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				results.add(client.scan(stream(content(100))));
+			}
+			results.add(client.scan(stream(ClamdStub.EICAR)));
+			for (int i = 0; i < 10; i++) {
+				assertEquals(ClamdScanResult.Status.OK, results.get(i).getStatus());
+			}
+			assertEquals(ClamdScanResult.Status.FOUND, results.get(10).getStatus());
+			assertEquals("Eicar-Test-Signature", results.get(10).getSignature());
+			assertEquals(1, clamd.getConnections());
+		}
+	}
+
+	private static InputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	private static String content(int length) {
+		StringBuilder content = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			content.append((char) ('a' + i % 26));
+		}
+		return content.toString();
+	}
+}